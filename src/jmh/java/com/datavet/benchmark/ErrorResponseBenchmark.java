@@ -0,0 +1,57 @@
+package com.datavet.benchmark;
+
+import com.datavet.pet.domain.exception.PetNotFoundException;
+import com.datavet.shared.infrastructure.config.GlobalExceptionHandler;
+import com.datavet.shared.infrastructure.dto.ErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de construir la respuesta de error de {@link GlobalExceptionHandler}.
+ *
+ * {@code handleOnly} reutiliza la excepción; {@code throwAndHandle} incluye crearla
+ * (con su stack trace), que es lo que se paga en cada 404 real.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private WebRequest          request;
+    private PetNotFoundException notFound;
+
+    @Setup
+    public void setUp() {
+        request  = new ServletWebRequest(new MockHttpServletRequest("GET", "/pet/pet-001"));
+        notFound = new PetNotFoundException("pet-001");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleOnly() {
+        return handler.handleEntityNotFoundException(notFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> throwAndHandle() {
+        return handler.handleEntityNotFoundException(new PetNotFoundException("pet-001"), request);
+    }
+}
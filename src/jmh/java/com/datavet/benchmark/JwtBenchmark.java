@@ -0,0 +1,54 @@
+package com.datavet.benchmark;
+
+import com.datavet.auth.domain.model.UserRole;
+import com.datavet.auth.infrastructure.config.JwtProperties;
+import com.datavet.auth.infrastructure.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de firmar y de validar un access token (el segundo se paga en cada petición autenticada).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String  token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-benchmark-secret-benchmark-secret-0123456789");
+        properties.setAccessTokenExpiry(3600);
+
+        jwtUtil = new JwtUtil(properties);
+        token   = generate();
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateAccessToken("user-001", "employee-001", "clinic-001",
+                "laura@example.com", UserRole.CLINIC_VETERINARIAN, null);
+    }
+
+    @Benchmark
+    public Claims parse() {
+        return jwtUtil.parseToken(token);
+    }
+}
@@ -0,0 +1,102 @@
+package com.datavet.benchmark;
+
+import com.datavet.pet.application.dto.MedicalRecordResponse;
+import com.datavet.pet.application.factory.MedicalRecordDetailsFactory;
+import com.datavet.pet.application.mapper.MedicalRecordMapper;
+import com.datavet.pet.application.port.in.command.medicalrecord.details.*;
+import com.datavet.pet.domain.model.MedicalRecord;
+import com.datavet.pet.domain.model.details.MedicalRecordDetails;
+import com.datavet.pet.domain.valueobject.MedicalRecordType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de {@link MedicalRecordDetailsFactory#create} y de {@link MedicalRecordMapper#toResponse}
+ * para cada uno de los nueve tipos de registro clínico.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MedicalRecordBenchmark {
+
+    @Param({"CONSULTATION", "VACCINE", "TREATMENT", "SURGERY", "WEIGHT",
+            "DIAGNOSIS", "ALLERGY", "DOCUMENT", "HOSPITALIZATION"})
+    public MedicalRecordType type;
+
+    private final MedicalRecordDetailsFactory factory = new MedicalRecordDetailsFactory();
+
+    private MedicalRecordDetailsRequest request;
+    private MedicalRecord               record;
+
+    @Setup
+    public void setUp() {
+        request = requestFor(type);
+        record  = MedicalRecord.create("pet-001", "clinic-001", type, "vet-001",
+                "Registro de benchmark", factory.create(request));
+    }
+
+    @Benchmark
+    public MedicalRecordDetails createDetails() {
+        return factory.create(request);
+    }
+
+    @Benchmark
+    public MedicalRecordResponse toResponse() {
+        return MedicalRecordMapper.toResponse(record);
+    }
+
+    private static MedicalRecordDetailsRequest requestFor(MedicalRecordType type) {
+        LocalDate today = LocalDate.now();
+        return switch (type) {
+            case CONSULTATION -> new ConsultationDetailsRequest(
+                    "Control anual de rutina", List.of("Letargo", "Pérdida de apetito"),
+                    "Sin hallazgos relevantes", "Animal sano", "Ninguno por el momento",
+                    true, today.plusDays(10));
+            case VACCINE -> new VaccineDetailsRequest(
+                    "Antirrábica", today.minusDays(1), today.plusYears(1), "BATCH-2024-001", "Zoetis");
+            case TREATMENT -> new TreatmentDetailsRequest(
+                    "Tratamiento antibiótico", today.minusDays(1), "Administrar con comida, cada 12 horas",
+                    today.plusDays(14),
+                    List.of(new TreatmentMedicationRequest("Amoxicilina", "250mg", "Cada 12h", 10, null),
+                            new TreatmentMedicationRequest("Omeprazol", "10mg", "Cada 24h", 10, null)),
+                    false, null);
+            case SURGERY -> new SurgeryDetailsRequest(
+                    "Osteosíntesis de fémur", "CORRECTIVE",
+                    List.of(new SurgeryProcedureRequest("Reducción de fractura", "Reposición del fragmento óseo"),
+                            new SurgeryProcedureRequest("Fijación interna", "Colocación de placa y tornillos")),
+                    "GENERAL", true, LocalDateTime.now().plusDays(3));
+            case WEIGHT -> new WeightDetailsRequest(12.5, "KG");
+            case DIAGNOSIS -> new DiagnosisDetailsRequest(
+                    "Gastritis aguda", "DIGESTIVE", "Inflamación del revestimiento del estómago", "MILD",
+                    today, false, false, List.of("Vómito", "Inapetencia"), List.of("Dieta blanda 5 días"),
+                    false, null);
+            case ALLERGY -> new AllergyDetailsRequest(
+                    "Pollo", "FOOD", "MILD", List.of("Urticaria", "Picazón"), false,
+                    LocalDate.of(2023, 6, 15), "Alergia leve al pollo detectada en consulta.");
+            case DOCUMENT -> new DocumentDetailsRequest(
+                    "Resultados_analisis.pdf", "Análisis de sangre", "https://storage.datavet.com/docs/analisis.pdf",
+                    "application/pdf", LocalDateTime.now().minusHours(1), "vet-001",
+                    "Resultados del hemograma completo", 204_800L, false, null);
+            case HOSPITALIZATION -> new HospitalizationDetailsRequest(
+                    "Recuperación post-operatoria", "Fractura de fémur", false, "Sala de Cirugía",
+                    "Paciente estable, requiere monitoreo cada 4 horas");
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.datavet.benchmark;
+
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.model.PetSnapshot;
+import com.datavet.appointment.domain.valueobject.AppointmentSource;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.appointment.infrastructure.persistence.mapper.AppointmentDocumentMapper;
+import com.datavet.employee.domain.model.Employee;
+import com.datavet.employee.infrastructure.persistence.mapper.EmployeeDocumentMapper;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.pet.infrastructure.persistence.mapper.PetDocumentMapper;
+import com.datavet.pet.testutil.PetTestDataBuilder;
+import com.datavet.shared.domain.valueobject.Address;
+import com.datavet.shared.domain.valueobject.DocumentId;
+import com.datavet.shared.domain.valueobject.Phone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste del mapeo dominio ↔ documento de los adaptadores de persistencia.
+ *
+ * Cada benchmark ejecuta un ciclo completo {@code toDocument → toDomain} con el mapper del adaptador,
+ * que es lo que hace {@code adapter.save(entity)} sin contar MongoDB. Se llama al mapper directamente
+ * para no depender de los constructores de los adaptadores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryMappingBenchmark {
+
+    private Pet         pet;
+    private Appointment appointment;
+    private Employee    employee;
+
+    @Setup
+    public void setUp() {
+        pet = PetTestDataBuilder.aValidPet();
+
+        appointment = Appointment.create(
+                "clinic-001", false, AppointmentType.RUTINA,
+                LocalDateTime.now().plusDays(2),
+                "owner-001", "Laura Gómez", "laura@example.com", "+34600111222",
+                PetSnapshot.of("pet-001", "Zeus", "Perro"),
+                "employee-001", "vet-001", "Revisión anual",
+                List.of("product-001", "product-002"),
+                AppointmentSource.PANEL);
+
+        employee = Employee.create(
+                "user-001", "clinic-001", "Carlos", "Ruiz",
+                DocumentId.of("DNI", "12345678Z"), new Phone("+34600333444"),
+                new Address("Calle Mayor 1", "Madrid", "28013"), null,
+                "Cirugía", "LIC-0001", LocalDate.now().minusYears(2), "CLINIC_VETERINARIAN");
+    }
+
+    @Benchmark
+    public Pet petRoundTrip() {
+        return PetDocumentMapper.toDomain(PetDocumentMapper.toDocument(pet));
+    }
+
+    @Benchmark
+    public Appointment appointmentRoundTrip() {
+        return AppointmentDocumentMapper.toDomain(AppointmentDocumentMapper.toDocument(appointment));
+    }
+
+    @Benchmark
+    public Employee employeeRoundTrip() {
+        return EmployeeDocumentMapper.toDomain(EmployeeDocumentMapper.toDocument(employee));
+    }
+}
@@ -0,0 +1,63 @@
+package com.datavet.benchmark;
+
+import com.datavet.product.domain.pricing.BasketTotals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Totales de una cesta de 100 líneas con IVA 21/10/4 y descuentos, reutilizando el acumulador.
+ * Con {@code -prof gc} {@code gc.alloc.rate.norm} debe quedar en ~0 B/op: el cálculo no reserva memoria.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaleTotalsBenchmark {
+
+    private static final int   LINES = 100;
+    private static final int[] RATES = {2100, 1000, 400};
+
+    private final BasketTotals basket = new BasketTotals();
+
+    private long[] prices;
+    private int[]  quantities;
+    private int[]  rates;
+    private int[]  discounts;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        prices     = new long[LINES];
+        quantities = new int[LINES];
+        rates      = new int[LINES];
+        discounts  = new int[LINES];
+        for (int i = 0; i < LINES; i++) {
+            prices[i]     = random.nextLong(50, 20_000);
+            quantities[i] = random.nextInt(1, 10);
+            rates[i]      = RATES[i % RATES.length];
+            discounts[i]  = i % 4 == 0 ? 1000 : 0;
+        }
+    }
+
+    @Benchmark
+    public long total() {
+        basket.reset();
+        for (int i = 0; i < LINES; i++) {
+            basket.addLine(prices[i], quantities[i], rates[i], discounts[i]);
+        }
+        return basket.total();
+    }
+}
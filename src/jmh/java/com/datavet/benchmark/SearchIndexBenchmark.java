@@ -0,0 +1,65 @@
+package com.datavet.benchmark;
+
+import com.datavet.search.application.dto.SearchResult;
+import com.datavet.search.infrastructure.index.SearchText;
+import com.datavet.search.infrastructure.index.TokenIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencia de una búsqueda "mientras se escribe" sobre una clínica de 50.000 mascotas: prefijos cortos
+ * (los más caros, muchos candidatos), dígitos intermedios de un teléfono y una errata.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    private static final String[] NAMES    = {"Luna", "Toby", "Max", "Kira", "Rocky", "Coco", "Nala", "Simba",
+            "Lola", "Bruno", "Thor", "Chispa"};
+    private static final String[] SURNAMES = {"García", "Fernández", "González", "Rodríguez", "López", "Martínez",
+            "Sánchez", "Pérez", "Gómez", "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Muñoz"};
+
+    @Param({"lu", "garc", "612 34", "rodrigez"})
+    private String query;
+
+    private TokenIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new TokenIndex();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            List<String> tokens = new ArrayList<>();
+            tokens.addAll(SearchText.tokens(NAMES[random.nextInt(NAMES.length)] + (i % 300)));
+            tokens.addAll(SearchText.tokens(SURNAMES[random.nextInt(SURNAMES.length)]));
+            tokens.addAll(SearchText.tokens(SURNAMES[random.nextInt(SURNAMES.length)]));
+            tokens.add(String.valueOf(941_000_000_000_000L + random.nextInt(1_000_000_000)));
+            tokens.add("6" + (10_000_000 + random.nextInt(89_999_999)));
+            index.put("PET:" + i, new SearchResult(SearchResult.Type.PET, "pet-" + i, "Mascota " + i, null, 0),
+                    tokens);
+        }
+    }
+
+    @Benchmark
+    public List<SearchResult> search() {
+        return index.search(query, 10);
+    }
+}
@@ -0,0 +1,53 @@
+package com.datavet.benchmark;
+
+import com.datavet.shared.domain.valueobject.DocumentId;
+import com.datavet.shared.domain.valueobject.Email;
+import com.datavet.shared.domain.valueobject.Phone;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de construcción (validación incluida) de los value objects compartidos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectBenchmark {
+
+    public String dni   = "12345678Z";
+    public String nie   = "X1234567L";
+    public String email = "laura.gomez@clinica-ejemplo.es";
+    public String phone = "+34 600 111 222";
+
+    @Benchmark
+    public DocumentId documentIdDni() {
+        return DocumentId.of("DNI", dni);
+    }
+
+    @Benchmark
+    public DocumentId documentIdNie() {
+        return DocumentId.of("NIE", nie);
+    }
+
+    @Benchmark
+    public Email email() {
+        return new Email(email);
+    }
+
+    @Benchmark
+    public Phone phone() {
+        return new Phone(phone);
+    }
+}
@@ -0,0 +1,523 @@
+package com.datavet.benchmark.datagen;
+
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.benchmark.datagen.Distributions.WeightedPicker;
+import com.datavet.benchmark.datagen.GeneratedDataset.ClinicData;
+import com.datavet.benchmark.datagen.GeneratedDataset.OwnerRef;
+import com.datavet.benchmark.datagen.GeneratedDataset.PetRef;
+import com.datavet.clinic.domain.model.Clinic;
+import com.datavet.employee.domain.model.Employee;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.pet.domain.model.MedicalRecord;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.model.ProductMovement;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generador de un dataset sintético de gran volumen para pruebas de rendimiento.
+ *
+ * <ul>
+ *   <li>Todos los agregados se construyen con sus factorías de dominio (ver {@link SyntheticEntities}).</li>
+ *   <li>Reparto sesgado: el volumen por clínica sigue una Zipf (unas pocas clínicas muy grandes) y un ~8 %
+ *       de pacientes crónicos acumula la mayor parte del historial clínico (Pareto).</li>
+ *   <li>Determinista: cada trozo de trabajo usa su propio {@link SplittableRandom} derivado de la semilla,
+ *       así que el contenido no depende del número de hilos ni del orden de ejecución.</li>
+ *   <li>Paralelo y por lotes: cada fase se divide en tareas que escriben lotes de {@code batchSize}
+ *       en el {@link DatasetSink} (MongoDB en bloque o los puertos en memoria).</li>
+ * </ul>
+ *
+ * Uso desde línea de comandos (perfil {@code benchmark}):
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec@datagen -Ddatagen.args="--scale=0.01 --drop"
+ * </pre>
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    private static final int PHASE_CLINICS      = 0;
+    private static final int PHASE_PEOPLE       = 1;
+    private static final int PHASE_PRODUCTS     = 2;
+    private static final int PHASE_APPOINTMENTS = 3;
+    private static final int PHASE_RECORDS      = 4;
+    private static final int PHASE_MOVEMENTS    = 5;
+
+    /** Documentos por tarea en las fases grandes (citas, historial, movimientos). */
+    private static final int CHUNK = 50_000;
+
+    /** Citas finalizadas que se conservan por tarea para referenciarlas desde los consumos internos. */
+    private static final int CONSUMPTION_SAMPLE = 500;
+
+    private static final int CHRONIC_PERCENT = 8;
+
+    private final DatasetSpec       spec;
+    private final SyntheticEntities entities;
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this(spec, LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    public DatasetGenerator(DatasetSpec spec, LocalDateTime now) {
+        this.spec     = spec;
+        this.entities = new SyntheticEntities(now);
+    }
+
+    public GeneratedDataset generate(DatasetSink sink) {
+        ExecutorService pool = Executors.newFixedThreadPool(spec.threads());
+        try {
+            double[] weights = Distributions.zipf(spec.clinics(), 1.0);
+
+            List<ClinicSeed> seeds     = phase("clínicas y empleados", () -> clinics(sink, weights));
+            List<ClinicData> populated = phase("dueños y mascotas", () -> people(pool, sink, seeds, weights));
+            List<ClinicData> clinics   = phase("productos", () -> products(pool, sink, populated, weights));
+            Map<Integer, List<String>> finished = phase("citas", () -> appointments(pool, sink, clinics, weights));
+            phase("historial clínico", () -> medicalRecords(pool, sink, clinics));
+            phase("movimientos de inventario", () -> movements(pool, sink, clinics, weights, finished));
+
+            Map<String, Long> totals = new TreeMap<>();
+            counts.forEach((type, adder) -> totals.put(type, adder.sum()));
+            return new GeneratedDataset(spec, clinics, Collections.unmodifiableMap(totals));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Fases
+    // -------------------------------------------------------------------------
+
+    /** Datos de una clínica que se van completando fase a fase. */
+    private static final class ClinicSeed {
+        final int          index;
+        final String       clinicId;
+        final String       email;
+        final List<String> veterinarianIds = new ArrayList<>();
+        final List<String> staffIds        = new ArrayList<>();
+        volatile List<OwnerRef> owners = List.of();
+        volatile List<PetRef>   pets   = List.of();
+
+        ClinicSeed(int index, String clinicId, String email) {
+            this.index    = index;
+            this.clinicId = clinicId;
+            this.email    = email;
+        }
+    }
+
+    private List<ClinicSeed> clinics(DatasetSink sink, double[] weights) {
+        SplittableRandom rng = random(PHASE_CLINICS, 0);
+        Batch<Clinic>   clinicBatch   = new Batch<>(sink, Clinic.class);
+        Batch<Employee> employeeBatch = new Batch<>(sink, Employee.class);
+
+        List<ClinicSeed> seeds = new ArrayList<>(spec.clinics());
+        long employeeIndex = 0;
+        for (int i = 0; i < spec.clinics(); i++) {
+            Clinic clinic = entities.clinic(rng, i);
+            ClinicSeed seed = new ClinicSeed(i, clinic.getId(), clinic.getEmail().getValue());
+            clinicBatch.add(clinic);
+
+            int vets = (int) Math.max(2, Math.round(40 * weights[i] / weights[0]));
+            for (int v = 0; v < vets; v++) {
+                Employee vet = entities.veterinarian(rng, clinic.getId(), employeeIndex++);
+                seed.veterinarianIds.add(vet.getId());
+                employeeBatch.add(vet);
+            }
+            for (int s = 0; s < vets / 2 + 1; s++) {
+                Employee staff = entities.staff(rng, clinic.getId(), employeeIndex++);
+                seed.staffIds.add(staff.getId());
+                employeeBatch.add(staff);
+            }
+            seeds.add(seed);
+        }
+        clinicBatch.flush();
+        employeeBatch.flush();
+        return seeds;
+    }
+
+    private List<ClinicData> people(ExecutorService pool, DatasetSink sink,
+                                    List<ClinicSeed> seeds, double[] weights) {
+        long[] owners    = Distributions.allocate(spec.owners(), weights, 1);
+        long[] extraPets = Distributions.allocate(spec.pets() - spec.owners(), weights);
+        long[] ownerOffsets = offsets(owners);
+        long[] petOffsets   = offsets(sum(owners, extraPets));
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (ClinicSeed seed : seeds) {
+            int i = seed.index;
+            tasks.add(() -> {
+                populateClinic(sink, seed, (int) owners[i], (int) extraPets[i], ownerOffsets[i], petOffsets[i]);
+                return null;
+            });
+        }
+        runAll(pool, tasks);
+        return clinicsSnapshot(seeds, weights);
+    }
+
+    private void populateClinic(DatasetSink sink, ClinicSeed seed, int ownerCount, int extraPets,
+                                long ownerOffset, long petOffset) {
+        SplittableRandom rng = random(PHASE_PEOPLE, seed.index);
+
+        List<Owner>    owners    = new ArrayList<>(ownerCount);
+        List<OwnerRef> ownerRefs = new ArrayList<>(ownerCount);
+        for (int o = 0; o < ownerCount; o++) {
+            Owner owner = entities.owner(rng, seed.clinicId, ownerOffset + o);
+            owners.add(owner);
+            ownerRefs.add(new OwnerRef(owner.getId(), owner.getName(), owner.getLastName(),
+                    owner.getEmail().getValue(), owner.getPhone().getValue()));
+        }
+
+        // Una mascota por dueño y el resto concentradas en pocos hogares (u² sesga hacia los primeros)
+        Batch<Pet> petBatch = new Batch<>(sink, Pet.class);
+        List<PetRef> petRefs = new ArrayList<>(ownerCount + extraPets);
+        for (int p = 0; p < ownerCount + extraPets; p++) {
+            int ownerIndex = p < ownerCount ? p : (int) (ownerCount * Math.pow(rng.nextDouble(), 2));
+            OwnerRef ownerRef = ownerRefs.get(ownerIndex);
+
+            Pet pet = entities.pet(rng, seed.clinicId, petOffset + p, ownerRef);
+            owners.get(ownerIndex).addPet(pet.getId());
+            petRefs.add(new PetRef(pet.getId(), pet.getName(), pet.getSpecies(), ownerRef,
+                    rng.nextInt(100) < CHRONIC_PERCENT));
+            petBatch.add(pet);
+        }
+
+        Batch<Owner> ownerBatch = new Batch<>(sink, Owner.class);
+        owners.forEach(ownerBatch::add);
+        ownerBatch.flush();
+        petBatch.flush();
+
+        seed.owners = Collections.unmodifiableList(ownerRefs);
+        seed.pets   = Collections.unmodifiableList(petRefs);
+    }
+
+    private List<ClinicData> products(ExecutorService pool, DatasetSink sink,
+                                      List<ClinicData> clinics, double[] weights) {
+        // El catálogo crece más despacio que la actividad: reparto por √peso
+        double[] catalogWeights = new double[weights.length];
+        for (int i = 0; i < weights.length; i++) catalogWeights[i] = Math.sqrt(weights[i]);
+        long[] productCounts = Distributions.allocate(spec.products(), catalogWeights, 1);
+
+        List<List<String>> productIds = new ArrayList<>(Collections.<List<String>>nCopies(clinics.size(), null));
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (ClinicData clinic : clinics) {
+            tasks.add(() -> {
+                SplittableRandom rng = random(PHASE_PRODUCTS, clinic.index());
+                Batch<Product> batch = new Batch<>(sink, Product.class);
+                List<String> ids = new ArrayList<>((int) productCounts[clinic.index()]);
+                for (int p = 0; p < productCounts[clinic.index()]; p++) {
+                    Product product = entities.product(rng, clinic.clinicId(), p);
+                    ids.add(product.getId());
+                    batch.add(product);
+                }
+                batch.flush();
+                synchronized (productIds) {
+                    productIds.set(clinic.index(), Collections.unmodifiableList(ids));
+                }
+                return null;
+            });
+        }
+        runAll(pool, tasks);
+
+        List<ClinicData> result = new ArrayList<>(clinics.size());
+        for (ClinicData c : clinics) {
+            result.add(new ClinicData(c.index(), c.clinicId(), c.email(), c.weight(), c.veterinarianIds(),
+                    c.staffIds(), c.owners(), c.pets(), productIds.get(c.index())));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private Map<Integer, List<String>> appointments(ExecutorService pool, DatasetSink sink,
+                                                    List<ClinicData> clinics, double[] weights) {
+        long[] perClinic = Distributions.allocate(spec.appointments(), weights);
+        Map<Integer, List<String>> finished = new ConcurrentHashMap<>();
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (ClinicData clinic : clinics) {
+            WeightedPicker petPicker = new WeightedPicker(petVisitWeights(clinic.pets()));
+            forEachChunk(perClinic[clinic.index()], (chunk, size) -> tasks.add(() -> {
+                SplittableRandom rng = random(PHASE_APPOINTMENTS, chunkKey(clinic.index(), chunk));
+                Batch<Appointment> batch = new Batch<>(sink, Appointment.class);
+                List<String> sample = new ArrayList<>(CONSUMPTION_SAMPLE);
+                long finishedSeen = 0;
+                for (long n = 0; n < size; n++) {
+                    PetRef pet = clinic.pets().get(petPicker.next(rng));
+                    Appointment appointment = entities.appointment(rng, clinic.clinicId(), pet,
+                            Distributions.pick(rng, rng.nextBoolean() ? clinic.staffIds() : clinic.veterinarianIds()),
+                            Distributions.pick(rng, clinic.veterinarianIds()),
+                            productsFor(rng, clinic.productIds()));
+                    if (appointment.getStatus() == AppointmentStatus.FINALIZADA) {
+                        reservoir(rng, sample, appointment.getId(), finishedSeen++);
+                    }
+                    batch.add(appointment);
+                }
+                batch.flush();
+                finished.computeIfAbsent(clinic.index(), k -> Collections.synchronizedList(new ArrayList<>()))
+                        .addAll(sample);
+                return null;
+            }));
+        }
+        runAll(pool, tasks);
+        return finished;
+    }
+
+    private Void medicalRecords(ExecutorService pool, DatasetSink sink, List<ClinicData> clinics) {
+        double[] petShare = new double[clinics.size()];
+        for (ClinicData clinic : clinics) petShare[clinic.index()] = clinic.pets().size();
+        long[] perClinic = Distributions.allocate(spec.medicalRecords(), petShare);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (ClinicData clinic : clinics) {
+            // Historial por mascota: crónicos con cola larga (Pareto α=1.2), el resto corto (α=2.5)
+            SplittableRandom planRng = random(PHASE_RECORDS, chunkKey(clinic.index(), Integer.MAX_VALUE));
+            double[] historyWeights = new double[clinic.pets().size()];
+            for (int p = 0; p < historyWeights.length; p++) {
+                historyWeights[p] = clinic.pets().get(p).chronic()
+                        ? Math.min(Distributions.pareto(planRng, 20, 1.2), 2_000)
+                        : Distributions.pareto(planRng, 1, 2.5);
+            }
+            long[] perPet = Distributions.allocate(perClinic[clinic.index()], historyWeights);
+
+            // Trozos de mascotas consecutivas con ~CHUNK registros cada uno
+            int from = 0;
+            int chunk = 0;
+            while (from < perPet.length) {
+                int to = from;
+                long size = 0;
+                while (to < perPet.length && (size < CHUNK || to == from)) size += perPet[to++];
+                int start = from, end = to, chunkIndex = chunk++;
+                tasks.add(() -> {
+                    SplittableRandom rng = random(PHASE_RECORDS, chunkKey(clinic.index(), chunkIndex));
+                    Batch<MedicalRecord> batch = new Batch<>(sink, MedicalRecord.class);
+                    for (int p = start; p < end; p++) {
+                        PetRef pet = clinic.pets().get(p);
+                        for (long r = 0; r < perPet[p]; r++) {
+                            batch.add(entities.medicalRecord(rng, pet, clinic.clinicId(),
+                                    Distributions.pick(rng, clinic.veterinarianIds())));
+                        }
+                    }
+                    batch.flush();
+                    return null;
+                });
+                from = to;
+            }
+        }
+        runAll(pool, tasks);
+        return null;
+    }
+
+    private Void movements(ExecutorService pool, DatasetSink sink, List<ClinicData> clinics,
+                           double[] weights, Map<Integer, List<String>> finishedAppointments) {
+        long[] perClinic = Distributions.allocate(spec.movements(), weights);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (ClinicData clinic : clinics) {
+            // Pocos productos concentran la mayor parte de la rotación
+            WeightedPicker productPicker = new WeightedPicker(Distributions.zipf(clinic.productIds().size(), 0.8));
+            List<String> employees = new ArrayList<>(clinic.veterinarianIds());
+            employees.addAll(clinic.staffIds());
+            List<String> appointments = List.copyOf(finishedAppointments.getOrDefault(clinic.index(), List.of()));
+
+            forEachChunk(perClinic[clinic.index()], (chunk, size) -> tasks.add(() -> {
+                SplittableRandom rng = random(PHASE_MOVEMENTS, chunkKey(clinic.index(), chunk));
+                Batch<ProductMovement> batch = new Batch<>(sink, ProductMovement.class);
+                for (long n = 0; n < size; n++) {
+                    batch.add(entities.movement(rng,
+                            clinic.productIds().get(productPicker.next(rng)),
+                            clinic.clinicId(),
+                            Distributions.pick(rng, employees),
+                            appointments.isEmpty() ? null : Distributions.pick(rng, appointments)));
+                }
+                batch.flush();
+                return null;
+            }));
+        }
+        runAll(pool, tasks);
+        return null;
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    /** Los crónicos vienen a consulta unas cuatro veces más que el resto. */
+    private static double[] petVisitWeights(List<PetRef> pets) {
+        double[] weights = new double[pets.size()];
+        for (int i = 0; i < weights.length; i++) weights[i] = pets.get(i).chronic() ? 4 : 1;
+        return weights;
+    }
+
+    private static List<String> productsFor(SplittableRandom rng, List<String> productIds) {
+        if (productIds.isEmpty() || rng.nextInt(10) >= 3) return List.of();
+        int count = 1 + rng.nextInt(3);
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) ids.add(Distributions.pick(rng, productIds));
+        return ids;
+    }
+
+    /** Muestreo por reservorio (algoritmo R): muestra uniforme de tamaño fijo de un flujo de longitud desconocida. */
+    private static void reservoir(SplittableRandom rng, List<String> sample, String id, long seen) {
+        if (sample.size() < CONSUMPTION_SAMPLE) {
+            sample.add(id);
+        } else {
+            long slot = rng.nextLong(seen + 1);
+            if (slot < CONSUMPTION_SAMPLE) sample.set((int) slot, id);
+        }
+    }
+
+    private static List<ClinicData> clinicsSnapshot(List<ClinicSeed> seeds, double[] weights) {
+        List<ClinicData> clinics = new ArrayList<>(seeds.size());
+        for (ClinicSeed seed : seeds) {
+            clinics.add(new ClinicData(seed.index, seed.clinicId, seed.email, weights[seed.index],
+                    List.copyOf(seed.veterinarianIds), List.copyOf(seed.staffIds),
+                    seed.owners, seed.pets, List.of()));
+        }
+        return clinics;
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(int chunk, long size);
+    }
+
+    private static void forEachChunk(long total, ChunkConsumer consumer) {
+        int chunk = 0;
+        for (long from = 0; from < total; from += CHUNK) {
+            consumer.accept(chunk++, Math.min(CHUNK, total - from));
+        }
+    }
+
+    private static long chunkKey(int clinicIndex, int chunk) {
+        return ((long) clinicIndex << 32) | (chunk & 0xFFFFFFFFL);
+    }
+
+    private SplittableRandom random(int phase, long chunk) {
+        return new SplittableRandom(Distributions.seed(spec.seed(), phase, chunk));
+    }
+
+    private static long[] offsets(long[] counts) {
+        long[] offsets = new long[counts.length];
+        for (int i = 1; i < counts.length; i++) offsets[i] = offsets[i - 1] + counts[i - 1];
+        return offsets;
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        long[] result = new long[a.length];
+        for (int i = 0; i < a.length; i++) result[i] = a[i] + b[i];
+        return result;
+    }
+
+    private static void runAll(ExecutorService pool, List<Callable<Void>> tasks) {
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Generación interrumpida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error generando el dataset", e.getCause());
+        }
+    }
+
+    private <T> T phase(String name, Callable<T> body) {
+        long start = System.nanoTime();
+        try {
+            T result = body.call();
+            log.info("[datagen] {} completado en {} — {}", name,
+                    Duration.ofNanos(System.nanoTime() - start), snapshot());
+            return result;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        counts.forEach((type, adder) -> snapshot.put(type, adder.sum()));
+        return snapshot;
+    }
+
+    /** Acumula agregados y los escribe en bloque cada {@code batchSize}. No es thread-safe: uno por tarea. */
+    private final class Batch<T> {
+
+        private final DatasetSink sink;
+        private final Class<T>    type;
+        private List<T>           items;
+
+        Batch(DatasetSink sink, Class<T> type) {
+            this.sink  = sink;
+            this.type  = type;
+            this.items = new ArrayList<>(spec.batchSize());
+        }
+
+        void add(T item) {
+            items.add(item);
+            if (items.size() >= spec.batchSize()) flush();
+        }
+
+        void flush() {
+            if (items.isEmpty()) return;
+            sink.write(type, items);
+            counts.computeIfAbsent(type.getSimpleName(), k -> new LongAdder()).add(items.size());
+            items = new ArrayList<>(spec.batchSize());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Línea de comandos
+    // -------------------------------------------------------------------------
+
+    /**
+     * Argumentos (todos opcionales):
+     * {@code --mongo-uri=mongodb://localhost:27017 --database=datavet_perf --scale=1.0 --seed=42
+     * --batch-size=1000 --threads=<núcleos> --drop}
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = option.indexOf('=');
+            options.put(eq < 0 ? option : option.substring(0, eq), eq < 0 ? "true" : option.substring(eq + 1));
+        }
+
+        DatasetSpec production = DatasetSpec.production();
+        DatasetSpec spec = production
+                .scaled(Double.parseDouble(options.getOrDefault("scale", "1.0")))
+                .withSeed(Long.parseLong(options.getOrDefault("seed", String.valueOf(production.seed()))))
+                .withBatching(
+                        Integer.parseInt(options.getOrDefault("batch-size", String.valueOf(production.batchSize()))),
+                        Integer.parseInt(options.getOrDefault("threads", String.valueOf(production.threads()))));
+
+        try (MongoDatasetSink sink = MongoDatasetSink.connect(
+                options.getOrDefault("mongo-uri", "mongodb://localhost:27017"),
+                options.getOrDefault("database", "datavet_perf"))) {
+            if (options.containsKey("drop")) {
+                sink.drop();
+            }
+            long start = System.nanoTime();
+            GeneratedDataset dataset = new DatasetGenerator(spec).generate(sink);
+            log.info("[datagen] {} generado en {}: {}", spec,
+                    Duration.ofNanos(System.nanoTime() - start), dataset.counts());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.datavet.benchmark.datagen;
+
+import java.util.List;
+
+/**
+ * Destino de los lotes generados. Cada lote contiene agregados de dominio de un único tipo
+ * ({@code Clinic}, {@code Pet}, {@code MedicalRecord}...), ya validados por sus factorías.
+ *
+ * Las implementaciones deben admitir llamadas concurrentes: el generador escribe desde varios hilos.
+ */
+public interface DatasetSink extends AutoCloseable {
+
+    <T> void write(Class<T> type, List<T> batch);
+
+    @Override
+    default void close() { }
+}
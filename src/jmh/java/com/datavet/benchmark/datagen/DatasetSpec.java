@@ -0,0 +1,66 @@
+package com.datavet.benchmark.datagen;
+
+/**
+ * Volumen y parámetros de un dataset sintético.
+ *
+ * {@link #production()} reproduce el tamaño con el que aparecen los problemas de escala en producción;
+ * {@link #scaled(double)} lo reduce manteniendo las proporciones (p. ej. {@code 0.01} para una prueba local).
+ *
+ * @param seed            semilla del generador: mismo seed → mismo contenido (los ids los asignan las factorías)
+ * @param clinics         número de clínicas
+ * @param owners          dueños en total
+ * @param pets            mascotas en total (al menos una por dueño)
+ * @param medicalRecords  registros clínicos en total, repartidos entre los nueve tipos
+ * @param appointments    citas en total
+ * @param products        productos en total
+ * @param movements       movimientos de inventario en total
+ * @param batchSize       documentos por escritura en bloque
+ * @param threads         hilos generando y escribiendo en paralelo
+ */
+public record DatasetSpec(
+        long seed,
+        int  clinics,
+        int  owners,
+        int  pets,
+        long medicalRecords,
+        long appointments,
+        int  products,
+        long movements,
+        int  batchSize,
+        int  threads) {
+
+    public DatasetSpec {
+        if (clinics <= 0)       throw new IllegalArgumentException("Se necesita al menos una clínica");
+        if (owners < clinics)   throw new IllegalArgumentException("Se necesita al menos un dueño por clínica");
+        if (pets < owners)      throw new IllegalArgumentException("Se necesita al menos una mascota por dueño");
+        if (products < clinics) throw new IllegalArgumentException("Se necesita al menos un producto por clínica");
+        if (batchSize <= 0)     throw new IllegalArgumentException("El tamaño de lote debe ser positivo");
+        if (threads <= 0)       throw new IllegalArgumentException("El número de hilos debe ser positivo");
+    }
+
+    public static DatasetSpec production() {
+        return new DatasetSpec(42L, 50, 200_000, 300_000, 5_000_000L, 2_000_000L, 20_000, 10_000_000L,
+                1_000, Runtime.getRuntime().availableProcessors());
+    }
+
+    public DatasetSpec scaled(double factor) {
+        return new DatasetSpec(seed, clinics,
+                Math.max(clinics,  (int) (owners * factor)),
+                Math.max(clinics,  (int) (pets * factor)),
+                (long) (medicalRecords * factor),
+                (long) (appointments * factor),
+                Math.max(clinics,  (int) (products * factor)),
+                (long) (movements * factor),
+                batchSize, threads);
+    }
+
+    public DatasetSpec withSeed(long newSeed) {
+        return new DatasetSpec(newSeed, clinics, owners, pets, medicalRecords, appointments,
+                products, movements, batchSize, threads);
+    }
+
+    public DatasetSpec withBatching(int newBatchSize, int newThreads) {
+        return new DatasetSpec(seed, clinics, owners, pets, medicalRecords, appointments,
+                products, movements, newBatchSize, newThreads);
+    }
+}
@@ -0,0 +1,119 @@
+package com.datavet.benchmark.datagen;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Distribuciones sesgadas para que el dataset se parezca al de producción:
+ * pocas clínicas concentran la mayor parte del volumen (Zipf) y unos pocos pacientes crónicos
+ * acumulan historiales muy largos (Pareto).
+ */
+final class Distributions {
+
+    private Distributions() {}
+
+    /** Pesos Zipf {@code 1 / rank^s}: con {@code s ≈ 1} la primera clínica tiene ~5 veces más volumen que la quinta. */
+    static double[] zipf(int n, double s) {
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, s);
+        }
+        return weights;
+    }
+
+    /** Pareto con mínimo {@code xm} y forma {@code alpha}: cola larga (alpha pequeño → más extremos). */
+    static double pareto(SplittableRandom rng, double xm, double alpha) {
+        return xm / Math.pow(1.0 - rng.nextDouble(), 1.0 / alpha);
+    }
+
+    /**
+     * Reparte {@code total} en proporción a los pesos con el método del mayor resto:
+     * la suma es exactamente {@code total} y el resultado es determinista.
+     */
+    static long[] allocate(long total, double[] weights) {
+        double sum = Arrays.stream(weights).sum();
+        long[]   counts     = new long[weights.length];
+        double[] remainders = new double[weights.length];
+        long assigned = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double exact = total * weights[i] / sum;
+            counts[i]     = (long) exact;
+            remainders[i] = exact - counts[i];
+            assigned     += counts[i];
+        }
+        Integer[] order = new Integer[weights.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(remainders[b], remainders[a]));
+        for (int i = 0; assigned < total; i = (i + 1) % order.length, assigned++) {
+            counts[order[i]]++;
+        }
+        return counts;
+    }
+
+    /** Igual que {@link #allocate(long, double[])} pero garantizando un mínimo por posición. */
+    static long[] allocate(long total, double[] weights, long minimumEach) {
+        long reserved = minimumEach * weights.length;
+        long[] counts = allocate(Math.max(0, total - reserved), weights);
+        for (int i = 0; i < counts.length; i++) counts[i] += minimumEach;
+        return counts;
+    }
+
+    static <T> T pick(SplittableRandom rng, List<T> values) {
+        return values.get(rng.nextInt(values.size()));
+    }
+
+    static <T> T pick(SplittableRandom rng, T[] values) {
+        return values[rng.nextInt(values.length)];
+    }
+
+    /** Deriva una semilla independiente por fase y trozo de trabajo (SplitMix64). */
+    static long seed(long base, int phase, long chunk) {
+        long z = base + 0x9E3779B97F4A7C15L * (31L * phase + chunk + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Muestreo ponderado en O(log n) sobre pesos fijos (suma acumulada + búsqueda binaria).
+     */
+    static final class WeightedPicker {
+
+        private final double[] cumulative;
+
+        WeightedPicker(double[] weights) {
+            cumulative = new double[weights.length];
+            double acc = 0;
+            for (int i = 0; i < weights.length; i++) {
+                acc += weights[i];
+                cumulative[i] = acc;
+            }
+        }
+
+        int next(SplittableRandom rng) {
+            double target = rng.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1);
+        }
+    }
+
+    /** Enumerado con pesos, para estados/tipos con frecuencias realistas. */
+    static final class WeightedEnum<E> {
+
+        private final E[]            values;
+        private final WeightedPicker picker;
+
+        WeightedEnum(E[] values, double[] weights) {
+            if (values.length != weights.length) {
+                throw new IllegalArgumentException("Cada valor necesita su peso");
+            }
+            this.values = values;
+            this.picker = new WeightedPicker(weights);
+        }
+
+        E next(SplittableRandom rng) {
+            return values[picker.next(rng)];
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.datavet.benchmark.datagen;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado de una generación: los identificadores necesarios para lanzar tráfico realista
+ * contra el dataset (clínicas, veterinarios, dueños, mascotas, productos) y el recuento por tipo.
+ *
+ * Solo guarda referencias ligeras; los registros clínicos, citas y movimientos no se retienen en memoria.
+ */
+public record GeneratedDataset(DatasetSpec spec, List<ClinicData> clinics, Map<String, Long> counts) {
+
+    public record OwnerRef(String id, String name, String lastName, String email, String phone) {}
+
+    /** {@code chronic}: paciente crónico, con un historial clínico mucho más largo que la media. */
+    public record PetRef(String id, String name, String species, OwnerRef owner, boolean chronic) {}
+
+    /**
+     * @param weight peso relativo de la clínica en el reparto (Zipf): las primeras concentran el volumen
+     */
+    public record ClinicData(
+            int            index,
+            String         clinicId,
+            String         email,
+            double         weight,
+            List<String>   veterinarianIds,
+            List<String>   staffIds,
+            List<OwnerRef> owners,
+            List<PetRef>   pets,
+            List<String>   productIds) {}
+
+    public ClinicData heaviestClinic() {
+        return clinics.get(0);
+    }
+}
@@ -0,0 +1,139 @@
+package com.datavet.benchmark.datagen;
+
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.infrastructure.persistence.document.AppointmentDocument;
+import com.datavet.appointment.infrastructure.persistence.mapper.AppointmentDocumentMapper;
+import com.datavet.clinic.domain.model.Clinic;
+import com.datavet.clinic.infrastructure.persistence.document.ClinicDocument;
+import com.datavet.clinic.infrastructure.persistence.mapper.ClinicDocumentMapper;
+import com.datavet.employee.domain.model.Employee;
+import com.datavet.employee.infrastructure.persistence.document.EmployeeDocument;
+import com.datavet.employee.infrastructure.persistence.mapper.EmployeeDocumentMapper;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.owner.infrastructure.persistence.document.OwnerDocument;
+import com.datavet.owner.infrastructure.persistence.mapper.OwnerDocumentMapper;
+import com.datavet.pet.domain.model.MedicalRecord;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.pet.infrastructure.persistence.document.MedicalRecordDocument;
+import com.datavet.pet.infrastructure.persistence.document.PetDocument;
+import com.datavet.pet.infrastructure.persistence.mapper.MedicalRecordDocumentMapper;
+import com.datavet.pet.infrastructure.persistence.mapper.PetDocumentMapper;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.infrastructure.persistence.document.ProductDocument;
+import com.datavet.product.infrastructure.persistence.document.ProductMovementDocument;
+import com.datavet.product.infrastructure.persistence.mapper.ProductDocumentMapper;
+import com.datavet.product.infrastructure.persistence.mapper.ProductMovementDocumentMapper;
+import com.datavet.shared.infrastructure.config.MongoConfig;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Escribe directamente en MongoDB con inserciones en bloque no ordenadas
+ * ({@link BulkOperations.BulkMode#UNORDERED}), usando los mismos {@code XxxDocumentMapper}
+ * que los adaptadores de la aplicación, de modo que los documentos son idénticos a los de producción.
+ *
+ * Los índices se crean al final ({@link #close()}), a partir de los {@code @CompoundIndex} de cada
+ * documento: cargar primero y construir los índices después es mucho más rápido que mantenerlos
+ * durante millones de inserciones.
+ */
+public class MongoDatasetSink implements DatasetSink {
+
+    private record Binding(Class<?> documentType, Function<Object, Object> toDocument) {}
+
+    private final MongoTemplate            mongoTemplate;
+    private final MongoClient              ownedClient;
+    private final Map<Class<?>, Binding>   bindings = new LinkedHashMap<>();
+
+    public MongoDatasetSink(MongoTemplate mongoTemplate) {
+        this(mongoTemplate, null);
+    }
+
+    private MongoDatasetSink(MongoTemplate mongoTemplate, MongoClient ownedClient) {
+        this.mongoTemplate = mongoTemplate;
+        this.ownedClient   = ownedClient;
+
+        bind(Clinic.class,          ClinicDocument.class,          ClinicDocumentMapper::toDocument);
+        bind(Employee.class,        EmployeeDocument.class,        EmployeeDocumentMapper::toDocument);
+        bind(Owner.class,           OwnerDocument.class,           OwnerDocumentMapper::toDocument);
+        bind(Pet.class,             PetDocument.class,             PetDocumentMapper::toDocument);
+        bind(MedicalRecord.class,   MedicalRecordDocument.class,   MedicalRecordDocumentMapper::toDocument);
+        bind(Appointment.class,     AppointmentDocument.class,     AppointmentDocumentMapper::toDocument);
+        bind(Product.class,         ProductDocument.class,         ProductDocumentMapper::toDocument);
+        bind(ProductMovement.class, ProductMovementDocument.class, ProductMovementDocumentMapper::toDocument);
+    }
+
+    /**
+     * Crea un {@link MongoTemplate} propio con las mismas conversiones que {@link MongoConfig},
+     * sin arrancar un contexto Spring.
+     */
+    public static MongoDatasetSink connect(String uri, String database) {
+        MongoClient client = MongoClients.create(uri);
+        SimpleMongoClientDatabaseFactory factory = new SimpleMongoClientDatabaseFactory(client, database);
+
+        MongoCustomConversions conversions = new MongoConfig().customConversions();
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(new DefaultDbRefResolver(factory), mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.setCodecRegistryProvider(factory);
+        converter.afterPropertiesSet();
+
+        return new MongoDatasetSink(new MongoTemplate(factory, converter), client);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, D> void bind(Class<T> type, Class<D> documentType, Function<T, D> toDocument) {
+        bindings.put(type, new Binding(documentType, (Function<Object, Object>) (Function<?, ?>) toDocument));
+    }
+
+    @Override
+    public <T> void write(Class<T> type, List<T> batch) {
+        Binding binding = bindings.get(type);
+        if (binding == null) {
+            throw new IllegalStateException("No hay mapeo a documento para " + type.getSimpleName());
+        }
+        List<Object> documents = new ArrayList<>(batch.size());
+        for (T entity : batch) {
+            documents.add(binding.toDocument().apply(entity));
+        }
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, binding.documentType())
+                .insert(documents)
+                .execute();
+    }
+
+    /** Vacía las colecciones del dataset (para regenerar con otra semilla). */
+    public void drop() {
+        bindings.values().forEach(binding -> mongoTemplate.dropCollection(binding.documentType()));
+    }
+
+    @Override
+    public void close() {
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (Binding binding : bindings.values()) {
+            IndexOperations indexOps = mongoTemplate.indexOps(binding.documentType());
+            resolver.resolveIndexFor(binding.documentType()).forEach(indexOps::createIndex);
+        }
+        if (ownedClient != null) {
+            ownedClient.close();
+        }
+    }
+}
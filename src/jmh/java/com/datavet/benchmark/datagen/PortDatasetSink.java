@@ -0,0 +1,62 @@
+package com.datavet.benchmark.datagen;
+
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import com.datavet.clinic.domain.model.Clinic;
+import com.datavet.employee.application.port.out.EmployeeRepositoryPort;
+import com.datavet.employee.domain.model.Employee;
+import com.datavet.owner.application.port.out.OwnerRepositoryPort;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.pet.application.port.out.MedicalRecordPort;
+import com.datavet.pet.application.port.out.PetRepositoryPort;
+import com.datavet.pet.domain.model.MedicalRecord;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.product.application.port.out.ProductMovementPort;
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.shared.application.port.Repository;
+import org.springframework.context.ApplicationContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Escribe a través de los puertos de persistencia de la aplicación. Con el perfil {@code inmemory}
+ * rellena los adaptadores en memoria de un contexto Spring ya arrancado (p. ej. antes de una prueba de carga).
+ *
+ * Los puertos no tienen escritura en bloque, así que cada lote se guarda documento a documento.
+ */
+public class PortDatasetSink implements DatasetSink {
+
+    private final Map<Class<?>, Repository<?, String>> ports = new HashMap<>();
+
+    public PortDatasetSink register(Class<?> type, Repository<?, String> port) {
+        ports.put(type, port);
+        return this;
+    }
+
+    public static PortDatasetSink fromContext(ApplicationContext context) {
+        return new PortDatasetSink()
+                .register(Clinic.class,          context.getBean(ClinicRepositoryPort.class))
+                .register(Employee.class,        context.getBean(EmployeeRepositoryPort.class))
+                .register(Owner.class,           context.getBean(OwnerRepositoryPort.class))
+                .register(Pet.class,             context.getBean(PetRepositoryPort.class))
+                .register(MedicalRecord.class,   context.getBean(MedicalRecordPort.class))
+                .register(Appointment.class,     context.getBean(AppointmentRepositoryPort.class))
+                .register(Product.class,         context.getBean(ProductRepositoryPort.class))
+                .register(ProductMovement.class, context.getBean(ProductMovementPort.class));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void write(Class<T> type, List<T> batch) {
+        Repository<T, String> port = (Repository<T, String>) ports.get(type);
+        if (port == null) {
+            throw new IllegalStateException("No hay puerto registrado para " + type.getSimpleName());
+        }
+        batch.forEach(port::save);
+    }
+}
@@ -0,0 +1,383 @@
+package com.datavet.benchmark.datagen;
+
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.model.PetSnapshot;
+import com.datavet.appointment.domain.valueobject.AppointmentSource;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.benchmark.datagen.Distributions.WeightedEnum;
+import com.datavet.benchmark.datagen.GeneratedDataset.OwnerRef;
+import com.datavet.benchmark.datagen.GeneratedDataset.PetRef;
+import com.datavet.clinic.domain.model.Clinic;
+import com.datavet.clinic.domain.model.LegalType;
+import com.datavet.clinic.domain.valueobject.ClinicSchedule;
+import com.datavet.employee.domain.model.Employee;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.pet.application.factory.MedicalRecordDetailsFactory;
+import com.datavet.pet.application.port.in.command.medicalrecord.details.*;
+import com.datavet.pet.domain.model.MedicalRecord;
+import com.datavet.pet.domain.model.OwnerInfo;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.pet.domain.model.Sex;
+import com.datavet.pet.domain.valueobject.MedicalRecordType;
+import com.datavet.product.domain.details.FoodDetails;
+import com.datavet.product.domain.details.HygieneDetails;
+import com.datavet.product.domain.details.MedicalSupplyDetails;
+import com.datavet.product.domain.details.MedicationDetails;
+import com.datavet.product.domain.details.ProductDetails;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.domain.valueobject.ProductMovementType;
+import com.datavet.shared.domain.valueobject.Address;
+import com.datavet.shared.domain.valueobject.DocumentId;
+import com.datavet.shared.domain.valueobject.Email;
+import com.datavet.shared.domain.valueobject.Phone;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.datavet.benchmark.datagen.Distributions.pick;
+
+/**
+ * Construye cada agregado a través de su factoría de dominio ({@code Clinic.create}, {@code Pet.create},
+ * {@code MedicalRecord.create}, {@code Appointment.create}, {@code ProductMovement.create}...), de modo que
+ * todo lo generado cumple las mismas invariantes que lo creado por la API.
+ *
+ * Los campos únicos (email, documento, teléfono, chip, sku) se derivan de un índice global,
+ * no del RNG, para que nunca colisionen con los índices únicos de MongoDB.
+ */
+final class SyntheticEntities {
+
+    private static final String CONTROL_LETTERS = "TRWAGMYFPDXBNJZSQVHLCKE";
+
+    private static final String[] FIRST_NAMES = {
+            "Lucía", "Hugo", "Martina", "Mateo", "Sofía", "Leo", "María", "Daniel", "Julia", "Pablo",
+            "Paula", "Álvaro", "Valeria", "Manuel", "Emma", "Adrián", "Carmen", "David", "Laura", "Javier"};
+    private static final String[] LAST_NAMES = {
+            "García", "Rodríguez", "González", "Fernández", "López", "Martínez", "Sánchez", "Pérez",
+            "Gómez", "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Muñoz", "Álvarez", "Romero"};
+    private static final String[] CITIES = {
+            "Madrid", "Barcelona", "Valencia", "Sevilla", "Zaragoza", "Málaga", "Murcia", "Bilbao", "Alicante"};
+    private static final String[] STREETS = {
+            "Calle Mayor", "Avenida de la Constitución", "Calle Real", "Gran Vía", "Calle del Sol", "Paseo del Prado"};
+    private static final String[] PET_NAMES = {
+            "Luna", "Toby", "Coco", "Kira", "Simba", "Nala", "Rocky", "Lola", "Thor", "Bruno",
+            "Mia", "Max", "Canela", "Zeus", "Chispa", "Lúa", "Milo", "Nube"};
+
+    private static final String[]  SPECIES       = {"Perro", "Gato", "Conejo", "Hurón", "Ave"};
+    private static final double[]  SPECIES_SHARE = {0.60, 0.32, 0.04, 0.02, 0.02};
+    private static final String[][] BREEDS = {
+            {"Mestizo", "Labrador", "Pastor Alemán", "Bulldog Francés", "Yorkshire", "Golden Retriever"},
+            {"Europeo", "Siamés", "Persa", "Maine Coon", "Británico"},
+            {"Enano", "Belier"},
+            {"Común"},
+            {"Periquito", "Agaporni", "Canario"}};
+
+    private static final String[] VET_SPECIALITIES   = {"MEDICINA GENERAL", "CIRUGIA", "DERMATOLOGIA", "CARDIOLOGIA", "EXOTICOS"};
+    private static final String[] STAFF_SPECIALITIES = {"RECEPTION", "GROOMING", "CLEANING", "MAINTENANCE"};
+
+    private static final WeightedEnum<String> SPECIES_PICKER = new WeightedEnum<>(SPECIES, SPECIES_SHARE);
+
+    static final WeightedEnum<MedicalRecordType> RECORD_TYPES = new WeightedEnum<>(
+            new MedicalRecordType[] {
+                    MedicalRecordType.CONSULTATION, MedicalRecordType.WEIGHT, MedicalRecordType.VACCINE,
+                    MedicalRecordType.TREATMENT, MedicalRecordType.DIAGNOSIS, MedicalRecordType.DOCUMENT,
+                    MedicalRecordType.SURGERY, MedicalRecordType.HOSPITALIZATION, MedicalRecordType.ALLERGY},
+            new double[] {30, 20, 18, 10, 8, 6, 3, 3, 2});
+
+    private static final WeightedEnum<AppointmentType> APPOINTMENT_TYPES = new WeightedEnum<>(
+            new AppointmentType[] {
+                    AppointmentType.RUTINA, AppointmentType.VACUNAS, AppointmentType.EXAMEN,
+                    AppointmentType.BAÑO, AppointmentType.CIRUGIA, AppointmentType.OTRO},
+            new double[] {40, 22, 15, 12, 4, 7});
+
+    private static final WeightedEnum<AppointmentStatus> PAST_OUTCOMES = new WeightedEnum<>(
+            new AppointmentStatus[] {
+                    AppointmentStatus.FINALIZADA, AppointmentStatus.REQUIERE_SEGUIMIENTO,
+                    AppointmentStatus.CANCELADA, AppointmentStatus.RESERVADA},
+            new double[] {82, 6, 8, 4});
+
+    private static final WeightedEnum<AppointmentStatus> TODAY_STATUSES = new WeightedEnum<>(
+            new AppointmentStatus[] {
+                    AppointmentStatus.RESERVADA, AppointmentStatus.CLIENTE_LLEGADO,
+                    AppointmentStatus.PROXIMO_A_ATENDER, AppointmentStatus.EN_CONSULTA,
+                    AppointmentStatus.FINALIZADA, AppointmentStatus.CANCELADA},
+            new double[] {35, 10, 5, 5, 40, 5});
+
+    private static final WeightedEnum<ProductMovementType> MOVEMENT_TYPES = new WeightedEnum<>(
+            new ProductMovementType[] {
+                    ProductMovementType.EXIT_SALE, ProductMovementType.EXIT_CONSUMPTION, ProductMovementType.ENTRY},
+            new double[] {55, 25, 20});
+
+    private final MedicalRecordDetailsFactory detailsFactory = new MedicalRecordDetailsFactory();
+    private final LocalDateTime               now;
+
+    SyntheticEntities(LocalDateTime now) {
+        this.now = now;
+    }
+
+    LocalDateTime now() {
+        return now;
+    }
+
+    // -------------------------------------------------------------------------
+    // Clínica y empleados
+    // -------------------------------------------------------------------------
+
+    Clinic clinic(SplittableRandom rng, int index) {
+        String city = pick(rng, CITIES);
+        return Clinic.create(
+                "Clínica Veterinaria " + city + " " + (index + 1),
+                "Datavet " + city + " " + (index + 1) + " S.L.",
+                "B" + String.format("%08d", 10_000_000 + index),
+                LegalType.SOCIEDAD_LIMITADA,
+                address(rng, city),
+                phone("91", index),
+                new Email("clinica" + index + "@datavet.test"),
+                null,
+                ClinicSchedule.of(List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY"),
+                        LocalTime.of(9, 0), LocalTime.of(20, 0), null));
+    }
+
+    Employee veterinarian(SplittableRandom rng, String clinicId, long globalIndex) {
+        return employee(rng, clinicId, globalIndex, pick(rng, VET_SPECIALITIES),
+                "COL-" + String.format("%06d", globalIndex), "CLINIC_VETERINARIAN");
+    }
+
+    Employee staff(SplittableRandom rng, String clinicId, long globalIndex) {
+        return employee(rng, clinicId, globalIndex, pick(rng, STAFF_SPECIALITIES), null, "CLINIC_STAFF");
+    }
+
+    private Employee employee(SplittableRandom rng, String clinicId, long globalIndex,
+                              String speciality, String licenseNumber, String role) {
+        return Employee.create(
+                "datagen-user-" + globalIndex, clinicId,
+                pick(rng, FIRST_NAMES), pick(rng, LAST_NAMES),
+                dni(50_000_000L + globalIndex),
+                phone("7", globalIndex),
+                address(rng, pick(rng, CITIES)),
+                null, speciality, licenseNumber,
+                now.toLocalDate().minusDays(30 + rng.nextInt(3_650)),
+                role);
+    }
+
+    // -------------------------------------------------------------------------
+    // Dueños y mascotas
+    // -------------------------------------------------------------------------
+
+    Owner owner(SplittableRandom rng, String clinicId, long globalIndex) {
+        return Owner.create(
+                clinicId, pick(rng, FIRST_NAMES), pick(rng, LAST_NAMES),
+                dni(10_000_000L + globalIndex),
+                phone("6", globalIndex),
+                new Email("owner" + globalIndex + "@datavet.test"),
+                address(rng, pick(rng, CITIES)),
+                null, true);
+    }
+
+    Pet pet(SplittableRandom rng, String clinicId, long globalIndex, OwnerRef owner) {
+        String species = SPECIES_PICKER.next(rng);
+        String breed   = pick(rng, BREEDS[indexOf(SPECIES, species)]);
+        return Pet.create(
+                clinicId, pick(rng, PET_NAMES), species, breed,
+                rng.nextBoolean() ? Sex.MALE : Sex.FEMALE,
+                now.toLocalDate().minusDays(60 + rng.nextInt(15 * 365)),
+                "941000" + String.format("%09d", globalIndex),
+                null,
+                OwnerInfo.create(owner.id(), owner.name(), owner.lastName(), new Phone(owner.phone())));
+    }
+
+    // -------------------------------------------------------------------------
+    // Historial clínico
+    // -------------------------------------------------------------------------
+
+    MedicalRecord medicalRecord(SplittableRandom rng, PetRef pet, String clinicId, String veterinarianId) {
+        MedicalRecordType type = RECORD_TYPES.next(rng);
+        LocalDate day = now.toLocalDate().minusDays(rng.nextInt(5 * 365));
+        return MedicalRecord.create(pet.id(), clinicId, type, veterinarianId,
+                null, detailsFactory.create(detailsRequest(rng, type, day, veterinarianId)));
+    }
+
+    private MedicalRecordDetailsRequest detailsRequest(SplittableRandom rng, MedicalRecordType type,
+                                                       LocalDate day, String veterinarianId) {
+        LocalDate today = now.toLocalDate();
+        return switch (type) {
+            case CONSULTATION -> {
+                boolean followUp = rng.nextInt(10) == 0;
+                yield new ConsultationDetailsRequest(
+                        pick(rng, new String[] {"Control anual", "Vómitos", "Cojera", "Picor", "Revisión"}),
+                        List.of(pick(rng, new String[] {"Letargo", "Inapetencia", "Fiebre", "Tos", "Diarrea"})),
+                        "Exploración general", "Sin hallazgos graves", "Seguimiento en casa",
+                        followUp, followUp ? today.plusDays(7 + rng.nextInt(30)) : null);
+            }
+            case VACCINE -> new VaccineDetailsRequest(
+                    pick(rng, new String[] {"Antirrábica", "Polivalente", "Leucemia felina", "Leishmania"}),
+                    day, day.plusYears(1), "BATCH-" + (1000 + rng.nextInt(9000)),
+                    pick(rng, new String[] {"Zoetis", "MSD", "Boehringer", "Virbac"}));
+            case TREATMENT -> new TreatmentDetailsRequest(
+                    "Tratamiento " + pick(rng, new String[] {"antibiótico", "antiinflamatorio", "dermatológico"}),
+                    day, "Administrar con comida", day.plusDays(5 + rng.nextInt(25)),
+                    List.of(new TreatmentMedicationRequest(
+                            pick(rng, new String[] {"Amoxicilina", "Meloxicam", "Prednisona", "Omeprazol"}),
+                            "10mg", "Cada 12h", 7, null)),
+                    false, null);
+            case SURGERY -> new SurgeryDetailsRequest(
+                    pick(rng, new String[] {"Castración", "Extracción dental", "Osteosíntesis", "Tumorectomía"}),
+                    pick(rng, new String[] {"PREVENTIVE", "CORRECTIVE", "DIAGNOSTIC"}),
+                    List.of(new SurgeryProcedureRequest("Procedimiento principal", "Según protocolo")),
+                    "GENERAL", rng.nextBoolean(), now.plusDays(1 + rng.nextInt(30)));
+            case WEIGHT -> new WeightDetailsRequest(
+                    Math.round((1 + rng.nextDouble() * 40) * 10) / 10.0, "KG");
+            case DIAGNOSIS -> new DiagnosisDetailsRequest(
+                    pick(rng, new String[] {"Gastritis", "Otitis", "Dermatitis atópica", "Insuficiencia renal"}),
+                    pick(rng, new String[] {"DIGESTIVE", "DERMATOLOGICAL", "METABOLIC", "INFECTIOUS"}),
+                    "Diagnóstico clínico", pick(rng, new String[] {"MILD", "MODERATE", "SEVERE"}),
+                    day, rng.nextInt(5) == 0, false, List.of("Inapetencia"), List.of("Dieta blanda"),
+                    false, null);
+            case ALLERGY -> new AllergyDetailsRequest(
+                    pick(rng, new String[] {"Pollo", "Pulgas", "Polen", "Penicilina"}),
+                    pick(rng, new String[] {"FOOD", "PARASITE", "ENVIRONMENTAL", "MEDICATION"}),
+                    pick(rng, new String[] {"MILD", "MODERATE", "SEVERE"}),
+                    List.of("Picor"), false, day, null);
+            case DOCUMENT -> new DocumentDetailsRequest(
+                    "analitica-" + day + ".pdf", "Análisis de sangre",
+                    "https://storage.datavet.test/docs/" + Long.toHexString(rng.nextLong()) + ".pdf",
+                    "application/pdf", day.atTime(12, 0), veterinarianId, null,
+                    50_000L + rng.nextInt(2_000_000), false, null);
+            case HOSPITALIZATION -> new HospitalizationDetailsRequest(
+                    "Observación", pick(rng, new String[] {"Gastroenteritis", "Post-operatorio", "Traumatismo"}),
+                    rng.nextInt(10) == 0, "Hospitalización", "Paciente estable, monitorizar cada 4 horas");
+        };
+    }
+
+    // -------------------------------------------------------------------------
+    // Agenda
+    // -------------------------------------------------------------------------
+
+    /**
+     * Cita en los últimos dos años o en el próximo mes. Las pasadas se llevan por la máquina de estados
+     * ({@code advanceStatus}/{@code cancel}) hasta un estado final realista.
+     */
+    Appointment appointment(SplittableRandom rng, String clinicId, PetRef pet,
+                            String creationEmployeeId, String veterinarianId, List<String> productIds) {
+        LocalDateTime scheduledAt = slot(rng);
+        boolean emergency = rng.nextInt(100) < 3;
+        AppointmentType type = emergency ? AppointmentType.EMERGENCIA : APPOINTMENT_TYPES.next(rng);
+        OwnerRef owner = pet.owner();
+
+        Appointment appointment = Appointment.create(
+                clinicId, emergency, type, scheduledAt,
+                owner.id(), owner.name() + " " + owner.lastName(), owner.email(), owner.phone(),
+                PetSnapshot.of(pet.id(), pet.name(), pet.species()),
+                creationEmployeeId, veterinarianId, null, productIds,
+                rng.nextInt(5) == 0 ? AppointmentSource.WHATSAPP : AppointmentSource.PANEL);
+
+        AppointmentStatus target;
+        if (scheduledAt.toLocalDate().isBefore(now.toLocalDate()))      target = PAST_OUTCOMES.next(rng);
+        else if (scheduledAt.toLocalDate().isEqual(now.toLocalDate()))  target = TODAY_STATUSES.next(rng);
+        else target = rng.nextInt(20) == 0 ? AppointmentStatus.CANCELADA : AppointmentStatus.RESERVADA;
+
+        driveTo(appointment, target);
+        appointment.clearDomainEvents();
+        return appointment;
+    }
+
+    private static void driveTo(Appointment appointment, AppointmentStatus target) {
+        if (target == AppointmentStatus.RESERVADA) return;
+        if (target == AppointmentStatus.CANCELADA) {
+            appointment.cancel("Cancelada por el cliente");
+            return;
+        }
+        AppointmentStatus[] path = {
+                AppointmentStatus.CLIENTE_LLEGADO, AppointmentStatus.PROXIMO_A_ATENDER, AppointmentStatus.EN_CONSULTA};
+        for (AppointmentStatus step : path) {
+            appointment.advanceStatus(step);
+            if (step == target) return;
+        }
+        appointment.advanceStatus(target);
+    }
+
+    /** Hueco de 15 minutos entre las 9:00 y las 20:00, de lunes a sábado. */
+    private LocalDateTime slot(SplittableRandom rng) {
+        LocalDate day = now.toLocalDate().plusDays(rng.nextInt(-730, 31));
+        if (day.getDayOfWeek() == DayOfWeek.SUNDAY) day = day.minusDays(1);
+        return day.atTime(9, 0).plusMinutes(15L * rng.nextInt(44));
+    }
+
+    // -------------------------------------------------------------------------
+    // Inventario
+    // -------------------------------------------------------------------------
+
+    Product product(SplittableRandom rng, String clinicId, int indexInClinic) {
+        String sku = "SKU-" + String.format("%06d", indexInClinic);
+        BigDecimal price = BigDecimal.valueOf(1 + rng.nextDouble() * 120).setScale(2, RoundingMode.HALF_UP);
+        int kind = rng.nextInt(4);
+        ProductDetails details = switch (kind) {
+            case 0 -> MedicationDetails.create(
+                    pick(rng, new String[] {"Amoxicilina", "Meloxicam", "Prednisona"}), "Comprimido", "250mg",
+                    "Zoetis", "REG-" + indexInClinic, true, "Temperatura ambiente",
+                    "LOT-" + rng.nextInt(10_000), now.toLocalDate().plusMonths(6 + rng.nextInt(24)),
+                    List.of("Perro", "Gato"), "Oral");
+            case 1 -> FoodDetails.create(
+                    pick(rng, new String[] {"Royal Canin", "Hill's", "Purina"}), 1_000 * (1 + rng.nextInt(15)),
+                    "Adulto", List.of("Perro"), List.of("Pollo"), List.of("Pollo", "Arroz"),
+                    null, rng.nextInt(4) == 0, "Lugar fresco y seco");
+            case 2 -> HygieneDetails.create(
+                    pick(rng, new String[] {"Artero", "Menforsan", "Beaphar"}), "Neutro", List.of("Perro", "Gato"),
+                    250 + 50 * rng.nextInt(10));
+            default -> MedicalSupplyDetails.create(
+                    "B. Braun", "REF-" + indexInClinic, "Caja", 10 * (1 + rng.nextInt(10)),
+                    true, "LOT-" + rng.nextInt(10_000), now.toLocalDate().plusYears(2));
+        };
+        int minStock = 5 + rng.nextInt(20);
+        Product product = Product.create(clinicId, details.getCategory() + " " + (indexInClinic + 1), null,
+                sku, "84" + String.format("%010d", indexInClinic),
+                price, new BigDecimal(kind == 1 ? "10.00" : "21.00"),
+                minStock + rng.nextInt(200), minStock, details);
+        product.clearDomainEvents();
+        return product;
+    }
+
+    ProductMovement movement(SplittableRandom rng, String productId, String clinicId,
+                             String employeeId, String consumptionAppointmentId) {
+        ProductMovementType type = consumptionAppointmentId == null
+                ? (rng.nextInt(3) == 0 ? ProductMovementType.ENTRY : ProductMovementType.EXIT_SALE)
+                : MOVEMENT_TYPES.next(rng);
+        int quantity = type == ProductMovementType.ENTRY ? 10 + rng.nextInt(90) : 1 + rng.nextInt(3);
+        LocalDateTime date = now.minusMinutes(rng.nextLong(2L * 365 * 24 * 60));
+        return ProductMovement.create(productId, clinicId, type, quantity, date, employeeId,
+                type == ProductMovementType.EXIT_CONSUMPTION ? consumptionAppointmentId : null, null);
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private static DocumentId dni(long number) {
+        int n = (int) (number % 100_000_000L);
+        return DocumentId.of("DNI", String.format("%08d", n) + CONTROL_LETTERS.charAt(n % 23));
+    }
+
+    /** Teléfono único por índice: {@code +34 <prefijo> <índice>} (entre 7 y 15 caracteres). */
+    private static Phone phone(String prefix, long index) {
+        return new Phone("+34" + prefix + String.format("%0" + (9 - prefix.length()) + "d", index));
+    }
+
+    private static Address address(SplittableRandom rng, String city) {
+        return new Address(pick(rng, STREETS) + " " + (1 + rng.nextInt(150)), city,
+                String.format("%05d", 1_000 + rng.nextInt(51_000)));
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) return i;
+        }
+        throw new IllegalArgumentException(value);
+    }
+}
@@ -0,0 +1,391 @@
+package com.datavet.benchmark.load;
+
+import com.datavet.DatavetApplication;
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.auth.application.port.out.UserRepositoryPort;
+import com.datavet.auth.domain.model.User;
+import com.datavet.auth.domain.model.UserRole;
+import com.datavet.auth.domain.valueobject.HashedPassword;
+import com.datavet.benchmark.datagen.DatasetGenerator;
+import com.datavet.benchmark.datagen.DatasetSink;
+import com.datavet.benchmark.datagen.DatasetSpec;
+import com.datavet.benchmark.datagen.GeneratedDataset;
+import com.datavet.benchmark.datagen.GeneratedDataset.ClinicData;
+import com.datavet.benchmark.datagen.MongoDatasetSink;
+import com.datavet.benchmark.datagen.PortDatasetSink;
+import com.datavet.benchmark.load.ClinicSession.Visit;
+import com.datavet.shared.domain.valueobject.Email;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga extremo a extremo que reproduce el día de una clínica contra los controladores reales.
+ *
+ * <ul>
+ *   <li>Arranca la aplicación en el mismo proceso con el perfil {@code inmemory} (puerto aleatorio) y la
+ *       rellena con {@link DatasetGenerator} a través de los puertos de persistencia; con {@code --mongo-uri}
+ *       usa una base de datos MongoDB real.</li>
+ *   <li>Da de alta un usuario por veterinario en las clínicas más grandes e inicia sesión por HTTP.</li>
+ *   <li>Modelo abierto: las llegadas siguen un proceso de Poisson a la tasa configurada, independiente de
+ *       lo que tarde el servidor; un pool de {@code concurrency} hilos las atiende. La latencia se mide
+ *       desde la llegada prevista, así que la cola de espera se incluye.</li>
+ *   <li>Informa de throughput y percentiles por endpoint, guarda cada histograma en {@code .hgrm} y
+ *       termina con código 1 si algún endpoint supera su presupuesto, de modo que el build falla.</li>
+ * </ul>
+ *
+ * Uso (perfil {@code benchmark}):
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec@loadtest -Dloadtest.args="--rate=300 --concurrency=64 --duration=120"
+ * </pre>
+ */
+@Slf4j
+public class ClinicDayLoadRunner {
+
+    private static final String PASSWORD = "LoadTest-Clinic-2025";
+
+    private final int           rate;
+    private final int           concurrency;
+    private final Duration      warmup;
+    private final Duration      duration;
+    private final int           clinics;
+    private final long          seed;
+    private final Path          reportDir;
+    private final boolean       virtualThreads;
+    private final String        mongoUri;
+    private final String        database;
+    private final LatencyBudget budget;
+    private final Endpoint[]    endpoints = Endpoint.values();
+    private final double[]      cumulativeWeights;
+
+    ClinicDayLoadRunner(Map<String, String> options) {
+        this.rate        = Integer.parseInt(options.getOrDefault("rate", "200"));
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        this.warmup      = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "15")));
+        this.duration    = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        this.clinics     = Integer.parseInt(options.getOrDefault("clinics", "5"));
+        this.seed        = Long.parseLong(options.getOrDefault("seed", "42"));
+        this.reportDir   = Path.of(options.getOrDefault("report-dir", "target/loadtest"));
+        this.mongoUri    = options.get("mongo-uri");
+        this.database    = options.getOrDefault("database", "datavet_loadtest");
+
+        String threads = options.getOrDefault("threads", "platform");
+        if (!threads.equals("platform") && !threads.equals("virtual")) {
+            throw new IllegalArgumentException("--threads debe ser platform o virtual: " + threads);
+        }
+        this.virtualThreads = threads.equals("virtual");
+
+        LatencyBudget configured = LatencyBudget.defaults(
+                Double.parseDouble(options.getOrDefault("max-error-rate", "0.01")));
+        this.cumulativeWeights = new double[endpoints.length];
+        double total = 0;
+        for (Endpoint endpoint : endpoints) {
+            String override = options.get("budget-" + endpoint.option());
+            if (override != null) {
+                configured = configured.with(endpoint, Long.parseLong(override));
+            }
+            total += Integer.parseInt(options.getOrDefault("mix-" + endpoint.option(),
+                    String.valueOf(endpoint.defaultWeight())));
+            cumulativeWeights[endpoint.ordinal()] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("La mezcla de tráfico no tiene ningún endpoint con peso");
+        }
+        this.budget = configured;
+    }
+
+    // -------------------------------------------------------------------------
+    // Preparación
+    // -------------------------------------------------------------------------
+
+    /** Crea un usuario por veterinario en las {@code clinics} clínicas más grandes y abre su sesión. */
+    private List<ClinicSession> openSessions(ConfigurableApplicationContext context, GeneratedDataset dataset)
+            throws IOException, InterruptedException {
+        UserRepositoryPort        users        = context.getBean(UserRepositoryPort.class);
+        AppointmentRepositoryPort appointments = context.getBean(AppointmentRepositoryPort.class);
+        ObjectMapper              objectMapper = context.getBean(ObjectMapper.class);
+        HashedPassword password = HashedPassword.ofHash(context.getBean(PasswordEncoder.class).encode(PASSWORD));
+
+        URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<ClinicSession> sessions = new ArrayList<>();
+        for (ClinicData clinic : dataset.clinics().subList(0, Math.min(clinics, dataset.clinics().size()))) {
+            Queue<Visit> pending = new ConcurrentLinkedQueue<>();
+            appointments.findByClinicIdWithFilters(clinic.clinicId(), null, AppointmentStatus.RESERVADA, null, null)
+                    .forEach(appointment -> pending.add(new Visit(appointment.getId(), appointment.getStatus())));
+
+            for (int v = 0; v < clinic.veterinarianIds().size(); v++) {
+                String employeeId = clinic.veterinarianIds().get(v);
+                String email      = "loadtest.c" + clinic.index() + ".v" + v + "@datavet.test";
+                users.save(User.createEmployee(clinic.clinicId(), employeeId, new Email(email), password,
+                        UserRole.CLINIC_VETERINARIAN));
+
+                ClinicSession session = new ClinicSession(http, baseUri, objectMapper, clinic,
+                        employeeId, email, PASSWORD, pending);
+                int status = session.login();
+                if (!ClinicSession.isSuccess(status)) {
+                    throw new IllegalStateException("Login inicial fallido para " + email + ": HTTP " + status);
+                }
+                sessions.add(session);
+            }
+        }
+        if (sessions.isEmpty()) {
+            throw new IllegalStateException("El dataset no tiene veterinarios con los que iniciar sesión");
+        }
+        return sessions;
+    }
+
+    // -------------------------------------------------------------------------
+    // Generación de carga (modelo abierto)
+    // -------------------------------------------------------------------------
+
+    private Map<Endpoint, EndpointStats> drive(List<ClinicSession> sessions, ExecutorService workers,
+                                               Duration window, SplittableRandom rng) {
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : endpoints) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+
+        Phaser inFlight   = new Phaser(1);
+        double meanGapNs  = 1e9 / rate;
+        long   start      = System.nanoTime();
+        long   end        = start + window.toNanos();
+        long   arrival    = start;
+
+        while (true) {
+            // Tiempo entre llegadas exponencial → proceso de Poisson
+            arrival += (long) (-Math.log(1.0 - rng.nextDouble()) * meanGapNs);
+            if (arrival >= end) {
+                break;
+            }
+            long wait = arrival - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Endpoint      endpoint = pick(rng);
+            ClinicSession session  = sessions.get(rng.nextInt(sessions.size()));
+            long          intended = arrival;
+
+            inFlight.register();
+            workers.execute(() -> {
+                try {
+                    call(session, endpoint, intended, stats.get(endpoint));
+                } finally {
+                    inFlight.arriveAndDeregister();
+                }
+            });
+        }
+
+        inFlight.arriveAndAwaitAdvance();
+        return stats;
+    }
+
+    private static void call(ClinicSession session, Endpoint endpoint, long intended, EndpointStats stats) {
+        try {
+            int status = session.execute(endpoint);
+            long latency = System.nanoTime() - intended;
+            if (status == ClinicSession.SKIPPED) {
+                stats.recordSkipped();
+            } else if (ClinicSession.isSuccess(status)) {
+                stats.recordSuccess(latency);
+            } else {
+                log.debug("[loadtest] {} → HTTP {}", endpoint.label(), status);
+                stats.recordError(latency);
+            }
+        } catch (IOException e) {
+            log.debug("[loadtest] {} → {}", endpoint.label(), e.getMessage());
+            stats.recordError(System.nanoTime() - intended);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Endpoint pick(SplittableRandom rng) {
+        double target = rng.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        int index = Arrays.binarySearch(cumulativeWeights, target);
+        index = index >= 0 ? index + 1 : -index - 1;
+        // Con pesos a cero se repite el acumulado: avanzamos hasta un endpoint con peso real
+        while (index < endpoints.length - 1 && cumulativeWeights[index] <= target) {
+            index++;
+        }
+        return endpoints[index];
+    }
+
+    // -------------------------------------------------------------------------
+    // Informe
+    // -------------------------------------------------------------------------
+
+    private List<String> report(Map<Endpoint, EndpointStats> stats) throws IOException {
+        double seconds = duration.toNanos() / 1e9;
+
+        StringBuilder table = new StringBuilder(String.format("%n%-42s %9s %9s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "peticiones", "req/s", "errores", "omitidas",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "budget"));
+        for (EndpointStats endpoint : stats.values()) {
+            table.append(String.format("%-42s %9d %9.1f %8d %8d %9.1f %9.1f %9.1f %9.1f %9.1f %9d%n",
+                    endpoint.endpoint().label(), endpoint.count(), endpoint.count() / seconds,
+                    endpoint.errors(), endpoint.skipped(),
+                    endpoint.percentileMillis(50.0), endpoint.percentileMillis(90.0),
+                    endpoint.percentileMillis(99.0), endpoint.percentileMillis(99.9),
+                    endpoint.maxMillis(), budget.p99Millis().get(endpoint.endpoint())));
+        }
+        log.info("[loadtest] {} — {} llegadas/s, {} hilos cliente, {} s medidos:{}",
+                mode(), rate, concurrency, duration.toSeconds(), table);
+
+        Files.createDirectories(reportDir);
+        for (EndpointStats endpoint : stats.values()) {
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(reportDir.resolve(endpoint.endpoint().option() + ".hgrm")))) {
+                endpoint.writeDistribution(out);
+            }
+        }
+
+        List<String> violations = budget.violations(stats.values());
+        if (stats.values().stream().mapToLong(EndpointStats::count).sum() == 0) {
+            violations.add("No se completó ninguna petición");
+        }
+        return violations;
+    }
+
+    // -------------------------------------------------------------------------
+    // Ejecución
+    // -------------------------------------------------------------------------
+
+    /** Estadísticas de la ventana de medición y los incumplimientos del presupuesto. */
+    record Result(String mode, Map<Endpoint, EndpointStats> stats, List<String> violations) {
+
+        boolean passed() {
+            return violations.isEmpty();
+        }
+    }
+
+    Result run(ConfigurableApplicationContext context, DatasetSpec spec) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        GeneratedDataset dataset;
+        try (DatasetSink sink = mongoUri != null
+                ? new MongoDatasetSink(context.getBean(MongoTemplate.class))
+                : PortDatasetSink.fromContext(context)) {
+            dataset = new DatasetGenerator(spec).generate(sink);
+        }
+        log.info("[loadtest] dataset cargado en {}: {}", Duration.ofNanos(System.nanoTime() - start), dataset.counts());
+
+        List<ClinicSession> sessions = openSessions(context, dataset);
+        log.info("[loadtest] {} sesiones abiertas ({}); calentamiento de {} s",
+                sessions.size(), mode(), warmup.toSeconds());
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            SplittableRandom rng = new SplittableRandom(seed);
+            drive(sessions, workers, warmup, rng);
+            Map<Endpoint, EndpointStats> stats = drive(sessions, workers, duration, rng);
+            List<String> violations = report(stats);
+
+            violations.forEach(violation -> log.error("[loadtest] presupuesto superado — {}", violation));
+            return new Result(mode(), stats, violations);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /** Persistencia e hilos del servidor, p. ej. {@code inmemory/virtual}. */
+    String mode() {
+        return (mongoUri != null ? "mongodb" : "inmemory") + "/" + (virtualThreads ? "virtual" : "platform");
+    }
+
+    /**
+     * Arranca la aplicación según las opciones, ejecuta la prueba y la detiene.
+     *
+     * Con {@code --mongo-uri} usa MongoDB en lugar de los adaptadores en memoria: la base de datos
+     * ({@code --database}, {@code datavet_loadtest} por defecto) se borra antes de arrancar.
+     * Con {@code --threads=virtual} activa el perfil {@code virtual-threads}.
+     */
+    static Result execute(Map<String, String> options) throws IOException, InterruptedException {
+        ClinicDayLoadRunner runner = new ClinicDayLoadRunner(options);
+        DatasetSpec spec = DatasetSpec.production()
+                .scaled(Double.parseDouble(options.getOrDefault("scale", "0.01")))
+                .withSeed(runner.seed);
+
+        List<String> profiles = new ArrayList<>();
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--datavet.jwt.secret=" + UUID.randomUUID() + UUID.randomUUID(),
+                "--spring.mail.username=loadtest",
+                "--spring.mail.password=loadtest",
+                // Todas las sesiones salen de 127.0.0.1: sin esto el límite por IP cortaría los logins
+                "--datavet.security.login-throttle.ip-max-attempts=1000000",
+                "--logging.level.org.springframework.security=WARN",
+                "--logging.level.com.datavet.shared.infrastructure.event=WARN"));
+
+        if (runner.mongoUri == null) {
+            profiles.add("inmemory");
+        } else {
+            try (MongoClient client = MongoClients.create(runner.mongoUri)) {
+                client.getDatabase(runner.database).drop();
+            }
+            args.add("--spring.data.mongodb.uri=" + runner.mongoUri);
+            args.add("--spring.data.mongodb.database=" + runner.database);
+        }
+        if (runner.virtualThreads) {
+            profiles.add("virtual-threads");
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DatavetApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .run(args.toArray(String[]::new))) {
+            return runner.run(context, spec);
+        }
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = option.indexOf('=');
+            options.put(eq < 0 ? option : option.substring(0, eq), eq < 0 ? "true" : option.substring(eq + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Argumentos (todos opcionales):
+     * {@code --rate=200 --concurrency=64 --warmup=15 --duration=60 --clinics=5 --scale=0.01 --seed=42
+     * --threads=platform|virtual --mongo-uri=<uri> --database=datavet_loadtest --max-error-rate=0.01
+     * --report-dir=target/loadtest --budget-<endpoint>=<ms> --mix-<endpoint>=<peso>}
+     */
+    public static void main(String[] args) throws Exception {
+        System.exit(execute(parseOptions(args)).passed() ? 0 : 1);
+    }
+}
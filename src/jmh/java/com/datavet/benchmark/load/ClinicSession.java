@@ -0,0 +1,188 @@
+package com.datavet.benchmark.load;
+
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.benchmark.datagen.GeneratedDataset.ClinicData;
+import com.datavet.benchmark.datagen.GeneratedDataset.PetRef;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Un veterinario con la sesión iniciada en su clínica: guarda la cookie {@code accessToken} y ejecuta
+ * contra la API cada una de las operaciones de {@link Endpoint}.
+ *
+ * Las transiciones de estado se toman de la cola de citas pendientes de la clínica, compartida entre
+ * todas sus sesiones: cada cita la avanza un único hilo a la vez y vuelve a la cola hasta finalizarse.
+ */
+final class ClinicSession {
+
+    /** Código devuelto cuando la operación no tiene trabajo disponible y no se llega a enviar. */
+    static final int SKIPPED = -1;
+
+    /** Cita de la agenda de hoy y el estado en el que la dejó la última transición. */
+    record Visit(String appointmentId, AppointmentStatus status) {}
+
+    private final HttpClient   http;
+    private final URI          baseUri;
+    private final ObjectMapper objectMapper;
+    private final ClinicData   clinic;
+    private final String       employeeId;
+    private final String       email;
+    private final String       password;
+    private final Queue<Visit> pendingVisits;
+
+    private volatile String accessToken;
+
+    ClinicSession(HttpClient http, URI baseUri, ObjectMapper objectMapper, ClinicData clinic,
+                  String employeeId, String email, String password, Queue<Visit> pendingVisits) {
+        this.http          = http;
+        this.baseUri       = baseUri;
+        this.objectMapper  = objectMapper;
+        this.clinic        = clinic;
+        this.employeeId    = employeeId;
+        this.email         = email;
+        this.password      = password;
+        this.pendingVisits = pendingVisits;
+    }
+
+    /** Ejecuta la operación y devuelve el código HTTP de la respuesta (o {@link #SKIPPED}). */
+    int execute(Endpoint endpoint) throws IOException, InterruptedException {
+        return switch (endpoint) {
+            case LOGIN          -> login();
+            case AGENDA         -> get("/appointments?date=" + LocalDate.now());
+            case STATUS         -> advanceVisit();
+            case MEDICAL_RECORD -> createMedicalRecord();
+            case STOCK_MOVEMENT -> registerMovement();
+            case PET            -> get("/pet/" + randomPet().id());
+            case OWNER_PETS     -> get("/pet/owner/" + randomPet().owner().id());
+            case PET_HISTORY    -> get("/medical-record/pet/" + randomPet().id());
+        };
+    }
+
+    // -------------------------------------------------------------------------
+    // Operaciones
+    // -------------------------------------------------------------------------
+
+    int login() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(json(Map.of("email", email, "password", password)))
+                .build();
+
+        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 200) {
+            response.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith("accessToken="))
+                    .findFirst()
+                    .ifPresent(cookie -> accessToken = cookieValue(cookie));
+        }
+        return response.statusCode();
+    }
+
+    private static String cookieValue(String setCookie) {
+        int end = setCookie.indexOf(';');
+        return setCookie.substring(setCookie.indexOf('=') + 1, end < 0 ? setCookie.length() : end);
+    }
+
+    private int advanceVisit() throws IOException, InterruptedException {
+        Visit visit = pendingVisits.poll();
+        if (visit == null) {
+            return SKIPPED;
+        }
+
+        AppointmentStatus next = switch (visit.status()) {
+            case RESERVADA         -> AppointmentStatus.CLIENTE_LLEGADO;
+            case CLIENTE_LLEGADO   -> AppointmentStatus.PROXIMO_A_ATENDER;
+            case PROXIMO_A_ATENDER -> AppointmentStatus.EN_CONSULTA;
+            default                -> AppointmentStatus.FINALIZADA;
+        };
+
+        int status = send("PATCH", "/appointments/" + visit.appointmentId() + "/status",
+                Map.of("newStatus", next, "medicalEmployeeId", employeeId));
+
+        if (isSuccess(status) && next != AppointmentStatus.FINALIZADA) {
+            pendingVisits.offer(new Visit(visit.appointmentId(), next));
+        }
+        return status;
+    }
+
+    private int createMedicalRecord() throws IOException, InterruptedException {
+        ThreadLocalRandom rng = ThreadLocalRandom.current();
+        double weight = Math.round((2.0 + rng.nextDouble() * 40.0) * 10.0) / 10.0;
+
+        return send("POST", "/medical-record", Map.of(
+                "petId",          randomPet().id(),
+                "clinicId",       clinic.clinicId(),
+                "type",           "WEIGHT",
+                "veterinarianId", employeeId,
+                "notes",          "Control de peso en consulta",
+                "details",        Map.of("detailsType", "WEIGHT", "value", weight, "unit", "KG")));
+    }
+
+    /** Mayoría de ventas unitarias y alguna reposición, para que el stock no llegue a agotarse. */
+    private int registerMovement() throws IOException, InterruptedException {
+        ThreadLocalRandom rng = ThreadLocalRandom.current();
+        List<String> products = clinic.productIds();
+        String  productId = products.get(rng.nextInt(products.size()));
+        boolean entry     = rng.nextInt(10) < 3;
+
+        return send("POST", "/product-movement/product/" + productId + "/clinic/" + clinic.clinicId(), Map.of(
+                "type",       entry ? "ENTRY" : "EXIT_SALE",
+                "quantity",   entry ? 5 + rng.nextInt(16) : 1,
+                "date",       LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS),
+                "employeeId", employeeId));
+    }
+
+    // -------------------------------------------------------------------------
+    // HTTP
+    // -------------------------------------------------------------------------
+
+    private int get(String path) throws IOException, InterruptedException {
+        return send(authenticated(path).GET().build());
+    }
+
+    private int send(String method, String path, Object body) throws IOException, InterruptedException {
+        return send(authenticated(path)
+                .header("Content-Type", "application/json")
+                .method(method, json(body))
+                .build());
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder authenticated(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Cookie", "accessToken=" + accessToken);
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el cuerpo de la petición", e);
+        }
+    }
+
+    private PetRef randomPet() {
+        List<PetRef> pets = clinic.pets();
+        return pets.get(ThreadLocalRandom.current().nextInt(pets.size()));
+    }
+
+    static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,51 @@
+package com.datavet.benchmark.load;
+
+/**
+ * Operaciones que componen el día de una clínica, con su peso en la mezcla de tráfico y su presupuesto
+ * de latencia por defecto.
+ *
+ * Los pesos son relativos (se normalizan sobre la suma) y reproducen una jornada típica: la agenda se
+ * consulta constantemente, las fichas de pacientes a menudo y las escrituras son minoría.
+ * Ambos valores se pueden sobrescribir por línea de comandos con {@code --mix-<option>} y
+ * {@code --budget-<option>}.
+ */
+public enum Endpoint {
+
+    LOGIN          ("POST /auth/login",                         "login",          2,  400),
+    AGENDA         ("GET /appointments",                        "agenda",         30, 150),
+    STATUS         ("PATCH /appointments/{id}/status",          "status",         10, 150),
+    MEDICAL_RECORD ("POST /medical-record",                     "medical-record", 6,  200),
+    STOCK_MOVEMENT ("POST /product-movement/product/{id}/...",  "movement",       7,  200),
+    PET            ("GET /pet/{id}",                            "pet",            20, 100),
+    OWNER_PETS     ("GET /pet/owner/{ownerId}",                 "owner-pets",     10, 100),
+    PET_HISTORY    ("GET /medical-record/pet/{petId}",          "pet-history",    15, 250);
+
+    private final String label;
+    private final String option;
+    private final int    defaultWeight;
+    private final long   defaultBudgetMillis;
+
+    Endpoint(String label, String option, int defaultWeight, long defaultBudgetMillis) {
+        this.label               = label;
+        this.option              = option;
+        this.defaultWeight       = defaultWeight;
+        this.defaultBudgetMillis = defaultBudgetMillis;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public String option() {
+        return option;
+    }
+
+    public int defaultWeight() {
+        return defaultWeight;
+    }
+
+    /** Presupuesto del percentil 99 en milisegundos. */
+    public long defaultBudgetMillis() {
+        return defaultBudgetMillis;
+    }
+}
@@ -0,0 +1,78 @@
+package com.datavet.benchmark.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencias y errores de un endpoint durante la ventana de medición.
+ *
+ * Las latencias se registran en microsegundos desde el instante <b>previsto</b> de la llegada, no desde
+ * que un hilo la atiende: si el sistema se satura, la espera en cola cuenta (sin omisión coordinada).
+ */
+final class EndpointStats {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Endpoint           endpoint;
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final LongAdder          errors    = new LongAdder();
+    private final LongAdder          skipped   = new LongAdder();
+
+    EndpointStats(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void recordSuccess(long latencyNanos) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    /** Los errores también ocupan al servidor, así que su latencia se registra igualmente. */
+    void recordError(long latencyNanos) {
+        errors.increment();
+        recordSuccess(latencyNanos);
+    }
+
+    /** Llegada descartada por falta de trabajo (p. ej. no quedan citas por avanzar). */
+    void recordSkipped() {
+        skipped.increment();
+    }
+
+    Endpoint endpoint() {
+        return endpoint;
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long skipped() {
+        return skipped.sum();
+    }
+
+    double errorRate() {
+        long count = count();
+        return count == 0 ? 0.0 : (double) errors() / count;
+    }
+
+    double percentileMillis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    double maxMillis() {
+        return latencies.getMaxValue() / 1_000.0;
+    }
+
+    /** Distribución completa en formato {@code .hgrm}, en milisegundos, para comparar ejecuciones. */
+    void writeDistribution(PrintStream out) {
+        Histogram copy = latencies.copy();
+        copy.outputPercentileDistribution(out, 1_000.0);
+    }
+}
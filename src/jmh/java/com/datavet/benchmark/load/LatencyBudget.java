@@ -0,0 +1,51 @@
+package com.datavet.benchmark.load;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Presupuesto de la prueba de carga: percentil 99 máximo por endpoint y tasa de error máxima global.
+ *
+ * @param p99Millis    latencia p99 permitida por endpoint, en milisegundos
+ * @param maxErrorRate fracción de respuestas no 2xx permitida en cada endpoint (0.01 = 1 %)
+ */
+record LatencyBudget(Map<Endpoint, Long> p99Millis, double maxErrorRate) {
+
+    static LatencyBudget defaults(double maxErrorRate) {
+        Map<Endpoint, Long> budgets = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            budgets.put(endpoint, endpoint.defaultBudgetMillis());
+        }
+        return new LatencyBudget(budgets, maxErrorRate);
+    }
+
+    LatencyBudget with(Endpoint endpoint, long millis) {
+        Map<Endpoint, Long> budgets = new EnumMap<>(p99Millis);
+        budgets.put(endpoint, millis);
+        return new LatencyBudget(budgets, maxErrorRate);
+    }
+
+    /** Descripción de cada incumplimiento; vacía si la ejecución está dentro del presupuesto. */
+    List<String> violations(Collection<EndpointStats> stats) {
+        List<String> violations = new ArrayList<>();
+        for (EndpointStats endpoint : stats) {
+            if (endpoint.count() == 0) {
+                continue;
+            }
+            long   budget = p99Millis.get(endpoint.endpoint());
+            double p99    = endpoint.percentileMillis(99.0);
+            if (p99 > budget) {
+                violations.add(String.format("%s: p99 %.1f ms > %d ms",
+                        endpoint.endpoint().label(), p99, budget));
+            }
+            if (endpoint.errorRate() > maxErrorRate) {
+                violations.add(String.format("%s: %.2f %% de errores > %.2f %%",
+                        endpoint.endpoint().label(), endpoint.errorRate() * 100, maxErrorRate * 100));
+            }
+        }
+        return violations;
+    }
+}
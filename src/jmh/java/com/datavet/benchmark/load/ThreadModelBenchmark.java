@@ -0,0 +1,63 @@
+package com.datavet.benchmark.load;
+
+import com.datavet.benchmark.load.ClinicDayLoadRunner.Result;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compara el servidor con hilos de plataforma y con hilos virtuales ({@code virtual-threads}) bajo alta
+ * concurrencia, sobre la consulta de agenda y el alta de registros clínicos.
+ *
+ * Ejecuta {@link ClinicDayLoadRunner} dos veces con las mismas opciones y semilla, cambiando solo
+ * {@code --threads}, y muestra ambos resultados lado a lado. Para que la diferencia sea representativa
+ * conviene apuntar a MongoDB ({@code --mongo-uri}): con los adaptadores en memoria no hay E/S bloqueante.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec@threadmodel -Dthreadmodel.args="--mongo-uri=mongodb://localhost:27017"
+ * </pre>
+ */
+@Slf4j
+public class ThreadModelBenchmark {
+
+    private static final List<Endpoint> COMPARED = List.of(Endpoint.AGENDA, Endpoint.MEDICAL_RECORD);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = ClinicDayLoadRunner.parseOptions(args);
+        options.putIfAbsent("rate",        "1500");
+        options.putIfAbsent("concurrency", "1000");
+        options.putIfAbsent("mix-agenda",         "70");
+        options.putIfAbsent("mix-medical-record", "30");
+        for (Endpoint endpoint : Endpoint.values()) {
+            options.putIfAbsent("mix-" + endpoint.option(), "0");
+        }
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "target/loadtest"));
+
+        List<Result> results = new ArrayList<>();
+        for (String threads : List.of("platform", "virtual")) {
+            Map<String, String> run = new LinkedHashMap<>(options);
+            run.put("threads", threads);
+            run.put("report-dir", reportDir.resolve(threads).toString());
+            results.add(ClinicDayLoadRunner.execute(run));
+        }
+
+        StringBuilder table = new StringBuilder(String.format("%n%-36s %-20s %9s %9s %9s %9s %8s%n",
+                "endpoint", "modo", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "errores"));
+        double seconds = Double.parseDouble(options.getOrDefault("duration", "60"));
+        for (Endpoint endpoint : COMPARED) {
+            for (Result result : results) {
+                EndpointStats stats = result.stats().get(endpoint);
+                table.append(String.format("%-36s %-20s %9.1f %9.1f %9.1f %9.1f %8d%n",
+                        endpoint.label(), result.mode(), stats.count() / seconds,
+                        stats.percentileMillis(50.0), stats.percentileMillis(99.0),
+                        stats.percentileMillis(99.9), stats.errors()));
+            }
+        }
+        log.info("[threadmodel] {} llegadas/s, {} hilos cliente:{}",
+                options.get("rate"), options.get("concurrency"), table);
+    }
+}
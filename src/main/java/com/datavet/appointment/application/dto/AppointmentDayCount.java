@@ -0,0 +1,24 @@
+package com.datavet.appointment.application.dto;
+
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+@Getter
+@AllArgsConstructor
+public class AppointmentDayCount {
+
+    public static final Comparator<AppointmentDayCount> ORDER = Comparator
+            .comparing(AppointmentDayCount::getDate)
+            .thenComparing(AppointmentDayCount::getStatus)
+            .thenComparing(AppointmentDayCount::getType);
+
+    private LocalDate         date;
+    private AppointmentStatus status;
+    private AppointmentType   type;
+    private long              count;
+}
@@ -0,0 +1,53 @@
+package com.datavet.appointment.application.dto;
+
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Contadores de flujo de un día por clínica, veterinario y tipo de cita. Los tiempos se guardan como suma
+ * y número de muestras, así que varios días o veterinarios se combinan sumando.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AppointmentFlowStats {
+
+    private String          clinicId;
+    private LocalDate       date;
+    // null si la cita no tenía veterinario asignado
+    private String          medicalEmployeeId;
+    private AppointmentType type;
+
+    private long arrived;
+    private long started;
+    private long finished;
+    private long followUps;
+    private long cancelled;
+    private long noShows;
+
+    // CLIENTE_LLEGADO → EN_CONSULTA
+    private long waitCount;
+    private long waitSeconds;
+
+    // EN_CONSULTA → FINALIZADA / REQUIERE_SEGUIMIENTO
+    private long consultCount;
+    private long consultSeconds;
+
+    public Double getAverageWaitMinutes() {
+        return waitCount > 0 ? waitSeconds / 60d / waitCount : null;
+    }
+
+    public Double getAverageConsultMinutes() {
+        return consultCount > 0 ? consultSeconds / 60d / consultCount : null;
+    }
+
+    // Citas no presentadas sobre las que tenían que presentarse (llegadas + no presentadas)
+    public Double getNoShowRate() {
+        long expected = arrived + noShows;
+        return expected > 0 ? (double) noShows / expected : null;
+    }
+}
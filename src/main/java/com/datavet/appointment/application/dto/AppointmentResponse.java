@@ -8,6 +8,7 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @AllArgsConstructor
@@ -37,6 +38,8 @@ public class AppointmentResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    private Map<AppointmentStatus, LocalDateTime> statusTimestamps;
+
     @Getter
     @AllArgsConstructor
     public static class PetSnapshotDto {
@@ -0,0 +1,51 @@
+package com.datavet.appointment.application.dto;
+
+import com.datavet.appointment.domain.event.AppointmentStatusChangedEvent;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+@Getter
+@AllArgsConstructor
+public class WaitingRoomEntry {
+
+    // Urgencias primero, luego por hora de la cita y por hora de llegada; el id desempata
+    public static final Comparator<WaitingRoomEntry> TRIAGE = Comparator
+            .comparing(WaitingRoomEntry::isEmergency, Comparator.reverseOrder())
+            .thenComparing(WaitingRoomEntry::getScheduledAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(WaitingRoomEntry::getArrivedAt,   Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(WaitingRoomEntry::getAppointmentId);
+
+    private String          appointmentId;
+    private String          clinicId;
+    private boolean         emergency;
+    private AppointmentType type;
+    private LocalDateTime   scheduledAt;
+    private LocalDateTime   arrivedAt;
+    // Veterinario ya asignado al reservar; null si lo puede atender cualquiera
+    private String          medicalEmployeeId;
+
+    public static WaitingRoomEntry of(Appointment appointment) {
+        // Las citas anteriores a los sellos de estado no tienen hora de llegada
+        LocalDateTime arrivedAt = appointment.getStatusTimestamps().get(AppointmentStatus.CLIENTE_LLEGADO);
+        return new WaitingRoomEntry(appointment.getId(), appointment.getClinicId(), appointment.isEmergency(),
+                appointment.getType(), appointment.getScheduledAt(),
+                arrivedAt != null ? arrivedAt : appointment.getUpdatedAt(), blankToNull(appointment.getMedicalEmployeeId()));
+    }
+
+    public static WaitingRoomEntry of(AppointmentStatusChangedEvent event) {
+        return new WaitingRoomEntry(event.getAppointmentId(), event.getClinicId(), event.isEmergency(),
+                event.getType(), event.getScheduledAt(),
+                event.getStatusTimestamps().getOrDefault(AppointmentStatus.CLIENTE_LLEGADO, event.occurredOn()),
+                blankToNull(event.getMedicalEmployeeId()));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
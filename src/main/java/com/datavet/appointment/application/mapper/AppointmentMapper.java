@@ -35,7 +35,8 @@ public class AppointmentMapper {
                 appt.getProductIds(),
                 appt.getSource(),
                 appt.getCreatedAt(),
-                appt.getUpdatedAt()
+                appt.getUpdatedAt(),
+                appt.getStatusTimestamps()
         );
     }
 
@@ -0,0 +1,12 @@
+package com.datavet.appointment.application.port.in;
+
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AppointmentAnalyticsUseCase {
+
+    // Contadores diarios de la clínica para los días from..to (ambos incluidos), por día, veterinario y tipo
+    List<AppointmentFlowStats> getFlowStats(String clinicId, LocalDate from, LocalDate to);
+}
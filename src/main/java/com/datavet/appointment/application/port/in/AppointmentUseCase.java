@@ -1,5 +1,6 @@
 package com.datavet.appointment.application.port.in;
 
+import com.datavet.appointment.application.dto.AppointmentDayCount;
 import com.datavet.appointment.application.port.in.command.CancelAppointmentCommand;
 import com.datavet.appointment.application.port.in.command.CreateAppointmentCommand;
 import com.datavet.appointment.application.port.in.command.UpdateAppointmentStatusCommand;
@@ -27,4 +28,15 @@ public interface AppointmentUseCase extends UseCase {
             AppointmentStatus status,
             AppointmentType type,
             String ownerId);
+
+    // Vistas de calendario: días from..to, ambos incluidos, como mucho 62
+    List<Appointment> getByClinicInRange(
+            String clinicId,
+            LocalDate from,
+            LocalDate to,
+            AppointmentStatus status,
+            AppointmentType type,
+            String medicalEmployeeId);
+
+    List<AppointmentDayCount> countByDay(String clinicId, LocalDate from, LocalDate to, String medicalEmployeeId);
 }
@@ -0,0 +1,20 @@
+package com.datavet.appointment.application.port.in;
+
+import com.datavet.appointment.application.dto.WaitingRoomEntry;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.shared.application.port.UseCase;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitingRoomUseCase extends UseCase {
+
+    // Citas en CLIENTE_LLEGADO de la clínica, en el orden en que se atenderán
+    List<WaitingRoomEntry> getQueue(String clinicId);
+
+    // Siguiente cita para el veterinario: la primera sin veterinario o ya asignada a él. Sin modificarla
+    Optional<WaitingRoomEntry> peekNext(String clinicId, String medicalEmployeeId);
+
+    // Saca la siguiente cita del veterinario y la pasa a PROXIMO_A_ATENDER asignada a él
+    Optional<Appointment> assignNext(String clinicId, String medicalEmployeeId);
+}
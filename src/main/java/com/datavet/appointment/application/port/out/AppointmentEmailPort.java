@@ -2,10 +2,20 @@ package com.datavet.appointment.application.port.out;
 
 import com.datavet.appointment.domain.model.Appointment;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AppointmentEmailPort {
 
     void sendAppointmentCreatedEmail(
             String toEmail,
             String ownerName,
             Appointment appointment);
+
+    // Recordatorio con la misma plantilla que la confirmación, hoursBefore horas antes de la cita.
+    // El resultado termina con error si el envío falla, para que el planificador pueda reintentarlo.
+    CompletableFuture<Void> sendAppointmentReminderEmail(
+            String toEmail,
+            String ownerName,
+            Appointment appointment,
+            int hoursBefore);
 }
@@ -0,0 +1,15 @@
+package com.datavet.appointment.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+public interface AppointmentReminderLeasePort {
+
+    // Reclama los recordatorios (id → fin de la concesión) y devuelve los que ha conseguido esta instancia.
+    // Cada id se concede una sola vez entre todas las réplicas.
+    Set<String> acquire(Map<String, LocalDateTime> expiresAtById);
+
+    // Libera una concesión cuyo envío ha fallado, para que el recordatorio se pueda volver a reclamar
+    void release(String id);
+}
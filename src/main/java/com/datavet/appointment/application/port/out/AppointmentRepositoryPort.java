@@ -1,19 +1,44 @@
 package com.datavet.appointment.application.port.out;
 
+import com.datavet.appointment.application.dto.AppointmentDayCount;
 import com.datavet.appointment.domain.model.Appointment;
 import com.datavet.appointment.domain.valueobject.AppointmentStatus;
 import com.datavet.appointment.domain.valueobject.AppointmentType;
 import com.datavet.shared.application.port.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AppointmentRepositoryPort extends Repository<Appointment, String> {
 
+    List<Appointment> findAllById(Collection<String> ids);
+
     List<Appointment> findByClinicIdWithFilters(
             String clinicId,
             LocalDate date,
             AppointmentStatus status,
             AppointmentType type,
             String ownerId);
+
+    // Citas de la clínica con scheduled_at en [from, to), ordenadas por fecha; los filtros nulos no se aplican
+    List<Appointment> findByClinicIdAndRange(
+            String clinicId,
+            LocalDateTime from,
+            LocalDateTime to,
+            AppointmentStatus status,
+            AppointmentType type,
+            String medicalEmployeeId);
+
+    // Número de citas por día, estado y tipo con scheduled_at en [from, to); las combinaciones sin citas no aparecen
+    List<AppointmentDayCount> countByDay(String clinicId, LocalDateTime from, LocalDateTime to, String medicalEmployeeId);
+
+    // Citas del dueño a partir de from, sin las canceladas, ordenadas por fecha
+    List<Appointment> findUpcomingByOwnerId(String ownerId, LocalDateTime from);
+
+    // Copia desnormalizada del dueño en las citas programadas a partir de from; las pasadas conservan
+    // los datos con los que se atendieron. Reaplicar los mismos datos no modifica ninguna cita.
+    long updateOwnerContact(String ownerId, String ownerName, String ownerEmail, String ownerPhone,
+                            LocalDateTime from);
 }
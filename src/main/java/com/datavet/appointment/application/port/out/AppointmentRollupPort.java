@@ -0,0 +1,23 @@
+package com.datavet.appointment.application.port.out;
+
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AppointmentRollupPort {
+
+    // Suma los contadores de delta al documento de su día, veterinario y tipo (lo crea si no existe).
+    // Atómico: varias réplicas pueden sumar a la vez.
+    void increment(AppointmentFlowStats delta);
+
+    // Pone a cero las no presentadas de todos los documentos del día en la clínica
+    void resetNoShows(String clinicId, LocalDate date);
+
+    // Fija (no suma) las no presentadas: recalcular el mismo día da el mismo resultado
+    void setNoShows(String clinicId, LocalDate date, String medicalEmployeeId, AppointmentType type, long noShows);
+
+    // Documentos de la clínica con fecha en [from, to], ordenados por fecha
+    List<AppointmentFlowStats> findByClinicIdAndDateRange(String clinicId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,21 @@
+package com.datavet.appointment.application.port.out;
+
+import com.datavet.appointment.application.dto.WaitingRoomEntry;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitingRoomPort {
+
+    // Citas en CLIENTE_LLEGADO de la clínica, en el orden en que se atenderán
+    List<WaitingRoomEntry> findByClinicId(String clinicId);
+
+    // La primera sin veterinario o ya asignada a medicalEmployeeId; sin veterinario, la primera de la cola
+    Optional<WaitingRoomEntry> peekNext(String clinicId, String medicalEmployeeId);
+
+    // Como peekNext, pero la saca de la cola: dos llamadas a la vez nunca reciben la misma entrada
+    Optional<WaitingRoomEntry> pollNext(String clinicId, String medicalEmployeeId);
+
+    // Devuelve a su sitio una entrada sacada con pollNext
+    void put(WaitingRoomEntry entry);
+}
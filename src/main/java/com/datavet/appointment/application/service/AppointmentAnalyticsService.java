@@ -0,0 +1,37 @@
+package com.datavet.appointment.application.service;
+
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
+import com.datavet.appointment.application.port.in.AppointmentAnalyticsUseCase;
+import com.datavet.appointment.application.port.out.AppointmentRollupPort;
+import com.datavet.appointment.domain.exception.AppointmentValidationException;
+import com.datavet.shared.application.service.ApplicationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Estadísticas de flujo de citas leídas de {@code appointment_daily_rollup}, que se mantiene con cada cambio
+ * de estado; el panel lee unos pocos documentos en lugar de agregar las citas.
+ */
+@Service
+@RequiredArgsConstructor
+public class AppointmentAnalyticsService implements AppointmentAnalyticsUseCase, ApplicationService {
+
+    static final int MAX_RANGE_DAYS = 366;
+
+    private final AppointmentRollupPort appointmentRollupPort;
+
+    @Override
+    public List<AppointmentFlowStats> getFlowStats(String clinicId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new AppointmentValidationException("to", "El rango de fechas no es válido");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new AppointmentValidationException("to", "El rango no puede superar " + MAX_RANGE_DAYS + " días");
+        }
+        return appointmentRollupPort.findByClinicIdAndDateRange(clinicId, from, to);
+    }
+}
@@ -1,5 +1,6 @@
 package com.datavet.appointment.application.service;
 
+import com.datavet.appointment.application.dto.AppointmentDayCount;
 import com.datavet.appointment.application.port.in.AppointmentUseCase;
 import com.datavet.appointment.application.port.in.command.CancelAppointmentCommand;
 import com.datavet.appointment.application.port.in.command.CreateAppointmentCommand;
@@ -7,6 +8,7 @@ import com.datavet.appointment.application.port.in.command.UpdateAppointmentStat
 import com.datavet.appointment.application.port.out.AppointmentEmailPort;
 import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
 import com.datavet.appointment.domain.exception.AppointmentNotFoundException;
+import com.datavet.appointment.domain.exception.AppointmentValidationException;
 import com.datavet.appointment.domain.model.Appointment;
 import com.datavet.appointment.domain.model.PetSnapshot;
 import com.datavet.appointment.domain.valueobject.AppointmentStatus;
@@ -21,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Slf4j
@@ -29,6 +32,9 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class AppointmentService implements AppointmentUseCase, ApplicationService {
 
+    // Un mes y medio largo cubre cualquier vista mensual con los días de las semanas vecinas
+    static final int MAX_RANGE_DAYS = 62;
+
     private final AppointmentRepositoryPort appointmentRepositoryPort;
     private final AppointmentEmailPort      appointmentEmailPort;
     private final DomainEventPublisher      domainEventPublisher;
@@ -63,8 +69,8 @@ public class AppointmentService implements AppointmentUseCase, ApplicationServic
                 command.getSource()
         );
 
-        publishDomainEvents(appointment);
         Appointment saved = appointmentRepositoryPort.save(appointment);
+        publishDomainEvents(appointment);
 
         if (!saved.isEmergency() && saved.getOwnerEmail() != null) {
             try {
@@ -98,8 +104,9 @@ public class AppointmentService implements AppointmentUseCase, ApplicationServic
 
         appointment.advanceStatus(command.getNewStatus());
 
+        Appointment saved = appointmentRepositoryPort.save(appointment);
         publishDomainEvents(appointment);
-        return appointmentRepositoryPort.save(appointment);
+        return saved;
     }
 
     @Override
@@ -115,8 +122,8 @@ public class AppointmentService implements AppointmentUseCase, ApplicationServic
 
         appointment.cancel(command.getReason());
 
-        publishDomainEvents(appointment);
         appointmentRepositoryPort.save(appointment);
+        publishDomainEvents(appointment);
     }
 
     @Override
@@ -143,10 +150,43 @@ public class AppointmentService implements AppointmentUseCase, ApplicationServic
                 clinicId, date, status, type, ownerId);
     }
 
+    @Override
+    public List<Appointment> getByClinicInRange(
+            String clinicId,
+            LocalDate from,
+            LocalDate to,
+            AppointmentStatus status,
+            AppointmentType type,
+            String medicalEmployeeId) {
+
+        checkRange(from, to);
+        return appointmentRepositoryPort.findByClinicIdAndRange(
+                clinicId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), status, type, medicalEmployeeId);
+    }
+
+    @Override
+    public List<AppointmentDayCount> countByDay(String clinicId, LocalDate from, LocalDate to, String medicalEmployeeId) {
+        checkRange(from, to);
+        return appointmentRepositoryPort.countByDay(
+                clinicId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(), medicalEmployeeId);
+    }
+
     // -------------------------------------------------------------------------
     // Helpers
     // -------------------------------------------------------------------------
 
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new AppointmentValidationException("from", "El rango de fechas debe tener inicio y fin");
+        }
+        if (to.isBefore(from)) {
+            throw new AppointmentValidationException("to", "La fecha final no puede ser anterior a la inicial");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new AppointmentValidationException("to", "El rango no puede superar " + MAX_RANGE_DAYS + " días");
+        }
+    }
+
     private void publishDomainEvents(Appointment appointment) {
         List<DomainEvent> events = appointment.getDomainEvents();
         events.forEach(domainEventPublisher::publish);
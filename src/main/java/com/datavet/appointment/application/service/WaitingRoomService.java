@@ -0,0 +1,80 @@
+package com.datavet.appointment.application.service;
+
+import com.datavet.appointment.application.dto.WaitingRoomEntry;
+import com.datavet.appointment.application.port.in.AppointmentUseCase;
+import com.datavet.appointment.application.port.in.WaitingRoomUseCase;
+import com.datavet.appointment.application.port.in.command.UpdateAppointmentStatusCommand;
+import com.datavet.appointment.application.port.out.WaitingRoomPort;
+import com.datavet.appointment.domain.exception.AppointmentNotFoundException;
+import com.datavet.appointment.domain.exception.AppointmentStateException;
+import com.datavet.appointment.domain.exception.AppointmentValidationException;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.shared.application.service.ApplicationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Sala de espera sobre la cola en memoria de {@link WaitingRoomPort}.
+ *
+ * Asignar la siguiente cita la saca de la cola y la pasa a PROXIMO_A_ATENDER con {@link AppointmentUseCase}.
+ * Una entrada desfasada (la cita ya no está esperando, por ejemplo porque otra réplica la ha movido) falla
+ * al avanzar de estado, se descarta y se asigna la siguiente; ante cualquier otro error la entrada vuelve a
+ * su sitio.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService implements WaitingRoomUseCase, ApplicationService {
+
+    private final WaitingRoomPort    waitingRoomPort;
+    private final AppointmentUseCase appointmentUseCase;
+
+    @Override
+    public List<WaitingRoomEntry> getQueue(String clinicId) {
+        return waitingRoomPort.findByClinicId(clinicId);
+    }
+
+    @Override
+    public Optional<WaitingRoomEntry> peekNext(String clinicId, String medicalEmployeeId) {
+        return waitingRoomPort.peekNext(clinicId, blankToNull(medicalEmployeeId));
+    }
+
+    @Override
+    public Optional<Appointment> assignNext(String clinicId, String medicalEmployeeId) {
+        if (medicalEmployeeId == null || medicalEmployeeId.isBlank()) {
+            throw new AppointmentValidationException(
+                    "medicalEmployeeId", "El ID del veterinario no puede ser nulo o vacío");
+        }
+
+        Optional<WaitingRoomEntry> next;
+        while ((next = waitingRoomPort.pollNext(clinicId, medicalEmployeeId)).isPresent()) {
+            WaitingRoomEntry entry = next.get();
+            try {
+                return Optional.of(appointmentUseCase.updateStatus(UpdateAppointmentStatusCommand.builder()
+                        .appointmentId(entry.getAppointmentId())
+                        .clinicId(clinicId)
+                        .newStatus(AppointmentStatus.PROXIMO_A_ATENDER)
+                        .medicalEmployeeId(medicalEmployeeId)
+                        .build()));
+            } catch (AppointmentStateException | AppointmentNotFoundException e) {
+                // Entrada desfasada: la cita ya no está esperando
+                log.warn("Cita {} descartada de la sala de espera de la clínica {}: {}",
+                        entry.getAppointmentId(), clinicId, e.getMessage());
+            } catch (RuntimeException e) {
+                // La cita sigue esperando: vuelve a su sitio
+                waitingRoomPort.put(entry);
+                throw e;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -1,11 +1,13 @@
 package com.datavet.appointment.domain.event;
 
 import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
 import com.datavet.shared.domain.event.DomainEvent;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 @RequiredArgsConstructor
@@ -17,14 +19,27 @@ public class AppointmentStatusChangedEvent implements DomainEvent {
     private final AppointmentStatus  newStatus;
     private final LocalDateTime      occurredOn;
 
+    // Lo necesario para las estadísticas de flujo y la cola de espera sin volver a leer la cita
+    private final boolean                               emergency;
+    private final AppointmentType                       type;
+    private final String                                medicalEmployeeId;
+    private final LocalDateTime                         scheduledAt;
+    private final Map<AppointmentStatus, LocalDateTime> statusTimestamps;
+
     public static AppointmentStatusChangedEvent of(
             String appointmentId,
             String clinicId,
             AppointmentStatus previousStatus,
-            AppointmentStatus newStatus) {
+            AppointmentStatus newStatus,
+            boolean emergency,
+            AppointmentType type,
+            String medicalEmployeeId,
+            LocalDateTime scheduledAt,
+            Map<AppointmentStatus, LocalDateTime> statusTimestamps) {
 
         return new AppointmentStatusChangedEvent(
-                appointmentId, clinicId, previousStatus, newStatus, LocalDateTime.now());
+                appointmentId, clinicId, previousStatus, newStatus, LocalDateTime.now(),
+                emergency, type, medicalEmployeeId, scheduledAt, Map.copyOf(statusTimestamps));
     }
 
     @Override
@@ -18,7 +18,9 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Getter
@@ -54,6 +56,9 @@ public class Appointment extends AggregateRoot<String> implements Document<Strin
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Momento en que la cita entró en cada estado (tiempos de espera y de consulta)
+    private Map<AppointmentStatus, LocalDateTime> statusTimestamps;
+
     @Override
     public String getId() {
         return this.id;
@@ -79,7 +84,11 @@ public class Appointment extends AggregateRoot<String> implements Document<Strin
             List<String> productIds,
             AppointmentSource source) {
 
-        String uuid = UUID.randomUUID().toString();
+        String        uuid = UUID.randomUUID().toString();
+        LocalDateTime now  = LocalDateTime.now();
+
+        Map<AppointmentStatus, LocalDateTime> timestamps = new EnumMap<>(AppointmentStatus.class);
+        timestamps.put(AppointmentStatus.RESERVADA, now);
 
         Appointment appt = new Appointment(
                 uuid,
@@ -98,8 +107,9 @@ public class Appointment extends AggregateRoot<String> implements Document<Strin
                 notes,
                 productIds != null ? new ArrayList<>(productIds) : new ArrayList<>(),
                 source != null ? source : AppointmentSource.PANEL,
-                LocalDateTime.now(),
-                null
+                now,
+                null,
+                timestamps
         );
 
         appt.validate();
@@ -125,13 +135,20 @@ public class Appointment extends AggregateRoot<String> implements Document<Strin
             List<String> productIds,
             AppointmentSource source,
             LocalDateTime createdAt,
-            LocalDateTime updatedAt) {
+            LocalDateTime updatedAt,
+            Map<AppointmentStatus, LocalDateTime> statusTimestamps) {
+
+        // Las citas anteriores a los sellos de estado no tienen ninguno
+        Map<AppointmentStatus, LocalDateTime> timestamps = new EnumMap<>(AppointmentStatus.class);
+        if (statusTimestamps != null) {
+            timestamps.putAll(statusTimestamps);
+        }
 
         return new Appointment(
                 id, clinicId, emergency, type, status, scheduledAt,
                 ownerId, ownerName, ownerEmail, ownerPhone, pet,
                 creationEmployeeId, medicalEmployeeId,
-                notes, productIds, source, createdAt, updatedAt);
+                notes, productIds, source, createdAt, updatedAt, timestamps);
     }
 
     // -------------------------------------------------------------------------
@@ -153,8 +170,9 @@ public class Appointment extends AggregateRoot<String> implements Document<Strin
         AppointmentStatus previous = this.status;
         this.status = newStatus;
         this.updatedAt = LocalDateTime.now();
+        this.statusTimestamps.put(newStatus, this.updatedAt);
 
-        addDomainEvent(AppointmentStatusChangedEvent.of(this.id, this.clinicId, previous, newStatus));
+        addDomainEvent(statusChanged(previous));
     }
 
     public void cancel(String reason) {
@@ -166,9 +184,10 @@ public class Appointment extends AggregateRoot<String> implements Document<Strin
         AppointmentStatus previous = this.status;
         this.status = AppointmentStatus.CANCELADA;
         this.updatedAt = LocalDateTime.now();
+        this.statusTimestamps.put(AppointmentStatus.CANCELADA, this.updatedAt);
 
         addDomainEvent(AppointmentCancelledEvent.of(this.id, this.clinicId, reason));
-        addDomainEvent(AppointmentStatusChangedEvent.of(this.id, this.clinicId, previous, AppointmentStatus.CANCELADA));
+        addDomainEvent(statusChanged(previous));
     }
 
     public void assignMedicalEmployee(String employeeId) {
@@ -180,6 +199,11 @@ public class Appointment extends AggregateRoot<String> implements Document<Strin
         this.updatedAt = LocalDateTime.now();
     }
 
+    private AppointmentStatusChangedEvent statusChanged(AppointmentStatus previous) {
+        return AppointmentStatusChangedEvent.of(this.id, this.clinicId, previous, this.status,
+                this.emergency, this.type, this.medicalEmployeeId, this.scheduledAt, this.statusTimestamps);
+    }
+
     // -------------------------------------------------------------------------
     // Validation
     // -------------------------------------------------------------------------
@@ -1,8 +1,13 @@
 package com.datavet.appointment.infrastructure.adapter.input;
 
+import com.datavet.appointment.application.dto.AppointmentDayCount;
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
 import com.datavet.appointment.application.dto.AppointmentResponse;
+import com.datavet.appointment.application.dto.WaitingRoomEntry;
 import com.datavet.appointment.application.mapper.AppointmentMapper;
+import com.datavet.appointment.application.port.in.AppointmentAnalyticsUseCase;
 import com.datavet.appointment.application.port.in.AppointmentUseCase;
+import com.datavet.appointment.application.port.in.WaitingRoomUseCase;
 import com.datavet.appointment.application.port.in.command.CancelAppointmentCommand;
 import com.datavet.appointment.application.port.in.command.CreateAppointmentCommand;
 import com.datavet.appointment.application.port.in.command.UpdateAppointmentStatusCommand;
@@ -10,13 +15,13 @@ import com.datavet.appointment.domain.model.Appointment;
 import com.datavet.appointment.domain.valueobject.AppointmentSource;
 import com.datavet.appointment.domain.valueobject.AppointmentStatus;
 import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.appointment.infrastructure.adapter.input.dto.AssignNextAppointmentRequest;
 import com.datavet.appointment.infrastructure.adapter.input.dto.CancelAppointmentRequest;
 import com.datavet.appointment.infrastructure.adapter.input.dto.CreateAppointmentRequest;
 import com.datavet.appointment.infrastructure.adapter.input.dto.UpdateAppointmentStatusRequest;
 import com.datavet.auth.domain.model.UserRole;
 import com.datavet.auth.infrastructure.security.AuthenticatedUser;
-import com.datavet.employee.application.port.in.EmployeeUseCase;
-import com.datavet.employee.domain.model.Employee;
+import com.datavet.employee.infrastructure.cache.EmployeeAuthorizationCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -35,8 +40,10 @@ public class AppointmentController {
 
     private static final List<String> BLOCKED_SPECIALITIES = List.of("CLEANING", "MAINTENANCE");
 
-    private final AppointmentUseCase appointmentUseCase;
-    private final EmployeeUseCase    employeeUseCase;
+    private final AppointmentUseCase          appointmentUseCase;
+    private final AppointmentAnalyticsUseCase appointmentAnalyticsUseCase;
+    private final WaitingRoomUseCase          waitingRoomUseCase;
+    private final EmployeeAuthorizationCache  employeeAuthorizationCache;
 
     // =========================================================================
     // POST /appointments — crear cita
@@ -158,6 +165,103 @@ public class AppointmentController {
         return ResponseEntity.ok(AppointmentMapper.toResponseList(appointments));
     }
 
+    // =========================================================================
+    // GET /appointments/range — vistas de semana y mes en una sola consulta
+    // =========================================================================
+
+    @GetMapping("/range")
+    public ResponseEntity<List<AppointmentResponse>> listRange(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) AppointmentStatus status,
+            @RequestParam(required = false) AppointmentType   type,
+            @RequestParam(required = false) String            medicalEmployeeId) {
+
+        checkAgendaAccess(currentUser);
+
+        List<Appointment> appointments = appointmentUseCase.getByClinicInRange(
+                currentUser.getClinicId(), from, to, status, type, medicalEmployeeId);
+
+        return ResponseEntity.ok(AppointmentMapper.toResponseList(appointments));
+    }
+
+    // =========================================================================
+    // GET /appointments/counts — citas por día, estado y tipo
+    // =========================================================================
+
+    @GetMapping("/counts")
+    public ResponseEntity<List<AppointmentDayCount>> counts(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String medicalEmployeeId) {
+
+        checkAgendaAccess(currentUser);
+
+        return ResponseEntity.ok(appointmentUseCase.countByDay(
+                currentUser.getClinicId(), from, to, medicalEmployeeId));
+    }
+
+    // =========================================================================
+    // GET /appointments/analytics — espera, duración de consulta y ausencias por día
+    // =========================================================================
+
+    @GetMapping("/analytics")
+    public ResponseEntity<List<AppointmentFlowStats>> analytics(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        checkAgendaAccess(currentUser);
+
+        return ResponseEntity.ok(appointmentAnalyticsUseCase.getFlowStats(currentUser.getClinicId(), from, to));
+    }
+
+    // =========================================================================
+    // GET /appointments/queue — sala de espera en orden de atención
+    // =========================================================================
+
+    @GetMapping("/queue")
+    public ResponseEntity<List<WaitingRoomEntry>> queue(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+
+        checkAgendaAccess(currentUser);
+
+        return ResponseEntity.ok(waitingRoomUseCase.getQueue(currentUser.getClinicId()));
+    }
+
+    // =========================================================================
+    // GET /appointments/queue/next — siguiente cita, sin sacarla de la cola
+    // =========================================================================
+
+    @GetMapping("/queue/next")
+    public ResponseEntity<WaitingRoomEntry> peekNext(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @RequestParam(required = false) String medicalEmployeeId) {
+
+        checkAgendaAccess(currentUser);
+
+        return waitingRoomUseCase.peekNext(currentUser.getClinicId(), medicalEmployeeId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    // =========================================================================
+    // POST /appointments/queue/next — asignar la siguiente cita a un veterinario libre
+    // =========================================================================
+
+    @PostMapping("/queue/next")
+    public ResponseEntity<AppointmentResponse> assignNext(
+            @AuthenticationPrincipal AuthenticatedUser currentUser,
+            @Valid @RequestBody AssignNextAppointmentRequest request) {
+
+        checkAgendaAccess(currentUser);
+
+        return waitingRoomUseCase.assignNext(currentUser.getClinicId(), request.getMedicalEmployeeId())
+                .map(appointment -> ResponseEntity.ok(AppointmentMapper.toResponse(appointment)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     // =========================================================================
     // Acceso a agenda — empleados con especialidad CLEANING o MAINTENANCE bloqueados
     // =========================================================================
@@ -167,10 +271,14 @@ public class AppointmentController {
             return;
         }
 
-        Employee employee = employeeUseCase.getEmployeeById(
-                user.getEmployeeId(), user.getClinicId());
-
-        String speciality = employee.getSpeciality();
+        // El token no refleja bajas ni cambios de clínica: el empleado se comprueba siempre contra la caché.
+        // La especialidad viene en el token; los tokens sin el claim la toman de la misma entrada.
+        EmployeeAuthorizationCache.EmployeeAuthorization employee =
+                employeeAuthorizationCache.get(user.getEmployeeId(), user.getClinicId());
+        if (!employee.active()) {
+            throw new AccessDeniedException("Tu empleado está desactivado");
+        }
+        String speciality = user.getSpeciality() != null ? user.getSpeciality() : employee.speciality();
         if (speciality != null && BLOCKED_SPECIALITIES.contains(speciality.toUpperCase())) {
             throw new AccessDeniedException("No tienes acceso a la agenda de citas");
         }
@@ -0,0 +1,15 @@
+package com.datavet.appointment.infrastructure.adapter.input.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class AssignNextAppointmentRequest {
+
+    @NotBlank(message = "El veterinario es obligatorio")
+    private String medicalEmployeeId;
+}
@@ -0,0 +1,61 @@
+package com.datavet.appointment.infrastructure.adapter.output;
+
+import com.datavet.appointment.application.port.out.AppointmentReminderLeasePort;
+import com.datavet.appointment.infrastructure.persistence.document.AppointmentReminderLeaseDocument;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@Profile("!inmemory")
+@RequiredArgsConstructor
+public class AppointmentReminderLeaseRepositoryAdapter implements AppointmentReminderLeasePort {
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * Un insert desordenado por lote: el {@code _id} es único, así que los recordatorios que otra réplica
+     * ya ha reclamado dan clave duplicada y el resto se inserta igualmente. Los índices de los errores
+     * dicen cuáles no son de esta instancia.
+     */
+    @Override
+    public Set<String> acquire(Map<String, LocalDateTime> expiresAtById) {
+        if (expiresAtById.isEmpty()) {
+            return Set.of();
+        }
+        LocalDateTime                          now       = LocalDateTime.now();
+        List<AppointmentReminderLeaseDocument> documents = new ArrayList<>(expiresAtById.size());
+        expiresAtById.forEach((id, expiresAt) -> documents.add(new AppointmentReminderLeaseDocument(id, now, expiresAt)));
+
+        Set<String> acquired = new LinkedHashSet<>(expiresAtById.keySet());
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AppointmentReminderLeaseDocument.class)
+                    .insert(documents)
+                    .execute();
+        } catch (BulkOperationException e) {
+            // Clave duplicada u otro fallo: en ambos casos el recordatorio no se envía desde aquí
+            for (BulkWriteError error : e.getErrors()) {
+                acquired.remove(documents.get(error.getIndex()).getId());
+            }
+        }
+        return acquired;
+    }
+
+    @Override
+    public void release(String id) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(id)), AppointmentReminderLeaseDocument.class);
+    }
+}
@@ -1,114 +1,64 @@
 package com.datavet.appointment.infrastructure.adapter.output;
 
+import com.datavet.appointment.application.dto.AppointmentDayCount;
 import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
 import com.datavet.appointment.domain.model.Appointment;
-import com.datavet.appointment.domain.model.PetSnapshot;
 import com.datavet.appointment.domain.valueobject.AppointmentStatus;
 import com.datavet.appointment.domain.valueobject.AppointmentType;
 import com.datavet.appointment.infrastructure.persistence.document.AppointmentDocument;
-import com.datavet.appointment.infrastructure.persistence.document.PetSnapshotDocument;
+import com.datavet.appointment.infrastructure.persistence.mapper.AppointmentDocumentMapper;
 import com.datavet.appointment.infrastructure.persistence.repository.MongoAppointmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class AppointmentRepositoryAdapter implements AppointmentRepositoryPort {
 
     private final MongoAppointmentRepository repository;
     private final MongoTemplate              mongoTemplate;
 
-    // -------------------------------------------------------------------------
-    // Mapping
-    // -------------------------------------------------------------------------
-
-    private AppointmentDocument toDocument(Appointment appt) {
-        PetSnapshotDocument petDoc = null;
-        if (appt.getPet() != null) {
-            petDoc = PetSnapshotDocument.builder()
-                    .petId(appt.getPet().getPetId())
-                    .name(appt.getPet().getName())
-                    .species(appt.getPet().getSpecies())
-                    .build();
-        }
-
-        return AppointmentDocument.builder()
-                .id(appt.getId())
-                .clinicId(appt.getClinicId())
-                .emergency(appt.isEmergency())
-                .type(appt.getType())
-                .status(appt.getStatus())
-                .scheduledAt(appt.getScheduledAt())
-                .ownerId(appt.getOwnerId())
-                .ownerName(appt.getOwnerName())
-                .ownerEmail(appt.getOwnerEmail())
-                .ownerPhone(appt.getOwnerPhone())
-                .pet(petDoc)
-                .creationEmployeeId(appt.getCreationEmployeeId())
-                .medicalEmployeeId(appt.getMedicalEmployeeId())
-                .notes(appt.getNotes())
-                .productIds(appt.getProductIds())
-                .source(appt.getSource())
-                .build();
-    }
-
-    private Appointment toDomain(AppointmentDocument doc) {
-        PetSnapshot petSnapshot = null;
-        if (doc.getPet() != null) {
-            petSnapshot = PetSnapshot.of(
-                    doc.getPet().getPetId(),
-                    doc.getPet().getName(),
-                    doc.getPet().getSpecies()
-            );
-        }
-
-        return Appointment.reconstitute(
-                doc.getId(),
-                doc.getClinicId(),
-                doc.isEmergency(),
-                doc.getType(),
-                doc.getStatus(),
-                doc.getScheduledAt(),
-                doc.getOwnerId(),
-                doc.getOwnerName(),
-                doc.getOwnerEmail(),
-                doc.getOwnerPhone(),
-                petSnapshot,
-                doc.getCreationEmployeeId(),
-                doc.getMedicalEmployeeId(),
-                doc.getNotes(),
-                doc.getProductIds(),
-                doc.getSource(),
-                doc.getCreatedAt(),
-                doc.getUpdatedAt()
-        );
-    }
-
     // -------------------------------------------------------------------------
     // Port methods
     // -------------------------------------------------------------------------
 
     @Override
     public Appointment save(Appointment entity) {
-        return toDomain(repository.save(toDocument(entity)));
+        return AppointmentDocumentMapper.toDomain(repository.save(AppointmentDocumentMapper.toDocument(entity)));
     }
 
     @Override
     public Optional<Appointment> findById(String id) {
-        return repository.findById(id).map(this::toDomain);
+        return repository.findById(id).map(AppointmentDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<Appointment> findAllById(Collection<String> ids) {
+        return repository.findAllById(ids).stream().map(AppointmentDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<Appointment> findAll() {
-        return repository.findAll().stream().map(this::toDomain).toList();
+        return repository.findAll().stream().map(AppointmentDocumentMapper::toDomain).toList();
     }
 
     @Override
@@ -152,7 +102,101 @@ public class AppointmentRepositoryAdapter implements AppointmentRepositoryPort {
         Query query = new Query(criteria);
         return mongoTemplate.find(query, AppointmentDocument.class)
                 .stream()
-                .map(this::toDomain)
+                .map(AppointmentDocumentMapper::toDomain)
                 .toList();
     }
+
+    // clinic_date_idx resuelve clínica y rango y da el orden; el resto de filtros se evalúa en el servidor
+    @Override
+    public List<Appointment> findByClinicIdAndRange(
+            String clinicId,
+            LocalDateTime from,
+            LocalDateTime to,
+            AppointmentStatus status,
+            AppointmentType type,
+            String medicalEmployeeId) {
+
+        Criteria criteria = filters(clinicId, from, to, medicalEmployeeId);
+        if (status != null) {
+            criteria = criteria.and("status").is(status);
+        }
+        if (type != null) {
+            criteria = criteria.and("type").is(type);
+        }
+
+        Query query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "scheduled_at"));
+        return mongoTemplate.find(query, AppointmentDocument.class)
+                .stream()
+                .map(AppointmentDocumentMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * Un único {@code $group} por día, estado y tipo sobre clinic_date_idx: un mes entero son unos cientos de
+     * bytes. El día se calcula en la zona del servidor, la misma con la que se guardan los {@code LocalDateTime}.
+     */
+    @Override
+    public List<AppointmentDayCount> countByDay(String clinicId, LocalDateTime from, LocalDateTime to,
+                                                String medicalEmployeeId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(filters(clinicId, from, to, medicalEmployeeId)),
+                Aggregation.project("status", "type")
+                        .and(DateOperators.dateOf("scheduled_at")
+                                .withTimezone(DateOperators.Timezone.valueOf(ZoneId.systemDefault().getId()))
+                                .toString("%Y-%m-%d"))
+                        .as("day"),
+                Aggregation.group("day", "status", "type").count().as("count"));
+
+        List<AppointmentDayCount> counts = new ArrayList<>();
+        for (Document row : mongoTemplate.aggregate(aggregation, "appointments", Document.class)) {
+            Document key = row.get("_id", Document.class);
+            counts.add(new AppointmentDayCount(
+                    LocalDate.parse(key.getString("day")),
+                    AppointmentStatus.valueOf(key.getString("status")),
+                    AppointmentType.valueOf(key.getString("type")),
+                    ((Number) row.get("count")).longValue()));
+        }
+        counts.sort(AppointmentDayCount.ORDER);
+        return counts;
+    }
+
+    private static Criteria filters(String clinicId, LocalDateTime from, LocalDateTime to, String medicalEmployeeId) {
+        Criteria criteria = Criteria.where("clinic_id").is(clinicId).and("scheduled_at").gte(from).lt(to);
+        if (medicalEmployeeId != null && !medicalEmployeeId.isBlank()) {
+            criteria = criteria.and("medical_employee_id").is(medicalEmployeeId);
+        }
+        return criteria;
+    }
+
+    @Override
+    public List<Appointment> findUpcomingByOwnerId(String ownerId, LocalDateTime from) {
+        Query query = Query.query(Criteria.where("owner_id").is(ownerId)
+                        .and("scheduled_at").gte(from)
+                        .and("status").ne(AppointmentStatus.CANCELADA))
+                .with(Sort.by(Sort.Direction.ASC, "scheduled_at"));
+        return mongoTemplate.find(query, AppointmentDocument.class)
+                .stream()
+                .map(AppointmentDocumentMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long updateOwnerContact(String ownerId, String ownerName, String ownerEmail, String ownerPhone,
+                                   LocalDateTime from) {
+        // owner_idx resuelve el dueño; el filtro por fecha y por diferencias se aplica sobre sus pocas citas
+        Query query = Query.query(Criteria.where("owner_id").is(ownerId)
+                .and("scheduled_at").gte(from)
+                .orOperator(
+                        Criteria.where("owner_name").ne(ownerName),
+                        Criteria.where("owner_email").ne(ownerEmail),
+                        Criteria.where("owner_phone").ne(ownerPhone)));
+
+        Update update = new Update()
+                .set("owner_name",  ownerName)
+                .set("owner_email", ownerEmail)
+                .set("owner_phone", ownerPhone)
+                .set("updated_at",  LocalDateTime.now());
+
+        return mongoTemplate.updateMulti(query, update, AppointmentDocument.class).getModifiedCount();
+    }
 }
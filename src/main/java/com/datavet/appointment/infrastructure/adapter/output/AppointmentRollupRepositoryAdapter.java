@@ -0,0 +1,87 @@
+package com.datavet.appointment.infrastructure.adapter.output;
+
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
+import com.datavet.appointment.application.port.out.AppointmentRollupPort;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.appointment.infrastructure.persistence.document.AppointmentRollupDocument;
+import com.datavet.appointment.infrastructure.persistence.mapper.AppointmentRollupDocumentMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+@Profile("!inmemory")
+@RequiredArgsConstructor
+public class AppointmentRollupRepositoryAdapter implements AppointmentRollupPort {
+
+    private final MongoTemplate mongoTemplate;
+
+    // Un upsert con $inc por transición: sin lectura previa y sin carreras entre réplicas
+    @Override
+    public void increment(AppointmentFlowStats delta) {
+        Update update = key(delta.getClinicId(), delta.getDate(), delta.getMedicalEmployeeId(), delta.getType());
+        inc(update, "arrived",         delta.getArrived());
+        inc(update, "started",         delta.getStarted());
+        inc(update, "finished",        delta.getFinished());
+        inc(update, "follow_ups",      delta.getFollowUps());
+        inc(update, "cancelled",       delta.getCancelled());
+        inc(update, "no_shows",        delta.getNoShows());
+        inc(update, "wait_count",      delta.getWaitCount());
+        inc(update, "wait_seconds",    delta.getWaitSeconds());
+        inc(update, "consult_count",   delta.getConsultCount());
+        inc(update, "consult_seconds", delta.getConsultSeconds());
+        mongoTemplate.upsert(byId(delta.getClinicId(), delta.getDate(), delta.getMedicalEmployeeId(), delta.getType()),
+                update, AppointmentRollupDocument.class);
+    }
+
+    @Override
+    public void resetNoShows(String clinicId, LocalDate date) {
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where("clinic_id").is(clinicId).and("date").is(date).and("no_shows").gt(0)),
+                new Update().set("no_shows", 0L), AppointmentRollupDocument.class);
+    }
+
+    @Override
+    public void setNoShows(String clinicId, LocalDate date, String medicalEmployeeId, AppointmentType type,
+                           long noShows) {
+        mongoTemplate.upsert(byId(clinicId, date, medicalEmployeeId, type),
+                key(clinicId, date, medicalEmployeeId, type).set("no_shows", noShows),
+                AppointmentRollupDocument.class);
+    }
+
+    @Override
+    public List<AppointmentFlowStats> findByClinicIdAndDateRange(String clinicId, LocalDate from, LocalDate to) {
+        Query query = Query.query(Criteria.where("clinic_id").is(clinicId).and("date").gte(from).lte(to))
+                .with(Sort.by(Sort.Direction.ASC, "date"));
+        return mongoTemplate.find(query, AppointmentRollupDocument.class).stream()
+                .map(AppointmentRollupDocumentMapper::toStats)
+                .toList();
+    }
+
+    private static Query byId(String clinicId, LocalDate date, String medicalEmployeeId, AppointmentType type) {
+        return Query.query(Criteria.where("_id")
+                .is(AppointmentRollupDocumentMapper.idOf(clinicId, date, medicalEmployeeId, type)));
+    }
+
+    private static Update key(String clinicId, LocalDate date, String medicalEmployeeId, AppointmentType type) {
+        return new Update()
+                .setOnInsert("clinic_id",           clinicId)
+                .setOnInsert("date",                date)
+                .setOnInsert("medical_employee_id", medicalEmployeeId)
+                .setOnInsert("type",                type);
+    }
+
+    private static void inc(Update update, String field, long value) {
+        if (value != 0) {
+            update.inc(field, value);
+        }
+    }
+}
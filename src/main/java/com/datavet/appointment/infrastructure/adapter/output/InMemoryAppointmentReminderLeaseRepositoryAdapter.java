@@ -0,0 +1,46 @@
+package com.datavet.appointment.infrastructure.adapter.output;
+
+import com.datavet.appointment.application.port.out.AppointmentReminderLeasePort;
+import com.datavet.appointment.infrastructure.persistence.document.AppointmentReminderLeaseDocument;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementación en memoria de {@link AppointmentReminderLeasePort} (perfil {@code inmemory}).
+ * Las concesiones no caducan: con una sola instancia no hace falta purgarlas.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryAppointmentReminderLeaseRepositoryAdapter implements AppointmentReminderLeasePort {
+
+    private final InMemoryCollection<AppointmentReminderLeaseDocument> collection =
+            InMemoryCollection.<AppointmentReminderLeaseDocument>builder(
+                    "appointment_reminder_leases", AppointmentReminderLeaseDocument::getId).build();
+
+    @Override
+    public Set<String> acquire(Map<String, LocalDateTime> expiresAtById) {
+        LocalDateTime now      = LocalDateTime.now();
+        Set<String>   acquired = new LinkedHashSet<>();
+        expiresAtById.forEach((id, expiresAt) -> {
+            try {
+                collection.insert(new AppointmentReminderLeaseDocument(id, now, expiresAt));
+                acquired.add(id);
+            } catch (DuplicateKeyException e) {
+                // Ya concedido
+            }
+        });
+        return acquired;
+    }
+
+    @Override
+    public void release(String id) {
+        collection.deleteById(id);
+    }
+}
@@ -0,0 +1,178 @@
+package com.datavet.appointment.infrastructure.adapter.output;
+
+import com.datavet.appointment.application.dto.AppointmentDayCount;
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.appointment.infrastructure.persistence.document.AppointmentDocument;
+import com.datavet.appointment.infrastructure.persistence.mapper.AppointmentDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection.key;
+
+/**
+ * Implementación en memoria de {@link AppointmentRepositoryPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link AppointmentDocument}.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryAppointmentRepositoryAdapter implements AppointmentRepositoryPort {
+
+    private final InMemoryCollection<AppointmentDocument> collection =
+            InMemoryCollection.<AppointmentDocument>builder("appointments", AppointmentDocument::getId)
+                    .index("clinic_idx",              AppointmentDocument::getClinicId)
+                    .sortedIndex("clinic_date_idx",   AppointmentDocument::getClinicId, AppointmentDocument::getScheduledAt)
+                    .index("clinic_status_idx",       d -> key(d.getClinicId(), d.getStatus()))
+                    .sparseIndex("owner_idx",         AppointmentDocument::getOwnerId)
+                    .build();
+
+    // -------------------------------------------------------------------------
+    // Port methods
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Appointment save(Appointment entity) {
+        return AppointmentDocumentMapper.toDomain(collection.save(AppointmentDocumentMapper.toDocument(entity)));
+    }
+
+    @Override
+    public Optional<Appointment> findById(String id) {
+        return collection.findById(id).map(AppointmentDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<Appointment> findAllById(Collection<String> ids) {
+        return ids.stream().flatMap(id -> collection.findById(id).stream())
+                .map(AppointmentDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Appointment> findAll() {
+        return collection.findAll().stream().map(AppointmentDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        collection.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.existsById(id);
+    }
+
+    @Override
+    public List<Appointment> findByClinicIdWithFilters(
+            String clinicId,
+            LocalDate date,
+            AppointmentStatus status,
+            AppointmentType type,
+            String ownerId) {
+
+        // Mismo criterio que el planificador de Mongo: el índice más selectivo disponible
+        List<AppointmentDocument> candidates;
+        if (date != null) {
+            candidates = collection.range("clinic_date_idx", clinicId,
+                    date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        } else if (status != null) {
+            candidates = collection.findBy("clinic_status_idx", key(clinicId, status));
+        } else {
+            candidates = collection.findBy("clinic_idx", clinicId);
+        }
+
+        boolean filterOwner = ownerId != null && !ownerId.isBlank();
+
+        return candidates.stream()
+                .filter(d -> status == null || d.getStatus() == status)
+                .filter(d -> type == null || d.getType() == type)
+                .filter(d -> !filterOwner || ownerId.equals(d.getOwnerId()))
+                .map(AppointmentDocumentMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Appointment> findByClinicIdAndRange(
+            String clinicId,
+            LocalDateTime from,
+            LocalDateTime to,
+            AppointmentStatus status,
+            AppointmentType type,
+            String medicalEmployeeId) {
+
+        return inRange(clinicId, from, to, medicalEmployeeId).stream()
+                .filter(d -> status == null || d.getStatus() == status)
+                .filter(d -> type == null || d.getType() == type)
+                .map(AppointmentDocumentMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<AppointmentDayCount> countByDay(String clinicId, LocalDateTime from, LocalDateTime to,
+                                                String medicalEmployeeId) {
+        Map<DayKey, Long> counts = inRange(clinicId, from, to, medicalEmployeeId).stream()
+                .collect(Collectors.groupingBy(
+                        d -> new DayKey(d.getScheduledAt().toLocalDate(), d.getStatus(), d.getType()),
+                        Collectors.counting()));
+        return counts.entrySet().stream()
+                .map(e -> new AppointmentDayCount(e.getKey().date(), e.getKey().status(), e.getKey().type(), e.getValue()))
+                .sorted(AppointmentDayCount.ORDER)
+                .toList();
+    }
+
+    private record DayKey(LocalDate date, AppointmentStatus status, AppointmentType type) {}
+
+    // Ya en orden de scheduled_at
+    private List<AppointmentDocument> inRange(String clinicId, LocalDateTime from, LocalDateTime to,
+                                              String medicalEmployeeId) {
+        boolean filterVet = medicalEmployeeId != null && !medicalEmployeeId.isBlank();
+        return collection.range("clinic_date_idx", clinicId, from, to).stream()
+                .filter(d -> !filterVet || medicalEmployeeId.equals(d.getMedicalEmployeeId()))
+                .toList();
+    }
+
+    @Override
+    public List<Appointment> findUpcomingByOwnerId(String ownerId, LocalDateTime from) {
+        return collection.findBy("owner_idx", ownerId).stream()
+                .filter(d -> d.getScheduledAt() != null && !d.getScheduledAt().isBefore(from))
+                .filter(d -> d.getStatus() != AppointmentStatus.CANCELADA)
+                .sorted(Comparator.comparing(AppointmentDocument::getScheduledAt))
+                .map(AppointmentDocumentMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long updateOwnerContact(String ownerId, String ownerName, String ownerEmail, String ownerPhone,
+                                   LocalDateTime from) {
+        long modified = 0;
+        for (AppointmentDocument document : collection.findBy("owner_idx", ownerId)) {
+            if (document.getScheduledAt() == null || document.getScheduledAt().isBefore(from)) {
+                continue;
+            }
+            if (Objects.equals(document.getOwnerName(), ownerName)
+                    && Objects.equals(document.getOwnerEmail(), ownerEmail)
+                    && Objects.equals(document.getOwnerPhone(), ownerPhone)) {
+                continue;
+            }
+            document.setOwnerName(ownerName);
+            document.setOwnerEmail(ownerEmail);
+            document.setOwnerPhone(ownerPhone);
+            document.setUpdatedAt(LocalDateTime.now());
+            collection.save(document);
+            modified++;
+        }
+        return modified;
+    }
+}
@@ -0,0 +1,87 @@
+package com.datavet.appointment.infrastructure.adapter.output;
+
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
+import com.datavet.appointment.application.port.out.AppointmentRollupPort;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.appointment.infrastructure.persistence.document.AppointmentRollupDocument;
+import com.datavet.appointment.infrastructure.persistence.mapper.AppointmentRollupDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Implementación en memoria de {@link AppointmentRollupPort} (perfil {@code inmemory}).
+ * Replica el índice de {@link AppointmentRollupDocument}; los incrementos se serializan en el adaptador.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryAppointmentRollupRepositoryAdapter implements AppointmentRollupPort {
+
+    private final InMemoryCollection<AppointmentRollupDocument> collection =
+            InMemoryCollection.<AppointmentRollupDocument>builder("appointment_daily_rollup", AppointmentRollupDocument::getId)
+                    .sortedIndex("clinic_date_idx", AppointmentRollupDocument::getClinicId, AppointmentRollupDocument::getDate)
+                    .build();
+
+    @Override
+    public synchronized void increment(AppointmentFlowStats delta) {
+        AppointmentFlowStats current = current(delta.getClinicId(), delta.getDate(),
+                delta.getMedicalEmployeeId(), delta.getType());
+        collection.save(document(delta.getClinicId(), delta.getDate(), delta.getMedicalEmployeeId(), delta.getType(),
+                current.getArrived()        + delta.getArrived(),
+                current.getStarted()        + delta.getStarted(),
+                current.getFinished()       + delta.getFinished(),
+                current.getFollowUps()      + delta.getFollowUps(),
+                current.getCancelled()      + delta.getCancelled(),
+                current.getNoShows()        + delta.getNoShows(),
+                current.getWaitCount()      + delta.getWaitCount(),
+                current.getWaitSeconds()    + delta.getWaitSeconds(),
+                current.getConsultCount()   + delta.getConsultCount(),
+                current.getConsultSeconds() + delta.getConsultSeconds()));
+    }
+
+    @Override
+    public synchronized void resetNoShows(String clinicId, LocalDate date) {
+        collection.range("clinic_date_idx", clinicId, date, date.plusDays(1)).stream()
+                .map(AppointmentRollupDocumentMapper::toStats)
+                .filter(current -> current.getNoShows() != 0)
+                .forEach(current -> setNoShows(clinicId, date, current.getMedicalEmployeeId(), current.getType(), 0));
+    }
+
+    @Override
+    public synchronized void setNoShows(String clinicId, LocalDate date, String medicalEmployeeId,
+                                        AppointmentType type, long noShows) {
+        AppointmentFlowStats current = current(clinicId, date, medicalEmployeeId, type);
+        collection.save(document(clinicId, date, medicalEmployeeId, type,
+                current.getArrived(), current.getStarted(), current.getFinished(), current.getFollowUps(),
+                current.getCancelled(), noShows, current.getWaitCount(), current.getWaitSeconds(),
+                current.getConsultCount(), current.getConsultSeconds()));
+    }
+
+    @Override
+    public List<AppointmentFlowStats> findByClinicIdAndDateRange(String clinicId, LocalDate from, LocalDate to) {
+        return collection.range("clinic_date_idx", clinicId, from, to.plusDays(1)).stream()
+                .map(AppointmentRollupDocumentMapper::toStats)
+                .toList();
+    }
+
+    private AppointmentFlowStats current(String clinicId, LocalDate date, String medicalEmployeeId, AppointmentType type) {
+        return collection.findById(AppointmentRollupDocumentMapper.idOf(clinicId, date, medicalEmployeeId, type))
+                .map(AppointmentRollupDocumentMapper::toStats)
+                .orElseGet(() -> AppointmentFlowStats.builder().build());
+    }
+
+    private static AppointmentRollupDocument document(String clinicId, LocalDate date, String medicalEmployeeId,
+                                                      AppointmentType type, long arrived, long started,
+                                                      long finished, long followUps, long cancelled, long noShows,
+                                                      long waitCount, long waitSeconds, long consultCount,
+                                                      long consultSeconds) {
+        return new AppointmentRollupDocument(
+                AppointmentRollupDocumentMapper.idOf(clinicId, date, medicalEmployeeId, type),
+                clinicId, date, medicalEmployeeId, type,
+                arrived, started, finished, followUps, cancelled, noShows,
+                waitCount, waitSeconds, consultCount, consultSeconds);
+    }
+}
@@ -8,11 +8,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
@@ -24,6 +26,11 @@ public class SmtpAppointmentEmailAdapter implements AppointmentEmailPort {
     private final JavaMailSender       mailSender;
     private final SpringTemplateEngine templateEngine;
 
+    /**
+     * Asíncrono: la confirmación es best-effort y el envío SMTP no debe retener la petición de alta.
+     * Los fallos se registran aquí porque ya no llegan al servicio.
+     */
+    @Async
     @Override
     public void sendAppointmentCreatedEmail(
             String toEmail,
@@ -31,27 +38,59 @@ public class SmtpAppointmentEmailAdapter implements AppointmentEmailPort {
             Appointment appointment) {
 
         try {
-            Context context = new Context();
-            context.setVariable("ownerName",    ownerName);
-            context.setVariable("appointmentId", appointment.getId());
-            context.setVariable("type",          appointment.getType().name());
-            context.setVariable("scheduledAt",   appointment.getScheduledAt().format(DATE_FMT));
-            context.setVariable("petName",
-                    appointment.getPet() != null ? appointment.getPet().getName() : "N/A");
-
-            String htmlContent = templateEngine.process("appointment_created_email", context);
+            send(toEmail, "Cita confirmada en DataVet", contextFor(ownerName, appointment));
+            log.info("Email de confirmación de cita enviado a {}", toEmail);
+        } catch (MessagingException | RuntimeException e) {
+            log.warn("No se pudo enviar email de confirmación de cita {}: {}", appointment.getId(), e.getMessage());
+        }
+    }
 
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    // Asíncrono igual que la confirmación: el planificador de recordatorios entrega lotes y no espera al SMTP.
+    // El fallo se devuelve en el resultado para que el planificador libere la concesión.
+    @Async
+    @Override
+    public CompletableFuture<Void> sendAppointmentReminderEmail(
+            String toEmail,
+            String ownerName,
+            Appointment appointment,
+            int hoursBefore) {
 
-            helper.setTo(toEmail);
-            helper.setSubject("Cita confirmada en DataVet");
-            helper.setText(htmlContent, true);
+        try {
+            Context context = contextFor(ownerName, appointment);
+            context.setVariable("heading", "Recordatorio de cita");
+            context.setVariable("intro",   "Te recordamos que tienes una cita dentro de " + hoursBefore
+                    + " horas. Estos son los detalles:");
 
-            mailSender.send(message);
-            log.info("Email de confirmación de cita enviado a {}", toEmail);
-        } catch (MessagingException e) {
-            throw new RuntimeException(e);
+            send(toEmail, "Recordatorio de tu cita en DataVet", context);
+            log.info("Recordatorio de cita ({} h) enviado a {}", hoursBefore, toEmail);
+            return CompletableFuture.completedFuture(null);
+        } catch (MessagingException | RuntimeException e) {
+            log.warn("No se pudo enviar el recordatorio de la cita {}: {}", appointment.getId(), e.getMessage());
+            return CompletableFuture.failedFuture(e);
         }
     }
+
+    private static Context contextFor(String ownerName, Appointment appointment) {
+        Context context = new Context();
+        context.setVariable("ownerName",    ownerName);
+        context.setVariable("appointmentId", appointment.getId());
+        context.setVariable("type",          appointment.getType().name());
+        context.setVariable("scheduledAt",   appointment.getScheduledAt().format(DATE_FMT));
+        context.setVariable("petName",
+                appointment.getPet() != null ? appointment.getPet().getName() : "N/A");
+        return context;
+    }
+
+    private void send(String toEmail, String subject, Context context) throws MessagingException {
+        String htmlContent = templateEngine.process("appointment_created_email", context);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setTo(toEmail);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true);
+
+        mailSender.send(message);
+    }
 }
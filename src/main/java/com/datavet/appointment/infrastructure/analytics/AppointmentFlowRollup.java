@@ -0,0 +1,122 @@
+package com.datavet.appointment.infrastructure.analytics;
+
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.application.port.out.AppointmentRollupPort;
+import com.datavet.appointment.domain.event.AppointmentStatusChangedEvent;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Estadísticas de flujo de citas precalculadas por día (el de la cita), clínica, veterinario y tipo en
+ * {@code appointment_daily_rollup}.
+ *
+ * Cada {@link AppointmentStatusChangedEvent} suma su transición con un único {@code $inc}: llegadas, inicios
+ * y finales de consulta, seguimientos, cancelaciones y los tiempos de espera (CLIENTE_LLEGADO → EN_CONSULTA)
+ * y de consulta (EN_CONSULTA → final), calculados con los sellos de estado que lleva el evento. Cada
+ * transición cuenta para el veterinario asignado en ese momento.
+ *
+ * Las no presentadas no tienen evento: {@link NoShowRollupJob} las recuenta cada noche para el día anterior
+ * (citas que siguen en RESERVADA). {@code AppointmentAnalyticsService} lee los documentos para el panel.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppointmentFlowRollup {
+
+    private final AppointmentRollupPort     appointmentRollupPort;
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
+
+    // =========================================================================
+    // Transiciones
+    // =========================================================================
+
+    @EventListener
+    public void on(AppointmentStatusChangedEvent event) {
+        AppointmentFlowStats delta = deltaOf(event);
+        if (delta == null) {
+            return;
+        }
+        try {
+            appointmentRollupPort.increment(delta);
+        } catch (RuntimeException e) {
+            // La transición queda fuera de las estadísticas; la cita ya está guardada con sus sellos
+            log.error("No se pudo sumar la transición {} → {} de la cita {} a las estadísticas: {}",
+                    event.getPreviousStatus(), event.getNewStatus(), event.getAppointmentId(), e.getMessage(), e);
+        }
+    }
+
+    /** Contadores que suma la transición, o {@code null} si no cuenta para ninguno. */
+    static AppointmentFlowStats deltaOf(AppointmentStatusChangedEvent event) {
+        Map<AppointmentStatus, LocalDateTime> at = event.getStatusTimestamps();
+        AppointmentFlowStats.AppointmentFlowStatsBuilder delta = AppointmentFlowStats.builder()
+                .clinicId(event.getClinicId())
+                .date(event.getScheduledAt().toLocalDate())
+                .medicalEmployeeId(event.getMedicalEmployeeId())
+                .type(event.getType());
+
+        switch (event.getNewStatus()) {
+            case CLIENTE_LLEGADO -> delta.arrived(1);
+            case EN_CONSULTA -> {
+                delta.started(1);
+                Long wait = secondsBetween(at, AppointmentStatus.CLIENTE_LLEGADO, AppointmentStatus.EN_CONSULTA);
+                if (wait != null) {
+                    delta.waitCount(1).waitSeconds(wait);
+                }
+            }
+            case FINALIZADA, REQUIERE_SEGUIMIENTO -> {
+                delta.finished(1).followUps(event.getNewStatus() == AppointmentStatus.REQUIERE_SEGUIMIENTO ? 1 : 0);
+                Long consult = secondsBetween(at, AppointmentStatus.EN_CONSULTA, event.getNewStatus());
+                if (consult != null) {
+                    delta.consultCount(1).consultSeconds(consult);
+                }
+            }
+            case CANCELADA -> delta.cancelled(1);
+            default -> {
+                return null;
+            }
+        }
+        return delta.build();
+    }
+
+    private static Long secondsBetween(Map<AppointmentStatus, LocalDateTime> at,
+                                       AppointmentStatus from, AppointmentStatus to) {
+        LocalDateTime start = at.get(from);
+        LocalDateTime end   = at.get(to);
+        return start != null && end != null ? Math.max(Duration.between(start, end).toSeconds(), 0) : null;
+    }
+
+    // =========================================================================
+    // No presentadas
+    // =========================================================================
+
+    private record Key(String medicalEmployeeId, AppointmentType type) {}
+
+    /**
+     * Fija las no presentadas del día en la clínica; devuelve cuántas hay. Antes se ponen a cero las del
+     * día, para que una combinación de veterinario y tipo que ya no tiene citas reservadas no conserve el
+     * recuento anterior.
+     */
+    long recountNoShows(String clinicId, LocalDate day) {
+        Map<Key, Long> noShows = appointmentRepositoryPort.findByClinicIdAndRange(
+                        clinicId, day.atStartOfDay(), day.plusDays(1).atStartOfDay(),
+                        AppointmentStatus.RESERVADA, null, null).stream()
+                .collect(Collectors.groupingBy(
+                        (Appointment a) -> new Key(a.getMedicalEmployeeId(), a.getType()), Collectors.counting()));
+        appointmentRollupPort.resetNoShows(clinicId, day);
+        noShows.forEach((key, count) ->
+                appointmentRollupPort.setNoShows(clinicId, day, key.medicalEmployeeId(), key.type(), count));
+        return noShows.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
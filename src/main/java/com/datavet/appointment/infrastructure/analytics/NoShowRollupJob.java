@@ -0,0 +1,42 @@
+package com.datavet.appointment.infrastructure.analytics;
+
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import com.datavet.clinic.domain.model.Clinic;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Proceso nocturno que recuenta las citas no presentadas del día anterior en cada clínica
+ * ({@link AppointmentFlowRollup#recountNoShows}). El recuento fija el valor, así que repetirlo o
+ * ejecutarlo en varias réplicas da el mismo resultado.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoShowRollupJob {
+
+    private final AppointmentFlowRollup appointmentFlowRollup;
+    private final ClinicRepositoryPort  clinicRepositoryPort;
+
+    @Scheduled(cron = "${datavet.appointment.no-show.cron:0 30 0 * * *}")
+    public void runForYesterday() {
+        run(LocalDate.now().minusDays(1));
+    }
+
+    void run(LocalDate day) {
+        long noShows = 0;
+        for (Clinic clinic : clinicRepositoryPort.findAll()) {
+            try {
+                noShows += appointmentFlowRollup.recountNoShows(clinic.getClinicId(), day);
+            } catch (RuntimeException e) {
+                log.error("No se pudieron recontar las no presentadas del {} en la clínica {}: {}",
+                        day, clinic.getClinicId(), e.getMessage(), e);
+            }
+        }
+        log.info("No presentadas del {}: {}", day, noShows);
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Document(collection = "appointments")
 @CompoundIndexes({
@@ -84,4 +85,8 @@ public class AppointmentDocument {
     @LastModifiedDate
     @Field("updated_at")
     private LocalDateTime updatedAt;
+
+    // Nombre del estado → momento en que la cita entró en él
+    @Field("status_timestamps")
+    private Map<String, LocalDateTime> statusTimestamps;
 }
@@ -0,0 +1,33 @@
+package com.datavet.appointment.infrastructure.persistence.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * Concesión de un recordatorio de cita: {@code _id} = {@code appointmentId|tipo}. Solo la réplica que
+ * consigue insertarlo envía el recordatorio.
+ */
+@Document(collection = "appointment_reminder_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AppointmentReminderLeaseDocument {
+
+    @Id
+    private String id;
+
+    @Field("acquired_at")
+    private LocalDateTime acquiredAt;
+
+    // Índice TTL: pasada la cita el recordatorio ya no se puede volver a disparar y se purga
+    @Indexed(name = "expires_at_ttl_idx", expireAfter = "0s")
+    @Field("expires_at")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,61 @@
+package com.datavet.appointment.infrastructure.persistence.document;
+
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDate;
+
+// _id = clinicId|fecha|veterinario|tipo; los contadores se crean con el primer $inc que los toca
+@Document(collection = "appointment_daily_rollup")
+@CompoundIndexes({
+        @CompoundIndex(name = "clinic_date_idx", def = "{'clinic_id': 1, 'date': 1}")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AppointmentRollupDocument {
+
+    @Id
+    private String id;
+
+    @Field("clinic_id")
+    private String clinicId;
+
+    private LocalDate date;
+
+    @Field("medical_employee_id")
+    private String medicalEmployeeId;
+
+    private AppointmentType type;
+
+    private Long arrived;
+    private Long started;
+    private Long finished;
+
+    @Field("follow_ups")
+    private Long followUps;
+
+    private Long cancelled;
+
+    @Field("no_shows")
+    private Long noShows;
+
+    @Field("wait_count")
+    private Long waitCount;
+
+    @Field("wait_seconds")
+    private Long waitSeconds;
+
+    @Field("consult_count")
+    private Long consultCount;
+
+    @Field("consult_seconds")
+    private Long consultSeconds;
+}
@@ -0,0 +1,101 @@
+package com.datavet.appointment.infrastructure.persistence.mapper;
+
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.model.PetSnapshot;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.infrastructure.persistence.document.AppointmentDocument;
+import com.datavet.appointment.infrastructure.persistence.document.PetSnapshotDocument;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mapeo Appointment ↔ AppointmentDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class AppointmentDocumentMapper {
+
+    private AppointmentDocumentMapper() {}
+
+    public static AppointmentDocument toDocument(Appointment appt) {
+        PetSnapshotDocument petDoc = null;
+        if (appt.getPet() != null) {
+            petDoc = PetSnapshotDocument.builder()
+                    .petId(appt.getPet().getPetId())
+                    .name(appt.getPet().getName())
+                    .species(appt.getPet().getSpecies())
+                    .build();
+        }
+
+        return AppointmentDocument.builder()
+                .id(appt.getId())
+                .clinicId(appt.getClinicId())
+                .emergency(appt.isEmergency())
+                .type(appt.getType())
+                .status(appt.getStatus())
+                .scheduledAt(appt.getScheduledAt())
+                .ownerId(appt.getOwnerId())
+                .ownerName(appt.getOwnerName())
+                .ownerEmail(appt.getOwnerEmail())
+                .ownerPhone(appt.getOwnerPhone())
+                .pet(petDoc)
+                .creationEmployeeId(appt.getCreationEmployeeId())
+                .medicalEmployeeId(appt.getMedicalEmployeeId())
+                .notes(appt.getNotes())
+                .productIds(appt.getProductIds())
+                .source(appt.getSource())
+                .statusTimestamps(toDocument(appt.getStatusTimestamps()))
+                .build();
+    }
+
+    public static Appointment toDomain(AppointmentDocument doc) {
+        PetSnapshot petSnapshot = null;
+        if (doc.getPet() != null) {
+            petSnapshot = PetSnapshot.of(
+                    doc.getPet().getPetId(),
+                    doc.getPet().getName(),
+                    doc.getPet().getSpecies()
+            );
+        }
+
+        return Appointment.reconstitute(
+                doc.getId(),
+                doc.getClinicId(),
+                doc.isEmergency(),
+                doc.getType(),
+                doc.getStatus(),
+                doc.getScheduledAt(),
+                doc.getOwnerId(),
+                doc.getOwnerName(),
+                doc.getOwnerEmail(),
+                doc.getOwnerPhone(),
+                petSnapshot,
+                doc.getCreationEmployeeId(),
+                doc.getMedicalEmployeeId(),
+                doc.getNotes(),
+                doc.getProductIds(),
+                doc.getSource(),
+                doc.getCreatedAt(),
+                doc.getUpdatedAt(),
+                toDomain(doc.getStatusTimestamps())
+        );
+    }
+
+    private static Map<String, LocalDateTime> toDocument(Map<AppointmentStatus, LocalDateTime> timestamps) {
+        Map<String, LocalDateTime> byName = new LinkedHashMap<>();
+        if (timestamps != null) {
+            timestamps.forEach((status, at) -> byName.put(status.name(), at));
+        }
+        return byName;
+    }
+
+    private static Map<AppointmentStatus, LocalDateTime> toDomain(Map<String, LocalDateTime> timestamps) {
+        Map<AppointmentStatus, LocalDateTime> byStatus = new EnumMap<>(AppointmentStatus.class);
+        if (timestamps != null) {
+            timestamps.forEach((status, at) -> byStatus.put(AppointmentStatus.valueOf(status), at));
+        }
+        return byStatus;
+    }
+}
@@ -0,0 +1,43 @@
+package com.datavet.appointment.infrastructure.persistence.mapper;
+
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.appointment.infrastructure.persistence.document.AppointmentRollupDocument;
+
+import java.time.LocalDate;
+
+/**
+ * Mapeo AppointmentRollupDocument → AppointmentFlowStats y clave del documento, compartidos por los
+ * adaptadores de persistencia (MongoDB y en memoria).
+ */
+public class AppointmentRollupDocumentMapper {
+
+    private AppointmentRollupDocumentMapper() {}
+
+    public static String idOf(String clinicId, LocalDate date, String medicalEmployeeId, AppointmentType type) {
+        return clinicId + "|" + date + "|" + (medicalEmployeeId != null ? medicalEmployeeId : "-") + "|" + type;
+    }
+
+    public static AppointmentFlowStats toStats(AppointmentRollupDocument doc) {
+        return AppointmentFlowStats.builder()
+                .clinicId(doc.getClinicId())
+                .date(doc.getDate())
+                .medicalEmployeeId(doc.getMedicalEmployeeId())
+                .type(doc.getType())
+                .arrived(orZero(doc.getArrived()))
+                .started(orZero(doc.getStarted()))
+                .finished(orZero(doc.getFinished()))
+                .followUps(orZero(doc.getFollowUps()))
+                .cancelled(orZero(doc.getCancelled()))
+                .noShows(orZero(doc.getNoShows()))
+                .waitCount(orZero(doc.getWaitCount()))
+                .waitSeconds(orZero(doc.getWaitSeconds()))
+                .consultCount(orZero(doc.getConsultCount()))
+                .consultSeconds(orZero(doc.getConsultSeconds()))
+                .build();
+    }
+
+    private static long orZero(Long value) {
+        return value != null ? value : 0;
+    }
+}
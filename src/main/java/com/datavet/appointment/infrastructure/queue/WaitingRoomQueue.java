@@ -0,0 +1,214 @@
+package com.datavet.appointment.infrastructure.queue;
+
+import com.datavet.appointment.application.dto.WaitingRoomEntry;
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.application.port.out.WaitingRoomPort;
+import com.datavet.appointment.domain.event.AppointmentStatusChangedEvent;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import com.datavet.clinic.domain.model.Clinic;
+import com.datavet.shared.infrastructure.readmodel.StartupRebuild;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cola de la sala de espera por clínica: citas en {@code CLIENTE_LLEGADO} ordenadas por
+ * {@link WaitingRoomEntry#TRIAGE} (urgencias, hora de la cita, hora de llegada).
+ *
+ * Al arrancar se carga con {@link StartupRebuild} y una consulta por clínica sobre {@code clinic_status_idx},
+ * limitada a las llegadas del día. Después se mantiene con {@link AppointmentStatusChangedEvent}, que se
+ * publica una vez guardada la cita; la entrada se construye con los datos del propio evento, sin volver a
+ * leer la cita.
+ *
+ * Cada clínica guarda las entradas sin veterinario y las de cada veterinario en conjuntos ordenados
+ * aparte: la siguiente cita de un veterinario es la menor de las dos cabezas, y sacarla, añadir o quitar
+ * entradas son O(log n) bajo el cerrojo de la clínica. Dos recepcionistas que piden la siguiente a la vez
+ * nunca reciben la misma cita.
+ */
+@Slf4j
+@Component
+public class WaitingRoomQueue implements WaitingRoomPort {
+
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
+    private final ClinicRepositoryPort      clinicRepositoryPort;
+
+    private volatile Map<String, ClinicQueue> clinics = new ConcurrentHashMap<>();
+    private final StartupRebuild<String>      startup = new StartupRebuild<>("waiting-room", this::load, this::replay);
+
+    public WaitingRoomQueue(AppointmentRepositoryPort appointmentRepositoryPort,
+                            ClinicRepositoryPort clinicRepositoryPort) {
+        this.appointmentRepositoryPort = appointmentRepositoryPort;
+        this.clinicRepositoryPort      = clinicRepositoryPort;
+    }
+
+    @Override
+    public List<WaitingRoomEntry> findByClinicId(String clinicId) {
+        ClinicQueue queue = clinics.get(clinicId);
+        return queue != null ? queue.snapshot() : List.of();
+    }
+
+    @Override
+    public Optional<WaitingRoomEntry> peekNext(String clinicId, String medicalEmployeeId) {
+        ClinicQueue queue = clinics.get(clinicId);
+        return queue != null ? Optional.ofNullable(queue.peek(medicalEmployeeId)) : Optional.empty();
+    }
+
+    @Override
+    public Optional<WaitingRoomEntry> pollNext(String clinicId, String medicalEmployeeId) {
+        ClinicQueue queue = clinics.get(clinicId);
+        return queue != null ? Optional.ofNullable(queue.poll(medicalEmployeeId)) : Optional.empty();
+    }
+
+    @Override
+    public void put(WaitingRoomEntry entry) {
+        queueFor(entry.getClinicId()).put(entry);
+    }
+
+    // =========================================================================
+    // Carga inicial
+    // =========================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        startup.start();
+    }
+
+    void rebuild() {
+        startup.run();
+    }
+
+    private void load() {
+        // Las llegadas de días anteriores que nadie cerró no bloquean la cola de hoy
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        Map<String, ClinicQueue> rebuilt = new ConcurrentHashMap<>();
+        int waiting = 0;
+        for (Clinic clinic : clinicRepositoryPort.findAll()) {
+            ClinicQueue queue = new ClinicQueue();
+            for (Appointment appointment : appointmentRepositoryPort.findByClinicIdWithFilters(
+                    clinic.getClinicId(), null, AppointmentStatus.CLIENTE_LLEGADO, null, null)) {
+                WaitingRoomEntry entry = WaitingRoomEntry.of(appointment);
+                if (entry.getArrivedAt() != null && !entry.getArrivedAt().isBefore(today)) {
+                    queue.put(entry);
+                    waiting++;
+                }
+            }
+            rebuilt.put(clinic.getClinicId(), queue);
+        }
+        clinics = rebuilt;
+        log.info("Sala de espera cargada: {} citas en {} clínicas", waiting, rebuilt.size());
+    }
+
+    // Se vuelve a evaluar con la cita guardada, no con el evento anotado
+    private void replay(String appointmentId) {
+        appointmentRepositoryPort.findById(appointmentId).ifPresentOrElse(
+                appointment -> {
+                    if (appointment.getStatus() == AppointmentStatus.CLIENTE_LLEGADO) {
+                        queueFor(appointment.getClinicId()).put(WaitingRoomEntry.of(appointment));
+                    } else {
+                        queueFor(appointment.getClinicId()).remove(appointmentId);
+                    }
+                },
+                () -> clinics.values().forEach(queue -> queue.remove(appointmentId)));
+    }
+
+    // =========================================================================
+    // Eventos
+    // =========================================================================
+
+    @EventListener
+    public void on(AppointmentStatusChangedEvent event) {
+        startup.touch(event.getAppointmentId());
+        ClinicQueue queue = queueFor(event.getClinicId());
+        if (event.getNewStatus() == AppointmentStatus.CLIENTE_LLEGADO) {
+            queue.put(WaitingRoomEntry.of(event));
+        } else {
+            queue.remove(event.getAppointmentId());
+        }
+    }
+
+    private ClinicQueue queueFor(String clinicId) {
+        return clinics.computeIfAbsent(clinicId, id -> new ClinicQueue());
+    }
+
+    // =========================================================================
+    // Cola por clínica
+    // =========================================================================
+
+    static final class ClinicQueue {
+
+        private final Map<String, WaitingRoomEntry>               byId       = new HashMap<>();
+        private final NavigableSet<WaitingRoomEntry>              ordered    = new TreeSet<>(WaitingRoomEntry.TRIAGE);
+        private final NavigableSet<WaitingRoomEntry>              unassigned = new TreeSet<>(WaitingRoomEntry.TRIAGE);
+        private final Map<String, NavigableSet<WaitingRoomEntry>> byVet      = new HashMap<>();
+
+        synchronized void put(WaitingRoomEntry entry) {
+            remove(entry.getAppointmentId());
+            byId.put(entry.getAppointmentId(), entry);
+            ordered.add(entry);
+            String vet = entry.getMedicalEmployeeId();
+            if (vet == null) {
+                unassigned.add(entry);
+            } else {
+                byVet.computeIfAbsent(vet, id -> new TreeSet<>(WaitingRoomEntry.TRIAGE)).add(entry);
+            }
+        }
+
+        synchronized WaitingRoomEntry remove(String appointmentId) {
+            WaitingRoomEntry previous = byId.remove(appointmentId);
+            if (previous == null) {
+                return null;
+            }
+            ordered.remove(previous);
+            String vet = previous.getMedicalEmployeeId();
+            if (vet == null) {
+                unassigned.remove(previous);
+            } else {
+                NavigableSet<WaitingRoomEntry> own = byVet.get(vet);
+                own.remove(previous);
+                if (own.isEmpty()) {
+                    byVet.remove(vet);
+                }
+            }
+            return previous;
+        }
+
+        /** Sin veterinario, la primera de la cola; con veterinario, la primera sin asignar o ya suya. */
+        synchronized WaitingRoomEntry peek(String medicalEmployeeId) {
+            if (medicalEmployeeId == null) {
+                return ordered.isEmpty() ? null : ordered.first();
+            }
+            WaitingRoomEntry free = unassigned.isEmpty() ? null : unassigned.first();
+            NavigableSet<WaitingRoomEntry> own = byVet.get(medicalEmployeeId);
+            WaitingRoomEntry mine = own == null ? null : own.first();
+            if (free == null || mine == null) {
+                return free != null ? free : mine;
+            }
+            return WaitingRoomEntry.TRIAGE.compare(free, mine) <= 0 ? free : mine;
+        }
+
+        synchronized WaitingRoomEntry poll(String medicalEmployeeId) {
+            WaitingRoomEntry next = peek(medicalEmployeeId);
+            if (next != null) {
+                remove(next.getAppointmentId());
+            }
+            return next;
+        }
+
+        synchronized List<WaitingRoomEntry> snapshot() {
+            return List.copyOf(ordered);
+        }
+    }
+}
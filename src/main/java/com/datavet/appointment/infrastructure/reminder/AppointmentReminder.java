@@ -0,0 +1,30 @@
+package com.datavet.appointment.infrastructure.reminder;
+
+import java.time.LocalDateTime;
+
+/** Recordatorio pendiente de una cita para la hora con la que se programó. */
+record AppointmentReminder(String appointmentId, Kind kind, LocalDateTime scheduledAt) {
+
+    enum Kind {
+        H24(24),
+        H2(2);
+
+        final int hoursBefore;
+
+        Kind(int hoursBefore) {
+            this.hoursBefore = hoursBefore;
+        }
+    }
+
+    static String keyOf(String appointmentId, Kind kind) {
+        return appointmentId + "|" + kind.name();
+    }
+
+    String key() {
+        return keyOf(appointmentId, kind);
+    }
+
+    LocalDateTime dueAt() {
+        return scheduledAt.minusHours(kind.hoursBefore);
+    }
+}
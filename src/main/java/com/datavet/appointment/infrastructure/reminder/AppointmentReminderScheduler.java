@@ -0,0 +1,260 @@
+package com.datavet.appointment.infrastructure.reminder;
+
+import com.datavet.appointment.application.port.out.AppointmentEmailPort;
+import com.datavet.appointment.application.port.out.AppointmentReminderLeasePort;
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.event.AppointmentCancelledEvent;
+import com.datavet.appointment.domain.event.AppointmentCreatedEvent;
+import com.datavet.appointment.domain.event.AppointmentStatusChangedEvent;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import com.datavet.clinic.domain.model.Clinic;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Recordatorios por email 24 h y 2 h antes de cada cita no urgente con email del dueño.
+ *
+ * Las citas reservadas de las próximas {@code horizon-hours} horas se cargan en una {@link TimingWheel}
+ * con una consulta por clínica sobre {@code clinic_date_idx}, y el horizonte se amplía cada hora. Las
+ * altas, las cancelaciones y los cambios de estado actualizan la rueda con sus eventos. Cada minuto se
+ * disparan los recordatorios vencidos, en lotes de {@code batch-size}: una lectura de las citas, una
+ * concesión en MongoDB ({@link AppointmentReminderLeasePort}) y el envío asíncrono con la plantilla de
+ * la confirmación. Si el envío falla se libera la concesión y el recordatorio se reintenta más tarde; si
+ * falla la lectura o la concesión, se reintenta el lote entero.
+ *
+ * Todas las réplicas llevan la misma rueda; la concesión hace que cada recordatorio lo envíe una sola.
+ * Antes de enviar se comprueba la cita guardada: sigue reservada, tiene email y la hora no ha cambiado.
+ * Los recordatorios que vencen mientras no hay ninguna instancia en marcha no se envían.
+ */
+@Slf4j
+@Component
+public class AppointmentReminderScheduler {
+
+    private static final long     TICK_MILLIS = 60_000;
+    private static final Duration REFRESH     = Duration.ofHours(1);
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(5);
+
+    private final AppointmentRepositoryPort    appointmentRepositoryPort;
+    private final ClinicRepositoryPort         clinicRepositoryPort;
+    private final AppointmentReminderLeasePort appointmentReminderLeasePort;
+    private final AppointmentEmailPort         appointmentEmailPort;
+    private final Duration                     horizon;
+    private final int                          batchSize;
+
+    private final TimingWheel<AppointmentReminder> wheel = new TimingWheel<>(TICK_MILLIS, System.currentTimeMillis());
+    // Las citas con scheduled_at anterior ya se han cargado en la rueda
+    private volatile LocalDateTime                 loadedUntil;
+
+    public AppointmentReminderScheduler(
+            AppointmentRepositoryPort appointmentRepositoryPort,
+            ClinicRepositoryPort clinicRepositoryPort,
+            AppointmentReminderLeasePort appointmentReminderLeasePort,
+            AppointmentEmailPort appointmentEmailPort,
+            @Value("${datavet.appointment.reminder.horizon-hours:48}") long horizonHours,
+            @Value("${datavet.appointment.reminder.batch-size:100}") int batchSize) {
+        this.appointmentRepositoryPort    = appointmentRepositoryPort;
+        this.clinicRepositoryPort         = clinicRepositoryPort;
+        this.appointmentReminderLeasePort = appointmentReminderLeasePort;
+        this.appointmentEmailPort         = appointmentEmailPort;
+        this.horizon                      = Duration.ofHours(horizonHours);
+        this.batchSize                    = batchSize;
+    }
+
+    // La rueda no admite tics concurrentes: fixedRate no solapa ejecuciones del mismo método
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void tick() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            extendHorizon(now);
+            fire(wheel.advance(millisOf(now)));
+        } catch (RuntimeException e) {
+            log.error("Fallo en el planificador de recordatorios de citas: {}", e.getMessage(), e);
+        }
+    }
+
+    // =========================================================================
+    // Carga del horizonte
+    // =========================================================================
+
+    void extendHorizon(LocalDateTime now) {
+        LocalDateTime until = now.plus(horizon);
+        LocalDateTime from  = loadedUntil;
+        if (from != null && Duration.between(from, until).compareTo(REFRESH) < 0) {
+            return;
+        }
+        if (from == null || from.isBefore(now)) {
+            from = now;
+        }
+
+        // Si una clínica falla no se avanza: el tramo completo se reintenta en el siguiente tic
+        int loaded = 0;
+        for (Clinic clinic : clinicRepositoryPort.findAll()) {
+            for (Appointment appointment : appointmentRepositoryPort.findByClinicIdAndRange(
+                    clinic.getClinicId(), from, until, AppointmentStatus.RESERVADA, null, null)) {
+                if (appointment.getOwnerEmail() != null && !appointment.getOwnerEmail().isBlank()) {
+                    loaded += schedule(appointment.getId(), appointment.isEmergency(), appointment.getScheduledAt(), now);
+                }
+            }
+        }
+        loadedUntil = until;
+        log.debug("Recordatorios de citas hasta {}: {} nuevos, {} pendientes", until, loaded, wheel.size());
+    }
+
+    // =========================================================================
+    // Eventos
+    // =========================================================================
+
+    // Se publica ya guardada la cita: entra en la rueda aunque la carga en curso no la haya visto
+    @EventListener
+    public void on(AppointmentCreatedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        if (event.getScheduledAt() != null && event.getScheduledAt().isBefore(now.plus(horizon))) {
+            schedule(event.getAppointmentId(), event.isEmergency(), event.getScheduledAt(), now);
+        }
+    }
+
+    @EventListener
+    public void on(AppointmentCancelledEvent event) {
+        cancel(event.getAppointmentId());
+    }
+
+    // Una cita que ya no está reservada (el cliente ha llegado) no necesita recordatorio
+    @EventListener
+    public void on(AppointmentStatusChangedEvent event) {
+        if (event.getNewStatus() != AppointmentStatus.RESERVADA) {
+            cancel(event.getAppointmentId());
+        }
+    }
+
+    private int schedule(String appointmentId, boolean emergency, LocalDateTime scheduledAt, LocalDateTime now) {
+        if (emergency || scheduledAt == null) {
+            return 0;
+        }
+        int scheduled = 0;
+        for (AppointmentReminder.Kind kind : AppointmentReminder.Kind.values()) {
+            AppointmentReminder reminder = new AppointmentReminder(appointmentId, kind, scheduledAt);
+            if (reminder.dueAt().isAfter(now)) {
+                wheel.schedule(reminder.key(), millisOf(reminder.dueAt()), reminder);
+                scheduled++;
+            }
+        }
+        return scheduled;
+    }
+
+    private void cancel(String appointmentId) {
+        for (AppointmentReminder.Kind kind : AppointmentReminder.Kind.values()) {
+            wheel.cancel(AppointmentReminder.keyOf(appointmentId, kind));
+        }
+    }
+
+    // =========================================================================
+    // Disparo
+    // =========================================================================
+
+    void fire(List<AppointmentReminder> due) {
+        for (int start = 0; start < due.size(); start += batchSize) {
+            List<AppointmentReminder> batch = due.subList(start, Math.min(start + batchSize, due.size()));
+            try {
+                fireBatch(batch);
+            } catch (RuntimeException e) {
+                // La rueda ya los ha soltado: sin volver a programarlos el lote se perdería
+                log.error("No se pudo enviar un lote de {} recordatorios de citas, se reintentará: {}",
+                        batch.size(), e.getMessage(), e);
+                batch.forEach(this::reschedule);
+            }
+        }
+    }
+
+    private void fireBatch(List<AppointmentReminder> batch) {
+        Map<String, Appointment> appointments = appointmentRepositoryPort.findAllById(
+                        batch.stream().map(AppointmentReminder::appointmentId).distinct().toList()).stream()
+                .collect(Collectors.toMap(Appointment::getId, Function.identity()));
+
+        Map<String, AppointmentReminder> sendable = new LinkedHashMap<>();
+        Map<String, LocalDateTime>       leases   = new LinkedHashMap<>();
+        for (AppointmentReminder reminder : batch) {
+            Appointment appointment = appointments.get(reminder.appointmentId());
+            if (isStillValid(reminder, appointment)) {
+                sendable.put(reminder.key(), reminder);
+                leases.put(reminder.key(), appointment.getScheduledAt());
+            }
+        }
+        if (sendable.isEmpty()) {
+            return;
+        }
+
+        Set<String> acquired = appointmentReminderLeasePort.acquire(leases);
+        for (String key : acquired) {
+            AppointmentReminder reminder    = sendable.get(key);
+            Appointment         appointment = appointments.get(reminder.appointmentId());
+            try {
+                appointmentEmailPort.sendAppointmentReminderEmail(
+                                appointment.getOwnerEmail(), appointment.getOwnerName(), appointment, reminder.kind().hoursBefore)
+                        .whenComplete((sent, error) -> {
+                            if (error != null) {
+                                retryLater(reminder);
+                            }
+                        });
+            } catch (RuntimeException e) {
+                log.warn("No se pudo entregar el recordatorio {}: {}", key, e.getMessage());
+                retryLater(reminder);
+            }
+        }
+        log.info("Recordatorios de citas: {} vencidos, {} enviados desde esta instancia", batch.size(), acquired.size());
+    }
+
+    /**
+     * El envío ha fallado: se libera la concesión y el recordatorio vuelve a la rueda dentro de
+     * {@link #RETRY_DELAY}, siempre que la cita no haya pasado. Si la concesión no se puede liberar, el
+     * recordatorio no se reintenta.
+     */
+    private void retryLater(AppointmentReminder reminder) {
+        try {
+            appointmentReminderLeasePort.release(reminder.key());
+        } catch (RuntimeException e) {
+            log.error("No se pudo liberar la concesión del recordatorio {}: {}", reminder.key(), e.getMessage(), e);
+            return;
+        }
+        reschedule(reminder);
+    }
+
+    // Vuelve a la rueda dentro de RETRY_DELAY si para entonces la cita no ha empezado
+    private void reschedule(AppointmentReminder reminder) {
+        LocalDateTime retryAt = LocalDateTime.now().plus(RETRY_DELAY);
+        if (retryAt.isBefore(reminder.scheduledAt())) {
+            wheel.schedule(reminder.key(), millisOf(retryAt), reminder);
+        }
+    }
+
+    // Si la hora de la cita ha cambiado, el recordatorio programado ya no vale
+    private static boolean isStillValid(AppointmentReminder reminder, Appointment appointment) {
+        return appointment != null
+                && appointment.getStatus() == AppointmentStatus.RESERVADA
+                && !appointment.isEmergency()
+                && appointment.getOwnerEmail() != null && !appointment.getOwnerEmail().isBlank()
+                && reminder.scheduledAt().equals(appointment.getScheduledAt());
+    }
+
+    int pending() {
+        return wheel.size();
+    }
+
+    private static long millisOf(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
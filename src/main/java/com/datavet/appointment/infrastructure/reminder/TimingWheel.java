@@ -0,0 +1,128 @@
+package com.datavet.appointment.infrastructure.reminder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rueda de temporización jerárquica: {@value #LEVELS} niveles de {@value #SLOTS} huecos, cada nivel
+ * {@value #SLOTS} veces más ancho que el anterior. Con huecos de un minuto cubre unos 31 años; un
+ * vencimiento más lejano se guarda en el último hueco y se recoloca al bajar.
+ *
+ * Programar y cancelar son O(1). Avanzar un tic vacía un hueco del primer nivel y, cuando un nivel da
+ * la vuelta, reparte un hueco del siguiente en los inferiores: cada temporizador baja como mucho una
+ * vez por nivel. Nunca se dispara antes de su momento, como mucho un tic después.
+ *
+ * Cada temporizador tiene una clave; programar otra vez la misma clave reemplaza el anterior.
+ */
+final class TimingWheel<T> {
+
+    private static final int  BITS    = 6;
+    private static final int  SLOTS   = 1 << BITS;
+    private static final int  MASK    = SLOTS - 1;
+    private static final int  LEVELS  = 4;
+    private static final long SPAN    = 1L << (BITS * LEVELS);
+    private static final int  OVERDUE = -1;
+
+    private static final class Timer<T> {
+        private final String key;
+        private final long   deadline;
+        private final T      value;
+        private int          slot;
+
+        private Timer(String key, long deadline, T value) {
+            this.key      = key;
+            this.deadline = deadline;
+            this.value    = value;
+        }
+    }
+
+    private final long                       tickMillis;
+    // nivel * SLOTS + hueco → clave → temporizador
+    private final List<Map<String, Timer<T>>> slots   = new ArrayList<>(LEVELS * SLOTS);
+    private final Map<String, Timer<T>>       overdue = new LinkedHashMap<>();
+    private final Map<String, Timer<T>>       byKey   = new HashMap<>();
+    private long                              currentTick;
+
+    TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis  = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new LinkedHashMap<>());
+        }
+    }
+
+    /** Programa {@code value} para {@code atMillis}; si ya ha pasado, sale en el siguiente {@link #advance}. */
+    synchronized void schedule(String key, long atMillis, T value) {
+        cancel(key);
+        Timer<T> timer = new Timer<>(key, Math.ceilDiv(atMillis, tickMillis), value);
+        byKey.put(key, timer);
+        place(timer);
+    }
+
+    synchronized boolean cancel(String key) {
+        Timer<T> timer = byKey.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        (timer.slot == OVERDUE ? overdue : slots.get(timer.slot)).remove(key);
+        return true;
+    }
+
+    synchronized int size() {
+        return byKey.size();
+    }
+
+    /** Avanza hasta {@code nowMillis} y devuelve lo vencido, en orden de vencimiento. */
+    synchronized List<T> advance(long nowMillis) {
+        List<T> due    = new ArrayList<>();
+        long    target = Math.floorDiv(nowMillis, tickMillis);
+        drain(overdue, due);
+        while (currentTick < target) {
+            currentTick++;
+            // Un nivel se reparte cuando los inferiores acaban de dar la vuelta
+            for (int level = 1; level < LEVELS && (currentTick & ((1L << (BITS * level)) - 1)) == 0; level++) {
+                cascade(level * SLOTS + (int) ((currentTick >>> (BITS * level)) & MASK));
+            }
+            drain(slots.get((int) (currentTick & MASK)), due);
+            drain(overdue, due);
+        }
+        return due;
+    }
+
+    private void place(Timer<T> timer) {
+        long delta = timer.deadline - currentTick;
+        if (delta <= 0) {
+            timer.slot = OVERDUE;
+            overdue.put(timer.key, timer);
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        long at = Math.min(timer.deadline, currentTick + SPAN - 1);
+        timer.slot = level * SLOTS + (int) ((at >>> (BITS * level)) & MASK);
+        slots.get(timer.slot).put(timer.key, timer);
+    }
+
+    private void cascade(int slot) {
+        Map<String, Timer<T>> timers = slots.get(slot);
+        if (timers.isEmpty()) {
+            return;
+        }
+        List<Timer<T>> moved = List.copyOf(timers.values());
+        timers.clear();
+        moved.forEach(this::place);
+    }
+
+    private void drain(Map<String, Timer<T>> timers, List<T> due) {
+        for (Timer<T> timer : timers.values()) {
+            byKey.remove(timer.key);
+            due.add(timer.value);
+        }
+        timers.clear();
+    }
+}
@@ -8,4 +8,5 @@ import lombok.Value;
 public class LoginCommand {
     String email;
     String rawPassword;
+    String clientIp;
 }
\ No newline at end of file
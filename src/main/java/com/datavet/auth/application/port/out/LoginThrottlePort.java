@@ -0,0 +1,24 @@
+package com.datavet.auth.application.port.out;
+
+/**
+ * Limita los intentos de login por IP y por cuenta en una ventana deslizante.
+ *
+ * Se consulta antes de tocar la base de datos o calcular ningún hash, de modo que
+ * un ataque de credential stuffing no llega a consumir CPU en BCrypt.
+ */
+public interface LoginThrottlePort {
+
+    /**
+     * Registra el intento de la IP y comprueba ambos límites.
+     * Lanza TooManyLoginAttemptsException si la IP o el email los superan.
+     *
+     * @param clientIp IP del cliente; {@code null} si no se conoce (solo se comprueba el email)
+     */
+    void checkAllowed(String clientIp, String email);
+
+    /** Cuenta un fallo de credenciales contra la cuenta. */
+    void recordFailure(String email);
+
+    /** Un login correcto limpia los fallos acumulados de la cuenta. */
+    void recordSuccess(String email);
+}
@@ -13,7 +13,17 @@ public interface RefreshTokenRepositoryPort {
 
     RefreshTokenDocument save       (RefreshTokenDocument token);
     Optional<RefreshTokenDocument> findByTokenHash (String tokenHash);
+
+    /**
+     * Busca y elimina el token en una sola operación atómica: de dos rotaciones concurrentes
+     * con el mismo token solo una lo obtiene. Vacío si no existe o ya se había revocado.
+     */
+    Optional<RefreshTokenDocument> findAndDeleteByTokenHash(String tokenHash);
+
     void deleteByUserId             (String userId);
     void deleteByTokenHash          (String tokenHash);
     boolean existsByTokenHash       (String tokenHash);
+
+    /** {@code true} si el hash figura entre los revocados recientemente; no consulta la base de datos. */
+    boolean isKnownRevoked          (String tokenHash);
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.datavet.auth.application.port.in.command.LoginCommand;
 import com.datavet.auth.application.port.in.command.RegisterClinicOwnerCommand;
 import com.datavet.auth.application.port.in.command.VerifyEmailCommand;
 import com.datavet.auth.application.port.out.EmailPort;
+import com.datavet.auth.application.port.out.LoginThrottlePort;
 import com.datavet.auth.application.port.out.RefreshTokenRepositoryPort;
 import com.datavet.auth.application.port.out.UserRepositoryPort;
 import com.datavet.auth.domain.exception.EmailTokenExpiredException;
@@ -58,6 +59,7 @@ public class AuthService implements AuthUseCase, UserCreationPort, ApplicationSe
     // Añadir al constructor de AuthService
     private final EmployeeRepositoryPort employeeRepositoryPort;
     private final ClinicRepositoryPort clinicRepositoryPort;
+    private final LoginThrottlePort    loginThrottlePort;
     // -------------------------------------------------------------------------
     // Onboarding — Paso 1
     // -------------------------------------------------------------------------
@@ -205,16 +207,26 @@ public class AuthService implements AuthUseCase, UserCreationPort, ApplicationSe
     public TokenResponse login(LoginCommand command) {
         Email email = new Email(command.getEmail());
 
-        User user = userRepositoryPort.findByEmail(email.getValue())
-                .orElseThrow(() -> new InvalidCredentialsException(
-                        "Email o contraseña incorrectos"));
+        // Límite por IP y por cuenta antes de ir a base de datos o calcular ningún hash
+        loginThrottlePort.checkAllowed(command.getClientIp(), email.getValue());
+
+        User user = userRepositoryPort.findByEmail(email.getValue()).orElse(null);
 
         // Verificamos la contraseña
-        if (!passwordEncoder.matches(command.getRawPassword(),
+        if (user == null || !passwordEncoder.matches(command.getRawPassword(),
                 user.getPassword().getValue())) {
+            loginThrottlePort.recordFailure(email.getValue());
             throw new InvalidCredentialsException("Email o contraseña incorrectos");
         }
 
+        loginThrottlePort.recordSuccess(email.getValue());
+
+        // Si el coste de BCrypt configurado cambió, aprovechamos que tenemos la contraseña en claro
+        if (passwordEncoder.upgradeEncoding(user.getPassword().getValue())) {
+            user.upgradePasswordHash(HashedPassword.ofHash(passwordEncoder.encode(command.getRawPassword())));
+            userRepositoryPort.save(user);
+        }
+
         // Si está en PENDING_CLINIC_SETUP devolvemos JWT de onboarding, no definitivo
         if (user.getStatus() == UserStatus.PENDING_CLINIC_SETUP) {
             String onboardingToken = jwtUtil.generateOnboardingToken(
@@ -253,13 +265,15 @@ public class AuthService implements AuthUseCase, UserCreationPort, ApplicationSe
     public TokenResponse refreshToken(String refreshToken) {
         String tokenHash = hashToken(refreshToken);
 
+        // Rotación atómica — leemos e invalidamos el token en la misma operación, así que de dos
+        // refrescos concurrentes con el mismo token solo uno llega a generar tokens nuevos
         RefreshTokenDocument storedToken = refreshTokenRepositoryPort
-                .findByTokenHash(tokenHash)
+                .findAndDeleteByTokenHash(tokenHash)
                 .orElseThrow(() -> new InvalidCredentialsException(
                         "Refresh token inválido o expirado"));
 
+        // El índice TTL purga los caducados, pero con retraso: seguimos comprobando la fecha
         if (storedToken.getExpiresAt().isBefore(LocalDateTime.now())) {
-            refreshTokenRepositoryPort.deleteByTokenHash(tokenHash);
             throw new InvalidCredentialsException("Refresh token expirado");
         }
 
@@ -270,9 +284,6 @@ public class AuthService implements AuthUseCase, UserCreationPort, ApplicationSe
             throw new InvalidCredentialsException("La cuenta no está activa");
         }
 
-        // Rotación del refresh token — invalidamos el anterior y generamos uno nuevo
-        refreshTokenRepositoryPort.deleteByTokenHash(tokenHash);
-
         return generateTokenResponse(user);
     }
 
@@ -316,6 +327,9 @@ public class AuthService implements AuthUseCase, UserCreationPort, ApplicationSe
         refreshTokenRepositoryPort.deleteByUserId(user.getId());
 
         userRepositoryPort.save(user);
+
+        // UserPasswordChangedEvent revoca también los access tokens ya emitidos
+        publishDomainEvents(user);
     }
 
     // -------------------------------------------------------------------------
@@ -422,6 +436,7 @@ public class AuthService implements AuthUseCase, UserCreationPort, ApplicationSe
         user.resetPassword(token, newPassword);
         refreshTokenRepositoryPort.deleteByUserId(user.getId());
         userRepositoryPort.save(user);
+        publishDomainEvents(user);
     }
 
     // -------------------------------------------------------------------------
@@ -458,12 +473,18 @@ public class AuthService implements AuthUseCase, UserCreationPort, ApplicationSe
                 user.getEmployeeId(),
                 user.getClinicId(),
                 user.getEmail().getValue(),
-                user.getRole()
+                user.getRole(),
+                specialityOf(user)
         );
 
         // Generamos el refresh token — UUID aleatorio
-        String rawRefreshToken = UUID.randomUUID().toString();
-        String tokenHash       = hashToken(rawRefreshToken);
+        // (descartando el improbable caso de que el filtro de revocados ya lo reconozca)
+        String rawRefreshToken;
+        String tokenHash;
+        do {
+            rawRefreshToken = UUID.randomUUID().toString();
+            tokenHash       = hashToken(rawRefreshToken);
+        } while (refreshTokenRepositoryPort.isKnownRevoked(tokenHash));
 
         // Persistimos el refresh token hasheado
         RefreshTokenDocument refreshTokenDoc = RefreshTokenDocument.builder()
@@ -488,6 +509,19 @@ public class AuthService implements AuthUseCase, UserCreationPort, ApplicationSe
                 jwtUtil.getAccessTokenExpirationSeconds(), userInfo, null);
     }
 
+    /**
+     * Especialidad del empleado para el claim del access token. Solo la necesitan las comprobaciones
+     * de acceso del personal (CLINIC_STAFF), así que para el resto de roles no consultamos el empleado.
+     */
+    private String specialityOf(User user) {
+        if (user.getRole() != UserRole.CLINIC_STAFF || user.getEmployeeId() == null) {
+            return null;
+        }
+        return employeeRepositoryPort.findById(user.getEmployeeId())
+                .map(Employee::getSpeciality)
+                .orElse(null);
+    }
+
     /**
      * Hashea el refresh token con SHA-256 antes de persistirlo.
      * Nunca almacenamos el token en texto plano.
@@ -0,0 +1,34 @@
+package com.datavet.auth.domain.event;
+
+import com.datavet.shared.domain.event.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPasswordChangedEvent implements DomainEvent {
+
+    private String        userId;
+    private String        email;
+    private LocalDateTime occurredOn;
+
+    public static UserPasswordChangedEvent of(String userId, String email) {
+        return new UserPasswordChangedEvent(userId, email, LocalDateTime.now());
+    }
+
+    @Override
+    public LocalDateTime occurredOn() {
+        return this.occurredOn;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "UserPasswordChangedEvent{userId='%s', email='%s', occurredOn=%s}",
+                userId, email, occurredOn);
+    }
+}
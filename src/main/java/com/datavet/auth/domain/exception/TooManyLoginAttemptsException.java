@@ -0,0 +1,19 @@
+package com.datavet.auth.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Lanzada cuando una IP o una cuenta superan el número de intentos de login
+ * permitidos en la ventana deslizante.
+ * Resulta en HTTP 429 con cabecera Retry-After.
+ */
+@Getter
+public class TooManyLoginAttemptsException extends AuthDomainException {
+
+  private final long retryAfterSeconds;
+
+  public TooManyLoginAttemptsException(long retryAfterSeconds) {
+    super("Demasiados intentos de inicio de sesión. Inténtalo de nuevo en " + retryAfterSeconds + " segundos");
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
@@ -3,6 +3,7 @@ package com.datavet.auth.domain.model;
 import com.datavet.auth.domain.event.UserCreatedEvent;
 import com.datavet.auth.domain.event.UserDeactivatedEvent;
 import com.datavet.auth.domain.event.UserEmailVerifiedEvent;
+import com.datavet.auth.domain.event.UserPasswordChangedEvent;
 import com.datavet.auth.domain.exception.EmailTokenExpiredException;
 import com.datavet.auth.domain.exception.InvalidCredentialsException;
 import com.datavet.auth.domain.exception.UserValidationException;
@@ -305,6 +306,17 @@ public class User extends AggregateRoot<String> implements Document<String> {
 
         this.password  = newPassword;
         this.updatedAt = LocalDateTime.now();
+
+        addDomainEvent(UserPasswordChangedEvent.of(this.id, this.email.getValue()));
+    }
+
+    /**
+     * Sustituye el hash por otro de la misma contraseña calculado con el coste actual.
+     * No es un cambio de contraseña: no exige estado ni invalida sesiones.
+     */
+    public void upgradePasswordHash(HashedPassword rehashed) {
+        this.password  = rehashed;
+        this.updatedAt = LocalDateTime.now();
     }
 
     public void deactivate(String reason) {
@@ -343,5 +355,7 @@ public class User extends AggregateRoot<String> implements Document<String> {
         this.passwordResetToken       = null;
         this.passwordResetTokenExpiry = null;
         this.updatedAt                = LocalDateTime.now();
+
+        addDomainEvent(UserPasswordChangedEvent.of(this.id, this.email.getValue()));
     }
 }
\ No newline at end of file
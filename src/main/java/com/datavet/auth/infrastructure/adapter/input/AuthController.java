@@ -116,12 +116,15 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<TokenResponse> login(
             @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse httpResponse) {
 
+        // getRemoteAddr respeta X-Forwarded-For solo si server.forward-headers-strategy está configurado
         TokenResponse tokenResponse = authUseCase.login(
                 LoginCommand.builder()
                         .email(request.getEmail())
                         .rawPassword(request.getPassword())
+                        .clientIp(httpRequest.getRemoteAddr())
                         .build()
         );
 
@@ -0,0 +1,88 @@
+package com.datavet.auth.infrastructure.adapter.output;
+
+import com.datavet.auth.application.port.out.RefreshTokenRepositoryPort;
+import com.datavet.auth.infrastructure.persistence.document.RefreshTokenDocument;
+import com.datavet.auth.infrastructure.security.RevokedRefreshTokenFilter;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Implementación en memoria de {@link RefreshTokenRepositoryPort} (perfil {@code inmemory}).
+ */
+@Component
+@Profile("inmemory")
+@RequiredArgsConstructor
+public class InMemoryRefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort {
+
+    private final InMemoryCollection<RefreshTokenDocument> collection =
+            InMemoryCollection.<RefreshTokenDocument>builder("refresh_tokens", RefreshTokenDocument::getId)
+                    .uniqueIndex("token_hash_idx", RefreshTokenDocument::getTokenHash)
+                    .index("user_id_idx",          RefreshTokenDocument::getUserId)
+                    .build();
+
+    // La colección no ofrece buscar-y-borrar; serializamos aquí las eliminaciones para que sea atómico
+    private final Object deleteLock = new Object();
+
+    private final RevokedRefreshTokenFilter revokedFilter;
+
+    @Override
+    public RefreshTokenDocument save(RefreshTokenDocument token) {
+        return collection.save(token);
+    }
+
+    @Override
+    public Optional<RefreshTokenDocument> findByTokenHash(String tokenHash) {
+        if (revokedFilter.mightBeRevoked(tokenHash)) {
+            return Optional.empty();
+        }
+        return collection.findOneBy("token_hash_idx", tokenHash);
+    }
+
+    @Override
+    public Optional<RefreshTokenDocument> findAndDeleteByTokenHash(String tokenHash) {
+        if (revokedFilter.mightBeRevoked(tokenHash)) {
+            return Optional.empty();
+        }
+        synchronized (deleteLock) {
+            Optional<RefreshTokenDocument> removed = collection.findOneBy("token_hash_idx", tokenHash);
+            removed.ifPresent(token -> {
+                collection.deleteById(token.getId());
+                revokedFilter.add(tokenHash);
+            });
+            return removed;
+        }
+    }
+
+    @Override
+    public void deleteByUserId(String userId) {
+        synchronized (deleteLock) {
+            collection.findBy("user_id_idx", userId).forEach(token -> {
+                collection.deleteById(token.getId());
+                revokedFilter.add(token.getTokenHash());
+            });
+        }
+    }
+
+    @Override
+    public void deleteByTokenHash(String tokenHash) {
+        synchronized (deleteLock) {
+            if (collection.deleteWhere("token_hash_idx", tokenHash) > 0) {
+                revokedFilter.add(tokenHash);
+            }
+        }
+    }
+
+    @Override
+    public boolean existsByTokenHash(String tokenHash) {
+        return !revokedFilter.mightBeRevoked(tokenHash) && collection.existsBy("token_hash_idx", tokenHash);
+    }
+
+    @Override
+    public boolean isKnownRevoked(String tokenHash) {
+        return revokedFilter.mightBeRevoked(tokenHash);
+    }
+}
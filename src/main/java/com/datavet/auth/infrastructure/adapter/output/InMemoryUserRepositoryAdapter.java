@@ -0,0 +1,90 @@
+package com.datavet.auth.infrastructure.adapter.output;
+
+import com.datavet.auth.application.port.out.UserRepositoryPort;
+import com.datavet.auth.domain.model.User;
+import com.datavet.auth.infrastructure.persistence.document.UserDocument;
+import com.datavet.auth.infrastructure.persistence.mapper.UserDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación en memoria de {@link UserRepositoryPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link UserDocument}, incluidos los sparse de los tokens.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryUserRepositoryAdapter implements UserRepositoryPort {
+
+    private final InMemoryCollection<UserDocument> collection =
+            InMemoryCollection.<UserDocument>builder("users", UserDocument::getId)
+                    .uniqueIndex("email_idx",                UserDocument::getEmail)
+                    .index("clinic_idx",                     UserDocument::getClinicId)
+                    .index("employee_idx",                   UserDocument::getEmployeeId)
+                    .index("status_idx",                     UserDocument::getStatus)
+                    .sparseIndex("verification_token_idx",   UserDocument::getEmailVerificationToken)
+                    .sparseIndex("password_reset_token_idx", UserDocument::getPasswordResetToken)
+                    .build();
+
+    // -------------------------------------------------------------------------
+    // Repository base
+    // -------------------------------------------------------------------------
+
+    @Override
+    public User save(User user) {
+        return UserDocumentMapper.toDomain(collection.save(UserDocumentMapper.toDocument(user)));
+    }
+
+    @Override
+    public Optional<User> findById(String id) {
+        return collection.findById(id).map(UserDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<User> findAll() {
+        return collection.findAll().stream().map(UserDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        throw new UnsupportedOperationException(
+                "User no soporta hard delete. Usa deactivateUser()");
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.existsById(id);
+    }
+
+    // -------------------------------------------------------------------------
+    // Domain-specific
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return collection.findOneBy("email_idx", email).map(UserDocumentMapper::toDomain);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return collection.existsBy("email_idx", email);
+    }
+
+    @Override
+    public boolean existsByEmailAndIdNot(String email, String userId) {
+        return collection.existsByAndIdNot("email_idx", email, userId);
+    }
+
+    @Override
+    public Optional<User> findByEmailVerificationToken(String token) {
+        return collection.findOneBy("verification_token_idx", token).map(UserDocumentMapper::toDomain);
+    }
+
+    @Override
+    public Optional<User> findByPasswordResetToken(String token) {
+        return collection.findOneBy("password_reset_token_idx", token).map(UserDocumentMapper::toDomain);
+    }
+}
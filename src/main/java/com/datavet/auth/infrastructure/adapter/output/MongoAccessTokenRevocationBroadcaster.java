@@ -0,0 +1,80 @@
+package com.datavet.auth.infrastructure.adapter.output;
+
+import com.datavet.auth.infrastructure.config.AccessTokenRevocationProperties;
+import com.datavet.auth.infrastructure.security.AccessTokenRevocationBroadcaster;
+import com.datavet.auth.infrastructure.security.AccessTokenRevocationList;
+import com.datavet.shared.infrastructure.event.MongoCappedCollectionChannel;
+import com.mongodb.MongoException;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * Sincroniza las revocaciones de access tokens entre instancias a través de una colección capped de MongoDB
+ * ({@link MongoCappedCollectionChannel}).
+ *
+ * Al arrancar se releen también las revocaciones aún vigentes (las de la última {@code access-token-expiry}),
+ * así que una instancia recién levantada no acepta tokens ya revocados. Aplicar dos veces la misma
+ * revocación no tiene efecto.
+ *
+ * Las marcas "not-before" usan el reloj de la instancia que revoca; se asume que los nodos están
+ * sincronizados por NTP.
+ */
+@Slf4j
+@Component
+@Profile("!inmemory")
+public class MongoAccessTokenRevocationBroadcaster implements AccessTokenRevocationBroadcaster, SmartLifecycle {
+
+    private static final String USER_ID    = "user_id";
+    private static final String NOT_BEFORE = "not_before";
+
+    private final AccessTokenRevocationList    revocationList;
+    private final MongoCappedCollectionChannel channel;
+
+    public MongoAccessTokenRevocationBroadcaster(MongoTemplate mongoTemplate,
+                                                 AccessTokenRevocationList revocationList,
+                                                 AccessTokenRevocationProperties properties) {
+        this.revocationList = revocationList;
+        this.channel        = new MongoCappedCollectionChannel(mongoTemplate, properties.getCollection(),
+                properties.getMaxSizeBytes(), properties.getMaxDocuments(), properties.getRetryDelayMs(),
+                this::apply);
+    }
+
+    @Override
+    public void broadcast(String userId, long notBeforeMillis) {
+        try {
+            channel.publish(new Document(USER_ID, userId).append(NOT_BEFORE, new Date(notBeforeMillis)));
+        } catch (MongoException e) {
+            // La revocación ya se aplicó en esta instancia; el resto la verá al expirar los tokens
+            log.error("No se pudo difundir la revocación de tokens del usuario {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        channel.start(new Date(System.currentTimeMillis() - revocationList.retentionMillis()));
+    }
+
+    @Override
+    public void stop() {
+        channel.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return channel.isRunning();
+    }
+
+    private void apply(Document revocation) {
+        String userId    = revocation.getString(USER_ID);
+        Date   notBefore = revocation.getDate(NOT_BEFORE);
+        if (userId != null && notBefore != null) {
+            revocationList.revoke(userId, notBefore.getTime());
+        }
+    }
+}
@@ -3,16 +3,24 @@ package com.datavet.auth.infrastructure.adapter.output;
 import com.datavet.auth.application.port.out.RefreshTokenRepositoryPort;
 import com.datavet.auth.infrastructure.persistence.document.RefreshTokenDocument;
 import com.datavet.auth.infrastructure.persistence.repository.MongoRefreshTokenRepository;
+import com.datavet.auth.infrastructure.security.RevokedRefreshTokenFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class RefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort {
 
     private final MongoRefreshTokenRepository repository;
+    private final MongoTemplate               mongoTemplate;
+    private final RevokedRefreshTokenFilter   revokedFilter;
 
     @Override
     public RefreshTokenDocument save(RefreshTokenDocument token) {
@@ -21,21 +29,48 @@ public class RefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort
 
     @Override
     public Optional<RefreshTokenDocument> findByTokenHash(String tokenHash) {
+        if (revokedFilter.mightBeRevoked(tokenHash)) {
+            return Optional.empty();
+        }
         return repository.findByTokenHash(tokenHash);
     }
 
+    @Override
+    public Optional<RefreshTokenDocument> findAndDeleteByTokenHash(String tokenHash) {
+        if (revokedFilter.mightBeRevoked(tokenHash)) {
+            return Optional.empty();
+        }
+        // findOneAndDelete: la lectura y el borrado son un único comando atómico en el servidor
+        RefreshTokenDocument removed = mongoTemplate.findAndRemove(
+                Query.query(Criteria.where("token_hash").is(tokenHash)), RefreshTokenDocument.class);
+        // Solo los tokens que existían: un hash desconocido llenaría el filtro sin revocar nada
+        if (removed != null) {
+            revokedFilter.add(tokenHash);
+        }
+        return Optional.ofNullable(removed);
+    }
+
     @Override
     public void deleteByUserId(String userId) {
-        repository.deleteByUserId(userId);
+        mongoTemplate.findAllAndRemove(
+                        Query.query(Criteria.where("user_id").is(userId)), RefreshTokenDocument.class)
+                .forEach(token -> revokedFilter.add(token.getTokenHash()));
     }
 
     @Override
     public void deleteByTokenHash(String tokenHash) {
-        repository.deleteByTokenHash(tokenHash);
+        if (repository.deleteByTokenHash(tokenHash) > 0) {
+            revokedFilter.add(tokenHash);
+        }
     }
 
     @Override
     public boolean existsByTokenHash(String tokenHash) {
-        return repository.existsByTokenHash(tokenHash);
+        return !revokedFilter.mightBeRevoked(tokenHash) && repository.existsByTokenHash(tokenHash);
+    }
+
+    @Override
+    public boolean isKnownRevoked(String tokenHash) {
+        return revokedFilter.mightBeRevoked(tokenHash);
     }
-}
\ No newline at end of file
+}
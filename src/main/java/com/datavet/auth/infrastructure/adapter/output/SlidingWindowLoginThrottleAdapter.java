@@ -0,0 +1,68 @@
+package com.datavet.auth.infrastructure.adapter.output;
+
+import com.datavet.auth.application.port.out.LoginThrottlePort;
+import com.datavet.auth.domain.exception.TooManyLoginAttemptsException;
+import com.datavet.auth.infrastructure.config.LoginThrottleProperties;
+import com.datavet.auth.infrastructure.security.SlidingWindowCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Limitador de login en memoria con ventanas deslizantes por IP (todos los intentos)
+ * y por email (solo los fallos, para no bloquear a un usuario legítimo que entra a menudo).
+ *
+ * Los contadores son locales a cada instancia: con varias réplicas el límite efectivo se
+ * multiplica por el número de instancias, suficiente para frenar ráfagas de un mismo origen.
+ */
+@Slf4j
+@Component
+public class SlidingWindowLoginThrottleAdapter implements LoginThrottlePort {
+
+    private final LoginThrottleProperties properties;
+    private final SlidingWindowCounter    attemptsByIp;
+    private final SlidingWindowCounter    failuresByEmail;
+
+    public SlidingWindowLoginThrottleAdapter(LoginThrottleProperties properties) {
+        this.properties      = properties;
+        this.attemptsByIp    = new SlidingWindowCounter(
+                properties.getIpWindowSeconds(), properties.getStripes(), properties.getMaxKeys());
+        this.failuresByEmail = new SlidingWindowCounter(
+                properties.getEmailWindowSeconds(), properties.getStripes(), properties.getMaxKeys());
+    }
+
+    @Override
+    public void checkAllowed(String clientIp, String email) {
+        if (clientIp != null && attemptsByIp.increment(clientIp) > properties.getIpMaxAttempts()) {
+            log.warn("Login bloqueado por exceso de intentos desde la IP {}", clientIp);
+            throw new TooManyLoginAttemptsException(attemptsByIp.secondsUntilReset(clientIp));
+        }
+
+        String key = normalize(email);
+        if (key != null && failuresByEmail.estimate(key) >= properties.getEmailMaxFailures()) {
+            log.warn("Login bloqueado por exceso de fallos para la cuenta {}", key);
+            throw new TooManyLoginAttemptsException(failuresByEmail.secondsUntilReset(key));
+        }
+    }
+
+    @Override
+    public void recordFailure(String email) {
+        String key = normalize(email);
+        if (key != null) {
+            failuresByEmail.increment(key);
+        }
+    }
+
+    @Override
+    public void recordSuccess(String email) {
+        String key = normalize(email);
+        if (key != null) {
+            failuresByEmail.reset(key);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,81 +2,39 @@ package com.datavet.auth.infrastructure.adapter.output;
 
 import com.datavet.auth.application.port.out.UserRepositoryPort;
 import com.datavet.auth.domain.model.User;
-import com.datavet.auth.domain.valueobject.HashedPassword;
-import com.datavet.auth.infrastructure.persistence.document.UserDocument;
+import com.datavet.auth.infrastructure.persistence.mapper.UserDocumentMapper;
 import com.datavet.auth.infrastructure.persistence.repository.MongoUserRepository;
-import com.datavet.shared.domain.valueobject.Email;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepositoryPort {
 
     private final MongoUserRepository repository;
 
-    // -------------------------------------------------------------------------
-    // Mappers internos
-    // -------------------------------------------------------------------------
-
-    private UserDocument toDocument(User user) {
-        return UserDocument.builder()
-                .id(user.getId())
-                .employeeId(user.getEmployeeId())
-                .clinicId(user.getClinicId())
-                .email(user.getEmail().getValue())
-                .passwordHash(user.getPassword() != null ? user.getPassword().getValue() : null)
-                .role(user.getRole())
-                .status(user.getStatus())
-                .firstName(user.getFirstName())
-                .lastName(user.getLastName())
-                .emailVerificationToken(user.getEmailVerificationToken())
-                .emailVerificationExpiry(user.getEmailVerificationExpiry())
-                .passwordResetToken(user.getPasswordResetToken())
-                .passwordResetTokenExpiry(user.getPasswordResetTokenExpiry())
-                .build();
-    }
-
-    private User toDomain(UserDocument doc) {
-        return User.reconstitute(
-                doc.getId(),
-                doc.getEmployeeId(),
-                doc.getClinicId(),
-                new Email(doc.getEmail()),
-                doc.getPasswordHash() != null ? HashedPassword.ofHash(doc.getPasswordHash()) : null,
-                doc.getRole(),
-                doc.getStatus(),
-                doc.getFirstName(),
-                doc.getLastName(),
-                doc.getEmailVerificationToken(),
-                doc.getEmailVerificationExpiry(),
-                doc.getPasswordResetToken(),
-                doc.getPasswordResetTokenExpiry(),
-                doc.getCreatedAt(),
-                doc.getUpdatedAt()
-        );
-    }
-
     // -------------------------------------------------------------------------
     // Repository base
     // -------------------------------------------------------------------------
 
     @Override
     public User save(User user) {
-        return toDomain(repository.save(toDocument(user)));
+        return UserDocumentMapper.toDomain(repository.save(UserDocumentMapper.toDocument(user)));
     }
 
     @Override
     public Optional<User> findById(String id) {
-        return repository.findById(id).map(this::toDomain);
+        return repository.findById(id).map(UserDocumentMapper::toDomain);
     }
 
     @Override
     public List<User> findAll() {
-        return repository.findAll().stream().map(this::toDomain).toList();
+        return repository.findAll().stream().map(UserDocumentMapper::toDomain).toList();
     }
 
     @Override
@@ -96,7 +54,7 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return repository.findByEmail(email).map(this::toDomain);
+        return repository.findByEmail(email).map(UserDocumentMapper::toDomain);
     }
 
     @Override
@@ -111,11 +69,11 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
 
     @Override
     public Optional<User> findByEmailVerificationToken(String token) {
-        return repository.findByEmailVerificationToken(token).map(this::toDomain);
+        return repository.findByEmailVerificationToken(token).map(UserDocumentMapper::toDomain);
     }
 
     @Override
     public Optional<User> findByPasswordResetToken(String token) {
-        return repository.findByPasswordResetToken(token).map(this::toDomain);
+        return repository.findByPasswordResetToken(token).map(UserDocumentMapper::toDomain);
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.datavet.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Canal de revocación de access tokens entre instancias, leído desde application.properties.
+ *
+ * datavet.security.token-revocation.collection      — colección capped que actúa de canal
+ * datavet.security.token-revocation.max-size-bytes  — tamaño máximo de la colección capped
+ * datavet.security.token-revocation.max-documents   — documentos máximos de la colección capped
+ * datavet.security.token-revocation.retry-delay-ms  — espera antes de reabrir el cursor tailable
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datavet.security.token-revocation")
+public class AccessTokenRevocationProperties {
+
+    private String collection    = "access_token_revocations";
+    private long   maxSizeBytes  = 1_048_576;   // 1 MB
+    private long   maxDocuments  = 10_000;
+    private long   retryDelayMs  = 1_000;
+}
@@ -0,0 +1,30 @@
+package com.datavet.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Límites de intentos de login leídos desde application.properties.
+ *
+ * datavet.security.login-throttle.ip-max-attempts    — intentos por IP en la ventana
+ * datavet.security.login-throttle.ip-window-seconds  — ventana deslizante por IP
+ * datavet.security.login-throttle.email-max-failures — fallos por cuenta en la ventana
+ * datavet.security.login-throttle.email-window-seconds — ventana deslizante por cuenta
+ * datavet.security.login-throttle.stripes            — segmentos con cerrojo propio
+ * datavet.security.login-throttle.max-keys           — claves (IPs / emails) retenidas como máximo
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datavet.security.login-throttle")
+public class LoginThrottleProperties {
+
+    private int  ipMaxAttempts      = 30;
+    private long ipWindowSeconds    = 60;
+    private int  emailMaxFailures   = 5;
+    private long emailWindowSeconds = 900;     // 15 minutos
+    private int  stripes            = 64;
+    private int  maxKeys            = 100_000;
+}
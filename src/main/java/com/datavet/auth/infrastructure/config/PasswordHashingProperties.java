@@ -0,0 +1,31 @@
+package com.datavet.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propiedades del hash de contraseñas leídas desde application.properties.
+ *
+ * datavet.security.bcrypt.strength       — coste de BCrypt (log2 de rondas); al cambiarlo, los
+ *                                          hashes existentes se recalculan en el siguiente login
+ * datavet.security.bcrypt.threads        — hilos dedicados a BCrypt (0 = la mitad de los núcleos)
+ * datavet.security.bcrypt.queue-capacity — operaciones en espera antes de rechazar con 503
+ * datavet.security.bcrypt.timeout-ms     — espera máxima (cola + cálculo) antes de rechazar con 503
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datavet.security.bcrypt")
+public class PasswordHashingProperties {
+
+    private int  strength      = 10;
+    private int  threads       = 0;
+    private int  queueCapacity = 100;
+    private long timeoutMs     = 5_000;
+
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
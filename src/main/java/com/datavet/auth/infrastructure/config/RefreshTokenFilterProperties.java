@@ -0,0 +1,24 @@
+package com.datavet.auth.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dimensionado del filtro de refresh tokens revocados leído desde application.properties.
+ *
+ * datavet.security.refresh-token-filter.expected-revocations — revocaciones previstas por generación
+ * datavet.security.refresh-token-filter.false-positive-rate  — tasa de falsos positivos objetivo
+ * datavet.security.refresh-token-filter.rotation-days        — vida de cada generación (≥ vida del refresh token)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datavet.security.refresh-token-filter")
+public class RefreshTokenFilterProperties {
+
+    private long   expectedRevocations = 1_000_000;
+    private double falsePositiveRate   = 1e-6;
+    private long   rotationDays        = 30;
+}
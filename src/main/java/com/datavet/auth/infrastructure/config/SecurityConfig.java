@@ -1,6 +1,8 @@
 package com.datavet.auth.infrastructure.config;
 
 import com.datavet.auth.infrastructure.filter.JwtAuthenticationFilter;
+import com.datavet.auth.infrastructure.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,7 +13,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -53,6 +54,10 @@ public class SecurityConfig {
                                 "/v3/api-docs/**"
                         ).permitAll()
 
+                        // Actuator — health y scrape de Prometheus libres; el resto solo SUPER_ADMIN
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("SUPER_ADMIN")
+
                         // Endpoints públicos
                         .requestMatchers(HttpMethod.POST, "/auth/register").permitAll()
                         .requestMatchers(HttpMethod.GET,  "/auth/verify-email").permitAll()
@@ -120,8 +125,14 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * BCrypt en un pool acotado (ver BoundedPasswordEncoder): los picos de login
+     * no pueden acaparar los hilos ni los núcleos del resto de endpoints.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(properties);
+        encoder.bindTo(meterRegistry);
+        return encoder;
     }
 }
\ No newline at end of file
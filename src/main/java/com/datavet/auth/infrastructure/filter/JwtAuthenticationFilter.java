@@ -1,6 +1,7 @@
 package com.datavet.auth.infrastructure.filter;
 
 import com.datavet.auth.domain.model.UserRole;
+import com.datavet.auth.infrastructure.security.AccessTokenRevocationList;
 import com.datavet.auth.infrastructure.security.AuthenticatedUser;
 import com.datavet.auth.infrastructure.util.JwtUtil;
 import io.jsonwebtoken.Claims;
@@ -24,7 +25,8 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtUtil                   jwtUtil;
+    private final AccessTokenRevocationList revocationList;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -49,6 +51,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String scope      = claims.get("scope",      String.class);
                 String email      = claims.get("email",      String.class);
                 String roleStr    = claims.get("role",       String.class);
+                String speciality = claims.get("speciality", String.class);
+
+                // Usuario desactivado o con contraseña cambiada después de emitirse el token
+                if (revocationList.isRevoked(userId, jwtUtil.extractIssuedAtMillis(claims))) {
+                    throw new IllegalArgumentException("Token revocado — petición rechazada");
+                }
 
                 if (roleStr == null) {
                     throw new IllegalArgumentException("Token sin rol — petición rechazada");
@@ -58,7 +66,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String   emailFinal = (email != null) ? email : userId;
 
                 AuthenticatedUser authenticatedUser = new AuthenticatedUser(
-                        userId, employeeId, clinicId, emailFinal, role, scope);
+                        userId, employeeId, clinicId, emailFinal, role, scope, speciality);
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
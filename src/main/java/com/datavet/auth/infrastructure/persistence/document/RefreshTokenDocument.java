@@ -4,6 +4,7 @@ import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -30,6 +31,8 @@ public class RefreshTokenDocument {
     @Field("token_hash")
     private String tokenHash;
 
+    // Índice TTL: MongoDB purga el documento en cuanto pasa expires_at (el monitor corre cada ~60 s)
+    @Indexed(name = "expires_at_ttl_idx", expireAfter = "0s")
     @Field("expires_at")
     private LocalDateTime expiresAt;
 
@@ -0,0 +1,53 @@
+package com.datavet.auth.infrastructure.persistence.mapper;
+
+import com.datavet.auth.domain.model.User;
+import com.datavet.auth.domain.valueobject.HashedPassword;
+import com.datavet.auth.infrastructure.persistence.document.UserDocument;
+import com.datavet.shared.domain.valueobject.Email;
+
+/**
+ * Mapeo User ↔ UserDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class UserDocumentMapper {
+
+    private UserDocumentMapper() {}
+
+    public static UserDocument toDocument(User user) {
+        return UserDocument.builder()
+                .id(user.getId())
+                .employeeId(user.getEmployeeId())
+                .clinicId(user.getClinicId())
+                .email(user.getEmail().getValue())
+                .passwordHash(user.getPassword() != null ? user.getPassword().getValue() : null)
+                .role(user.getRole())
+                .status(user.getStatus())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .emailVerificationToken(user.getEmailVerificationToken())
+                .emailVerificationExpiry(user.getEmailVerificationExpiry())
+                .passwordResetToken(user.getPasswordResetToken())
+                .passwordResetTokenExpiry(user.getPasswordResetTokenExpiry())
+                .build();
+    }
+
+    public static User toDomain(UserDocument doc) {
+        return User.reconstitute(
+                doc.getId(),
+                doc.getEmployeeId(),
+                doc.getClinicId(),
+                new Email(doc.getEmail()),
+                doc.getPasswordHash() != null ? HashedPassword.ofHash(doc.getPasswordHash()) : null,
+                doc.getRole(),
+                doc.getStatus(),
+                doc.getFirstName(),
+                doc.getLastName(),
+                doc.getEmailVerificationToken(),
+                doc.getEmailVerificationExpiry(),
+                doc.getPasswordResetToken(),
+                doc.getPasswordResetTokenExpiry(),
+                doc.getCreatedAt(),
+                doc.getUpdatedAt()
+        );
+    }
+}
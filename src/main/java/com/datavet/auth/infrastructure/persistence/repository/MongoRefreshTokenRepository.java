@@ -10,6 +10,6 @@ public interface MongoRefreshTokenRepository
 
     Optional<RefreshTokenDocument> findByTokenHash  (String tokenHash);
     void                           deleteByUserId   (String userId);
-    void                           deleteByTokenHash(String tokenHash);
+    long                           deleteByTokenHash(String tokenHash);
     boolean                        existsByTokenHash(String tokenHash);
 }
\ No newline at end of file
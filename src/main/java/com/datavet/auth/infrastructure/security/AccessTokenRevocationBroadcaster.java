@@ -0,0 +1,10 @@
+package com.datavet.auth.infrastructure.security;
+
+/**
+ * Difunde una revocación de access tokens al resto de instancias, que la aplican en su
+ * {@link AccessTokenRevocationList}. Sin implementación (perfil {@code inmemory}) la revocación es solo local.
+ */
+public interface AccessTokenRevocationBroadcaster {
+
+    void broadcast(String userId, long notBeforeMillis);
+}
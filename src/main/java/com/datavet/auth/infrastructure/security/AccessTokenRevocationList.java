@@ -0,0 +1,67 @@
+package com.datavet.auth.infrastructure.security;
+
+import com.datavet.auth.infrastructure.config.JwtProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Lista en memoria de access tokens revocados, indexada por usuario con una marca "not-before":
+ * cualquier JWT del usuario emitido antes de esa marca deja de aceptarse.
+ *
+ * El access token es sin estado y no se puede borrar; tras desactivar un usuario o cambiar su contraseña
+ * seguiría siendo válido hasta expirar. Consultar el usuario en cada petición costaría un viaje a MongoDB,
+ * así que {@code JwtAuthenticationFilter} consulta esta lista en O(1).
+ *
+ * Una entrada solo hace falta mientras pueda quedar vivo algún token anterior a ella, es decir, durante
+ * {@code datavet.jwt.access-token-expiry}; las caducadas se purgan al registrar nuevas revocaciones.
+ */
+@Component
+public class AccessTokenRevocationList {
+
+    private final ConcurrentHashMap<String, Long> notBeforeByUser = new ConcurrentHashMap<>();
+
+    private final long         retentionMillis;
+    private final LongSupplier clock;
+
+    @Autowired
+    public AccessTokenRevocationList(JwtProperties jwtProperties) {
+        this(TimeUnit.SECONDS.toMillis(jwtProperties.getAccessTokenExpiry()), System::currentTimeMillis);
+    }
+
+    AccessTokenRevocationList(long retentionMillis, LongSupplier clock) {
+        this.retentionMillis = retentionMillis;
+        this.clock           = clock;
+    }
+
+    /** Invalida los tokens del usuario emitidos antes de {@code notBeforeMillis}. Idempotente. */
+    public void revoke(String userId, long notBeforeMillis) {
+        if (notBeforeMillis + retentionMillis <= clock.getAsLong()) {
+            return;   // todos los tokens afectados ya han expirado
+        }
+        notBeforeByUser.merge(userId, notBeforeMillis, Math::max);
+        purgeExpired();
+    }
+
+    public boolean isRevoked(String userId, long issuedAtMillis) {
+        Long notBefore = notBeforeByUser.get(userId);
+        return notBefore != null && issuedAtMillis < notBefore;
+    }
+
+    public int size() {
+        return notBeforeByUser.size();
+    }
+
+    /** Horizonte de retención: revocaciones más antiguas ya no afectan a ningún token vivo. */
+    public long retentionMillis() {
+        return retentionMillis;
+    }
+
+    private void purgeExpired() {
+        long threshold = clock.getAsLong() - retentionMillis;
+        notBeforeByUser.values().removeIf(notBefore -> notBefore <= threshold);
+    }
+}
@@ -0,0 +1,48 @@
+package com.datavet.auth.infrastructure.security;
+
+import com.datavet.auth.domain.event.UserDeactivatedEvent;
+import com.datavet.auth.domain.event.UserPasswordChangedEvent;
+import com.datavet.employee.domain.event.EmployeeUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revoca los access tokens emitidos hasta ahora cuando un usuario se desactiva, cambia de contraseña o,
+ * siendo empleado, cambia de especialidad (que viaja como claim en el token): los aplica en la lista local
+ * de inmediato y los difunde al resto de instancias. El cliente obtiene un token actualizado al refrescar.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTokenRevocationListener {
+
+    private final AccessTokenRevocationList                        revocationList;
+    private final ObjectProvider<AccessTokenRevocationBroadcaster> broadcaster;
+
+    @EventListener
+    public void on(UserDeactivatedEvent event) {
+        revoke(event.getUserId());
+    }
+
+    @EventListener
+    public void on(UserPasswordChangedEvent event) {
+        revoke(event.getUserId());
+    }
+
+    @EventListener
+    public void on(EmployeeUpdatedEvent event) {
+        if (event.isSpecialityChanged() && event.getUserId() != null) {
+            revoke(event.getUserId());
+        }
+    }
+
+    private void revoke(String userId) {
+        long notBefore = System.currentTimeMillis();
+        revocationList.revoke(userId, notBefore);
+        broadcaster.ifAvailable(channel -> channel.broadcast(userId, notBefore));
+        log.info("Access tokens del usuario {} revocados", userId);
+    }
+}
@@ -24,6 +24,12 @@ public class AuthenticatedUser implements UserDetails {
     private final String   email;
     private final UserRole role;
     private final String   scope;
+    private final String   speciality;   // null si el token no la incluye
+
+    public AuthenticatedUser(String userId, String employeeId, String clinicId,
+                             String email, UserRole role, String scope) {
+        this(userId, employeeId, clinicId, email, role, scope, null);
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
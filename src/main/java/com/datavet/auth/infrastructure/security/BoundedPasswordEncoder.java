@@ -0,0 +1,122 @@
+package com.datavet.auth.infrastructure.security;
+
+import com.datavet.auth.infrastructure.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link PasswordEncoder} que ejecuta BCrypt en un pool de hilos dedicado y acotado.
+ *
+ * Un pico de logins (o un ataque) ya no ocupa todos los núcleos: como mucho {@code threads} hashes se
+ * calculan a la vez, hasta {@code queueCapacity} esperan y el resto se rechaza al instante con
+ * {@link PasswordHashingOverloadedException}. El hilo de la petición solo espera al resultado.
+ *
+ * Pasado {@code timeoutMs} la petición recibe el mismo error. Si el hash aún estaba en cola se retira y
+ * no llega a calcularse; si ya había empezado, sigue hasta el final aunque nadie espere el resultado,
+ * porque BCrypt no atiende interrupciones. Cada hilo queda así ocupado como mucho un hash más (unos
+ * 100 ms con {@code strength} 10), y con sobrecarga sostenida la cola llena rechaza las peticiones nuevas
+ * en lugar de acumular trabajo abandonado. Conviene que {@code timeoutMs} supere con holgura
+ * {@code queueCapacity / threads} veces el coste de un hash, o la mayoría de los hashes que se calculan
+ * llegarán tarde.
+ *
+ * {@link #upgradeEncoding(String)} compara el coste del hash guardado con el configurado en ambas
+ * direcciones, de modo que subir o bajar {@code strength} recalcula el hash en el siguiente login.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abyx]?\\$(\\d{2})\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int                   strength;
+    private final long                  timeoutMs;
+    private final ThreadPoolExecutor    executor;
+
+    public BoundedPasswordEncoder(PasswordHashingProperties properties) {
+        this.delegate  = new BCryptPasswordEncoder(properties.getStrength());
+        this.strength  = properties.getStrength();
+        this.timeoutMs = properties.getTimeoutMs();
+
+        AtomicInteger sequence = new AtomicInteger();
+        int threads = properties.effectiveThreads();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                task -> {
+                    Thread thread = new Thread(task, "bcrypt-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** Publica el tamaño de la cola, hilos activos y tareas rechazadas como {@code executor.*{name="bcrypt"}}. */
+    public void bindTo(MeterRegistry meterRegistry) {
+        new ExecutorServiceMetrics(executor, "bcrypt", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingOverloadedException("Servicio de autenticación saturado, inténtalo más tarde", e);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Libera el hueco de la cola si no había empezado; un hash en curso no se puede interrumpir
+            future.cancel(false);
+            executor.remove((Runnable) future);
+            throw new PasswordHashingOverloadedException("Servicio de autenticación saturado, inténtalo más tarde", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadedException("Operación de contraseña interrumpida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.datavet.auth.infrastructure.security;
+
+/**
+ * Lanzada cuando el executor de BCrypt está saturado: la cola está llena o la operación
+ * no termina dentro del tiempo máximo. Resulta en HTTP 503 con cabecera Retry-After.
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
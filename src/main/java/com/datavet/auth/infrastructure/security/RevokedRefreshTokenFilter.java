@@ -0,0 +1,145 @@
+package com.datavet.auth.infrastructure.security;
+
+import com.datavet.auth.infrastructure.config.RefreshTokenFilterProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Filtro de Bloom en memoria con los hashes de refresh tokens ya revocados (rotados, cerrados en logout,
+ * invalidados por cambio de contraseña o caducados).
+ *
+ * Un token revocado que se reutiliza — un replay, o dos pestañas refrescando a la vez — se rechaza sin
+ * consultar MongoDB. Un filtro de Bloom no da falsos negativos pero sí falsos positivos: un token válido
+ * podría parecer revocado. Se dimensiona para una tasa muy baja y, además, al emitir un token nuevo se
+ * descarta cualquiera que el filtro ya reconozca ({@link #mightBeRevoked}), así que el riesgo se limita a
+ * colisiones con revocaciones posteriores a la emisión.
+ *
+ * Un filtro de Bloom no admite borrados, así que se usan dos generaciones: las altas van a la actual y
+ * las consultas miran ambas; cada {@code rotation} la actual pasa a anterior y la anterior se descarta.
+ * Con una rotación igual a la vida del refresh token, lo que se descarta ya habría caducado igualmente.
+ *
+ * Es local a cada instancia: en un despliegue con varias réplicas las demás siguen resolviendo en MongoDB,
+ * que es la fuente de verdad.
+ */
+@Component
+public class RevokedRefreshTokenFilter {
+
+    private static final class Generation {
+        final long            createdAt;
+        final AtomicLongArray words;
+
+        Generation(long createdAt, int words) {
+            this.createdAt = createdAt;
+            this.words     = new AtomicLongArray(words);
+        }
+    }
+
+    private final long         bits;
+    private final int          hashFunctions;
+    private final long         rotationNanos;
+    private final LongSupplier clock;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    @Autowired
+    public RevokedRefreshTokenFilter(RefreshTokenFilterProperties properties) {
+        this(properties.getExpectedRevocations(), properties.getFalsePositiveRate(),
+                TimeUnit.DAYS.toSeconds(properties.getRotationDays()), System::nanoTime);
+    }
+
+    RevokedRefreshTokenFilter(long expectedRevocations, double falsePositiveRate, long rotationSeconds,
+                              LongSupplier clock) {
+        if (expectedRevocations <= 0 || rotationSeconds <= 0
+                || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException(
+                    "Revocaciones esperadas y rotación deben ser positivas y la tasa estar entre 0 y 1");
+        }
+        // m = -n·ln(p) / ln(2)²  y  k = m/n · ln(2)
+        long optimalBits   = (long) Math.ceil(-expectedRevocations * Math.log(falsePositiveRate)
+                / (Math.log(2) * Math.log(2)));
+        int  words         = (int) Math.min(Integer.MAX_VALUE - 8, (optimalBits + 63) / 64);
+        this.bits          = (long) words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bits / expectedRevocations * Math.log(2)));
+        this.rotationNanos = TimeUnit.SECONDS.toNanos(rotationSeconds);
+        this.clock         = clock;
+        this.current       = new Generation(clock.getAsLong(), words);
+        this.previous      = new Generation(clock.getAsLong(), words);
+    }
+
+    /** Marca el hash (SHA-256 en hexadecimal) como revocado. */
+    public void add(String tokenHash) {
+        long h1 = h1(tokenHash);
+        long h2 = h2(tokenHash);
+        AtomicLongArray words = rotateIfNeeded().words;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit  = index(h1, h2, i);
+            int  word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long value;
+            while (((value = words.get(word)) & mask) == 0
+                    && !words.compareAndSet(word, value, value | mask)) {
+                // reintento: otro hilo modificó la misma palabra
+            }
+        }
+    }
+
+    /**
+     * {@code false} garantiza que el hash no se ha revocado en las dos últimas generaciones;
+     * {@code true} significa que probablemente sí.
+     */
+    public boolean mightBeRevoked(String tokenHash) {
+        long h1 = h1(tokenHash);
+        long h2 = h2(tokenHash);
+        Generation latest = rotateIfNeeded();
+        return contains(latest.words, h1, h2) || contains(previous.words, h1, h2);
+    }
+
+    /** Número de funciones hash derivadas del dimensionado; expuesto para tests. */
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private boolean contains(AtomicLongArray words, long h1, long h2) {
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = index(h1, h2, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Generation rotateIfNeeded() {
+        Generation latest = current;
+        long now = clock.getAsLong();
+        if (now - latest.createdAt < rotationNanos) {
+            return latest;
+        }
+        synchronized (this) {
+            if (current == latest) {
+                previous = latest;
+                current  = new Generation(now, latest.words.length());
+            }
+            return current;
+        }
+    }
+
+    // Doble hashing (Kirsch–Mitzenmacher): g_i = h1 + i·h2. El hash ya es SHA-256, así que sus
+    // primeros 128 bits son uniformes y sirven directamente como h1 y h2.
+    private long index(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * h2, bits);
+    }
+
+    private static long h1(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash, 0, 16, 16);
+    }
+
+    private static long h2(String tokenHash) {
+        return Long.parseUnsignedLong(tokenHash, 16, 32, 16) | 1L;
+    }
+}
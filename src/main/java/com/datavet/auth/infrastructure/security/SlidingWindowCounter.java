@@ -0,0 +1,134 @@
+package com.datavet.auth.infrastructure.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Contador en memoria por clave sobre una ventana deslizante aproximada.
+ *
+ * Cada clave guarda dos ventanas fijas consecutivas (anterior y actual); la estimación pondera la anterior
+ * por la fracción que aún solapa con la ventana deslizante. Es O(1) en memoria por clave y no acumula
+ * marcas de tiempo individuales.
+ *
+ * Las claves se reparten en {@code stripes} segmentos, cada uno con su propio cerrojo, para que los
+ * logins concurrentes no compitan por un único lock. Cada segmento es un LRU acotado: con una avalancha
+ * de IPs distintas se descartan las menos recientes en lugar de crecer sin límite.
+ */
+public final class SlidingWindowCounter {
+
+    private static final class Window {
+        long start;
+        int  previous;
+        int  current;
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<String, Window> {
+        private final int maxKeys;
+
+        Stripe(int maxKeys) {
+            super(16, 0.75f, true);
+            this.maxKeys = maxKeys;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+            return size() > maxKeys;
+        }
+    }
+
+    private final long         windowNanos;
+    private final Stripe[]     stripes;
+    private final LongSupplier clock;
+
+    public SlidingWindowCounter(long windowSeconds, int stripes, int maxKeys) {
+        this(windowSeconds, stripes, maxKeys, System::nanoTime);
+    }
+
+    SlidingWindowCounter(long windowSeconds, int stripes, int maxKeys, LongSupplier clock) {
+        if (windowSeconds <= 0 || stripes <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("Ventana, segmentos y claves máximas deben ser positivos");
+        }
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+        this.stripes     = new Stripe[stripes];
+        int perStripe    = Math.max(1, maxKeys / stripes);
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+        this.clock = clock;
+    }
+
+    /** Suma un evento a la clave y devuelve la estimación resultante en la ventana. */
+    public double increment(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            long now = clock.getAsLong();
+            Window window = stripe.computeIfAbsent(key, k -> new Window(now));
+            roll(window, now);
+            window.current++;
+            return estimate(window, now);
+        }
+    }
+
+    /** Estimación actual sin registrar ningún evento. */
+    public double estimate(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Window window = stripe.get(key);
+            if (window == null) {
+                return 0;
+            }
+            long now = clock.getAsLong();
+            roll(window, now);
+            return estimate(window, now);
+        }
+    }
+
+    public void reset(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    /** Segundos hasta que la ventana actual se cierra; cota superior razonable para Retry-After. */
+    public long secondsUntilReset(String key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Window window = stripe.get(key);
+            if (window == null) {
+                return 0;
+            }
+            long now = clock.getAsLong();
+            roll(window, now);
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(window.start + windowNanos - now + 999_999_999L));
+        }
+    }
+
+    private void roll(Window window, long now) {
+        long elapsed = (now - window.start) / windowNanos;
+        if (elapsed == 1) {
+            window.previous = window.current;
+            window.current  = 0;
+        } else if (elapsed > 1) {
+            window.previous = 0;
+            window.current  = 0;
+        }
+        window.start += elapsed * windowNanos;
+    }
+
+    private double estimate(Window window, long now) {
+        double overlap = 1.0 - (double) (now - window.start) / windowNanos;
+        return window.previous * overlap + window.current;
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+}
@@ -17,15 +17,23 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtUtil {
 
+    // "iat" solo tiene precisión de segundos; para comparar con una revocación hecha en el mismo
+    // segundo guardamos además el instante de emisión en milisegundos
+    private static final String ISSUED_AT_MILLIS = "iatMs";
+
     private final JwtProperties jwtProperties;
 
     // -------------------------------------------------------------------------
     // Generación
     // -------------------------------------------------------------------------
 
+    /**
+     * Access token definitivo. La especialidad viaja como claim para que las comprobaciones de acceso
+     * (p. ej. la agenda) no tengan que cargar el empleado; se omite si el empleado no tiene ninguna.
+     */
     public String generateAccessToken(String userId, String employeeId,
                                       String clinicId, String email,
-                                      UserRole role) {
+                                      UserRole role, String speciality) {
         long nowMillis = System.currentTimeMillis();
 
         return Jwts.builder()
@@ -34,7 +42,9 @@ public class JwtUtil {
                 .claim("clinicId",   clinicId)
                 .claim("email",      email)
                 .claim("role",       role.name())
+                .claim("speciality", speciality)
                 .claim("scope",      "FULL_ACCESS")
+                .claim(ISSUED_AT_MILLIS, nowMillis)
                 .issuedAt(new Date(nowMillis))
                 .expiration(new Date(nowMillis + jwtProperties.getAccessTokenExpiry() * 1000))
                 .signWith(getSigningKey())
@@ -54,6 +64,7 @@ public class JwtUtil {
                 .claim("email", email)
                 .claim("role", role)
                 .claim("scope",    "ONBOARDING_ONLY")
+                .claim(ISSUED_AT_MILLIS, nowMillis)
                 .issuedAt(new Date(nowMillis))
                 .expiration(new Date(nowMillis + 3600 * 1000)) // 1 hora
                 .signWith(getSigningKey())
@@ -98,6 +109,15 @@ public class JwtUtil {
         return parseToken(token).get("scope", String.class);
     }
 
+    /** Instante de emisión en milisegundos; para tokens sin {@code iatMs} se usa {@code iat}. */
+    public long extractIssuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+    }
+
     public boolean isTokenValid(String token) {
         try {
             parseToken(token);
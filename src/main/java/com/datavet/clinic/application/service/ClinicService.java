@@ -49,8 +49,9 @@ public class ClinicService implements ClinicUseCase, ApplicationService {
                 command.getSchedule()
         );
 
+        Clinic saved = clinicRepositoryPort.save(clinic);
         publishDomainEvents(clinic);
-        return clinicRepositoryPort.save(clinic);
+        return saved;
     }
 
     @Transactional
@@ -66,8 +67,9 @@ public class ClinicService implements ClinicUseCase, ApplicationService {
                 command.getPhone()
         );
 
+        Clinic saved = clinicRepositoryPort.save(clinic);
         publishDomainEvents(clinic);
-        return clinicRepositoryPort.save(clinic);
+        return saved;
     }
 
     @Transactional
@@ -89,8 +91,9 @@ public class ClinicService implements ClinicUseCase, ApplicationService {
                 command.getSchedule()
         );
 
+        Clinic saved = clinicRepositoryPort.save(clinic);
         publishDomainEvents(clinic);
-        return clinicRepositoryPort.save(clinic);
+        return saved;
     }
 
     @Transactional
@@ -119,8 +122,9 @@ public class ClinicService implements ClinicUseCase, ApplicationService {
                 command.getSchedule()
         );
 
+        Clinic saved = clinicRepositoryPort.save(existing);
         publishDomainEvents(existing);
-        return clinicRepositoryPort.save(existing);
+        return saved;
     }
 
     @Transactional
@@ -128,8 +132,8 @@ public class ClinicService implements ClinicUseCase, ApplicationService {
     public void deactivateClinic(String id, String reason) {
         Clinic clinic = getClinicById(id);
         clinic.deactivate(reason);
-        publishDomainEvents(clinic);
         clinicRepositoryPort.save(clinic);
+        publishDomainEvents(clinic);
     }
 
     @Override
@@ -1,86 +1,48 @@
 package com.datavet.clinic.infrastructure.adapter.output;
 
 import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import com.datavet.clinic.domain.event.ClinicCreatedEvent;
+import com.datavet.clinic.domain.event.ClinicDeactivatedEvent;
+import com.datavet.clinic.domain.event.ClinicPendingCreatedEvent;
+import com.datavet.clinic.domain.event.ClinicUpdatedEvent;
 import com.datavet.clinic.domain.model.Clinic;
-import com.datavet.clinic.domain.valueobject.ClinicSchedule;
+import com.datavet.clinic.infrastructure.persistence.mapper.ClinicDocumentMapper;
 import com.datavet.clinic.infrastructure.persistence.document.ClinicDocument;
 import com.datavet.clinic.infrastructure.persistence.repository.MongoClinicRepositoryAdapter;
-import com.datavet.shared.domain.valueobject.Email;
+import com.datavet.shared.infrastructure.cache.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class ClinicRepositoryAdapter implements ClinicRepositoryPort {
 
-    private final MongoClinicRepositoryAdapter repository;
-
-    private ClinicDocument toDocument(Clinic clinic) {
-        return ClinicDocument.builder()
-                .id(clinic.getClinicId())
-                .name(clinic.getClinicName())
-                .legalName(clinic.getLegalName())
-                .legalNumber(clinic.getLegalNumber())
-                .legalType(clinic.getLegalType())
-                .address(clinic.getAddress())
-                .phone(clinic.getPhone())
-                .email(clinic.getEmail().toString())
-                .logoUrl(clinic.getLogoUrl())
-                .scheduleOpenDays(clinic.getSchedule()  != null ? clinic.getSchedule().getOpenDays()   : null)
-                .scheduleOpenTime(clinic.getSchedule()  != null ? clinic.getSchedule().getOpenTime()   : null)
-                .scheduleCloseTime(clinic.getSchedule() != null ? clinic.getSchedule().getCloseTime()  : null)
-                .scheduleNotes(clinic.getSchedule()     != null ? clinic.getSchedule().getNotes()      : null)
-                .status(clinic.getStatus())
-                .createdAt(clinic.getCreatedAt())
-                .updatedAt(clinic.getUpdatedAt())
-                .build();
-    }
+    // Documentos y no agregados: cada lectura construye un Clinic nuevo
+    static final String CLINICS_CACHE = "clinics";
 
-    private Clinic toDomain(ClinicDocument doc) {
-        // Reconstruimos el value object solo si hay datos de schedule
-        ClinicSchedule schedule = null;
-        if (doc.getScheduleOpenDays() != null) {
-            schedule = ClinicSchedule.of(
-                    doc.getScheduleOpenDays(),
-                    doc.getScheduleOpenTime(),
-                    doc.getScheduleCloseTime(),
-                    doc.getScheduleNotes()
-            );
-        }
-
-        return Clinic.reconstitute(
-                doc.getId(),
-                doc.getName(),
-                doc.getLegalName(),
-                doc.getLegalNumber(),
-                doc.getLegalType(),
-                doc.getAddress(),
-                doc.getPhone(),
-                new Email(doc.getEmail()),
-                doc.getLogoUrl(),
-                schedule,
-                doc.getStatus(),
-                doc.getCreatedAt(),
-                doc.getUpdatedAt()
-        );
-    }
+    private final MongoClinicRepositoryAdapter repository;
+    private final ReferenceDataCache           cache;
 
     @Override
     public Clinic save(Clinic clinic) {
-        return toDomain(repository.save(toDocument(clinic)));
+        return ClinicDocumentMapper.toDomain(repository.save(ClinicDocumentMapper.toDocument(clinic)));
     }
 
     @Override
     public Optional<Clinic> findById(String id) {
-        return repository.findById(id).map(this::toDomain);
+        ClinicDocument document = cache.get(CLINICS_CACHE, id, key -> repository.findById(key).orElse(null));
+        return Optional.ofNullable(document).map(ClinicDocumentMapper::toDomain);
     }
 
     @Override
     public List<Clinic> findAll() {
-        return repository.findAll().stream().map(this::toDomain).toList();
+        return repository.findAll().stream().map(ClinicDocumentMapper::toDomain).toList();
     }
 
     @Override
@@ -112,4 +74,28 @@ public class ClinicRepositoryAdapter implements ClinicRepositoryPort {
     public boolean existsByLegalNumberAndIdNot(String legalNumber, String id) {
         return repository.existsByLegalNumberAndIdNot(legalNumber, id);
     }
-}
\ No newline at end of file
+
+    // -------------------------------------------------------------------------
+    // Invalidación de caché
+    // -------------------------------------------------------------------------
+
+    @EventListener
+    public void on(ClinicCreatedEvent event) {
+        cache.invalidate(CLINICS_CACHE, event.getClinicId());
+    }
+
+    @EventListener
+    public void on(ClinicPendingCreatedEvent event) {
+        cache.invalidate(CLINICS_CACHE, event.getClinicId());
+    }
+
+    @EventListener
+    public void on(ClinicUpdatedEvent event) {
+        cache.invalidate(CLINICS_CACHE, event.getClinicId());
+    }
+
+    @EventListener
+    public void on(ClinicDeactivatedEvent event) {
+        cache.invalidate(CLINICS_CACHE, event.getClinicId());
+    }
+}
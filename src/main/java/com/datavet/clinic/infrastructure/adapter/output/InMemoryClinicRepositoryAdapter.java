@@ -0,0 +1,73 @@
+package com.datavet.clinic.infrastructure.adapter.output;
+
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import com.datavet.clinic.domain.model.Clinic;
+import com.datavet.clinic.infrastructure.persistence.document.ClinicDocument;
+import com.datavet.clinic.infrastructure.persistence.mapper.ClinicDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación en memoria de {@link ClinicRepositoryPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link ClinicDocument}, incluidos los únicos.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryClinicRepositoryAdapter implements ClinicRepositoryPort {
+
+    private final InMemoryCollection<ClinicDocument> collection =
+            InMemoryCollection.<ClinicDocument>builder("clinic", ClinicDocument::getId)
+                    .uniqueIndex("email_idx",              ClinicDocument::getEmail)
+                    .uniqueSparseIndex("legal_number_idx", ClinicDocument::getLegalNumber)
+                    .index("status_idx",                   ClinicDocument::getStatus)
+                    .build();
+
+    @Override
+    public Clinic save(Clinic clinic) {
+        return ClinicDocumentMapper.toDomain(collection.save(ClinicDocumentMapper.toDocument(clinic)));
+    }
+
+    @Override
+    public Optional<Clinic> findById(String id) {
+        return collection.findById(id).map(ClinicDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<Clinic> findAll() {
+        return collection.findAll().stream().map(ClinicDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        collection.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return collection.existsBy("email_idx", email);
+    }
+
+    @Override
+    public boolean existsByLegalNumber(String legalNumber) {
+        return collection.existsBy("legal_number_idx", legalNumber);
+    }
+
+    @Override
+    public boolean existsByEmailAndIdNot(String email, String id) {
+        return collection.existsByAndIdNot("email_idx", email, id);
+    }
+
+    @Override
+    public boolean existsByLegalNumberAndIdNot(String legalNumber, String id) {
+        return collection.existsByAndIdNot("legal_number_idx", legalNumber, id);
+    }
+}
@@ -0,0 +1,65 @@
+package com.datavet.clinic.infrastructure.persistence.mapper;
+
+import com.datavet.clinic.domain.model.Clinic;
+import com.datavet.clinic.domain.valueobject.ClinicSchedule;
+import com.datavet.clinic.infrastructure.persistence.document.ClinicDocument;
+import com.datavet.shared.domain.valueobject.Email;
+
+/**
+ * Mapeo Clinic ↔ ClinicDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class ClinicDocumentMapper {
+
+    private ClinicDocumentMapper() {}
+
+    public static ClinicDocument toDocument(Clinic clinic) {
+        return ClinicDocument.builder()
+                .id(clinic.getClinicId())
+                .name(clinic.getClinicName())
+                .legalName(clinic.getLegalName())
+                .legalNumber(clinic.getLegalNumber())
+                .legalType(clinic.getLegalType())
+                .address(clinic.getAddress())
+                .phone(clinic.getPhone())
+                .email(clinic.getEmail().toString())
+                .logoUrl(clinic.getLogoUrl())
+                .scheduleOpenDays(clinic.getSchedule()  != null ? clinic.getSchedule().getOpenDays()   : null)
+                .scheduleOpenTime(clinic.getSchedule()  != null ? clinic.getSchedule().getOpenTime()   : null)
+                .scheduleCloseTime(clinic.getSchedule() != null ? clinic.getSchedule().getCloseTime()  : null)
+                .scheduleNotes(clinic.getSchedule()     != null ? clinic.getSchedule().getNotes()      : null)
+                .status(clinic.getStatus())
+                .createdAt(clinic.getCreatedAt())
+                .updatedAt(clinic.getUpdatedAt())
+                .build();
+    }
+
+    public static Clinic toDomain(ClinicDocument doc) {
+        // Reconstruimos el value object solo si hay datos de schedule
+        ClinicSchedule schedule = null;
+        if (doc.getScheduleOpenDays() != null) {
+            schedule = ClinicSchedule.of(
+                    doc.getScheduleOpenDays(),
+                    doc.getScheduleOpenTime(),
+                    doc.getScheduleCloseTime(),
+                    doc.getScheduleNotes()
+            );
+        }
+
+        return Clinic.reconstitute(
+                doc.getId(),
+                doc.getName(),
+                doc.getLegalName(),
+                doc.getLegalNumber(),
+                doc.getLegalType(),
+                doc.getAddress(),
+                doc.getPhone(),
+                new Email(doc.getEmail()),
+                doc.getLogoUrl(),
+                schedule,
+                doc.getStatus(),
+                doc.getCreatedAt(),
+                doc.getUpdatedAt()
+        );
+    }
+}
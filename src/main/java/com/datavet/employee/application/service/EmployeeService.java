@@ -65,8 +65,9 @@ public class EmployeeService implements EmployeeUseCase, ApplicationService {
         );
         employee.assignUserId(userId);
 
+        Employee saved = employeeRepositoryPort.save(employee);
         publishDomainEvents(employee);
-        return employeeRepositoryPort.save(employee);
+        return saved;
     }
 
     @Override
@@ -92,8 +93,9 @@ public class EmployeeService implements EmployeeUseCase, ApplicationService {
                 command.getRole()
         );
 
+        Employee saved = employeeRepositoryPort.save(employee);
         publishDomainEvents(employee);
-        return employeeRepositoryPort.save(employee);
+        return saved;
     }
 
     @Override
@@ -104,8 +106,8 @@ public class EmployeeService implements EmployeeUseCase, ApplicationService {
         // El dominio valida que no esté ya inactivo
         employee.deactivate(command.getReason());
 
-        publishDomainEvents(employee);
         employeeRepositoryPort.save(employee);
+        publishDomainEvents(employee);
     }
 
     @Override
@@ -124,8 +126,9 @@ public class EmployeeService implements EmployeeUseCase, ApplicationService {
         // El dominio valida que el empleado esté activo
         employee.updateSalary(salary);
 
+        Employee saved = employeeRepositoryPort.save(employee);
         publishDomainEvents(employee);
-        return employeeRepositoryPort.save(employee);
+        return saved;
     }
 
     @Override
@@ -140,8 +143,9 @@ public class EmployeeService implements EmployeeUseCase, ApplicationService {
 
         employee.updateVacationPolicy(vacationPolicy);
 
+        Employee saved = employeeRepositoryPort.save(employee);
         publishDomainEvents(employee);
-        return employeeRepositoryPort.save(employee);
+        return saved;
     }
 
     @Override
@@ -159,8 +163,9 @@ public class EmployeeService implements EmployeeUseCase, ApplicationService {
 
         employee.updateWorkSchedule(workSchedule);
 
+        Employee saved = employeeRepositoryPort.save(employee);
         publishDomainEvents(employee);
-        return employeeRepositoryPort.save(employee);
+        return saved;
     }
 
     @Override
@@ -13,14 +13,15 @@ import java.time.LocalDateTime;
 public class EmployeeDeactivatedEvent implements DomainEvent {
 
     private String        employeeId;
+    private String        clinicId;
     private String        firstName;
     private String        lastName;
     private String        reason;
     private LocalDateTime occurredOn;
 
-    public static EmployeeDeactivatedEvent of(String employeeId, String firstName,
+    public static EmployeeDeactivatedEvent of(String employeeId, String clinicId, String firstName,
                                               String lastName, String reason) {
-        return new EmployeeDeactivatedEvent(employeeId, firstName, lastName,
+        return new EmployeeDeactivatedEvent(employeeId, clinicId, firstName, lastName,
                 reason, LocalDateTime.now());
     }
 
@@ -32,7 +33,7 @@ public class EmployeeDeactivatedEvent implements DomainEvent {
     @Override
     public String toString() {
         return String.format(
-                "EmployeeDeactivatedEvent{employeeId='%s', firstName='%s', lastName='%s', reason='%s', occurredOn=%s}",
-                employeeId, firstName, lastName, reason, occurredOn);
+                "EmployeeDeactivatedEvent{employeeId='%s', clinicId='%s', firstName='%s', lastName='%s', reason='%s', occurredOn=%s}",
+                employeeId, clinicId, firstName, lastName, reason, occurredOn);
     }
 }
@@ -13,13 +13,24 @@ import java.time.LocalDateTime;
 public class EmployeeUpdatedEvent implements DomainEvent {
 
     private String        employeeId;
+    private String        userId;
+    private String        clinicId;
     private String        firstName;
     private String        lastName;
+    // La especialidad viaja en el access token del empleado: si cambia, hay que reemitirlo
+    private boolean       specialityChanged;
     private LocalDateTime occurredOn;
 
-    public static EmployeeUpdatedEvent of(String employeeId,
+    public static EmployeeUpdatedEvent of(String employeeId, String clinicId,
                                           String firstName, String lastName) {
-        return new EmployeeUpdatedEvent(employeeId, firstName, lastName, LocalDateTime.now());
+        return of(employeeId, null, clinicId, firstName, lastName, false);
+    }
+
+    public static EmployeeUpdatedEvent of(String employeeId, String userId, String clinicId,
+                                          String firstName, String lastName,
+                                          boolean specialityChanged) {
+        return new EmployeeUpdatedEvent(employeeId, userId, clinicId, firstName, lastName,
+                specialityChanged, LocalDateTime.now());
     }
 
     @Override
@@ -30,7 +41,7 @@ public class EmployeeUpdatedEvent implements DomainEvent {
     @Override
     public String toString() {
         return String.format(
-                "EmployeeUpdatedEvent{employeeId='%s', firstName='%s', lastName='%s', occurredOn=%s}",
-                employeeId, firstName, lastName, occurredOn);
+                "EmployeeUpdatedEvent{employeeId='%s', clinicId='%s', firstName='%s', lastName='%s', specialityChanged=%s, occurredOn=%s}",
+                employeeId, clinicId, firstName, lastName, specialityChanged, occurredOn);
     }
-}
\ No newline at end of file
+}
@@ -20,6 +20,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
@@ -193,6 +194,8 @@ public class Employee extends AggregateRoot<String> implements Document<String>
     public void update(String firstName, String lastName, DocumentId documentNumber,
                        Phone phone, Address address, String avatarUrl,
                        String speciality, String licenseNumber, String role) {
+        String previousSpeciality = this.speciality;
+
         this.firstName      = firstName;
         this.lastName       = lastName;
         this.documentNumber = documentNumber;
@@ -204,7 +207,8 @@ public class Employee extends AggregateRoot<String> implements Document<String>
         this.updatedAt      = LocalDateTime.now();
 
         this.validate(role);
-        addDomainEvent(EmployeeUpdatedEvent.of(this.id, this.firstName, this.lastName));
+        addDomainEvent(EmployeeUpdatedEvent.of(this.id, this.userId, this.clinicId, this.firstName, this.lastName,
+                !Objects.equals(previousSpeciality, speciality)));
     }
 
     public void updateSalary(Salary salary) {
@@ -214,7 +218,7 @@ public class Employee extends AggregateRoot<String> implements Document<String>
         }
         this.salary    = salary;
         this.updatedAt = LocalDateTime.now();
-        addDomainEvent(EmployeeUpdatedEvent.of(this.id, this.firstName, this.lastName));
+        addDomainEvent(EmployeeUpdatedEvent.of(this.id, this.clinicId, this.firstName, this.lastName));
     }
 
     public void updateVacationPolicy(VacationPolicy vacationPolicy) {
@@ -224,7 +228,7 @@ public class Employee extends AggregateRoot<String> implements Document<String>
         }
         this.vacationPolicy = vacationPolicy;
         this.updatedAt      = LocalDateTime.now();
-        addDomainEvent(EmployeeUpdatedEvent.of(this.id, this.firstName, this.lastName));
+        addDomainEvent(EmployeeUpdatedEvent.of(this.id, this.clinicId, this.firstName, this.lastName));
     }
 
     public void updateWorkSchedule(WorkSchedule workSchedule) {
@@ -234,7 +238,7 @@ public class Employee extends AggregateRoot<String> implements Document<String>
         }
         this.workSchedule = workSchedule;
         this.updatedAt    = LocalDateTime.now();
-        addDomainEvent(EmployeeUpdatedEvent.of(this.id, this.firstName, this.lastName));
+        addDomainEvent(EmployeeUpdatedEvent.of(this.id, this.clinicId, this.firstName, this.lastName));
     }
 
     public void deactivate(String reason) {
@@ -244,7 +248,7 @@ public class Employee extends AggregateRoot<String> implements Document<String>
         }
         this.active    = false;
         this.updatedAt = LocalDateTime.now();
-        addDomainEvent(EmployeeDeactivatedEvent.of(this.id, this.firstName, this.lastName, reason));
+        addDomainEvent(EmployeeDeactivatedEvent.of(this.id, this.clinicId, this.firstName, this.lastName, reason));
     }
 
     public String getFullName() {
@@ -1,125 +1,32 @@
 package com.datavet.employee.infrastructure.adapter.output;
 
 import com.datavet.employee.application.port.out.EmployeeRepositoryPort;
+import com.datavet.employee.domain.event.EmployeeCreatedEvent;
+import com.datavet.employee.domain.event.EmployeeDeactivatedEvent;
+import com.datavet.employee.domain.event.EmployeeUpdatedEvent;
 import com.datavet.employee.domain.model.Employee;
-import com.datavet.employee.domain.valueobject.Salary;
-import com.datavet.employee.domain.valueobject.VacationPolicy;
-import com.datavet.employee.domain.valueobject.WorkSchedule;
 import com.datavet.employee.infrastructure.persistence.document.EmployeeDocument;
+import com.datavet.employee.infrastructure.persistence.mapper.EmployeeDocumentMapper;
 import com.datavet.employee.infrastructure.persistence.repository.MongoEmployeeRepository;
+import com.datavet.shared.infrastructure.cache.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class EmployeeRepositoryAdapter implements EmployeeRepositoryPort {
 
-    private final MongoEmployeeRepository repository;
+    // Plantilla activa por clínica, clave clinicId
+    static final String ACTIVE_EMPLOYEES_CACHE = "employees-by-clinic";
 
-    // -------------------------------------------------------------------------
-    // Mappers internos
-    // -------------------------------------------------------------------------
-
-    private EmployeeDocument toDocument(Employee employee) {
-        return EmployeeDocument.builder()
-                .id(employee.getId())
-                .userId(employee.getUserId())
-                .clinicId(employee.getClinicId())
-                .firstName(employee.getFirstName())
-                .lastName(employee.getLastName())
-                .documentNumber(employee.getDocumentNumber())
-                .phone(employee.getPhone())
-                .address(employee.getAddress())
-                .avatarUrl(employee.getAvatarUrl())
-                .speciality(employee.getSpeciality())
-                .licenseNumber(employee.getLicenseNumber())
-                .hireDate(employee.getHireDate())
-                // Salary aplanado
-                .salaryAmount(employee.getSalary() != null
-                        ? employee.getSalary().getAmount() : null)
-                .salaryCurrency(employee.getSalary() != null
-                        ? employee.getSalary().getCurrency() : null)
-                .salaryPaymentsPerYear(employee.getSalary() != null
-                        ? employee.getSalary().getPaymentsPerYear() : null)
-                .salaryEffectiveFrom(employee.getSalary() != null
-                        ? employee.getSalary().getEffectiveFrom() : null)
-                // VacationPolicy aplanado
-                .vacationAnnualDays(employee.getVacationPolicy() != null
-                        ? employee.getVacationPolicy().getAnnualDays() : null)
-                .vacationEffectiveFrom(employee.getVacationPolicy() != null
-                        ? employee.getVacationPolicy().getEffectiveFrom() : null)
-                // WorkSchedule aplanado
-                .scheduleWeeklyHours(employee.getWorkSchedule() != null
-                        ? employee.getWorkSchedule().getWeeklyHours() : null)
-                .scheduleWorkDays(employee.getWorkSchedule() != null
-                        ? employee.getWorkSchedule().getWorkDays() : null)
-                .scheduleEntryTime(employee.getWorkSchedule() != null
-                        ? employee.getWorkSchedule().getEntryTime() : null)
-                .scheduleExitTime(employee.getWorkSchedule() != null
-                        ? employee.getWorkSchedule().getExitTime() : null)
-                .scheduleNotes(employee.getWorkSchedule() != null
-                        ? employee.getWorkSchedule().getNotes() : null)
-                .active(employee.isActive())
-                .build();
-    }
-
-    private Employee toDomain(EmployeeDocument doc) {
-        // Reconstruimos Salary solo si hay datos
-        Salary salary = null;
-        if (doc.getSalaryAmount() != null) {
-            salary = Salary.of(
-                    doc.getSalaryAmount(),
-                    doc.getSalaryCurrency(),
-                    doc.getSalaryPaymentsPerYear(),
-                    doc.getSalaryEffectiveFrom()
-            );
-        }
-
-        // Reconstruimos VacationPolicy solo si hay datos
-        VacationPolicy vacationPolicy = null;
-        if (doc.getVacationAnnualDays() != null) {
-            vacationPolicy = VacationPolicy.of(
-                    doc.getVacationAnnualDays(),
-                    doc.getVacationEffectiveFrom()
-            );
-        }
-
-        // Reconstruimos WorkSchedule solo si hay datos
-        WorkSchedule workSchedule = null;
-        if (doc.getScheduleWeeklyHours() != null) {
-            workSchedule = WorkSchedule.of(
-                    doc.getScheduleWeeklyHours(),
-                    doc.getScheduleWorkDays(),
-                    doc.getScheduleEntryTime(),
-                    doc.getScheduleExitTime(),
-                    doc.getScheduleNotes()
-            );
-        }
-
-        return Employee.reconstitute(
-                doc.getId(),
-                doc.getUserId(),
-                doc.getClinicId(),
-                doc.getFirstName(),
-                doc.getLastName(),
-                doc.getDocumentNumber(),
-                doc.getPhone(),
-                doc.getAddress(),
-                doc.getAvatarUrl(),
-                doc.getSpeciality(),
-                doc.getLicenseNumber(),
-                doc.getHireDate(),
-                salary,
-                vacationPolicy,
-                workSchedule,
-                doc.isActive(),
-                doc.getCreatedAt(),
-                doc.getUpdatedAt()
-        );
-    }
+    private final MongoEmployeeRepository repository;
+    private final ReferenceDataCache      cache;
 
     // -------------------------------------------------------------------------
     // Repository base
@@ -127,17 +34,17 @@ public class EmployeeRepositoryAdapter implements EmployeeRepositoryPort {
 
     @Override
     public Employee save(Employee employee) {
-        return toDomain(repository.save(toDocument(employee)));
+        return EmployeeDocumentMapper.toDomain(repository.save(EmployeeDocumentMapper.toDocument(employee)));
     }
 
     @Override
     public Optional<Employee> findById(String id) {
-        return repository.findById(id).map(this::toDomain);
+        return repository.findById(id).map(EmployeeDocumentMapper::toDomain);
     }
 
     @Override
     public List<Employee> findAll() {
-        return repository.findAll().stream().map(this::toDomain).toList();
+        return repository.findAll().stream().map(EmployeeDocumentMapper::toDomain).toList();
     }
 
     @Override
@@ -159,18 +66,19 @@ public class EmployeeRepositoryAdapter implements EmployeeRepositoryPort {
     @Override
     public List<Employee> findByClinicId(String clinicId) {
         return repository.findByClinicId(clinicId).stream()
-                .map(this::toDomain).toList();
+                .map(EmployeeDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<Employee> findByClinicIdAndActiveTrue(String clinicId) {
-        return repository.findByClinicIdAndActiveTrue(clinicId).stream()
-                .map(this::toDomain).toList();
+        List<EmployeeDocument> documents = cache.get(ACTIVE_EMPLOYEES_CACHE, clinicId,
+                repository::findByClinicIdAndActiveTrue);
+        return documents.stream().map(EmployeeDocumentMapper::toDomain).toList();
     }
 
     @Override
     public Optional<Employee> findByUserId(String userId) {
-        return repository.findByUserId(userId).map(this::toDomain);
+        return repository.findByUserId(userId).map(EmployeeDocumentMapper::toDomain);
     }
 
     @Override
@@ -185,4 +93,23 @@ public class EmployeeRepositoryAdapter implements EmployeeRepositoryPort {
         return repository.existsByDocumentNumberAndClinicIdAndIdNot(
                 documentNumber, clinicId, employeeId);
     }
-}
\ No newline at end of file
+
+    // -------------------------------------------------------------------------
+    // Invalidación de caché
+    // -------------------------------------------------------------------------
+
+    @EventListener
+    public void on(EmployeeCreatedEvent event) {
+        cache.invalidate(ACTIVE_EMPLOYEES_CACHE, event.getClinicId());
+    }
+
+    @EventListener
+    public void on(EmployeeUpdatedEvent event) {
+        cache.invalidate(ACTIVE_EMPLOYEES_CACHE, event.getClinicId());
+    }
+
+    @EventListener
+    public void on(EmployeeDeactivatedEvent event) {
+        cache.invalidate(ACTIVE_EMPLOYEES_CACHE, event.getClinicId());
+    }
+}
@@ -0,0 +1,99 @@
+package com.datavet.employee.infrastructure.adapter.output;
+
+import com.datavet.employee.application.port.out.EmployeeRepositoryPort;
+import com.datavet.employee.domain.model.Employee;
+import com.datavet.employee.infrastructure.persistence.document.EmployeeDocument;
+import com.datavet.employee.infrastructure.persistence.mapper.EmployeeDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection.key;
+
+/**
+ * Implementación en memoria de {@link EmployeeRepositoryPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link EmployeeDocument}, incluidos los únicos.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryEmployeeRepositoryAdapter implements EmployeeRepositoryPort {
+
+    private final InMemoryCollection<EmployeeDocument> collection =
+            InMemoryCollection.<EmployeeDocument>builder("employees", EmployeeDocument::getId)
+                    .uniqueIndex("document_number_clinic_idx", d -> key(documentNumberOf(d), d.getClinicId()))
+                    .uniqueIndex("user_id_idx",                EmployeeDocument::getUserId)
+                    .index("clinic_active_idx",                d -> key(d.getClinicId(), d.isActive()))
+                    .index("clinic_idx",                       EmployeeDocument::getClinicId)
+                    .build();
+
+    // -------------------------------------------------------------------------
+    // Repository base
+    // -------------------------------------------------------------------------
+
+    @Override
+    public Employee save(Employee employee) {
+        return EmployeeDocumentMapper.toDomain(collection.save(EmployeeDocumentMapper.toDocument(employee)));
+    }
+
+    @Override
+    public Optional<Employee> findById(String id) {
+        return collection.findById(id).map(EmployeeDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        return collection.findAll().stream().map(EmployeeDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        throw new UnsupportedOperationException(
+                "Employee no soporta hard delete. Usa deactivateEmployee()");
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.existsById(id);
+    }
+
+    // -------------------------------------------------------------------------
+    // Domain-specific
+    // -------------------------------------------------------------------------
+
+    @Override
+    public List<Employee> findByClinicId(String clinicId) {
+        return collection.findBy("clinic_idx", clinicId).stream()
+                .map(EmployeeDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Employee> findByClinicIdAndActiveTrue(String clinicId) {
+        return collection.findBy("clinic_active_idx", key(clinicId, true)).stream()
+                .map(EmployeeDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public Optional<Employee> findByUserId(String userId) {
+        return collection.findOneBy("user_id_idx", userId).map(EmployeeDocumentMapper::toDomain);
+    }
+
+    @Override
+    public boolean existsByDocumentNumberAndClinicId(String documentNumber, String clinicId) {
+        return collection.existsBy("document_number_clinic_idx", key(documentNumber, clinicId));
+    }
+
+    @Override
+    public boolean existsByDocumentNumberAndClinicIdAndIdNot(String documentNumber,
+                                                             String clinicId,
+                                                             String employeeId) {
+        return collection.existsByAndIdNot("document_number_clinic_idx",
+                key(documentNumber, clinicId), employeeId);
+    }
+
+    private static String documentNumberOf(EmployeeDocument doc) {
+        return doc.getDocumentNumber() != null ? doc.getDocumentNumber().getDocumentNumber() : null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.datavet.employee.infrastructure.cache;
+
+import com.datavet.employee.application.port.in.EmployeeUseCase;
+import com.datavet.employee.domain.event.EmployeeDeactivatedEvent;
+import com.datavet.employee.domain.event.EmployeeUpdatedEvent;
+import com.datavet.employee.domain.model.Employee;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Caché con TTL de los atributos de un empleado que usan las comprobaciones de autorización
+ * (clínica, especialidad, activo), para no cargar el empleado completo en cada petición.
+ *
+ * El acceso a la agenda la consulta en cada petición para rechazar empleados dados de baja o de otra
+ * clínica, y toma de aquí la especialidad cuando el access token no trae el claim {@code speciality}.
+ * Las entradas se invalidan con {@link EmployeeUpdatedEvent} y {@link EmployeeDeactivatedEvent};
+ * como esos eventos son locales, en otras instancias el TTL acota cuánto puede durar un dato obsoleto.
+ * Expone las métricas estándar de caché con el nombre {@code employee-authorization}.
+ */
+@Component
+public class EmployeeAuthorizationCache {
+
+    public record EmployeeAuthorization(String employeeId, String clinicId, String speciality, boolean active) {
+
+        static EmployeeAuthorization of(Employee employee) {
+            return new EmployeeAuthorization(employee.getId(), employee.getClinicId(),
+                    employee.getSpeciality(), employee.isActive());
+        }
+    }
+
+    private final EmployeeUseCase                      employeeUseCase;
+    private final Cache<String, EmployeeAuthorization> cache;
+
+    public EmployeeAuthorizationCache(
+            EmployeeUseCase employeeUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${datavet.cache.employee-authorization.ttl-seconds:60}") long ttlSeconds,
+            @Value("${datavet.cache.employee-authorization.max-size:10000}") long maxSize) {
+        this.employeeUseCase = employeeUseCase;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "employee-authorization");
+    }
+
+    /**
+     * Atributos del empleado, validando que pertenece a la clínica.
+     * Lanza las mismas excepciones que {@link EmployeeUseCase#getEmployeeById}.
+     */
+    public EmployeeAuthorization get(String employeeId, String clinicId) {
+        EmployeeAuthorization authorization = cache.get(employeeId,
+                id -> EmployeeAuthorization.of(employeeUseCase.getEmployeeById(id, clinicId)));
+
+        // La entrada pudo cargarla una petición de otra clínica
+        if (!authorization.clinicId().equals(clinicId)) {
+            throw new AccessDeniedException("El empleado no pertenece a tu clínica");
+        }
+        return authorization;
+    }
+
+    @EventListener
+    public void on(EmployeeUpdatedEvent event) {
+        cache.invalidate(event.getEmployeeId());
+    }
+
+    @EventListener
+    public void on(EmployeeDeactivatedEvent event) {
+        cache.invalidate(event.getEmployeeId());
+    }
+}
@@ -0,0 +1,114 @@
+package com.datavet.employee.infrastructure.persistence.mapper;
+
+import com.datavet.employee.domain.model.Employee;
+import com.datavet.employee.domain.valueobject.Salary;
+import com.datavet.employee.domain.valueobject.VacationPolicy;
+import com.datavet.employee.domain.valueobject.WorkSchedule;
+import com.datavet.employee.infrastructure.persistence.document.EmployeeDocument;
+
+/**
+ * Mapeo Employee ↔ EmployeeDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria). Salary, VacationPolicy y WorkSchedule se guardan aplanados.
+ */
+public class EmployeeDocumentMapper {
+
+    private EmployeeDocumentMapper() {}
+
+    public static EmployeeDocument toDocument(Employee employee) {
+        return EmployeeDocument.builder()
+                .id(employee.getId())
+                .userId(employee.getUserId())
+                .clinicId(employee.getClinicId())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .documentNumber(employee.getDocumentNumber())
+                .phone(employee.getPhone())
+                .address(employee.getAddress())
+                .avatarUrl(employee.getAvatarUrl())
+                .speciality(employee.getSpeciality())
+                .licenseNumber(employee.getLicenseNumber())
+                .hireDate(employee.getHireDate())
+                // Salary aplanado
+                .salaryAmount(employee.getSalary() != null
+                        ? employee.getSalary().getAmount() : null)
+                .salaryCurrency(employee.getSalary() != null
+                        ? employee.getSalary().getCurrency() : null)
+                .salaryPaymentsPerYear(employee.getSalary() != null
+                        ? employee.getSalary().getPaymentsPerYear() : null)
+                .salaryEffectiveFrom(employee.getSalary() != null
+                        ? employee.getSalary().getEffectiveFrom() : null)
+                // VacationPolicy aplanado
+                .vacationAnnualDays(employee.getVacationPolicy() != null
+                        ? employee.getVacationPolicy().getAnnualDays() : null)
+                .vacationEffectiveFrom(employee.getVacationPolicy() != null
+                        ? employee.getVacationPolicy().getEffectiveFrom() : null)
+                // WorkSchedule aplanado
+                .scheduleWeeklyHours(employee.getWorkSchedule() != null
+                        ? employee.getWorkSchedule().getWeeklyHours() : null)
+                .scheduleWorkDays(employee.getWorkSchedule() != null
+                        ? employee.getWorkSchedule().getWorkDays() : null)
+                .scheduleEntryTime(employee.getWorkSchedule() != null
+                        ? employee.getWorkSchedule().getEntryTime() : null)
+                .scheduleExitTime(employee.getWorkSchedule() != null
+                        ? employee.getWorkSchedule().getExitTime() : null)
+                .scheduleNotes(employee.getWorkSchedule() != null
+                        ? employee.getWorkSchedule().getNotes() : null)
+                .active(employee.isActive())
+                .build();
+    }
+
+    public static Employee toDomain(EmployeeDocument doc) {
+        // Reconstruimos Salary solo si hay datos
+        Salary salary = null;
+        if (doc.getSalaryAmount() != null) {
+            salary = Salary.of(
+                    doc.getSalaryAmount(),
+                    doc.getSalaryCurrency(),
+                    doc.getSalaryPaymentsPerYear(),
+                    doc.getSalaryEffectiveFrom()
+            );
+        }
+
+        // Reconstruimos VacationPolicy solo si hay datos
+        VacationPolicy vacationPolicy = null;
+        if (doc.getVacationAnnualDays() != null) {
+            vacationPolicy = VacationPolicy.of(
+                    doc.getVacationAnnualDays(),
+                    doc.getVacationEffectiveFrom()
+            );
+        }
+
+        // Reconstruimos WorkSchedule solo si hay datos
+        WorkSchedule workSchedule = null;
+        if (doc.getScheduleWeeklyHours() != null) {
+            workSchedule = WorkSchedule.of(
+                    doc.getScheduleWeeklyHours(),
+                    doc.getScheduleWorkDays(),
+                    doc.getScheduleEntryTime(),
+                    doc.getScheduleExitTime(),
+                    doc.getScheduleNotes()
+            );
+        }
+
+        return Employee.reconstitute(
+                doc.getId(),
+                doc.getUserId(),
+                doc.getClinicId(),
+                doc.getFirstName(),
+                doc.getLastName(),
+                doc.getDocumentNumber(),
+                doc.getPhone(),
+                doc.getAddress(),
+                doc.getAvatarUrl(),
+                doc.getSpeciality(),
+                doc.getLicenseNumber(),
+                doc.getHireDate(),
+                salary,
+                vacationPolicy,
+                workSchedule,
+                doc.isActive(),
+                doc.getCreatedAt(),
+                doc.getUpdatedAt()
+        );
+    }
+}
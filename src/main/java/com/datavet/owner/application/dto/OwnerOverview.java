@@ -0,0 +1,35 @@
+package com.datavet.owner.application.dto;
+
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.pet.application.dto.ClinicalSummary;
+import com.datavet.pet.domain.model.Pet;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vista completa de un dueño: sus mascotas activas, sus próximas citas y el resumen clínico de cada
+ * mascota. {@code incompleteSections} lista las secciones que no respondieron a tiempo o fallaron y
+ * que se devuelven vacías.
+ */
+@Getter
+@AllArgsConstructor
+public class OwnerOverview {
+
+    public static final String PETS                  = "pets";
+    public static final String UPCOMING_APPOINTMENTS = "upcomingAppointments";
+    public static final String CLINICAL_SUMMARIES    = "clinicalSummaries";
+
+    private Owner                        owner;
+    private List<Pet>                    pets;
+    private List<Appointment>            upcomingAppointments;
+    private Map<String, ClinicalSummary> clinicalSummaries;
+    private List<String>                 incompleteSections;
+
+    public boolean isPartial() {
+        return !incompleteSections.isEmpty();
+    }
+}
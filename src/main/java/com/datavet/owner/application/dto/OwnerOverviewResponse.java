@@ -0,0 +1,23 @@
+package com.datavet.owner.application.dto;
+
+import com.datavet.appointment.application.dto.AppointmentResponse;
+import com.datavet.pet.application.dto.ClinicalSummary;
+import com.datavet.pet.application.dto.PetResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class OwnerOverviewResponse {
+
+    private OwnerResponse                owner;
+    private List<PetResponse>            pets;
+    private List<AppointmentResponse>    upcomingAppointments;
+    // Clave: id de la mascota
+    private Map<String, ClinicalSummary> clinicalSummaries;
+    private boolean                      partial;
+    private List<String>                 incompleteSections;
+}
@@ -1,7 +1,11 @@
 package com.datavet.owner.application.mapper;
 
+import com.datavet.appointment.application.mapper.AppointmentMapper;
+import com.datavet.owner.application.dto.OwnerOverview;
+import com.datavet.owner.application.dto.OwnerOverviewResponse;
 import com.datavet.owner.application.dto.OwnerResponse;
 import com.datavet.owner.domain.model.Owner;
+import com.datavet.pet.application.mapper.PetMapper;
 
 public class OwnerMapper {
 
@@ -22,4 +26,15 @@ public class OwnerMapper {
                 addressDto
         );
     }
+
+    public static OwnerOverviewResponse toOverviewResponse(OwnerOverview overview) {
+        return new OwnerOverviewResponse(
+                toResponse(overview.getOwner()),
+                PetMapper.toResponseList(overview.getPets()),
+                AppointmentMapper.toResponseList(overview.getUpcomingAppointments()),
+                overview.getClinicalSummaries(),
+                overview.isPartial(),
+                overview.getIncompleteSections()
+        );
+    }
 }
@@ -0,0 +1,8 @@
+package com.datavet.owner.application.port.in;
+
+import com.datavet.owner.application.dto.OwnerOverview;
+import com.datavet.shared.application.port.UseCase;
+
+public interface OwnerOverviewUseCase extends UseCase {
+    OwnerOverview getOwnerOverview(String ownerId, String clinicId);
+}
@@ -0,0 +1,131 @@
+package com.datavet.owner.application.service;
+
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.owner.application.dto.OwnerOverview;
+import com.datavet.owner.application.port.in.OwnerOverviewUseCase;
+import com.datavet.owner.application.port.out.OwnerRepositoryPort;
+import com.datavet.owner.domain.exception.OwnerNotFoundException;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.pet.application.dto.ClinicalSummary;
+import com.datavet.pet.application.port.out.MedicalRecordPort;
+import com.datavet.pet.application.port.out.PetRepositoryPort;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.shared.application.service.ApplicationService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Compone la vista de un dueño en una sola petición en lugar de las 5–15 llamadas encadenadas del cliente.
+ *
+ * Tras comprobar el dueño, las consultas independientes (mascotas activas y próximas citas) se lanzan a
+ * la vez en hilos virtuales; en cuanto llegan las mascotas se lanza el resumen clínico de cada una. Todas
+ * comparten un único plazo ({@code timeout-ms}) contado desde el inicio: la sección que no responde a
+ * tiempo se cancela y se devuelve vacía, marcada en {@link OwnerOverview#getIncompleteSections()}.
+ */
+@Slf4j
+@Service
+public class OwnerOverviewService implements OwnerOverviewUseCase, ApplicationService {
+
+    private final OwnerRepositoryPort       ownerRepositoryPort;
+    private final PetRepositoryPort         petRepositoryPort;
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
+    private final MedicalRecordPort         medicalRecordPort;
+    private final long                      timeoutNanos;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("owner-overview-", 0).factory());
+
+    public OwnerOverviewService(
+            OwnerRepositoryPort ownerRepositoryPort,
+            PetRepositoryPort petRepositoryPort,
+            AppointmentRepositoryPort appointmentRepositoryPort,
+            MedicalRecordPort medicalRecordPort,
+            @Value("${datavet.owner.overview.timeout-ms:800}") long timeoutMs) {
+        this.ownerRepositoryPort       = ownerRepositoryPort;
+        this.petRepositoryPort         = petRepositoryPort;
+        this.appointmentRepositoryPort = appointmentRepositoryPort;
+        this.medicalRecordPort         = medicalRecordPort;
+        this.timeoutNanos              = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    }
+
+    @Override
+    public OwnerOverview getOwnerOverview(String ownerId, String clinicId) {
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        Owner owner = ownerRepositoryPort.findById(ownerId)
+                .orElseThrow(() -> new OwnerNotFoundException(ownerId));
+        if (!owner.getClinicId().equals(clinicId)) {
+            throw new AccessDeniedException("El owner no pertenece a tu clínica");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Future<List<Pet>>         petsFuture         = executor.submit(
+                () -> petRepositoryPort.findByOwnerIdAndActiveTrue(ownerId));
+        Future<List<Appointment>> appointmentsFuture = executor.submit(
+                () -> appointmentRepositoryPort.findUpcomingByOwnerId(ownerId, now));
+
+        Set<String> incomplete = new LinkedHashSet<>();
+
+        List<Pet> pets = await(petsFuture, deadline, OwnerOverview.PETS, incomplete, List.<Pet>of()).stream()
+                .filter(pet -> clinicId.equals(pet.getClinicId()))
+                .toList();
+
+        Map<String, Future<ClinicalSummary>> summaryFutures = new LinkedHashMap<>();
+        for (Pet pet : pets) {
+            summaryFutures.put(pet.getId(), executor.submit(() -> medicalRecordPort.summarizeByPetId(pet.getId())));
+        }
+
+        List<Appointment> appointments = await(appointmentsFuture, deadline,
+                OwnerOverview.UPCOMING_APPOINTMENTS, incomplete, List.<Appointment>of()).stream()
+                .filter(appointment -> clinicId.equals(appointment.getClinicId()))
+                .toList();
+
+        Map<String, ClinicalSummary> summaries = new LinkedHashMap<>();
+        summaryFutures.forEach((petId, future) -> {
+            ClinicalSummary summary = await(future, deadline, OwnerOverview.CLINICAL_SUMMARIES, incomplete, null);
+            if (summary != null) {
+                summaries.put(petId, summary);
+            }
+        });
+
+        return new OwnerOverview(owner, pets, appointments, summaries, new ArrayList<>(incomplete));
+    }
+
+    private <T> T await(Future<T> future, long deadline, String section, Set<String> incomplete, T fallback) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Vista de dueño: '{}' no respondió a tiempo", section);
+        } catch (ExecutionException e) {
+            log.warn("Vista de dueño: '{}' falló: {}", section, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        future.cancel(true);
+        incomplete.add(section);
+        return fallback;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
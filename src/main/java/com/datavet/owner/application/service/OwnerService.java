@@ -63,11 +63,11 @@ public class OwnerService implements OwnerUseCase, ApplicationService {
                 command.isAcceptTermsAndCond()
         );
 
-        // Publish domain events BEFORE saving (While ew still have them)
-        publishDomainEvent(owner);
-
         Owner savedOwner = ownerRepositoryPort.save(owner);
 
+        // Publish domain events once the owner is persisted, so listeners read the new state
+        publishDomainEvent(owner);
+
         return savedOwner;
     }
 
@@ -97,10 +97,10 @@ public class OwnerService implements OwnerUseCase, ApplicationService {
                 command.getUrl()
         );
 
-        publishDomainEvent(existing);
-
         Owner savedOwner = ownerRepositoryPort.save(existing);
 
+        publishDomainEvent(existing);
+
         return savedOwner;
     }
 
@@ -113,8 +113,8 @@ public class OwnerService implements OwnerUseCase, ApplicationService {
             throw new AccessDeniedException("El owner no pertenece a tu clínica");
         }
         owner.delete();
-        publishDomainEvent(owner);
         ownerRepositoryPort.deleteById(id);
+        publishDomainEvent(owner);
     }
 
     @Override
@@ -1,10 +1,12 @@
 package com.datavet.owner.infrastructure.adapter.input;
 
 import com.datavet.auth.infrastructure.security.AuthenticatedUser;
+import com.datavet.owner.application.dto.OwnerOverviewResponse;
 import com.datavet.owner.application.dto.OwnerResponse;
 import com.datavet.owner.application.mapper.OwnerMapper;
 import com.datavet.owner.application.port.in.command.CreateOwnerCommand;
 import com.datavet.owner.application.port.in.command.UpdateOwnerCommand;
+import com.datavet.owner.application.port.in.OwnerOverviewUseCase;
 import com.datavet.owner.application.port.in.OwnerUseCase;
 import com.datavet.owner.domain.model.Owner;
 import com.datavet.owner.infrastructure.adapter.input.dto.CreateOwnerRequest;
@@ -27,7 +29,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OwnerController {
 
-    private final OwnerUseCase ownerUseCase;
+    private final OwnerUseCase         ownerUseCase;
+    private final OwnerOverviewUseCase ownerOverviewUseCase;
 
     @PostMapping
     public ResponseEntity<OwnerResponse> create(
@@ -57,6 +60,15 @@ public class OwnerController {
         return ResponseEntity.ok(OwnerMapper.toResponse(owner));
     }
 
+    // Dueño, mascotas activas, próximas citas y resumen clínico en una sola llamada
+    @GetMapping("/{id}/overview")
+    public ResponseEntity<OwnerOverviewResponse> getOwnerOverview(
+            @PathVariable String id,
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(OwnerMapper.toOverviewResponse(
+                ownerOverviewUseCase.getOwnerOverview(id, currentUser.getClinicId())));
+    }
+
     @GetMapping
     public ResponseEntity<List<OwnerResponse>> getAllOwners(
             @AuthenticationPrincipal AuthenticatedUser currentUser) {
@@ -0,0 +1,85 @@
+package com.datavet.owner.infrastructure.adapter.output;
+
+import com.datavet.owner.application.port.out.OwnerRepositoryPort;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.owner.infrastructure.persistence.document.OwnerDocument;
+import com.datavet.owner.infrastructure.persistence.mapper.OwnerDocumentMapper;
+import com.datavet.shared.domain.valueobject.Phone;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación en memoria de {@link OwnerRepositoryPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link OwnerDocument}, incluidos los únicos.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryOwnerRepositoryAdapter implements OwnerRepositoryPort {
+
+    private final InMemoryCollection<OwnerDocument> collection =
+            InMemoryCollection.<OwnerDocument>builder("owners", OwnerDocument::getId)
+                    .uniqueIndex("email_idx",           OwnerDocument::getEmail)
+                    .uniqueIndex("document_number_idx", OwnerDocument::getDocumentNumber)
+                    .uniqueIndex("phone_idx",           OwnerDocument::getPhone)
+                    .index("clinic_idx",                OwnerDocument::getClinicId)
+                    .build();
+
+    @Override
+    public Owner save(Owner owner) {
+        return OwnerDocumentMapper.toDomain(collection.save(OwnerDocumentMapper.toDocument(owner)));
+    }
+
+    @Override
+    public Optional<Owner> findById(String id) {
+        return collection.findById(id).map(OwnerDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<Owner> findAll() {
+        return collection.findAll().stream().map(OwnerDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        collection.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.existsById(id);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return collection.existsBy("email_idx", email);
+    }
+
+    @Override
+    public boolean existsByDocumentNumber(String dni) {
+        return collection.existsBy("document_number_idx", dni);
+    }
+
+    @Override
+    public boolean existsByPhone(Phone phone) {
+        return phone != null && collection.existsBy("phone_idx", phone.getValue());
+    }
+
+    @Override
+    public boolean existsByDniAndOwnerIdNot(String dni, String id) {
+        return collection.existsByAndIdNot("document_number_idx", dni, id);
+    }
+
+    @Override
+    public Optional<Owner> findByEmail(String email) {
+        return collection.findOneBy("email_idx", email).map(OwnerDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<Owner> findByClinicId(String clinicId) {
+        return collection.findBy("clinic_idx", clinicId).stream().map(OwnerDocumentMapper::toDomain).toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.datavet.owner.infrastructure.event;
+
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.owner.application.port.out.OwnerRepositoryPort;
+import com.datavet.owner.domain.event.OwnerUpdatedEvent;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.pet.application.port.out.PetRepositoryPort;
+import com.datavet.pet.domain.model.OwnerInfo;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Propaga los datos del dueño a sus copias desnormalizadas: el {@code owner} embebido en cada mascota y
+ * los campos {@code owner_*} de las citas aún por venir.
+ *
+ * Cada edición cuesta dos actualizaciones en bloque por índice ({@code owner.owner_id} y {@code owner_id})
+ * en lugar de reescribir los documentos uno a uno. Las ediciones de un mismo dueño se agrupan durante
+ * {@code delay-ms} y se aplican en un único hilo, así que una ráfaga de cambios produce una sola pasada.
+ *
+ * La pasada no usa el contenido del evento sino el dueño tal como está guardado en ese momento, de modo
+ * que el orden de los eventos no importa y repetirla no tiene efecto: los adaptadores solo modifican los
+ * documentos cuyo snapshot difiere.
+ */
+@Slf4j
+@Component
+public class OwnerSnapshotSynchronizer {
+
+    private final OwnerRepositoryPort       ownerRepositoryPort;
+    private final PetRepositoryPort         petRepositoryPort;
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
+    private final long                      delayMs;
+
+    private final Set<String>              pending   = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("owner-snapshot-sync").daemon(true).factory());
+
+    public OwnerSnapshotSynchronizer(
+            OwnerRepositoryPort ownerRepositoryPort,
+            PetRepositoryPort petRepositoryPort,
+            AppointmentRepositoryPort appointmentRepositoryPort,
+            @Value("${datavet.owner.snapshot-sync.delay-ms:500}") long delayMs) {
+        this.ownerRepositoryPort       = ownerRepositoryPort;
+        this.petRepositoryPort         = petRepositoryPort;
+        this.appointmentRepositoryPort = appointmentRepositoryPort;
+        this.delayMs                   = delayMs;
+    }
+
+    @EventListener
+    public void on(OwnerUpdatedEvent event) {
+        String ownerId = event.getOwnerId();
+        // Si ya hay una pasada pendiente para este dueño, leerá también este cambio
+        if (pending.add(ownerId)) {
+            scheduler.schedule(() -> synchronize(ownerId), delayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void synchronize(String ownerId) {
+        pending.remove(ownerId);
+        try {
+            ownerRepositoryPort.findById(ownerId).ifPresent(this::propagate);
+        } catch (RuntimeException e) {
+            // La siguiente edición del dueño vuelve a aplicar el snapshot completo
+            log.error("No se pudo propagar el snapshot del dueño {}: {}", ownerId, e.getMessage(), e);
+        }
+    }
+
+    private void propagate(Owner owner) {
+        String ownerPhone = owner.getPhone().getValue();
+        String ownerEmail = owner.getEmail() != null ? owner.getEmail().getValue() : null;
+
+        long pets = petRepositoryPort.updateOwnerInfo(
+                new OwnerInfo(owner.getOwnerId(), owner.getName(), owner.getLastName(), owner.getPhone()));
+        long appointments = appointmentRepositoryPort.updateOwnerContact(
+                owner.getOwnerId(),
+                owner.getName() + " " + owner.getLastName(),
+                ownerEmail,
+                ownerPhone,
+                LocalDateTime.now());
+
+        log.debug("Snapshot del dueño {} propagado: {} mascotas y {} citas actualizadas",
+                owner.getOwnerId(), pets, appointments);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // Las pasadas ya programadas se ejecutan antes de cerrar
+        scheduler.shutdown();
+        scheduler.awaitTermination(delayMs + 5_000, TimeUnit.MILLISECONDS);
+    }
+}
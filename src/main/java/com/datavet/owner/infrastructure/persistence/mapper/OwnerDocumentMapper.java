@@ -0,0 +1,58 @@
+package com.datavet.owner.infrastructure.persistence.mapper;
+
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.owner.infrastructure.persistence.document.OwnerDocument;
+import com.datavet.shared.domain.valueobject.Address;
+import com.datavet.shared.domain.valueobject.DocumentId;
+import com.datavet.shared.domain.valueobject.Email;
+import com.datavet.shared.domain.valueobject.Phone;
+
+/**
+ * Mapeo Owner ↔ OwnerDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class OwnerDocumentMapper {
+
+    private OwnerDocumentMapper() {}
+
+    // domain → document
+    public static OwnerDocument toDocument(Owner owner) {
+        return OwnerDocument.builder()
+                .id(owner.getOwnerId())
+                .clinicId(owner.getClinicId())
+                .firstName(owner.getName())
+                .lastName(owner.getLastName())
+                .documentType(owner.getDocumentNumber().getDocumentType())
+                .documentNumber(owner.getDocumentNumber().getDocumentNumber())
+                .phone(owner.getPhone().getValue())
+                .email(owner.getEmail().toString())
+                .address(owner.getAddress().getStreet())
+                .city(owner.getAddress().getCity())
+                .postalCode(owner.getAddress().getPostalCode())
+                .petIds(owner.getPetIds())
+                .avatarUrl(owner.getAvatarUrl())
+                .active(owner.isActive())
+                .acceptTermsAndCond(owner.isAcceptTermsAndCond())
+                .build();
+    }
+
+    // document → domain
+    public static Owner toDomain(OwnerDocument doc) {
+        return Owner.reconstitute(
+                doc.getId(),
+                doc.getClinicId(),
+                doc.getFirstName(),
+                doc.getLastName(),
+                DocumentId.of(doc.getDocumentType(), doc.getDocumentNumber()),
+                new Phone(doc.getPhone()),
+                new Email(doc.getEmail()),
+                new Address(doc.getAddress(), doc.getCity(), doc.getPostalCode()),
+                doc.getPetIds(),
+                doc.getAvatarUrl(),
+                doc.isActive(),
+                doc.isAcceptTermsAndCond(),
+                doc.getCreatedAt(),
+                doc.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.datavet.pet.application.dto;
+
+import com.datavet.pet.domain.valueobject.MedicalRecordType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resumen clínico de una mascota: recuento de registros activos (las versiones corregidas no cuentan)
+ * por tipo y el último registro. Es una proyección calculada en la base de datos, sin cargar los detalles.
+ */
+@Getter
+@AllArgsConstructor
+public class ClinicalSummary {
+
+    private String                         petId;
+    private long                           activeRecords;
+    private Map<MedicalRecordType, Long>   recordsByType;
+    private MedicalRecordType              lastRecordType;
+    private LocalDateTime                  lastRecordAt;
+
+    /** Acumula los recuentos por tipo que devuelven los adaptadores. */
+    public static final class Builder {
+        private final String                       petId;
+        private final Map<MedicalRecordType, Long> recordsByType = new EnumMap<>(MedicalRecordType.class);
+        private long                               activeRecords;
+        private MedicalRecordType                  lastRecordType;
+        private LocalDateTime                      lastRecordAt;
+
+        public Builder(String petId) {
+            this.petId = petId;
+        }
+
+        public Builder add(MedicalRecordType type, long count, LocalDateTime lastAt) {
+            recordsByType.merge(type, count, Long::sum);
+            activeRecords += count;
+            if (lastAt != null && (lastRecordAt == null || lastAt.isAfter(lastRecordAt))) {
+                lastRecordAt   = lastAt;
+                lastRecordType = type;
+            }
+            return this;
+        }
+
+        public ClinicalSummary build() {
+            return new ClinicalSummary(petId, activeRecords, recordsByType, lastRecordType, lastRecordAt);
+        }
+    }
+}
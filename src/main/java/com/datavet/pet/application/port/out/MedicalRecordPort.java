@@ -1,5 +1,6 @@
 package com.datavet.pet.application.port.out;
 
+import com.datavet.pet.application.dto.ClinicalSummary;
 import com.datavet.pet.domain.model.MedicalRecord;
 import com.datavet.pet.domain.valueobject.MedicalRecordLifecycleStatus;
 import com.datavet.pet.domain.valueobject.MedicalRecordType;
@@ -23,4 +24,7 @@ public interface MedicalRecordPort extends Repository<MedicalRecord, String> {
     List<MedicalRecord> findByCorrectedRecordId(String originalRecordId);
 
     boolean existsByPetIdAndStatus(String petId, MedicalRecordLifecycleStatus status);
+
+    // Recuento de registros activos por tipo y último registro, sin cargar los registros
+    ClinicalSummary summarizeByPetId(String petId);
 }
@@ -1,5 +1,6 @@
 package com.datavet.pet.application.port.out;
 
+import com.datavet.pet.domain.model.OwnerInfo;
 import com.datavet.pet.domain.model.Pet;
 import com.datavet.shared.application.port.Repository;
 
@@ -26,6 +27,10 @@ public interface PetRepositoryPort extends Repository<Pet, String> {
 
     boolean existsByNumberAndIdNot(String chipNumber, String petId);
 
+    // Solo la clínica, para las comprobaciones de acceso sin cargar la mascota completa
+    Optional<String> findClinicIdById(String petId);
 
-
+    // Copia desnormalizada del dueño: actualiza en bloque las mascotas cuyo snapshot difiera.
+    // Devuelve cuántas se modificaron; reaplicar el mismo snapshot no modifica ninguna.
+    long updateOwnerInfo(OwnerInfo ownerInfo);
 }
@@ -9,7 +9,6 @@ import com.datavet.pet.application.port.out.PetRepositoryPort;
 import com.datavet.pet.domain.exception.MedicalRecordNotFoundException;
 import com.datavet.pet.domain.exception.PetNotFoundException;
 import com.datavet.pet.domain.model.MedicalRecord;
-import com.datavet.pet.domain.model.Pet;
 import com.datavet.pet.domain.model.details.MedicalRecordDetails;
 import com.datavet.pet.domain.valueobject.MedicalRecordType;
 import com.datavet.pet.application.port.out.MedicalRecordPort;
@@ -119,21 +118,13 @@ public class MedicalRecordService implements MedicalRecordUseCase, ApplicationSe
 
     @Override
     public List<MedicalRecord> getMedicalRecordsByPet(String petId, String clinicId) {
-        Pet pet = petRepositoryPort.findById(petId)
-                .orElseThrow(() -> new PetNotFoundException(petId));
-        if (!pet.getClinicId().equals(clinicId)) {
-            throw new AccessDeniedException("La mascota no pertenece a tu clínica");
-        }
+        checkPetBelongsToClinic(petId, clinicId);
         return medicalRecordPort.findByPetId(petId);
     }
 
     @Override
     public List<MedicalRecord> getMedicalRecordsByType(String petId, MedicalRecordType type, String clinicId) {
-        Pet pet = petRepositoryPort.findById(petId)
-                .orElseThrow(() -> new PetNotFoundException(petId));
-        if (!pet.getClinicId().equals(clinicId)) {
-            throw new AccessDeniedException("La mascota no pertenece a tu clínica");
-        }
+        checkPetBelongsToClinic(petId, clinicId);
         return medicalRecordPort.findByPetIdAndType(petId, type);
     }
 
@@ -141,6 +132,15 @@ public class MedicalRecordService implements MedicalRecordUseCase, ApplicationSe
     // Helpers privados
     // -------------------------------------------------------------------------
 
+    /** Solo proyecta la clínica de la mascota: no hace falta cargarla entera para autorizar. */
+    private void checkPetBelongsToClinic(String petId, String clinicId) {
+        String petClinicId = petRepositoryPort.findClinicIdById(petId)
+                .orElseThrow(() -> new PetNotFoundException(petId));
+        if (!petClinicId.equals(clinicId)) {
+            throw new AccessDeniedException("La mascota no pertenece a tu clínica");
+        }
+    }
+
     private void publishDomainEvents(MedicalRecord record) {
         List<DomainEvent> events = record.getDomainEvents();
         events.forEach(domainEventPublisher::publish);
@@ -57,10 +57,10 @@ public class PetService implements PetUseCase, ApplicationService {
                 ownerInfo
         );
 
-        // 5. Publicar eventos ANTES de persistir
+        // 5. Persistir y después publicar: los listeners leen el estado ya guardado
+        Pet saved = petRepositoryPort.save(pet);
         publishDomainEvents(pet);
-
-        return petRepositoryPort.save(pet);
+        return saved;
     }
 
     @Override
@@ -75,11 +75,10 @@ public class PetService implements PetUseCase, ApplicationService {
 
         pet.update(command.getPetId(), command.getName(), command.getAvatarUrl());
 
-        // 3. Publicar eventos y persistir
+        // 3. Persistir y publicar eventos
+        Pet saved = petRepositoryPort.save(pet);
         publishDomainEvents(pet);
-
-        // 4. Guafamos y devolvemos
-        return petRepositoryPort.save(pet);
+        return saved;
     }
 
     @Override
@@ -94,9 +93,8 @@ public class PetService implements PetUseCase, ApplicationService {
 
         pet.deactivate(command.getPetId(), command.getReason());
 
-        publishDomainEvents(pet);
-
         petRepositoryPort.save(pet);
+        publishDomainEvents(pet);
     }
 
     @Override
@@ -110,9 +108,9 @@ public class PetService implements PetUseCase, ApplicationService {
 
         pet.activate(petId);
 
+        Pet saved = petRepositoryPort.save(pet);
         publishDomainEvents(pet);
-
-        return petRepositoryPort.save(pet);
+        return saved;
     }
 
     // -------------------------------------------------------------------------
@@ -130,9 +128,9 @@ public class PetService implements PetUseCase, ApplicationService {
 
         pet.correctBreed(command.getPetId(), command.getNewBreed(), command.getReason());
 
+        Pet saved = petRepositoryPort.save(pet);
         publishDomainEvents(pet);
-
-        return petRepositoryPort.save(pet);
+        return saved;
     }
 
     @Override
@@ -146,9 +144,9 @@ public class PetService implements PetUseCase, ApplicationService {
 
         pet.correctBirthDate(command.getPetId(), command.getNewBirthDate(), command.getReason());
 
+        Pet saved = petRepositoryPort.save(pet);
         publishDomainEvents(pet);
-
-        return petRepositoryPort.save(pet);
+        return saved;
     }
 
     @Override
@@ -162,9 +160,9 @@ public class PetService implements PetUseCase, ApplicationService {
 
         pet.correctSex(command.getPetId(), command.getSex(), command.getReason());
 
+        Pet saved = petRepositoryPort.save(pet);
         publishDomainEvents(pet);
-
-        return petRepositoryPort.save(pet);
+        return saved;
     }
 
     // -------------------------------------------------------------------------
@@ -189,9 +187,9 @@ public class PetService implements PetUseCase, ApplicationService {
 
         pet.updateOwnerInfo(command.getOwnerId(), newOwnerInfo);
 
+        Pet saved = petRepositoryPort.save(pet);
         publishDomainEvents(pet);
-
-        return petRepositoryPort.save(pet);
+        return saved;
     }
 
     // -------------------------------------------------------------------------
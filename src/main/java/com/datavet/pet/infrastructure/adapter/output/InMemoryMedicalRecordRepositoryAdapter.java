@@ -0,0 +1,110 @@
+package com.datavet.pet.infrastructure.adapter.output;
+
+import com.datavet.pet.application.dto.ClinicalSummary;
+import com.datavet.pet.application.port.out.MedicalRecordPort;
+import com.datavet.pet.domain.model.MedicalRecord;
+import com.datavet.pet.domain.valueobject.MedicalRecordLifecycleStatus;
+import com.datavet.pet.domain.valueobject.MedicalRecordType;
+import com.datavet.pet.infrastructure.persistence.document.MedicalRecordDocument;
+import com.datavet.pet.infrastructure.persistence.mapper.MedicalRecordDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection.key;
+
+/**
+ * Implementación en memoria de {@link MedicalRecordPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link MedicalRecordDocument}.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryMedicalRecordRepositoryAdapter implements MedicalRecordPort {
+
+    private final InMemoryCollection<MedicalRecordDocument> collection =
+            InMemoryCollection.<MedicalRecordDocument>builder("medical_records", MedicalRecordDocument::getId)
+                    .index("pet_idx",              MedicalRecordDocument::getPetId)
+                    .index("clinic_idx",           MedicalRecordDocument::getClinicId)
+                    .index("pet_type_idx",         d -> key(d.getPetId(), d.getType()))
+                    .index("pet_status_idx",       d -> key(d.getPetId(), d.getStatus()))
+                    .index("clinic_type_idx",      d -> key(d.getClinicId(), d.getType()))
+                    .index("corrected_record_idx", MedicalRecordDocument::getCorrectedRecordId)
+                    .build();
+
+    @Override
+    public MedicalRecord save(MedicalRecord entity) {
+        return MedicalRecordDocumentMapper.toDomain(collection.save(MedicalRecordDocumentMapper.toDocument(entity)));
+    }
+
+    @Override
+    public Optional<MedicalRecord> findById(String id) {
+        return collection.findById(id).map(MedicalRecordDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<MedicalRecord> findAll() {
+        return collection.findAll().stream().map(MedicalRecordDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        collection.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.existsById(id);
+    }
+
+    // specific querys
+
+    @Override
+    public List<MedicalRecord> findByPetId(String petId) {
+        return map(collection.findBy("pet_idx", petId));
+    }
+
+    @Override
+    public List<MedicalRecord> findByPetIdAndType(String petId, MedicalRecordType type) {
+        return map(collection.findBy("pet_type_idx", key(petId, type)));
+    }
+
+    @Override
+    public List<MedicalRecord> findByPetIdAndStatus(String petId, MedicalRecordLifecycleStatus status) {
+        return map(collection.findBy("pet_status_idx", key(petId, status)));
+    }
+
+    @Override
+    public List<MedicalRecord> findByClinicId(String clinicId) {
+        return map(collection.findBy("clinic_idx", clinicId));
+    }
+
+    @Override
+    public List<MedicalRecord> findByClinicIdAndType(String clinicId, MedicalRecordType type) {
+        return map(collection.findBy("clinic_type_idx", key(clinicId, type)));
+    }
+
+    @Override
+    public List<MedicalRecord> findByCorrectedRecordId(String originalRecordId) {
+        return map(collection.findBy("corrected_record_idx", originalRecordId));
+    }
+
+    @Override
+    public boolean existsByPetIdAndStatus(String petId, MedicalRecordLifecycleStatus status) {
+        return collection.existsBy("pet_status_idx", key(petId, status));
+    }
+
+    @Override
+    public ClinicalSummary summarizeByPetId(String petId) {
+        ClinicalSummary.Builder summary = new ClinicalSummary.Builder(petId);
+        collection.findBy("pet_status_idx", key(petId, MedicalRecordLifecycleStatus.ACTIVE))
+                .forEach(d -> summary.add(d.getType(), 1, d.getCreatedAt()));
+        return summary.build();
+    }
+
+    private static List<MedicalRecord> map(List<MedicalRecordDocument> documents) {
+        return documents.stream().map(MedicalRecordDocumentMapper::toDomain).toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.datavet.pet.infrastructure.adapter.output;
+
+import com.datavet.pet.application.port.out.PetRepositoryPort;
+import com.datavet.pet.domain.model.OwnerInfo;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.pet.infrastructure.persistence.document.OwnerInfoDocument;
+import com.datavet.pet.infrastructure.persistence.document.PetDocument;
+import com.datavet.pet.infrastructure.persistence.mapper.PetDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection.key;
+
+/**
+ * Implementación en memoria de {@link PetRepositoryPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link PetDocument}, incluido el único sobre {@code chipNumber}.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryPetRepositoryAdapter implements PetRepositoryPort {
+
+    private final InMemoryCollection<PetDocument> collection =
+            InMemoryCollection.<PetDocument>builder("pet", PetDocument::getId)
+                    .index("clinic_idx",            PetDocument::getClinicId)
+                    .index("owner_idx",             d -> d.getOwner() != null ? d.getOwner().getOwnerId() : null)
+                    .uniqueIndex("chip_number_idx", PetDocument::getChipNumber)
+                    .index("clinic_active_idx",     d -> key(d.getClinicId(), d.isActive()))
+                    .build();
+
+    @Override
+    public List<Pet> findByClinicId(String clinicId) {
+        return collection.findBy("clinic_idx", clinicId).stream().map(PetDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Pet> findByClinicIdAndActiveTrue(String clinicId) {
+        return collection.findBy("clinic_active_idx", key(clinicId, true)).stream()
+                .map(PetDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Pet> findByOwnerId(String ownerId) {
+        return collection.findBy("owner_idx", ownerId).stream().map(PetDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Pet> findByOwnerIdAndActiveTrue(String ownerId) {
+        return collection.findBy("owner_idx", ownerId).stream()
+                .filter(PetDocument::isActive)
+                .map(PetDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public Optional<Pet> findByChipNumber(String chipNumber) {
+        return collection.findOneBy("chip_number_idx", chipNumber).map(PetDocumentMapper::toDomain);
+    }
+
+    @Override
+    public boolean existsByChipNumber(String chipNumber) {
+        return collection.existsBy("chip_number_idx", chipNumber);
+    }
+
+    @Override
+    public boolean existsByNumberAndIdNot(String chipNumber, String petId) {
+        return collection.existsByAndIdNot("chip_number_idx", chipNumber, petId);
+    }
+
+    @Override
+    public Optional<String> findClinicIdById(String petId) {
+        return collection.findById(petId).map(PetDocument::getClinicId);
+    }
+
+    @Override
+    public long updateOwnerInfo(OwnerInfo ownerInfo) {
+        long modified = 0;
+        for (PetDocument document : collection.findBy("owner_idx", ownerInfo.getOwnerId())) {
+            OwnerInfoDocument current = document.getOwner();
+            if (Objects.equals(current.getName(), ownerInfo.getName())
+                    && Objects.equals(current.getLastName(), ownerInfo.getLastName())
+                    && Objects.equals(current.getPhone(), ownerInfo.getPhone())) {
+                continue;
+            }
+            document.setOwner(OwnerInfoDocument.builder()
+                    .ownerId(ownerInfo.getOwnerId())
+                    .name(ownerInfo.getName())
+                    .lastName(ownerInfo.getLastName())
+                    .phone(ownerInfo.getPhone())
+                    .build());
+            document.setUpdatedAt(LocalDateTime.now());
+            collection.save(document);
+            modified++;
+        }
+        return modified;
+    }
+
+    @Override
+    public Pet save(Pet entity) {
+        return PetDocumentMapper.toDomain(collection.save(PetDocumentMapper.toDocument(entity)));
+    }
+
+    @Override
+    public Optional<Pet> findById(String id) {
+        return collection.findById(id).map(PetDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<Pet> findAll() {
+        return collection.findAll().stream().map(PetDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        collection.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.existsById(id);
+    }
+}
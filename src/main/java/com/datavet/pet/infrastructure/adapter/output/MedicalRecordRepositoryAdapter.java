@@ -1,65 +1,48 @@
 package com.datavet.pet.infrastructure.adapter.output;
 
+import com.datavet.pet.application.dto.ClinicalSummary;
 import com.datavet.pet.application.port.out.MedicalRecordPort;
 import com.datavet.pet.domain.model.MedicalRecord;
 import com.datavet.pet.domain.valueobject.MedicalRecordLifecycleStatus;
 import com.datavet.pet.domain.valueobject.MedicalRecordType;
 import com.datavet.pet.infrastructure.persistence.document.MedicalRecordDocument;
+import com.datavet.pet.infrastructure.persistence.mapper.MedicalRecordDocumentMapper;
 import com.datavet.pet.infrastructure.persistence.repository.MongoMedicalRecordRepositoryAdapter;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class MedicalRecordRepositoryAdapter implements MedicalRecordPort {
 
     private final MongoMedicalRecordRepositoryAdapter repository;
-
-    private MedicalRecordDocument toDocument(MedicalRecord medicalRecord) {
-        return MedicalRecordDocument.builder()
-                .id(medicalRecord.getId())
-                .petId(medicalRecord.getPetId())
-                .clinicId(medicalRecord.getClinicId())
-                .correctedRecordId(medicalRecord.getCorrectedRecordId())
-                .type(medicalRecord.getType())
-                .status(medicalRecord.getStatus())
-                .veterinarianId(medicalRecord.getVeterinarianId())
-                .notes(medicalRecord.getNotes())
-                .details(medicalRecord.getDetails())
-                .build();
-    }
-
-    private MedicalRecord toDomain(MedicalRecordDocument doc) {
-        return MedicalRecord.reconstitute(
-                doc.getId(),
-                doc.getPetId(),
-                doc.getClinicId(),
-                doc.getCorrectedRecordId(),
-                doc.getType(),
-                doc.getStatus(),
-                doc.getVeterinarianId(),
-                doc.getNotes(),
-                doc.getDetails(),
-                doc.getCreatedAt(),
-                doc.getUpdatedAt());
-    }
+    private final MongoTemplate                       mongoTemplate;
 
     @Override
     public MedicalRecord save(MedicalRecord entity) {
-        return toDomain(repository.save(toDocument(entity)));
+        return MedicalRecordDocumentMapper.toDomain(repository.save(MedicalRecordDocumentMapper.toDocument(entity)));
     }
 
     @Override
     public Optional<MedicalRecord> findById(String id) {
-        return repository.findById(id).map(this::toDomain);
+        return repository.findById(id).map(MedicalRecordDocumentMapper::toDomain);
     }
 
     @Override
     public List<MedicalRecord> findAll() {
-        return repository.findAll().stream().map(this::toDomain).toList();
+        return repository.findAll().stream().map(MedicalRecordDocumentMapper::toDomain).toList();
     }
 
     @Override
@@ -76,32 +59,32 @@ public class MedicalRecordRepositoryAdapter implements MedicalRecordPort {
 
     @Override
     public List<MedicalRecord> findByPetId(String petId) {
-        return repository.findByPetId(petId).stream().map(this::toDomain).toList();
+        return repository.findByPetId(petId).stream().map(MedicalRecordDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<MedicalRecord> findByPetIdAndType(String petId, MedicalRecordType type) {
-        return repository.findByPetIdAndType(petId, type).stream().map(this::toDomain).toList();
+        return repository.findByPetIdAndType(petId, type).stream().map(MedicalRecordDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<MedicalRecord> findByPetIdAndStatus(String petId, MedicalRecordLifecycleStatus status) {
-        return repository.findByPetIdAndStatus(petId, status).stream().map(this::toDomain).toList();
+        return repository.findByPetIdAndStatus(petId, status).stream().map(MedicalRecordDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<MedicalRecord> findByClinicId(String clinicId) {
-        return repository.findByClinicId(clinicId).stream().map(this::toDomain).toList();
+        return repository.findByClinicId(clinicId).stream().map(MedicalRecordDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<MedicalRecord> findByClinicIdAndType(String clinicId, MedicalRecordType type) {
-        return repository.findByClinicIdAndType(clinicId, type).stream().map(this::toDomain).toList();
+        return repository.findByClinicIdAndType(clinicId, type).stream().map(MedicalRecordDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<MedicalRecord> findByCorrectedRecordId(String originalRecordId) {
-        return repository.findByCorrectedRecordId(originalRecordId).stream().map(this::toDomain).toList();
+        return repository.findByCorrectedRecordId(originalRecordId).stream().map(MedicalRecordDocumentMapper::toDomain).toList();
     }
 
     @Override
@@ -109,5 +92,21 @@ public class MedicalRecordRepositoryAdapter implements MedicalRecordPort {
         return repository.existsByPetIdAndStatus(petId, status);
     }
 
-
+    @Override
+    public ClinicalSummary summarizeByPetId(String petId) {
+        // pet_status_idx resuelve el $match; solo viajan los recuentos por tipo
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("petId").is(petId)
+                        .and("status").is(MedicalRecordLifecycleStatus.ACTIVE)),
+                Aggregation.group("type").count().as("count").max("createdAt").as("lastAt"));
+
+        ClinicalSummary.Builder summary = new ClinicalSummary.Builder(petId);
+        for (Document row : mongoTemplate.aggregate(aggregation, MedicalRecordDocument.class, Document.class)) {
+            Date lastAt = row.getDate("lastAt");
+            summary.add(MedicalRecordType.valueOf(row.getString("_id")),
+                    ((Number) row.get("count")).longValue(),
+                    lastAt != null ? LocalDateTime.ofInstant(lastAt.toInstant(), ZoneId.systemDefault()) : null);
+        }
+        return summary.build();
+    }
 }
@@ -3,98 +3,52 @@ package com.datavet.pet.infrastructure.adapter.output;
 import com.datavet.pet.application.port.out.PetRepositoryPort;
 import com.datavet.pet.domain.model.OwnerInfo;
 import com.datavet.pet.domain.model.Pet;
-import com.datavet.pet.infrastructure.persistence.document.OwnerInfoDocument;
 import com.datavet.pet.infrastructure.persistence.document.PetDocument;
+import com.datavet.pet.infrastructure.persistence.mapper.PetDocumentMapper;
 import com.datavet.pet.infrastructure.persistence.repository.MongoPetRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class PetRepositoryAdapter implements PetRepositoryPort {
 
     private final MongoPetRepository repository;
-
-    private PetDocument toDocument(Pet pet) {
-        return PetDocument.builder()
-                .id(pet.getId())
-                .clinicId(pet.getClinicId())
-                .name(pet.getName())
-                .species(pet.getSpecies())
-                .breed(pet.getBreed())
-                .sex(pet.getSex())
-                .dateOfBirth(pet.getDateOfBirth())
-                .chipNumber(pet.getChipNumber())
-                .avatarUrl(pet.getAvatarUrl())
-                .owner(toOwnerInfoDocument(pet.getOwner()))
-                .active(pet.isActive())
-                .build();
-    }
-
-    private Pet toDomain(PetDocument doc) {
-        OwnerInfo ownerInfo = new OwnerInfo(
-                doc.getOwner().getOwnerId(),
-                doc.getOwner().getName(),
-                doc.getOwner().getLastName(),
-                doc.getOwner().getPhone()
-        );
-
-        return Pet.reconstitute(
-                doc.getId(),
-                doc.getClinicId(),
-                doc.getName(),
-                doc.getSpecies(),
-                doc.getBreed(),
-                doc.getSex(),
-                doc.getDateOfBirth(),
-                doc.getChipNumber(),
-                doc.getAvatarUrl(),
-                ownerInfo,
-                doc.getCreatedAt(),
-                doc.getUpdatedAt(),
-                doc.isActive());
-    }
-
-    private OwnerInfoDocument toOwnerInfoDocument(OwnerInfo ownerInfo) {
-        return OwnerInfoDocument.builder()
-                .ownerId(ownerInfo.getOwnerId())
-                .name(ownerInfo.getName())
-                .lastName(ownerInfo.getLastName())
-                .phone(ownerInfo.getPhone())
-                .build();
-    }
-
-    private OwnerInfo toOwnerInfo(OwnerInfoDocument doc) {
-        if (doc == null) return null;
-        return OwnerInfo.create(doc.getOwnerId(), doc.getName(), doc.getLastName(), doc.getPhone());
-    }
+    private final MongoTemplate      mongoTemplate;
 
     @Override
     public List<Pet> findByClinicId(String clinicId) {
-        return repository.findByClinicId(clinicId).stream().map(this::toDomain).toList();
+        return repository.findByClinicId(clinicId).stream().map(PetDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<Pet> findByClinicIdAndActiveTrue(String clinicId) {
-        return repository.findByClinicIdAndActiveTrue(clinicId).stream().map(this::toDomain).toList();
+        return repository.findByClinicIdAndActiveTrue(clinicId).stream().map(PetDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<Pet> findByOwnerId(String ownerId) {
-        return repository.findByOwnerOwnerId(ownerId).stream().map(this::toDomain).toList();
+        return repository.findByOwnerOwnerId(ownerId).stream().map(PetDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<Pet> findByOwnerIdAndActiveTrue(String ownerId) {
-        return repository.findByOwnerOwnerIdAndActiveTrue(ownerId).stream().map(this::toDomain).toList();
+        return repository.findByOwnerOwnerIdAndActiveTrue(ownerId).stream().map(PetDocumentMapper::toDomain).toList();
     }
 
     @Override
     public Optional<Pet> findByChipNumber(String chipNumber) {
-        return repository.findByChipNumber(chipNumber).map(this::toDomain);
+        return repository.findByChipNumber(chipNumber).map(PetDocumentMapper::toDomain);
     }
 
     @Override
@@ -107,19 +61,45 @@ public class PetRepositoryAdapter implements PetRepositoryPort {
         return repository.existsByChipNumberAndIdNot(chipNumber, petId);
     }
 
+    @Override
+    public Optional<String> findClinicIdById(String petId) {
+        Query query = Query.query(Criteria.where("_id").is(petId));
+        query.fields().include("clinic_id");
+        return Optional.ofNullable(mongoTemplate.findOne(query, PetDocument.class))
+                .map(PetDocument::getClinicId);
+    }
+
+    @Override
+    public long updateOwnerInfo(OwnerInfo ownerInfo) {
+        // Solo las que difieren: un reintento o un evento repetido no reescribe nada
+        Query query = Query.query(Criteria.where("owner.owner_id").is(ownerInfo.getOwnerId())
+                .orOperator(
+                        Criteria.where("owner.name").ne(ownerInfo.getName()),
+                        Criteria.where("owner.last_name").ne(ownerInfo.getLastName()),
+                        Criteria.where("owner.phone.value").ne(ownerInfo.getPhone().getValue())));
+
+        Update update = new Update()
+                .set("owner.name",      ownerInfo.getName())
+                .set("owner.last_name", ownerInfo.getLastName())
+                .set("owner.phone",     ownerInfo.getPhone())
+                .set("updatedAt",       LocalDateTime.now());
+
+        return mongoTemplate.updateMulti(query, update, PetDocument.class).getModifiedCount();
+    }
+
     @Override
     public Pet save(Pet entity) {
-        return toDomain(repository.save(toDocument(entity)));
+        return PetDocumentMapper.toDomain(repository.save(PetDocumentMapper.toDocument(entity)));
     }
 
     @Override
     public Optional<Pet> findById(String id) {
-        return repository.findById(id).map(this::toDomain);
+        return repository.findById(id).map(PetDocumentMapper::toDomain);
     }
 
     @Override
     public List<Pet> findAll() {
-        return repository.findAll().stream().map(this::toDomain).toList();
+        return repository.findAll().stream().map(PetDocumentMapper::toDomain).toList();
     }
 
     @Override
@@ -15,8 +15,8 @@ import java.time.LocalDateTime;
 
 @Document(collection = "pet")
 @CompoundIndexes({
-    @CompoundIndex(name = "clinic_id_idx", def = "{'clinicId':1}"),
-    @CompoundIndex(name = "owner_id_idx", def = "{'owner.ownerId':1}"),
+    @CompoundIndex(name = "clinic_idx", def = "{'clinic_id': 1}"),
+    @CompoundIndex(name = "owner_idx", def = "{'owner.owner_id': 1}"),
     @CompoundIndex(name = "chip_number_idx", def = "{'chipNumber':1}", unique = true),
     @CompoundIndex(name = "clinic_active_idx", def = "{'clinic_id': 1, 'active': 1}")
 })
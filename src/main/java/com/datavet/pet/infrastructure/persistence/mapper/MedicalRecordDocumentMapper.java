@@ -0,0 +1,42 @@
+package com.datavet.pet.infrastructure.persistence.mapper;
+
+import com.datavet.pet.domain.model.MedicalRecord;
+import com.datavet.pet.infrastructure.persistence.document.MedicalRecordDocument;
+
+/**
+ * Mapeo MedicalRecord ↔ MedicalRecordDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class MedicalRecordDocumentMapper {
+
+    private MedicalRecordDocumentMapper() {}
+
+    public static MedicalRecordDocument toDocument(MedicalRecord medicalRecord) {
+        return MedicalRecordDocument.builder()
+                .id(medicalRecord.getId())
+                .petId(medicalRecord.getPetId())
+                .clinicId(medicalRecord.getClinicId())
+                .correctedRecordId(medicalRecord.getCorrectedRecordId())
+                .type(medicalRecord.getType())
+                .status(medicalRecord.getStatus())
+                .veterinarianId(medicalRecord.getVeterinarianId())
+                .notes(medicalRecord.getNotes())
+                .details(medicalRecord.getDetails())
+                .build();
+    }
+
+    public static MedicalRecord toDomain(MedicalRecordDocument doc) {
+        return MedicalRecord.reconstitute(
+                doc.getId(),
+                doc.getPetId(),
+                doc.getClinicId(),
+                doc.getCorrectedRecordId(),
+                doc.getType(),
+                doc.getStatus(),
+                doc.getVeterinarianId(),
+                doc.getNotes(),
+                doc.getDetails(),
+                doc.getCreatedAt(),
+                doc.getUpdatedAt());
+    }
+}
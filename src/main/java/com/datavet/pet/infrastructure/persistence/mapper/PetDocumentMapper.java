@@ -0,0 +1,69 @@
+package com.datavet.pet.infrastructure.persistence.mapper;
+
+import com.datavet.pet.domain.model.OwnerInfo;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.pet.infrastructure.persistence.document.OwnerInfoDocument;
+import com.datavet.pet.infrastructure.persistence.document.PetDocument;
+
+/**
+ * Mapeo Pet ↔ PetDocument (con el OwnerInfo embebido), compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class PetDocumentMapper {
+
+    private PetDocumentMapper() {}
+
+    public static PetDocument toDocument(Pet pet) {
+        return PetDocument.builder()
+                .id(pet.getId())
+                .clinicId(pet.getClinicId())
+                .name(pet.getName())
+                .species(pet.getSpecies())
+                .breed(pet.getBreed())
+                .sex(pet.getSex())
+                .dateOfBirth(pet.getDateOfBirth())
+                .chipNumber(pet.getChipNumber())
+                .avatarUrl(pet.getAvatarUrl())
+                .owner(toOwnerInfoDocument(pet.getOwner()))
+                .active(pet.isActive())
+                .build();
+    }
+
+    public static Pet toDomain(PetDocument doc) {
+        OwnerInfo ownerInfo = new OwnerInfo(
+                doc.getOwner().getOwnerId(),
+                doc.getOwner().getName(),
+                doc.getOwner().getLastName(),
+                doc.getOwner().getPhone()
+        );
+
+        return Pet.reconstitute(
+                doc.getId(),
+                doc.getClinicId(),
+                doc.getName(),
+                doc.getSpecies(),
+                doc.getBreed(),
+                doc.getSex(),
+                doc.getDateOfBirth(),
+                doc.getChipNumber(),
+                doc.getAvatarUrl(),
+                ownerInfo,
+                doc.getCreatedAt(),
+                doc.getUpdatedAt(),
+                doc.isActive());
+    }
+
+    private static OwnerInfoDocument toOwnerInfoDocument(OwnerInfo ownerInfo) {
+        return OwnerInfoDocument.builder()
+                .ownerId(ownerInfo.getOwnerId())
+                .name(ownerInfo.getName())
+                .lastName(ownerInfo.getLastName())
+                .phone(ownerInfo.getPhone())
+                .build();
+    }
+
+    private static OwnerInfo toOwnerInfo(OwnerInfoDocument doc) {
+        if (doc == null) return null;
+        return OwnerInfo.create(doc.getOwnerId(), doc.getName(), doc.getLastName(), doc.getPhone());
+    }
+}
@@ -0,0 +1,19 @@
+package com.datavet.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/** Un producto ha cruzado su stock mínimo: ha bajado de él ({@code BELOW}) o lo ha recuperado. */
+@Getter
+@AllArgsConstructor
+public class LowStockCrossing {
+
+    public enum Type { BELOW, RECOVERED }
+
+    private Type          type;
+    private String        clinicId;
+    private LowStockItem  item;
+    private LocalDateTime occurredOn;
+}
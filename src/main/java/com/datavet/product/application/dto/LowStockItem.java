@@ -0,0 +1,30 @@
+package com.datavet.product.application.dto;
+
+import com.datavet.product.domain.model.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Comparator;
+
+@Getter
+@AllArgsConstructor
+public class LowStockItem {
+
+    // Más urgente primero: menor proporción stock / mínimo (comparada en enteros), luego por nombre
+    public static final Comparator<LowStockItem> URGENCY = ((Comparator<LowStockItem>) (a, b) -> Long.compare(
+                    (long) a.stock * b.minStock, (long) b.stock * a.minStock))
+            .thenComparing(LowStockItem::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(LowStockItem::getProductId);
+
+    private String  productId;
+    private String  clinicId;
+    private String  name;
+    private String  sku;
+    private int     stock;
+    private int     minStock;
+
+    public static LowStockItem of(Product product) {
+        return new LowStockItem(product.getProductId(), product.getClinicId(), product.getName(),
+                product.getSku(), product.getStock(), product.getMinStock());
+    }
+}
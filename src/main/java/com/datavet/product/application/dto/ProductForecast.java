@@ -0,0 +1,28 @@
+package com.datavet.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Comparator;
+
+@Getter
+@AllArgsConstructor
+public class ProductForecast {
+
+    // Menos días de cobertura primero; sin consumo registrado al final, luego por nombre
+    public static final Comparator<ProductForecast> URGENCY = Comparator
+            .comparing(ProductForecast::getDaysOfCover, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ProductForecast::getName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ProductForecast::getProductId);
+
+    private String  productId;
+    private String  name;
+    private String  sku;
+    private int     stock;
+    private int     minStock;
+    // Unidades/día estimadas, redondeadas a dos decimales
+    private double  dailyConsumption;
+    // null si no hay consumo registrado
+    private Double  daysOfCover;
+    private int     reorderQuantity;
+}
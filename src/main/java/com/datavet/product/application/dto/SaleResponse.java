@@ -0,0 +1,20 @@
+package com.datavet.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SaleResponse {
+
+    private String                        saleId;
+    private String                        clinicId;
+    private String                        employeeId;
+    private LocalDateTime                 date;
+    private String                        notes;
+    private List<ProductMovementResponse> movements;
+    private SaleTotalsResponse            totals;
+}
@@ -0,0 +1,27 @@
+package com.datavet.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SaleTotalsResponse {
+
+    private BigDecimal    gross;
+    private BigDecimal    discount;
+    private BigDecimal    taxableBase;
+    private BigDecimal    taxTotal;
+    private BigDecimal    total;
+    private List<TaxLine> taxBreakdown;
+
+    @Getter
+    @AllArgsConstructor
+    public static class TaxLine {
+        private BigDecimal rate;
+        private BigDecimal base;
+        private BigDecimal tax;
+    }
+}
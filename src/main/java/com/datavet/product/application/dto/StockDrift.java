@@ -0,0 +1,19 @@
+package com.datavet.product.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Producto cuyo stock guardado no coincide con el que resulta del último cierre más sus movimientos. */
+@Getter
+@AllArgsConstructor
+public class StockDrift {
+
+    private String productId;
+    private String name;
+    private int    stock;
+    private int    ledgerStock;
+
+    public int getDifference() {
+        return stock - ledgerStock;
+    }
+}
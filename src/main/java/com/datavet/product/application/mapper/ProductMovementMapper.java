@@ -1,7 +1,14 @@
 package com.datavet.product.application.mapper;
 
 import com.datavet.product.application.dto.ProductMovementResponse;
+import com.datavet.product.application.dto.SaleResponse;
+import com.datavet.product.application.dto.SaleTotalsResponse;
 import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.domain.model.Sale;
+import com.datavet.product.domain.pricing.SaleTotals;
+
+import static com.datavet.product.domain.pricing.MinorUnits.rateToDecimal;
+import static com.datavet.product.domain.pricing.MinorUnits.toDecimal;
 
 public class ProductMovementMapper {
 
@@ -22,4 +29,31 @@ public class ProductMovementMapper {
                 movement.getCreatedAt()
         );
     }
+
+    public static SaleResponse toSaleResponse(Sale sale) {
+        return new SaleResponse(
+                sale.getSaleId(),
+                sale.getClinicId(),
+                sale.getEmployeeId(),
+                sale.getDate(),
+                sale.getNotes(),
+                sale.getMovements().stream().map(ProductMovementMapper::toResponse).toList(),
+                sale.getTotals() != null ? toTotalsResponse(sale.getTotals()) : null
+        );
+    }
+
+    // Único punto donde los céntimos pasan a BigDecimal
+    public static SaleTotalsResponse toTotalsResponse(SaleTotals totals) {
+        return new SaleTotalsResponse(
+                toDecimal(totals.getGross()),
+                toDecimal(totals.getDiscount()),
+                toDecimal(totals.getTaxableBase()),
+                toDecimal(totals.getTaxTotal()),
+                toDecimal(totals.getTotal()),
+                totals.getTaxBreakdown().stream()
+                        .map(line -> new SaleTotalsResponse.TaxLine(
+                                rateToDecimal(line.getRate()), toDecimal(line.getBase()), toDecimal(line.getTax())))
+                        .toList()
+        );
+    }
 }
@@ -0,0 +1,11 @@
+package com.datavet.product.application.port.in;
+
+import com.datavet.product.application.dto.ProductForecast;
+
+import java.util.List;
+
+public interface ForecastUseCase {
+
+    // Productos activos de la clínica con su consumo previsto, los que antes se agotan primero
+    List<ProductForecast> getForecast(String clinicId);
+}
@@ -0,0 +1,11 @@
+package com.datavet.product.application.port.in;
+
+import com.datavet.product.application.dto.LowStockItem;
+
+import java.util.List;
+
+public interface LowStockUseCase {
+
+    // Productos activos de la clínica por debajo de su stock mínimo, los más urgentes primero
+    List<LowStockItem> getLowStock(String clinicId);
+}
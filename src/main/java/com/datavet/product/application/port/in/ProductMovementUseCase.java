@@ -1,7 +1,10 @@
 package com.datavet.product.application.port.in;
 
 import com.datavet.product.application.port.in.command.CreateProductMovementCommand;
+import com.datavet.product.application.port.in.command.CreateSaleCommand;
+import com.datavet.product.application.port.in.command.RecordAppointmentConsumptionCommand;
 import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.domain.model.Sale;
 import com.datavet.product.domain.valueobject.ProductMovementType;
 import com.datavet.shared.application.port.UseCase;
 
@@ -9,6 +12,8 @@ import java.util.List;
 
 public interface ProductMovementUseCase extends UseCase {
     ProductMovement             createMovement                  (CreateProductMovementCommand command);
+    Sale                        createSale                      (CreateSaleCommand command);
+    List<ProductMovement>       recordAppointmentConsumption    (RecordAppointmentConsumptionCommand command);
     ProductMovement             getMovementById                 (String movementId, String clinicId);
     List<ProductMovement>       getMovementsByProduct           (String productId, String clinicId);
     List<ProductMovement>       getMovementsByProductAndType    (String productId, ProductMovementType type, String clinicId);
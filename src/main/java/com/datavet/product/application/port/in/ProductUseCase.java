@@ -18,4 +18,5 @@ public interface ProductUseCase extends UseCase {
     List<Product>   getProductsByClinic             (String clinicId);
     List<Product>   getProductsByClinicAndCategory  (String clinicId, ProductCategory category);
     List<Product>   getProductsByClinicAndArea      (String clinicId, ClinicArea area);
+    Product         scanProduct                     (String clinicId, String code);
 }
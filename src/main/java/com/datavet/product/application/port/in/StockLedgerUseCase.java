@@ -0,0 +1,20 @@
+package com.datavet.product.application.port.in;
+
+import com.datavet.product.application.dto.StockDrift;
+import com.datavet.shared.application.port.UseCase;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockLedgerUseCase extends UseCase {
+
+    // Stock del producto en un instante pasado: último cierre anterior a ese día + movimientos del día
+    int                 getStockAt          (String productId, String clinicId, LocalDateTime at);
+
+    // Cierre de todos los productos de la clínica al final del día; repetirlo lo sobrescribe
+    int                 takeSnapshots       (String clinicId, LocalDate day);
+
+    // Productos cuyo stock no cuadra con el último cierre (el de ayer) más los movimientos posteriores
+    List<StockDrift>    reconcile           (String clinicId);
+}
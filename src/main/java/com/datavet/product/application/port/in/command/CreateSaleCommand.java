@@ -0,0 +1,30 @@
+package com.datavet.product.application.port.in.command;
+
+import com.datavet.product.domain.valueobject.SaleLine;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+@Builder
+public class CreateSaleCommand {
+
+    @NotBlank(message = "El identificador de clínica es obligatorio")
+    String clinicId;
+
+    @NotBlank(message = "El identificador del empleado es obligatorio")
+    String employeeId;
+
+    @NotNull(message = "La fecha de la venta es obligatoria")
+    LocalDateTime date;
+
+    String notes;
+
+    @NotEmpty(message = "La venta debe tener al menos una línea")
+    List<SaleLine> lines;
+}
@@ -0,0 +1,29 @@
+package com.datavet.product.application.port.in.command;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+@Builder
+public class RecordAppointmentConsumptionCommand {
+
+    @NotBlank(message = "El identificador de la cita es obligatorio")
+    String appointmentId;
+
+    @NotBlank(message = "El identificador de clínica es obligatorio")
+    String clinicId;
+
+    @NotBlank(message = "El identificador del empleado es obligatorio")
+    String employeeId;
+
+    @NotNull(message = "La fecha del consumo es obligatoria")
+    LocalDateTime date;
+
+    // Productos de la cita; un id repetido es una unidad más
+    List<String> productIds;
+}
@@ -0,0 +1,15 @@
+package com.datavet.product.application.port.out;
+
+import com.datavet.product.domain.model.ConsumptionRate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ConsumptionRatePort {
+
+    // Una escritura atómica por salida, aplicada sobre el estado guardado (ver ConsumptionRate#record):
+    // dos réplicas que registran salidas del mismo producto no se pisan
+    void record(String productId, String clinicId, int quantity, LocalDateTime at, double halfLifeDays);
+
+    List<ConsumptionRate> findByClinicId(String clinicId);
+}
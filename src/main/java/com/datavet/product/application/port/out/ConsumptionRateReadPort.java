@@ -0,0 +1,11 @@
+package com.datavet.product.application.port.out;
+
+import com.datavet.product.domain.model.ConsumptionRate;
+
+import java.util.Map;
+
+public interface ConsumptionRateReadPort {
+
+    // Tasas de consumo de la clínica por productId, al día con las salidas registradas en esta instancia
+    Map<String, ConsumptionRate> findByClinicId(String clinicId);
+}
@@ -0,0 +1,15 @@
+package com.datavet.product.application.port.out;
+
+import com.datavet.product.application.dto.LowStockCrossing;
+import com.datavet.product.application.dto.LowStockItem;
+
+import java.util.List;
+
+public interface LowStockDigestPort {
+
+    void sendLowStockDigest(
+            String toEmail,
+            String clinicName,
+            List<LowStockCrossing> crossings,
+            List<LowStockItem> current);
+}
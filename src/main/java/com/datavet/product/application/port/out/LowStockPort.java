@@ -0,0 +1,11 @@
+package com.datavet.product.application.port.out;
+
+import com.datavet.product.application.dto.LowStockItem;
+
+import java.util.List;
+
+public interface LowStockPort {
+
+    // Productos de la clínica por debajo de su stock mínimo, los más urgentes primero
+    List<LowStockItem> findByClinicId(String clinicId);
+}
@@ -4,7 +4,9 @@ import com.datavet.product.domain.model.ProductMovement;
 import com.datavet.product.domain.valueobject.ProductMovementType;
 import com.datavet.shared.application.port.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @org.springframework.stereotype.Repository
 public interface ProductMovementPort extends Repository<ProductMovement, String> {
@@ -13,4 +15,15 @@ public interface ProductMovementPort extends Repository<ProductMovement, String>
     List<ProductMovement> findByClinicId(String clinicId);
     List<ProductMovement> findByClinicIdAndType(String clinicId, ProductMovementType type);
     List<ProductMovement> findByAppointmentId(String appointmentId);
+
+    // Inserción en bloque (una sola escritura para todas las líneas de una venta), todo o nada: si falla no
+    // queda ninguno insertado
+    List<ProductMovement> saveAll(List<ProductMovement> movements);
+
+    // Movimientos del producto con fecha en [from, to); to nulo deja el rango abierto
+    List<ProductMovement> findByProductIdAndDateRange(String productId, LocalDateTime from, LocalDateTime to);
+
+    // Variación neta de stock por producto (entradas − salidas) de los movimientos de la clínica en
+    // [from, to); to nulo deja el rango abierto. Los productos sin movimientos no aparecen.
+    Map<String, Integer> sumNetByProduct(String clinicId, LocalDateTime from, LocalDateTime to);
 }
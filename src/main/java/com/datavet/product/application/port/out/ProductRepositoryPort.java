@@ -5,7 +5,10 @@ import com.datavet.product.domain.valueobject.ClinicArea;
 import com.datavet.product.domain.valueobject.ProductCategory;
 import com.datavet.shared.application.port.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface ProductRepositoryPort extends Repository<Product, String> {
     List<Product> findByClinicId(String clinicId);
@@ -13,4 +16,23 @@ public interface ProductRepositoryPort extends Repository<Product, String> {
     List<Product> findByClinicIdAndArea(String clinicId, ClinicArea area);
     boolean existsBySkuAndClinicId(String sku, String clinicId);
     boolean existsBySkuAndClinicIdAndIdNot(String sku, String clinicId, String id);
+    boolean existsByBarcodeAndClinicId(String barcode, String clinicId);
+    boolean existsByBarcodeAndClinicIdAndIdNot(String barcode, String clinicId, String id);
+
+    // Lectura en caja: producto activo de la clínica por código de barras o, si no hay, por SKU
+    Optional<Product> findActiveByClinicIdAndCode(String clinicId, String code);
+
+    List<Product> findAllById(Collection<String> ids);
+
+    // Productos activos con stock por debajo de su mínimo, de todas las clínicas (carga inicial del monitor)
+    List<Product> findBelowMinStock();
+
+    // Descuento de stock de varios productos de la clínica, todo o nada: nunca deja un stock negativo.
+    // Devuelve el primer producto que no se pudo descontar (y entonces no queda nada aplicado) o vacío si
+    // se aplicó todo. Si lanza una excepción, las líneas confirmadas ya se han devuelto. operationId (la venta
+    // o el lote de consumo) identifica las líneas aplicadas por esta operación para poder devolverlas.
+    Optional<String> decrementStock(String clinicId, String operationId, Map<String, Integer> quantities);
+
+    // Devolución en un único lote (compensación de un descuento ya aplicado)
+    void incrementStock(String clinicId, Map<String, Integer> quantities);
 }
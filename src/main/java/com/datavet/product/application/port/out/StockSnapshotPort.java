@@ -0,0 +1,18 @@
+package com.datavet.product.application.port.out;
+
+import com.datavet.product.domain.model.StockSnapshot;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockSnapshotPort {
+
+    // Escritura en bloque; un cierre ya existente (mismo producto y día) se sobrescribe
+    void saveAll(List<StockSnapshot> snapshots);
+
+    // Último cierre del producto anterior a la fecha (sin incluirla)
+    Optional<StockSnapshot> findLatestBefore(String productId, LocalDate date);
+
+    List<StockSnapshot> findByClinicIdAndDate(String clinicId, LocalDate date);
+}
@@ -0,0 +1,70 @@
+package com.datavet.product.application.service;
+
+import com.datavet.product.application.dto.ProductForecast;
+import com.datavet.product.application.port.in.ForecastUseCase;
+import com.datavet.product.application.port.out.ConsumptionRateReadPort;
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.model.ConsumptionRate;
+import com.datavet.product.domain.model.Product;
+import com.datavet.shared.application.service.ApplicationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Previsión de consumo por producto: cuándo se agota y cuánto pedir, sobre las tasas de consumo que mantiene
+ * {@link ConsumptionRateReadPort}; {@code product_movement} no se vuelve a leer.
+ *
+ * Días de cobertura = stock / consumo diario. Cantidad sugerida = lo que cubre el plazo de entrega más el
+ * periodo objetivo, más el stock mínimo, menos el stock actual.
+ */
+@Service
+public class ForecastService implements ForecastUseCase, ApplicationService {
+
+    private final ProductRepositoryPort   productRepositoryPort;
+    private final ConsumptionRateReadPort consumptionRateReadPort;
+    private final double                  halfLifeDays;
+    private final int                     leadTimeDays;
+    private final int                     coverDays;
+
+    public ForecastService(
+            ProductRepositoryPort productRepositoryPort,
+            ConsumptionRateReadPort consumptionRateReadPort,
+            @Value("${datavet.product.forecast.half-life-days:14}") double halfLifeDays,
+            @Value("${datavet.product.forecast.lead-time-days:7}") int leadTimeDays,
+            @Value("${datavet.product.forecast.cover-days:30}") int coverDays) {
+        this.productRepositoryPort   = productRepositoryPort;
+        this.consumptionRateReadPort = consumptionRateReadPort;
+        this.halfLifeDays            = halfLifeDays;
+        this.leadTimeDays            = leadTimeDays;
+        this.coverDays               = coverDays;
+    }
+
+    @Override
+    public List<ProductForecast> getForecast(String clinicId) {
+        Map<String, ConsumptionRate> rates = consumptionRateReadPort.findByClinicId(clinicId);
+        LocalDateTime now = LocalDateTime.now();
+        return productRepositoryPort.findByClinicId(clinicId).stream()
+                .filter(product -> Boolean.TRUE.equals(product.getIsActive()))
+                .map(product -> forecast(product, rates.get(product.getProductId()), now))
+                .sorted(ProductForecast.URGENCY)
+                .toList();
+    }
+
+    ProductForecast forecast(Product product, ConsumptionRate rate, LocalDateTime now) {
+        double daily    = rate != null ? rate.dailyRateAt(now, halfLifeDays) : 0;
+        int    stock    = product.getStock();
+        int    minStock = product.getMinStock();
+        Double cover    = daily > 0 ? round(Math.max(stock, 0) / daily) : null;
+        int    target   = (int) Math.ceil(daily * (leadTimeDays + coverDays)) + minStock;
+        return new ProductForecast(product.getProductId(), product.getName(), product.getSku(), stock, minStock,
+                round(daily), cover, Math.max(target - stock, 0));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100d;
+    }
+}
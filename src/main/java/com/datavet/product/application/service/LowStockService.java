@@ -0,0 +1,26 @@
+package com.datavet.product.application.service;
+
+import com.datavet.product.application.dto.LowStockItem;
+import com.datavet.product.application.port.in.LowStockUseCase;
+import com.datavet.product.application.port.out.LowStockPort;
+import com.datavet.shared.application.service.ApplicationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Stock bajo por clínica leído del monitor en memoria, que se mantiene con los eventos de stock y de producto;
+ * consultar la lista nunca recorre el catálogo.
+ */
+@Service
+@RequiredArgsConstructor
+public class LowStockService implements LowStockUseCase, ApplicationService {
+
+    private final LowStockPort lowStockPort;
+
+    @Override
+    public List<LowStockItem> getLowStock(String clinicId) {
+        return lowStockPort.findByClinicId(clinicId);
+    }
+}
@@ -2,23 +2,35 @@ package com.datavet.product.application.service;
 
 import com.datavet.product.application.port.in.ProductMovementUseCase;
 import com.datavet.product.application.port.in.command.CreateProductMovementCommand;
+import com.datavet.product.application.port.in.command.CreateSaleCommand;
+import com.datavet.product.application.port.in.command.RecordAppointmentConsumptionCommand;
 import com.datavet.product.application.port.out.ProductMovementPort;
 import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.event.ProductStockUpdatedEvent;
 import com.datavet.product.domain.exception.ProductMovementNotFoundException;
 import com.datavet.product.domain.exception.ProductNotFoundException;
+import com.datavet.product.domain.exception.ProductValidationException;
 import com.datavet.product.domain.model.Product;
 import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.domain.model.Sale;
 import com.datavet.product.domain.valueobject.ProductMovementType;
 import com.datavet.shared.application.service.ApplicationService;
 import com.datavet.shared.domain.event.DomainEvent;
 import com.datavet.shared.domain.event.DomainEventPublisher;
 import com.datavet.shared.domain.model.AggregateRoot;
+import com.datavet.shared.domain.validation.ValidationResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -50,11 +62,120 @@ public class ProductMovementService implements ProductMovementUseCase, Applicati
 
         product.applyMovement(command.getQuantity(), command.getType());
 
+        productRepositoryPort.save(product);
+        ProductMovement saved = productMovementPort.save(movement);
+
         publishDomainEvents(movement);
         publishDomainEvents(product);
+        return saved;
+    }
 
-        productRepositoryPort.save(product);
-        return productMovementPort.save(movement);
+    /**
+     * Ticket de varias líneas: una lectura de todos los productos, un descuento de stock con guarda por línea
+     * y una inserción en bloque de los movimientos (en lugar de lectura, guardado e inserción por línea).
+     * Si falla la inserción no queda ningún movimiento, y el stock descontado se devuelve en bloque.
+     */
+    @Override
+    @Transactional
+    public Sale createSale(CreateSaleCommand command) {
+        Sale sale = Sale.create(
+                command.getClinicId(),
+                command.getEmployeeId(),
+                command.getDate(),
+                command.getNotes(),
+                command.getLines());
+        Map<String, Integer> quantities = sale.quantities();
+
+        Map<String, Product> products = new HashMap<>();
+        for (Product product : productRepositoryPort.findAllById(quantities.keySet())) {
+            if (!product.getClinicId().equals(command.getClinicId()))
+                throw new AccessDeniedException("El producto no pertenece a tu clínica");
+            products.put(product.getProductId(), product);
+        }
+        sale.confirm(products);
+
+        // Otra operación pudo consumir el stock entre la lectura y el descuento
+        productRepositoryPort.decrementStock(sale.getClinicId(), sale.getId(), quantities).ifPresent(productId -> {
+            ValidationResult result = new ValidationResult();
+            result.addError("lines[" + productId + "]", "Stock insuficiente: ha cambiado mientras se registraba la venta");
+            throw new ProductValidationException(result);
+        });
+
+        try {
+            productMovementPort.saveAll(sale.getMovements());
+        } catch (RuntimeException e) {
+            productRepositoryPort.incrementStock(sale.getClinicId(), quantities);
+            throw e;
+        }
+
+        publishDomainEvents(sale);
+        return sale;
+    }
+
+    /**
+     * Consumo de los productos de una cita finalizada en una sola operación: una lectura de los productos,
+     * un descuento de stock con guarda por línea y una inserción en bloque.
+     *
+     * Es idempotente por cita: los productos que ya tienen un consumo en ella se omiten, y como el id de cada
+     * movimiento es {@code appointmentId|productId}, si dos ejecuciones coinciden la que choca al insertar
+     * devuelve el stock que había descontado. Los productos inexistentes, de otra clínica o desactivados
+     * se omiten; si alguno no tiene stock suficiente no se aplica ninguno.
+     */
+    @Override
+    @Transactional
+    public List<ProductMovement> recordAppointmentConsumption(RecordAppointmentConsumptionCommand command) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        if (command.getProductIds() != null) {
+            command.getProductIds().stream()
+                    .filter(productId -> productId != null && !productId.isBlank())
+                    .forEach(productId -> quantities.merge(productId, 1, Integer::sum));
+        }
+
+        productMovementPort.findByAppointmentId(command.getAppointmentId()).stream()
+                .filter(movement -> movement.getType() == ProductMovementType.EXIT_CONSUMPTION)
+                .forEach(movement -> quantities.remove(movement.getProductId()));
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Product> products = new HashMap<>();
+        for (Product product : productRepositoryPort.findAllById(quantities.keySet())) {
+            if (product.getClinicId().equals(command.getClinicId()) && Boolean.TRUE.equals(product.getIsActive()))
+                products.put(product.getProductId(), product);
+        }
+        quantities.keySet().retainAll(products.keySet());
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        String batchId = UUID.randomUUID().toString();
+        productRepositoryPort.decrementStock(command.getClinicId(), batchId, quantities).ifPresent(productId -> {
+            ValidationResult result = new ValidationResult();
+            result.addError("productIds[" + productId + "]", "Stock insuficiente para el consumo de la cita");
+            throw new ProductValidationException(result);
+        });
+
+        List<ProductMovement> movements = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> movements.add(ProductMovement.forAppointment(
+                batchId, command.getAppointmentId(), productId, command.getClinicId(), quantity,
+                command.getDate(), command.getEmployeeId())));
+
+        try {
+            productMovementPort.saveAll(movements);
+        } catch (DuplicateKeyException e) {
+            // Otra ejecución del mismo consumo insertó antes
+            productRepositoryPort.incrementStock(command.getClinicId(), quantities);
+            return List.of();
+        } catch (RuntimeException e) {
+            productRepositoryPort.incrementStock(command.getClinicId(), quantities);
+            throw e;
+        }
+
+        movements.forEach(this::publishDomainEvents);
+        quantities.forEach((productId, quantity) -> domainEventPublisher.publish(ProductStockUpdatedEvent.of(
+                productId, command.getClinicId(), products.get(productId).getStock() - quantity,
+                ProductMovementType.EXIT_CONSUMPTION)));
+        return movements;
     }
 
     @Override
@@ -35,17 +35,23 @@ public class ProductService implements ProductUseCase, ApplicationService {
             throw new ProductAlreadyExistsException("sku", command.getSku());
         }
 
+        String barcode = normalizeBarcode(command.getBarcode());
+        if (barcode != null && productRepositoryPort.existsByBarcodeAndClinicId(barcode, command.getClinicId())) {
+            throw new ProductAlreadyExistsException("barcode", barcode);
+        }
+
         ProductDetails details = productDetailsFactory.create(command.getDetailsRequest());
 
         Product product = Product.create(
                 command.getClinicId(), command.getName(), command.getDescription(),
-                command.getSku(), command.getBarcode(),
+                command.getSku(), barcode,
                 command.getPrice(), command.getTaxRate(),
                 command.getStock(), command.getMinStock(),
                 details);
 
+        Product saved = productRepositoryPort.save(product);
         publishDomainEvents(product);
-        return productRepositoryPort.save(product);
+        return saved;
     }
 
     @Override
@@ -59,16 +65,23 @@ public class ProductService implements ProductUseCase, ApplicationService {
             throw new ProductAlreadyExistsException("sku", command.getSku());
         }
 
+        String barcode = normalizeBarcode(command.getBarcode());
+        if (barcode != null && productRepositoryPort.existsByBarcodeAndClinicIdAndIdNot(
+                barcode, existing.getClinicId(), id)) {
+            throw new ProductAlreadyExistsException("barcode", barcode);
+        }
+
         ProductDetails details = productDetailsFactory.create(command.getDetailsRequest());
 
         existing.update(command.getName(), command.getDescription(),
-                command.getSku(), command.getBarcode(),
+                command.getSku(), barcode,
                 command.getPrice(), command.getTaxRate(),
                 command.getStock(), command.getMinStock(),
                 details);
 
+        Product saved = productRepositoryPort.save(existing);
         publishDomainEvents(existing);
-        return productRepositoryPort.save(existing);
+        return saved;
     }
 
     @Override
@@ -76,8 +89,8 @@ public class ProductService implements ProductUseCase, ApplicationService {
         Product product = productRepositoryPort.findById(command.getProductId())
                 .orElseThrow(() -> new ProductNotFoundException("Product", command.getProductId()));
         product.deactivate(command.getReason());
-        publishDomainEvents(product);
         productRepositoryPort.save(product);
+        publishDomainEvents(product);
     }
 
     @Override
@@ -101,6 +114,18 @@ public class ProductService implements ProductUseCase, ApplicationService {
         return productRepositoryPort.findByClinicIdAndArea(clinicId, area);
     }
 
+    @Override
+    public Product scanProduct(String clinicId, String code) {
+        String normalized = code != null ? code.trim() : "";
+        return productRepositoryPort.findActiveByClinicIdAndCode(clinicId, normalized)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with code: " + normalized));
+    }
+
+    // Un código vacío equivale a no tenerlo: el índice único solo cubre los productos con código
+    private static String normalizeBarcode(String barcode) {
+        return barcode != null && !barcode.isBlank() ? barcode.trim() : null;
+    }
+
     private void publishDomainEvents(Product product) {
         List<DomainEvent> events = product.getDomainEvents();
         events.forEach(domainEventPublisher::publish);
@@ -0,0 +1,128 @@
+package com.datavet.product.application.service;
+
+import com.datavet.product.application.dto.StockDrift;
+import com.datavet.product.application.port.in.StockLedgerUseCase;
+import com.datavet.product.application.port.out.ProductMovementPort;
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.application.port.out.StockSnapshotPort;
+import com.datavet.product.domain.exception.ProductNotFoundException;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.domain.model.StockSnapshot;
+import com.datavet.shared.application.service.ApplicationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Libro de stock: cierres diarios por producto ({@link StockSnapshot}) sobre los movimientos.
+ *
+ * Cada cierre se encadena con el del día anterior (cierre previo + variación neta del día), no con el
+ * stock guardado, así que una diferencia entre ambos sigue siendo visible en la conciliación. El primer
+ * cierre de un producto, o el que sigue a un día sin cierre, se deduce hacia atrás desde el stock actual.
+ *
+ * Los movimientos se ordenan por su {@code date}: uno registrado hoy con fecha de un día ya cerrado no
+ * cambia ese cierre y aparece como diferencia hasta que se corrija.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StockLedgerService implements StockLedgerUseCase, ApplicationService {
+
+    private final ProductRepositoryPort productRepositoryPort;
+    private final ProductMovementPort   productMovementPort;
+    private final StockSnapshotPort     stockSnapshotPort;
+
+    @Override
+    public int getStockAt(String productId, String clinicId, LocalDateTime at) {
+        Product product = productRepositoryPort.findById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("Product", productId));
+        if (!product.getClinicId().equals(clinicId))
+            throw new AccessDeniedException("El producto no pertenece a tu clínica");
+
+        if (product.getCreatedAt() != null && at.isBefore(product.getCreatedAt()))
+            return 0;
+
+        // Un cierre y, como mucho, los movimientos del propio día si el cierre anterior es el de ayer
+        return stockSnapshotPort.findLatestBefore(productId, at.toLocalDate())
+                .map(snapshot -> snapshot.getClosingStock() + net(productMovementPort.findByProductIdAndDateRange(
+                        productId, snapshot.getDate().plusDays(1).atStartOfDay(), at)))
+                // Sin cierres todavía: hacia atrás desde el stock actual
+                .orElseGet(() -> product.getStock() - net(
+                        productMovementPort.findByProductIdAndDateRange(productId, at, null)));
+    }
+
+    @Override
+    @Transactional
+    public int takeSnapshots(String clinicId, LocalDate day) {
+        List<Product> products = productRepositoryPort.findByClinicId(clinicId);
+        if (products.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime dayStart = day.atStartOfDay();
+        LocalDateTime dayEnd   = day.plusDays(1).atStartOfDay();
+
+        Map<String, Integer> previous = stockSnapshotPort.findByClinicIdAndDate(clinicId, day.minusDays(1)).stream()
+                .collect(Collectors.toMap(StockSnapshot::getProductId, StockSnapshot::getClosingStock));
+        Map<String, Integer> netOfDay = productMovementPort.sumNetByProduct(clinicId, dayStart, dayEnd);
+
+        // Solo si hace falta deducir algún cierre desde el stock actual
+        Map<String, Integer> netAfter = products.stream().allMatch(p -> previous.containsKey(p.getProductId()))
+                ? Map.of()
+                : productMovementPort.sumNetByProduct(clinicId, dayEnd, null);
+
+        List<StockSnapshot> snapshots = new ArrayList<>(products.size());
+        for (Product product : products) {
+            String  productId = product.getProductId();
+            Integer before    = previous.get(productId);
+            int closing = before != null
+                    ? before + netOfDay.getOrDefault(productId, 0)
+                    : product.getStock() - netAfter.getOrDefault(productId, 0);
+            snapshots.add(StockSnapshot.of(productId, clinicId, day, closing));
+        }
+        stockSnapshotPort.saveAll(snapshots);
+        return snapshots.size();
+    }
+
+    @Override
+    public List<StockDrift> reconcile(String clinicId) {
+        LocalDate closedDay = LocalDate.now().minusDays(1);
+        Map<String, Integer> closing = stockSnapshotPort.findByClinicIdAndDate(clinicId, closedDay).stream()
+                .collect(Collectors.toMap(StockSnapshot::getProductId, StockSnapshot::getClosingStock));
+        if (closing.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Integer> netSince = productMovementPort.sumNetByProduct(
+                clinicId, closedDay.plusDays(1).atStartOfDay(), null);
+        Map<String, Product> products = productRepositoryPort.findByClinicId(clinicId).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+        List<StockDrift> drifts = new ArrayList<>();
+        closing.forEach((productId, closingStock) -> {
+            Product product = products.get(productId);
+            if (product == null) {
+                return;
+            }
+            int ledgerStock = closingStock + netSince.getOrDefault(productId, 0);
+            if (ledgerStock != product.getStock()) {
+                drifts.add(new StockDrift(productId, product.getName(), product.getStock(), ledgerStock));
+            }
+        });
+        return drifts;
+    }
+
+    private static int net(List<ProductMovement> movements) {
+        return movements.stream().mapToInt(ProductMovement::signedQuantity).sum();
+    }
+}
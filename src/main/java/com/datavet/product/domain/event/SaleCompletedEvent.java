@@ -0,0 +1,42 @@
+package com.datavet.product.domain.event;
+
+import com.datavet.shared.domain.event.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Venta de varias líneas ya aplicada: un único evento por ticket en lugar de un
+ * {@link ProductStockUpdatedEvent} por línea. {@code stockAfter} es el stock leído al validar menos lo
+ * vendido; si otra operación movió el stock a la vez puede no coincidir con el guardado.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SaleCompletedEvent implements DomainEvent {
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Line {
+        private String  productId;
+        private Integer quantity;
+        private Integer stockAfter;
+    }
+
+    private String        saleId;
+    private String        clinicId;
+    private String        employeeId;
+    private List<Line>    lines;
+    private LocalDateTime occurredOn;
+
+    public static SaleCompletedEvent of(String saleId, String clinicId, String employeeId, List<Line> lines) {
+        return new SaleCompletedEvent(saleId, clinicId, employeeId, List.copyOf(lines), LocalDateTime.now());
+    }
+
+    @Override
+    public LocalDateTime occurredOn() { return this.occurredOn; }
+}
@@ -0,0 +1,79 @@
+package com.datavet.product.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Consumo medio de un producto (unidades/día) con media móvil exponencial en tiempo continuo.
+ *
+ * Cada salida aporta {@code cantidad / τ} y el acumulado decae con {@code e^(-Δt/τ)}, donde
+ * {@code τ = vida media / ln 2}: una salida de hace una vida media pesa la mitad que una de hoy. Registrar
+ * una salida solo necesita el valor anterior y su instante, nunca el histórico.
+ *
+ * Mientras el historial es más corto que el horizonte, el acumulado subestima el consumo;
+ * {@link #dailyRateAt} lo corrige con el tiempo transcurrido desde la primera salida, contando como mínimo
+ * una vida media para que unas pocas salidas recientes no disparen la estimación.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ConsumptionRate {
+
+    private static final double MILLIS_PER_DAY = 86_400_000d;
+
+    private String        productId;
+    private String        clinicId;
+    // Acumulado decaído hasta updatedAt, en unidades/día
+    private double        rate;
+    private LocalDateTime since;
+    private LocalDateTime updatedAt;
+
+    public static ConsumptionRate empty(String productId, String clinicId) {
+        return new ConsumptionRate(productId, clinicId, 0, null, null);
+    }
+
+    public static ConsumptionRate reconstitute(String productId, String clinicId, double rate,
+                                               LocalDateTime since, LocalDateTime updatedAt) {
+        return new ConsumptionRate(productId, clinicId, rate, since, updatedAt);
+    }
+
+    /**
+     * Nuevo estado tras una salida de {@code quantity} unidades en {@code at}. Una salida anterior a la última
+     * registrada entra ya decaída hasta ese instante, así que el orden de llegada no cambia el resultado.
+     */
+    public ConsumptionRate record(int quantity, LocalDateTime at, double halfLifeDays) {
+        double tau = tau(halfLifeDays);
+        LocalDateTime first = since == null || at.isBefore(since) ? at : since;
+        if (updatedAt == null) {
+            return new ConsumptionRate(productId, clinicId, quantity / tau, first, at);
+        }
+        double days = daysBetween(updatedAt, at);
+        if (days >= 0) {
+            return new ConsumptionRate(productId, clinicId, rate * Math.exp(-days / tau) + quantity / tau, first, at);
+        }
+        return new ConsumptionRate(productId, clinicId, rate + quantity / tau * Math.exp(days / tau), first, updatedAt);
+    }
+
+    /** Consumo estimado en unidades/día en {@code now}; 0 si nunca ha habido salidas. */
+    public double dailyRateAt(LocalDateTime now, double halfLifeDays) {
+        if (updatedAt == null) {
+            return 0;
+        }
+        double tau     = tau(halfLifeDays);
+        double decayed = rate * Math.exp(-Math.max(0, daysBetween(updatedAt, now)) / tau);
+        double history = Math.max(daysBetween(since, now), halfLifeDays);
+        return decayed / (1 - Math.exp(-history / tau));
+    }
+
+    /** Constante de tiempo τ en días: el acumulado decae con {@code e^(-Δt/τ)}. */
+    public static double tau(double halfLifeDays) {
+        return halfLifeDays / Math.log(2);
+    }
+
+    private static double daysBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).toMillis() / MILLIS_PER_DAY;
+    }
+}
@@ -34,6 +34,14 @@ public class ProductMovement extends AggregateRoot<String> implements Document<S
     @Override
     public String getId() { return this.id; }
 
+    /** Variación de stock que produce el movimiento: positiva en entradas, negativa en salidas. */
+    public int signedQuantity() {
+        return switch (type) {
+            case ENTRY                       -> quantity;
+            case EXIT_SALE, EXIT_CONSUMPTION -> -quantity;
+        };
+    }
+
     public static ProductMovement create(String productId,
                                          String clinicId,
                                          ProductMovementType type,
@@ -78,6 +86,34 @@ public class ProductMovement extends AggregateRoot<String> implements Document<S
         return movement;
     }
 
+    /** Línea de una venta: comparte {@code saleId} con el resto del ticket y no emite evento propio. */
+    public static ProductMovement forSale(String saleId, String productId, String clinicId, Integer quantity,
+                                          LocalDateTime date, String employeeId, String notes) {
+        return new ProductMovement(UUID.randomUUID().toString(), productId, clinicId,
+                ProductMovementType.EXIT_SALE, quantity, date, employeeId, saleId, null, notes,
+                LocalDateTime.now());
+    }
+
+    /**
+     * Consumo registrado al finalizar una cita. El id es {@code appointmentId|productId}: reintentar el mismo
+     * consumo choca con el movimiento ya insertado en lugar de duplicarlo.
+     */
+    public static ProductMovement forAppointment(String batchId, String appointmentId, String productId,
+                                                 String clinicId, Integer quantity, LocalDateTime date,
+                                                 String employeeId) {
+        String id = consumptionIdOf(appointmentId, productId);
+        ProductMovement movement = new ProductMovement(id, productId, clinicId,
+                ProductMovementType.EXIT_CONSUMPTION, quantity, date, employeeId, batchId, appointmentId,
+                "Consumo automático al finalizar la cita", LocalDateTime.now());
+        movement.addDomainEvent(ProductMovementCreatedEvent.of(
+                id, productId, clinicId, ProductMovementType.EXIT_CONSUMPTION, quantity));
+        return movement;
+    }
+
+    public static String consumptionIdOf(String appointmentId, String productId) {
+        return appointmentId + "|" + productId;
+    }
+
     public static ProductMovement reconstitute(String id, String productId, String clinicId,
                                                 ProductMovementType type, Integer quantity,
                                                 LocalDateTime date, String employeeId,
@@ -0,0 +1,149 @@
+package com.datavet.product.domain.model;
+
+import com.datavet.product.domain.event.SaleCompletedEvent;
+import com.datavet.product.domain.exception.ProductValidationException;
+import com.datavet.product.domain.pricing.BasketTotals;
+import com.datavet.product.domain.pricing.MinorUnits;
+import com.datavet.product.domain.pricing.SaleTotals;
+import com.datavet.product.domain.valueobject.SaleLine;
+import com.datavet.shared.domain.model.AggregateRoot;
+import com.datavet.shared.domain.validation.ValidationResult;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Venta de mostrador con varias líneas. Todas sus salidas de stock comparten {@code saleId} y se aplican
+ * juntas o no se aplica ninguna.
+ *
+ * Las líneas repetidas de un mismo producto con el mismo descuento se agrupan.
+ * {@link #confirm} comprueba todas las líneas contra los productos leídos y acumula los errores, de modo
+ * que el ticket informa de todos los problemas a la vez. Los importes salen de {@link BasketTotals}.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Sale extends AggregateRoot<String> {
+
+    private String                saleId;
+    private String                clinicId;
+    private String                employeeId;
+    private LocalDateTime         date;
+    private String                notes;
+    private List<SaleLine>        lines;
+    private List<ProductMovement> movements;
+    private SaleTotals            totals;
+
+    @Override
+    public String getId() { return this.saleId; }
+
+    public static Sale create(String clinicId, String employeeId, LocalDateTime date, String notes,
+                              List<SaleLine> lines) {
+        ValidationResult result = new ValidationResult();
+
+        if (clinicId == null || clinicId.isBlank())
+            result.addError("clinicId", "El identificador de clínica no puede ser nulo");
+        if (employeeId == null || employeeId.isBlank())
+            result.addError("employeeId", "El identificador del empleado no puede ser nulo");
+        if (date == null)
+            result.addError("date", "La fecha de la venta no puede ser nula");
+        if (lines == null || lines.isEmpty())
+            result.addError("lines", "La venta debe tener al menos una línea");
+
+        // Producto y descuento → línea agrupada
+        Map<String, SaleLine> grouped = new LinkedHashMap<>();
+        if (lines != null) {
+            for (int i = 0; i < lines.size(); i++) {
+                SaleLine line = lines.get(i);
+                if (line == null || line.getProductId() == null || line.getProductId().isBlank()) {
+                    result.addError("lines[" + i + "].productId", "El identificador del producto no puede ser nulo");
+                } else if (line.getQuantity() == null || line.getQuantity() <= 0) {
+                    result.addError("lines[" + i + "].quantity", "La cantidad de la línea debe ser mayor a cero");
+                } else if (line.getDiscount() != null
+                        && (line.getDiscount().signum() < 0 || line.getDiscount().compareTo(BigDecimal.ONE) > 0)) {
+                    result.addError("lines[" + i + "].discount", "El descuento debe estar entre 0 y 1");
+                } else {
+                    int discount = discountOf(line);
+                    grouped.merge(line.getProductId() + "|" + discount, line, (a, b) ->
+                            new SaleLine(a.getProductId(), a.getQuantity() + b.getQuantity(), a.getDiscount()));
+                }
+            }
+        }
+
+        if (result.hasErrors()) throw new ProductValidationException(result);
+
+        String                saleId    = UUID.randomUUID().toString();
+        List<ProductMovement> movements = new ArrayList<>();
+        grouped.values().forEach(line -> movements.add(ProductMovement.forSale(
+                saleId, line.getProductId(), clinicId, line.getQuantity(), date, employeeId, notes)));
+
+        return new Sale(saleId, clinicId, employeeId, date, notes,
+                List.copyOf(grouped.values()), List.copyOf(movements), null);
+    }
+
+    /** Unidades por producto, en el orden del ticket. */
+    public Map<String, Integer> quantities() {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        lines.forEach(line -> quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum));
+        return quantities;
+    }
+
+    /**
+     * Totales del ticket con los precios y tipos de IVA de los productos ({@code productId → producto}),
+     * que deben estar todos. No comprueba stock.
+     */
+    public SaleTotals price(Map<String, Product> products) {
+        BasketTotals basket = new BasketTotals();
+        for (SaleLine line : lines) {
+            Product product = products.get(line.getProductId());
+            basket.addLine(
+                    MinorUnits.fromDecimal(product.getPrice()),
+                    line.getQuantity(),
+                    MinorUnits.rateFromDecimal(product.getTaxRate()),
+                    discountOf(line));
+        }
+        return basket.snapshot();
+    }
+
+    /**
+     * Valida todas las líneas contra los productos ({@code productId → producto}), calcula los totales y
+     * registra {@link SaleCompletedEvent}. No modifica los productos: el descuento de stock lo aplica la
+     * persistencia en bloque.
+     */
+    public void confirm(Map<String, Product> products) {
+        ValidationResult result = new ValidationResult();
+        List<SaleCompletedEvent.Line> eventLines = new ArrayList<>();
+
+        for (Map.Entry<String, Integer> line : quantities().entrySet()) {
+            Product product = products.get(line.getKey());
+            String  field   = "lines[" + line.getKey() + "]";
+            if (product == null) {
+                result.addError(field, "El producto no existe");
+            } else if (Boolean.FALSE.equals(product.getIsActive())) {
+                result.addError(field, "No se puede vender un producto desactivado");
+            } else if (product.getStock() < line.getValue()) {
+                result.addError(field, "Stock insuficiente. Disponible: " + product.getStock()
+                        + ", solicitado: " + line.getValue());
+            } else {
+                eventLines.add(new SaleCompletedEvent.Line(line.getKey(), line.getValue(),
+                        product.getStock() - line.getValue()));
+            }
+        }
+
+        if (result.hasErrors()) throw new ProductValidationException(result);
+
+        this.totals = price(products);
+        addDomainEvent(SaleCompletedEvent.of(saleId, clinicId, employeeId, eventLines));
+    }
+
+    private static int discountOf(SaleLine line) {
+        return line.getDiscount() != null ? MinorUnits.rateFromDecimal(line.getDiscount()) : 0;
+    }
+}
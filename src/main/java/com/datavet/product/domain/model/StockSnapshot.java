@@ -0,0 +1,38 @@
+package com.datavet.product.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Stock de cierre de un producto al final de un día: el stock tras aplicar todos los movimientos con
+ * {@code date} de ese día o anterior. El id es {@code productId|fecha}, así que repetir el cierre de un día
+ * lo sobrescribe.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class StockSnapshot {
+
+    private String        snapshotId;
+    private String        productId;
+    private String        clinicId;
+    private LocalDate     date;
+    private Integer       closingStock;
+    private LocalDateTime createdAt;
+
+    public static StockSnapshot of(String productId, String clinicId, LocalDate date, int closingStock) {
+        return new StockSnapshot(idOf(productId, date), productId, clinicId, date, closingStock, LocalDateTime.now());
+    }
+
+    public static StockSnapshot reconstitute(String snapshotId, String productId, String clinicId, LocalDate date,
+                                             Integer closingStock, LocalDateTime createdAt) {
+        return new StockSnapshot(snapshotId, productId, clinicId, date, closingStock, createdAt);
+    }
+
+    public static String idOf(String productId, LocalDate date) {
+        return productId + "|" + date;
+    }
+}
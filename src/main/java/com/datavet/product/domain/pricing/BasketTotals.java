@@ -0,0 +1,131 @@
+package com.datavet.product.domain.pricing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Acumulador de totales de una cesta en céntimos, sin reservar memoria por línea: un mismo objeto se
+ * reutiliza con {@link #reset()} (p. ej. uno por hilo en el TPV).
+ *
+ * Cálculo, en este orden:
+ * <ol>
+ *   <li>bruto de línea = precio unitario × unidades;</li>
+ *   <li>descuento de línea = bruto × descuento, redondeado al céntimo;</li>
+ *   <li>base de línea = bruto − descuento, acumulada en la base de su tipo de IVA;</li>
+ *   <li>cuota de cada tipo = suma de bases del tipo × tipo, redondeada al céntimo una sola vez por tipo
+ *       (no por línea), como en el desglose de una factura;</li>
+ *   <li>total = suma de bases + suma de cuotas.</li>
+ * </ol>
+ * Los precios no incluyen IVA. Redondeos según {@link MinorUnits}; un desbordamiento de {@code long}
+ * lanza {@link ArithmeticException} en lugar de dar un total erróneo.
+ *
+ * No es seguro entre hilos.
+ */
+public final class BasketTotals {
+
+    /** Tipos distintos admitidos en una cesta (IVA general, reducido, superreducido, exento y margen). */
+    public static final int MAX_RATES = 8;
+
+    private final int[]  rates = new int[MAX_RATES];
+    private final long[] bases = new long[MAX_RATES];
+    private int  rateCount;
+    private long gross;
+    private long discount;
+
+    public BasketTotals reset() {
+        rateCount = 0;
+        gross     = 0;
+        discount  = 0;
+        return this;
+    }
+
+    /**
+     * Añade una línea.
+     *
+     * @param unitPrice   precio unitario sin IVA, en céntimos
+     * @param quantity    unidades (&gt; 0)
+     * @param taxRate     tipo de IVA en puntos básicos (2100 = 21 %)
+     * @param discountBp  descuento de la línea en puntos básicos (0..10 000)
+     */
+    public BasketTotals addLine(long unitPrice, int quantity, int taxRate, int discountBp) {
+        if (unitPrice < 0 || quantity <= 0 || taxRate < 0
+                || discountBp < 0 || discountBp > MinorUnits.BASIS_POINTS) {
+            throw new IllegalArgumentException("Línea de cesta fuera de rango");
+        }
+        long lineGross    = Math.multiplyExact(unitPrice, (long) quantity);
+        long lineDiscount = MinorUnits.percentOf(lineGross, discountBp);
+
+        gross    = Math.addExact(gross, lineGross);
+        discount = Math.addExact(discount, lineDiscount);
+
+        int slot = slotFor(taxRate);
+        bases[slot] = Math.addExact(bases[slot], lineGross - lineDiscount);
+        return this;
+    }
+
+    /** Suma de brutos (precio × unidades, antes de descuentos). */
+    public long gross() {
+        return gross;
+    }
+
+    public long discount() {
+        return discount;
+    }
+
+    /** Base imponible total (bruto − descuentos). */
+    public long taxableBase() {
+        return gross - discount;
+    }
+
+    public long taxTotal() {
+        long total = 0;
+        for (int i = 0; i < rateCount; i++) {
+            total = Math.addExact(total, tax(i));
+        }
+        return total;
+    }
+
+    public long total() {
+        return Math.addExact(taxableBase(), taxTotal());
+    }
+
+    public int rateCount() {
+        return rateCount;
+    }
+
+    /** Tipo del desglose {@code i} en puntos básicos, en orden de aparición en la cesta. */
+    public int rate(int i) {
+        return rates[i];
+    }
+
+    public long base(int i) {
+        return bases[i];
+    }
+
+    public long tax(int i) {
+        return MinorUnits.percentOf(bases[i], rates[i]);
+    }
+
+    /** Copia inmutable del resultado; aquí sí se reserva memoria. */
+    public SaleTotals snapshot() {
+        List<SaleTotals.TaxLine> breakdown = new ArrayList<>(rateCount);
+        for (int i = 0; i < rateCount; i++) {
+            breakdown.add(new SaleTotals.TaxLine(rates[i], bases[i], tax(i)));
+        }
+        return new SaleTotals(gross, discount, taxableBase(), taxTotal(), total(), List.copyOf(breakdown));
+    }
+
+    private int slotFor(int taxRate) {
+        for (int i = 0; i < rateCount; i++) {
+            if (rates[i] == taxRate) {
+                return i;
+            }
+        }
+        if (rateCount == MAX_RATES) {
+            throw new IllegalArgumentException("Demasiados tipos de IVA distintos en una cesta");
+        }
+        rates[rateCount] = taxRate;
+        bases[rateCount] = 0;
+        return rateCount++;
+    }
+}
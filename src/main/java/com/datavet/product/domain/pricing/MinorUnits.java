@@ -0,0 +1,46 @@
+package com.datavet.product.domain.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversión entre {@link BigDecimal} y la representación de punto fijo del motor de totales: importes en
+ * céntimos ({@code long}) y porcentajes en puntos básicos ({@code int}, 21 % = 2100).
+ *
+ * Reglas de redondeo, siempre explícitas:
+ * <ul>
+ *   <li>Un importe con más de dos decimales se redondea al céntimo, mitad hacia arriba.</li>
+ *   <li>Un tipo con más de dos decimales de porcentaje (0,21375) se redondea al punto básico.</li>
+ *   <li>Un porcentaje aplicado a un importe se redondea al céntimo, mitad hacia arriba.</li>
+ * </ul>
+ * Solo se usa {@code BigDecimal} en la frontera (entrada de precios y tipos, salida hacia la API).
+ */
+public final class MinorUnits {
+
+    public static final int BASIS_POINTS = 10_000;
+
+    private MinorUnits() {}
+
+    public static long fromDecimal(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minor) {
+        return BigDecimal.valueOf(minor, 2);
+    }
+
+    /** Tipo expresado como fracción (0.21) a puntos básicos (2100). */
+    public static int rateFromDecimal(BigDecimal rate) {
+        return rate.movePointRight(4).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    /** Puntos básicos (2100) a fracción (0.2100). */
+    public static BigDecimal rateToDecimal(int basisPoints) {
+        return BigDecimal.valueOf(basisPoints, 4);
+    }
+
+    /** {@code amount × basisPoints / 10 000} redondeado al céntimo, mitad hacia arriba (importes no negativos). */
+    public static long percentOf(long amount, int basisPoints) {
+        return (Math.multiplyExact(amount, basisPoints) + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+}
@@ -0,0 +1,24 @@
+package com.datavet.product.domain.pricing;
+
+import lombok.Value;
+
+import java.util.List;
+
+/** Totales ya calculados de una cesta, en céntimos; el desglose de IVA va por tipo (puntos básicos). */
+@Value
+public class SaleTotals {
+
+    @Value
+    public static class TaxLine {
+        int  rate;
+        long base;
+        long tax;
+    }
+
+    long          gross;
+    long          discount;
+    long          taxableBase;
+    long          taxTotal;
+    long          total;
+    List<TaxLine> taxBreakdown;
+}
@@ -0,0 +1,19 @@
+package com.datavet.product.domain.valueobject;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/** Línea de un ticket: producto, unidades vendidas y descuento opcional como fracción (0.10 = 10 %). */
+@Value
+@AllArgsConstructor
+public class SaleLine {
+    String     productId;
+    Integer    quantity;
+    BigDecimal discount;
+
+    public SaleLine(String productId, Integer quantity) {
+        this(productId, quantity, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.datavet.product.infrastructure.adapter.input;
+
+import com.datavet.auth.infrastructure.security.AuthenticatedUser;
+import com.datavet.product.application.dto.ProductForecast;
+import com.datavet.product.application.port.in.ForecastUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/product/forecast")
+@RequiredArgsConstructor
+public class ForecastController {
+
+    private final ForecastUseCase forecastUseCase;
+
+    // Días de cobertura y cantidad sugerida de la clínica del usuario, los que antes se agotan primero
+    @GetMapping
+    public ResponseEntity<List<ProductForecast>> getForecast(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(forecastUseCase.getForecast(currentUser.getClinicId()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.datavet.product.infrastructure.adapter.input;
+
+import com.datavet.auth.infrastructure.security.AuthenticatedUser;
+import com.datavet.product.application.dto.LowStockItem;
+import com.datavet.product.application.port.in.LowStockUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/product/low-stock")
+@RequiredArgsConstructor
+public class LowStockController {
+
+    private final LowStockUseCase lowStockUseCase;
+    private final LowStockStream  lowStockStream;
+
+    // Vista de reposición de la clínica del usuario: sin recorrer el catálogo
+    @GetMapping
+    public ResponseEntity<List<LowStockItem>> getLowStock(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(lowStockUseCase.getLowStock(currentUser.getClinicId()));
+    }
+
+    // Eventos BELOW / RECOVERED a medida que los productos cruzan su stock mínimo
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return lowStockStream.subscribe(currentUser.getClinicId());
+    }
+}
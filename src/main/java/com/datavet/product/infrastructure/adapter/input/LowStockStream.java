@@ -0,0 +1,77 @@
+package com.datavet.product.infrastructure.adapter.input;
+
+import com.datavet.product.application.dto.LowStockCrossing;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Suscripciones SSE a los cruces de stock mínimo, por clínica.
+ *
+ * Los envíos salen de un único hilo propio: el cruce se detecta dentro de la petición que movió el stock
+ * y un cliente lento no debe retrasarla. Un emisor que falla al enviar se descarta; el cliente vuelve a
+ * suscribirse y pide la lista actual a {@code /product/low-stock}.
+ */
+@Slf4j
+@Component
+public class LowStockStream {
+
+    private final long timeoutMs;
+
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final ExecutorService              sender   = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("low-stock-sse").daemon(true).factory());
+
+    public LowStockStream(@Value("${datavet.product.low-stock.sse-timeout-ms:1800000}") long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    public SseEmitter subscribe(String clinicId) {
+        SseEmitter      emitter     = new SseEmitter(timeoutMs);
+        Set<SseEmitter> subscribers = emitters.computeIfAbsent(clinicId, id -> ConcurrentHashMap.newKeySet());
+        subscribers.add(emitter);
+
+        Runnable unsubscribe = () -> subscribers.remove(emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    @EventListener
+    public void on(LowStockCrossing crossing) {
+        Set<SseEmitter> subscribers = emitters.get(crossing.getClinicId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        sender.execute(() -> {
+            for (SseEmitter emitter : subscribers) {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .name(crossing.getType().name())
+                            .data(crossing));
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(emitter);
+                    log.debug("Suscripción SSE de stock bajo cerrada en la clínica {}: {}",
+                            crossing.getClinicId(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sender.shutdownNow();
+        emitters.values().forEach(subscribers -> subscribers.forEach(SseEmitter::complete));
+    }
+}
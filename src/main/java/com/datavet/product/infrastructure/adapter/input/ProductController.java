@@ -1,5 +1,6 @@
 package com.datavet.product.infrastructure.adapter.input;
 
+import com.datavet.auth.infrastructure.security.AuthenticatedUser;
 import com.datavet.product.application.dto.ProductResponse;
 import com.datavet.product.application.mapper.ProductMapper;
 import com.datavet.product.application.port.in.ProductUseCase;
@@ -15,6 +16,7 @@ import com.datavet.product.infrastructure.adapter.input.dto.UpdateProductRequest
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -53,6 +55,15 @@ public class ProductController {
         return ResponseEntity.ok(ProductMapper.toResponse(productUseCase.getProductById(id)));
     }
 
+    // Lectura en caja: código de barras o SKU escaneado en la clínica del usuario, con su stock actual
+    @GetMapping("/scan/{code}")
+    public ResponseEntity<ProductResponse> scan(
+            @PathVariable String code,
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(ProductMapper.toResponse(
+                productUseCase.scanProduct(currentUser.getClinicId(), code)));
+    }
+
     @GetMapping("/clinic/{clinicId}")
     public ResponseEntity<List<ProductResponse>> getByClinic(
             @PathVariable String clinicId,
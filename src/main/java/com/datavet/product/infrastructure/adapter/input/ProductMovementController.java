@@ -1,17 +1,26 @@
 package com.datavet.product.infrastructure.adapter.input;
 
 import com.datavet.product.application.dto.ProductMovementResponse;
+import com.datavet.product.application.dto.StockDrift;
 import com.datavet.product.application.mapper.ProductMovementMapper;
 import com.datavet.product.application.port.in.ProductMovementUseCase;
+import com.datavet.product.application.port.in.StockLedgerUseCase;
+import com.datavet.product.application.dto.SaleResponse;
 import com.datavet.product.application.port.in.command.CreateProductMovementCommand;
+import com.datavet.product.application.port.in.command.CreateSaleCommand;
 import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.domain.model.Sale;
 import com.datavet.product.domain.valueobject.ProductMovementType;
+import com.datavet.product.domain.valueobject.SaleLine;
 import com.datavet.product.infrastructure.adapter.input.dto.CreateProductMovementRequest;
+import com.datavet.product.infrastructure.adapter.input.dto.CreateSaleRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -20,6 +29,7 @@ import java.util.List;
 public class ProductMovementController {
 
     private final ProductMovementUseCase productMovementUseCase;
+    private final StockLedgerUseCase     stockLedgerUseCase;
 
     @PostMapping("/product/{productId}/clinic/{clinicId}")
     public ResponseEntity<ProductMovementResponse> create(
@@ -42,6 +52,41 @@ public class ProductMovementController {
         return ResponseEntity.status(201).body(ProductMovementMapper.toResponse(movement));
     }
 
+    // Ticket completo: todas las líneas se aplican juntas o ninguna
+    @PostMapping("/sale/clinic/{clinicId}")
+    public ResponseEntity<SaleResponse> createSale(
+            @PathVariable String clinicId,
+            @Valid @RequestBody CreateSaleRequest request) {
+
+        CreateSaleCommand command = CreateSaleCommand.builder()
+                .clinicId(clinicId)
+                .employeeId(request.getEmployeeId())
+                .date(request.getDate())
+                .notes(request.getNotes())
+                .lines(request.getLines().stream()
+                        .map(line -> new SaleLine(line.getProductId(), line.getQuantity(), line.getDiscount()))
+                        .toList())
+                .build();
+
+        Sale sale = productMovementUseCase.createSale(command);
+        return ResponseEntity.status(201).body(ProductMovementMapper.toSaleResponse(sale));
+    }
+
+    // Stock en un instante pasado: último cierre diario + movimientos de ese día
+    @GetMapping("/product/{productId}/clinic/{clinicId}/stock")
+    public ResponseEntity<Integer> getStockAt(
+            @PathVariable String productId,
+            @PathVariable String clinicId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(stockLedgerUseCase.getStockAt(productId, clinicId, at));
+    }
+
+    // Productos cuyo stock no cuadra con el cierre de ayer más los movimientos posteriores
+    @GetMapping("/reconciliation/clinic/{clinicId}")
+    public ResponseEntity<List<StockDrift>> reconcile(@PathVariable String clinicId) {
+        return ResponseEntity.ok(stockLedgerUseCase.reconcile(clinicId));
+    }
+
     @GetMapping("/{movementId}/clinic/{clinicId}")
     public ResponseEntity<ProductMovementResponse> getById(
             @PathVariable String movementId,
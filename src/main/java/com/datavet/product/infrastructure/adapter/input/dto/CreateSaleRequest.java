@@ -0,0 +1,49 @@
+package com.datavet.product.infrastructure.adapter.input.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+public class CreateSaleRequest {
+
+    @NotNull(message = "La fecha de la venta es obligatoria")
+    private LocalDateTime date;
+
+    @NotBlank(message = "El identificador del empleado es obligatorio")
+    private String employeeId;
+
+    private String notes;
+
+    @NotEmpty(message = "La venta debe tener al menos una línea")
+    @Valid
+    private List<Line> lines;
+
+    @Getter
+    @Setter
+    public static class Line {
+
+        @NotBlank(message = "El identificador del producto es obligatorio")
+        private String productId;
+
+        @NotNull(message = "La cantidad es obligatoria")
+        @Min(value = 1, message = "La cantidad debe ser mayor a cero")
+        private Integer quantity;
+
+        // Fracción sobre el importe de la línea: 0.10 = 10 %
+        @DecimalMin(value = "0", message = "El descuento no puede ser negativo")
+        @DecimalMax(value = "1", message = "El descuento no puede superar el 100 %")
+        private BigDecimal discount;
+    }
+}
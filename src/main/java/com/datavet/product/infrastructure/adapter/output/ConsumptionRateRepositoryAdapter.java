@@ -0,0 +1,76 @@
+package com.datavet.product.infrastructure.adapter.output;
+
+import com.datavet.product.application.port.out.ConsumptionRatePort;
+import com.datavet.product.domain.model.ConsumptionRate;
+import com.datavet.product.infrastructure.persistence.document.ConsumptionRateDocument;
+import com.datavet.product.infrastructure.persistence.mapper.ConsumptionRateDocumentMapper;
+import com.datavet.product.infrastructure.persistence.repository.MongoConsumptionRateRepository;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+@Component
+@Profile("!inmemory")
+@RequiredArgsConstructor
+public class ConsumptionRateRepositoryAdapter implements ConsumptionRatePort {
+
+    private static final double MILLIS_PER_DAY = 86_400_000d;
+
+    private final MongoConsumptionRateRepository repository;
+    private final MongoTemplate                  mongoTemplate;
+
+    /**
+     * Upsert con un pipeline de un solo {@code $set} que aplica {@link ConsumptionRate#record} sobre el
+     * documento guardado: MongoDB lo ejecuta de forma atómica, así que las salidas de varias réplicas se
+     * suman en lugar de reemplazarse. Las referencias a campos leen el estado anterior a la actualización;
+     * si el documento no existe ({@code updated_at} ausente) la tasa empieza en {@code cantidad / τ}.
+     */
+    @Override
+    public void record(String productId, String clinicId, int quantity, LocalDateTime at, double halfLifeDays) {
+        double tauDays   = ConsumptionRate.tau(halfLifeDays);
+        double tauMillis = tauDays * MILLIS_PER_DAY;
+        double added     = quantity / tauDays;
+        Date   instant   = Date.from(at.atZone(ZoneId.systemDefault()).toInstant());
+
+        Document first   = new Document("$in", List.of(new Document("$type", "$updated_at"), List.of("missing", "null")));
+        Document rate    = new Document("$ifNull", List.of("$rate", 0));
+        // e^((desde - hasta) / τ), con las fechas restadas en milisegundos
+        Document decayToNow    = exp(new Document("$subtract", List.of("$updated_at", instant)), tauMillis);
+        Document decayToLatest = exp(new Document("$subtract", List.of(instant, "$updated_at")), tauMillis);
+
+        Document newRate = new Document("$cond", List.of(first, added,
+                new Document("$cond", List.of(
+                        new Document("$gte", List.of(instant, "$updated_at")),
+                        new Document("$add", List.of(new Document("$multiply", List.of(rate, decayToNow)), added)),
+                        new Document("$add", List.of(rate, new Document("$multiply", List.of(added, decayToLatest))))))));
+
+        Document set = new Document("clinic_id", new Document("$literal", clinicId))
+                .append("rate", newRate)
+                .append("since", new Document("$min", List.of("$since", instant)))
+                .append("updated_at", new Document("$max", List.of("$updated_at", instant)));
+
+        AggregationOperation stage = context -> new Document("$set", set);
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(productId)),
+                AggregationUpdate.from(List.of(stage)), ConsumptionRateDocument.class);
+    }
+
+    @Override
+    public List<ConsumptionRate> findByClinicId(String clinicId) {
+        return repository.findByClinicId(clinicId).stream().map(ConsumptionRateDocumentMapper::toDomain).toList();
+    }
+
+    private static Document exp(Document millis, double tauMillis) {
+        return new Document("$exp", new Document("$divide", List.of(millis, tauMillis)));
+    }
+}
@@ -0,0 +1,42 @@
+package com.datavet.product.infrastructure.adapter.output;
+
+import com.datavet.product.application.port.out.ConsumptionRatePort;
+import com.datavet.product.domain.model.ConsumptionRate;
+import com.datavet.product.infrastructure.persistence.document.ConsumptionRateDocument;
+import com.datavet.product.infrastructure.persistence.mapper.ConsumptionRateDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementación en memoria de {@link ConsumptionRatePort} (perfil {@code inmemory}).
+ * Replica el índice de {@link ConsumptionRateDocument}.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryConsumptionRateRepositoryAdapter implements ConsumptionRatePort {
+
+    private final InMemoryCollection<ConsumptionRateDocument> collection =
+            InMemoryCollection.<ConsumptionRateDocument>builder("product_consumption_rate", ConsumptionRateDocument::getId)
+                    .index("clinic_idx", ConsumptionRateDocument::getClinicId)
+                    .build();
+
+    // Lectura y escritura bajo el mismo cerrojo: equivale al upsert atómico del adaptador de MongoDB
+    @Override
+    public synchronized void record(String productId, String clinicId, int quantity, LocalDateTime at,
+                                    double halfLifeDays) {
+        ConsumptionRate previous = collection.findById(productId)
+                .map(ConsumptionRateDocumentMapper::toDomain)
+                .orElseGet(() -> ConsumptionRate.empty(productId, clinicId));
+        collection.save(ConsumptionRateDocumentMapper.toDocument(previous.record(quantity, at, halfLifeDays)));
+    }
+
+    @Override
+    public List<ConsumptionRate> findByClinicId(String clinicId) {
+        return collection.findBy("clinic_idx", clinicId).stream()
+                .map(ConsumptionRateDocumentMapper::toDomain).toList();
+    }
+}
@@ -0,0 +1,102 @@
+package com.datavet.product.infrastructure.adapter.output;
+
+import com.datavet.product.application.port.out.ProductMovementPort;
+import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.domain.valueobject.ProductMovementType;
+import com.datavet.product.infrastructure.persistence.document.ProductMovementDocument;
+import com.datavet.product.infrastructure.persistence.mapper.ProductMovementDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection.key;
+
+/**
+ * Implementación en memoria de {@link ProductMovementPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link ProductMovementDocument}.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryProductMovementRepositoryAdapter implements ProductMovementPort {
+
+    private final InMemoryCollection<ProductMovementDocument> collection =
+            InMemoryCollection.<ProductMovementDocument>builder("product_movement", ProductMovementDocument::getId)
+                    .index("product_idx",           ProductMovementDocument::getProductId)
+                    .index("clinic_idx",            ProductMovementDocument::getClinicId)
+                    .index("product_type_idx",      d -> key(d.getProductId(), d.getType()))
+                    .index("clinic_type_idx",       d -> key(d.getClinicId(), d.getType()))
+                    .sparseIndex("appointment_idx", ProductMovementDocument::getAppointmentId)
+                    .sortedIndex("product_date_idx", ProductMovementDocument::getProductId, ProductMovementDocument::getDate)
+                    .sortedIndex("clinic_date_idx",  ProductMovementDocument::getClinicId,  ProductMovementDocument::getDate)
+                    .build();
+
+    @Override public ProductMovement         save(ProductMovement movement)  { return ProductMovementDocumentMapper.toDomain(collection.save(ProductMovementDocumentMapper.toDocument(movement))); }
+    @Override public Optional<ProductMovement> findById(String id)            { return collection.findById(id).map(ProductMovementDocumentMapper::toDomain); }
+    @Override public List<ProductMovement>   findAll()                        { return map(collection.findAll()); }
+    @Override public void                    deleteById(String id)            { collection.deleteById(id); }
+    @Override public boolean                 existsById(String id)            { return collection.existsById(id); }
+
+    @Override
+    public List<ProductMovement> findByProductId(String productId) {
+        return map(collection.findBy("product_idx", productId));
+    }
+
+    @Override
+    public List<ProductMovement> findByProductIdAndType(String productId, ProductMovementType type) {
+        return map(collection.findBy("product_type_idx", key(productId, type)));
+    }
+
+    @Override
+    public List<ProductMovement> findByClinicId(String clinicId) {
+        return map(collection.findBy("clinic_idx", clinicId));
+    }
+
+    @Override
+    public List<ProductMovement> findByClinicIdAndType(String clinicId, ProductMovementType type) {
+        return map(collection.findBy("clinic_type_idx", key(clinicId, type)));
+    }
+
+    @Override
+    public List<ProductMovement> findByAppointmentId(String appointmentId) {
+        return map(collection.findBy("appointment_idx", appointmentId));
+    }
+
+    // Todo o nada, como el adaptador de MongoDB: si una inserción falla se borran las anteriores
+    @Override
+    public List<ProductMovement> saveAll(List<ProductMovement> movements) {
+        List<ProductMovementDocument> inserted = new ArrayList<>(movements.size());
+        try {
+            for (ProductMovement movement : movements) {
+                inserted.add(collection.insert(ProductMovementDocumentMapper.toDocument(movement)));
+            }
+        } catch (RuntimeException e) {
+            inserted.forEach(document -> collection.deleteById(document.getId()));
+            throw e;
+        }
+        return map(inserted);
+    }
+
+    @Override
+    public List<ProductMovement> findByProductIdAndDateRange(String productId, LocalDateTime from, LocalDateTime to) {
+        return map(collection.range("product_date_idx", productId, from, to));
+    }
+
+    @Override
+    public Map<String, Integer> sumNetByProduct(String clinicId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Integer> net = new HashMap<>();
+        map(collection.range("clinic_date_idx", clinicId, from, to))
+                .forEach(movement -> net.merge(movement.getProductId(), movement.signedQuantity(), Integer::sum));
+        return net;
+    }
+
+    private static List<ProductMovement> map(List<ProductMovementDocument> documents) {
+        return documents.stream().map(ProductMovementDocumentMapper::toDomain).toList();
+    }
+}
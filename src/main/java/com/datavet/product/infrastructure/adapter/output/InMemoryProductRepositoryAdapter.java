@@ -0,0 +1,169 @@
+package com.datavet.product.infrastructure.adapter.output;
+
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.exception.ProductValidationException;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.valueobject.ClinicArea;
+import com.datavet.product.domain.valueobject.ProductCategory;
+import com.datavet.product.domain.valueobject.ProductMovementType;
+import com.datavet.product.infrastructure.persistence.document.ProductDocument;
+import com.datavet.product.infrastructure.persistence.mapper.ProductDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection.key;
+
+/**
+ * Implementación en memoria de {@link ProductRepositoryPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link ProductDocument}, incluido el único (sparse) sobre sku + clínica.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryProductRepositoryAdapter implements ProductRepositoryPort {
+
+    private final InMemoryCollection<ProductDocument> collection =
+            InMemoryCollection.<ProductDocument>builder("product", ProductDocument::getId)
+                    .index("clinic_idx",                 ProductDocument::getClinicId)
+                    .index("clinic_category_idx",        d -> key(d.getClinicId(), d.getCategory()))
+                    .uniqueSparseIndex("sku_clinic_idx", d -> key(d.getSku(), d.getClinicId()))
+                    // Equivale al índice parcial: sin código de barras (o con "") el documento no entra
+                    .uniqueSparseIndex("clinic_barcode_idx",
+                            d -> d.getBarcode() != null && !d.getBarcode().isEmpty()
+                                    ? key(d.getClinicId(), d.getBarcode()) : null)
+                    .index("active_idx",                 ProductDocument::getIsActive)
+                    .build();
+
+    @Override
+    public Product save(Product product) {
+        return ProductDocumentMapper.toDomain(collection.save(ProductDocumentMapper.toDocument(product)));
+    }
+
+    @Override
+    public Optional<Product> findById(String id) {
+        return collection.findById(id).map(ProductDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return collection.findAll().stream().map(ProductDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        collection.deleteById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return collection.existsById(id);
+    }
+
+    @Override
+    public List<Product> findByClinicId(String clinicId) {
+        return collection.findBy("clinic_idx", clinicId).stream().map(ProductDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Product> findByClinicIdAndCategory(String clinicId, ProductCategory category) {
+        return collection.findBy("clinic_category_idx", key(clinicId, category)).stream()
+                .map(ProductDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Product> findByClinicIdAndArea(String clinicId, ClinicArea area) {
+        return ProductCategory.ofArea(area).stream()
+                .flatMap(category -> collection.findBy("clinic_category_idx", key(clinicId, category)).stream())
+                .map(ProductDocumentMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public boolean existsBySkuAndClinicId(String sku, String clinicId) {
+        return collection.existsBy("sku_clinic_idx", key(sku, clinicId));
+    }
+
+    @Override
+    public boolean existsBySkuAndClinicIdAndIdNot(String sku, String clinicId, String id) {
+        return collection.existsByAndIdNot("sku_clinic_idx", key(sku, clinicId), id);
+    }
+
+    @Override
+    public boolean existsByBarcodeAndClinicId(String barcode, String clinicId) {
+        return collection.existsBy("clinic_barcode_idx", key(clinicId, barcode));
+    }
+
+    @Override
+    public boolean existsByBarcodeAndClinicIdAndIdNot(String barcode, String clinicId, String id) {
+        return collection.existsByAndIdNot("clinic_barcode_idx", key(clinicId, barcode), id);
+    }
+
+    @Override
+    public Optional<Product> findActiveByClinicIdAndCode(String clinicId, String code) {
+        return collection.findOneBy("clinic_barcode_idx", key(clinicId, code))
+                .filter(d -> Boolean.TRUE.equals(d.getIsActive()))
+                .or(() -> collection.findOneBy("sku_clinic_idx", key(code, clinicId))
+                        .filter(d -> Boolean.TRUE.equals(d.getIsActive())))
+                .map(ProductDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<String> ids) {
+        return ids.stream().flatMap(id -> collection.findById(id).stream())
+                .map(ProductDocumentMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<Product> findBelowMinStock() {
+        return collection.scan(d -> Boolean.TRUE.equals(d.getIsActive())
+                        && d.getStock() != null && d.getMinStock() != null && d.getStock() < d.getMinStock())
+                .stream().map(ProductDocumentMapper::toDomain).toList();
+    }
+
+    // Los descuentos en bloque se serializan entre sí, así que no hace falta marcar las líneas con operationId;
+    // la guarda es la de Product.applyMovement
+    @Override
+    public synchronized Optional<String> decrementStock(String clinicId, String operationId, Map<String, Integer> quantities) {
+        Map<String, Integer> applied = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> line : quantities.entrySet()) {
+            Product product = collection.findById(line.getKey())
+                    .filter(d -> clinicId.equals(d.getClinicId()))
+                    .map(ProductDocumentMapper::toDomain)
+                    .orElse(null);
+            if (product == null || !decrement(product, line.getValue())) {
+                incrementStock(clinicId, applied);
+                return Optional.of(line.getKey());
+            }
+            applied.put(line.getKey(), line.getValue());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized void incrementStock(String clinicId, Map<String, Integer> quantities) {
+        quantities.forEach((productId, quantity) -> collection.findById(productId)
+                .filter(d -> clinicId.equals(d.getClinicId()))
+                .ifPresent(d -> {
+                    // Copia: el documento guardado no se modifica en el sitio
+                    ProductDocument copy = ProductDocumentMapper.toDocument(ProductDocumentMapper.toDomain(d));
+                    copy.setStock(d.getStock() + quantity);
+                    collection.save(copy);
+                }));
+    }
+
+    private boolean decrement(Product product, int quantity) {
+        try {
+            product.applyMovement(quantity, ProductMovementType.EXIT_SALE);
+        } catch (ProductValidationException e) {
+            return false;
+        }
+        collection.save(ProductDocumentMapper.toDocument(product));
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+package com.datavet.product.infrastructure.adapter.output;
+
+import com.datavet.product.application.port.out.StockSnapshotPort;
+import com.datavet.product.domain.model.StockSnapshot;
+import com.datavet.product.infrastructure.persistence.document.StockSnapshotDocument;
+import com.datavet.product.infrastructure.persistence.mapper.StockSnapshotDocumentMapper;
+import com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection.key;
+
+/**
+ * Implementación en memoria de {@link StockSnapshotPort} (perfil {@code inmemory}).
+ * Replica los índices de {@link StockSnapshotDocument}.
+ */
+@Component
+@Profile("inmemory")
+public class InMemoryStockSnapshotRepositoryAdapter implements StockSnapshotPort {
+
+    private final InMemoryCollection<StockSnapshotDocument> collection =
+            InMemoryCollection.<StockSnapshotDocument>builder("product_stock_snapshot", StockSnapshotDocument::getId)
+                    .sortedIndex("product_date_idx", StockSnapshotDocument::getProductId, StockSnapshotDocument::getDate)
+                    .index("clinic_date_idx",        d -> key(d.getClinicId(), d.getDate()))
+                    .build();
+
+    @Override
+    public void saveAll(List<StockSnapshot> snapshots) {
+        snapshots.forEach(snapshot -> collection.save(StockSnapshotDocumentMapper.toDocument(snapshot)));
+    }
+
+    @Override
+    public Optional<StockSnapshot> findLatestBefore(String productId, LocalDate date) {
+        List<StockSnapshotDocument> before = collection.range("product_date_idx", productId, null, date);
+        return before.isEmpty()
+                ? Optional.empty()
+                : Optional.of(StockSnapshotDocumentMapper.toDomain(before.get(before.size() - 1)));
+    }
+
+    @Override
+    public List<StockSnapshot> findByClinicIdAndDate(String clinicId, LocalDate date) {
+        return collection.findBy("clinic_date_idx", key(clinicId, date)).stream()
+                .map(StockSnapshotDocumentMapper::toDomain).toList();
+    }
+}
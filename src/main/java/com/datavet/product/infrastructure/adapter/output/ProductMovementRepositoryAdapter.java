@@ -4,70 +4,120 @@ import com.datavet.product.application.port.out.ProductMovementPort;
 import com.datavet.product.domain.model.ProductMovement;
 import com.datavet.product.domain.valueobject.ProductMovementType;
 import com.datavet.product.infrastructure.persistence.document.ProductMovementDocument;
+import com.datavet.product.infrastructure.persistence.mapper.ProductMovementDocumentMapper;
 import com.datavet.product.infrastructure.persistence.repository.MongoProductMovementRepository;
+import com.mongodb.MongoBulkWriteException;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class ProductMovementRepositoryAdapter implements ProductMovementPort {
 
     private final MongoProductMovementRepository repository;
+    private final MongoTemplate                  mongoTemplate;
 
-    private ProductMovementDocument toDocument(ProductMovement movement) {
-        return ProductMovementDocument.builder()
-                .id(movement.getId())
-                .productId(movement.getProductId())
-                .clinicId(movement.getClinicId())
-                .type(movement.getType())
-                .quantity(movement.getQuantity())
-                .date(movement.getDate())
-                .employeeId(movement.getEmployeeId())
-                .saleId(movement.getSaleId())
-                .appointmentId(movement.getAppointmentId())
-                .notes(movement.getNotes())
-                .createdAt(movement.getCreatedAt())
-                .build();
-    }
-
-    private ProductMovement toDomain(ProductMovementDocument doc) {
-        return ProductMovement.reconstitute(
-                doc.getId(), doc.getProductId(), doc.getClinicId(), doc.getType(),
-                doc.getQuantity(), doc.getDate(), doc.getEmployeeId(),
-                doc.getSaleId(), doc.getAppointmentId(), doc.getNotes(), doc.getCreatedAt());
-    }
-
-    @Override public ProductMovement         save(ProductMovement movement)  { return toDomain(repository.save(toDocument(movement))); }
-    @Override public Optional<ProductMovement> findById(String id)            { return repository.findById(id).map(this::toDomain); }
-    @Override public List<ProductMovement>   findAll()                        { return repository.findAll().stream().map(this::toDomain).toList(); }
+    @Override public ProductMovement         save(ProductMovement movement)  { return ProductMovementDocumentMapper.toDomain(repository.save(ProductMovementDocumentMapper.toDocument(movement))); }
+    @Override public Optional<ProductMovement> findById(String id)            { return repository.findById(id).map(ProductMovementDocumentMapper::toDomain); }
+    @Override public List<ProductMovement>   findAll()                        { return repository.findAll().stream().map(ProductMovementDocumentMapper::toDomain).toList(); }
     @Override public void                    deleteById(String id)            { repository.deleteById(id); }
     @Override public boolean                 existsById(String id)            { return repository.existsById(id); }
 
     @Override
     public List<ProductMovement> findByProductId(String productId) {
-        return repository.findByProductId(productId).stream().map(this::toDomain).toList();
+        return repository.findByProductId(productId).stream().map(ProductMovementDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<ProductMovement> findByProductIdAndType(String productId, ProductMovementType type) {
-        return repository.findByProductIdAndType(productId, type).stream().map(this::toDomain).toList();
+        return repository.findByProductIdAndType(productId, type).stream().map(ProductMovementDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<ProductMovement> findByClinicId(String clinicId) {
-        return repository.findByClinicId(clinicId).stream().map(this::toDomain).toList();
+        return repository.findByClinicId(clinicId).stream().map(ProductMovementDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<ProductMovement> findByClinicIdAndType(String clinicId, ProductMovementType type) {
-        return repository.findByClinicIdAndType(clinicId, type).stream().map(this::toDomain).toList();
+        return repository.findByClinicIdAndType(clinicId, type).stream().map(ProductMovementDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<ProductMovement> findByAppointmentId(String appointmentId) {
-        return repository.findByAppointmentId(appointmentId).stream().map(this::toDomain).toList();
+        return repository.findByAppointmentId(appointmentId).stream().map(ProductMovementDocumentMapper::toDomain).toList();
+    }
+
+    /**
+     * Todo o nada. El {@code insertMany} es ordenado y se detiene en el primer error, así que los que llegó a
+     * insertar son los primeros de la lista: se borran antes de relanzar, y quien llama puede devolver todo
+     * el stock sin que queden movimientos sueltos. Si el error no dice cuántos se insertaron (p. ej. se
+     * cortó la conexión), se borran todos los ids intentados.
+     */
+    @Override
+    public List<ProductMovement> saveAll(List<ProductMovement> movements) {
+        List<ProductMovementDocument> documents = movements.stream().map(ProductMovementDocumentMapper::toDocument).toList();
+        try {
+            return repository.insert(documents).stream().map(ProductMovementDocumentMapper::toDomain).toList();
+        } catch (RuntimeException e) {
+            int inserted = e.getCause() instanceof MongoBulkWriteException bulk
+                    ? bulk.getWriteResult().getInsertedCount()
+                    : documents.size();
+            if (inserted > 0) {
+                try {
+                    repository.deleteAllById(documents.subList(0, inserted).stream()
+                            .map(ProductMovementDocument::getId).toList());
+                } catch (RuntimeException rollback) {
+                    e.addSuppressed(rollback);
+                }
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public List<ProductMovement> findByProductIdAndDateRange(String productId, LocalDateTime from, LocalDateTime to) {
+        Query query = Query.query(inRange(Criteria.where("product_id").is(productId), from, to))
+                .with(Sort.by("date"));
+        return mongoTemplate.find(query, ProductMovementDocument.class).stream()
+                .map(ProductMovementDocumentMapper::toDomain).toList();
+    }
+
+    // Agregación servida por clinic_date_idx: solo viajan los totales por producto, no los movimientos
+    @Override
+    public Map<String, Integer> sumNetByProduct(String clinicId, LocalDateTime from, LocalDateTime to) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(inRange(Criteria.where("clinic_id").is(clinicId), from, to)),
+                Aggregation.group("product_id").sum(ConditionalOperators
+                        .when(Criteria.where("type").is(ProductMovementType.ENTRY.name()))
+                        .thenValueOf("quantity")
+                        .otherwiseValueOf(ArithmeticOperators.valueOf("quantity").multiplyBy(-1))).as("net"));
+
+        Map<String, Integer> net = new HashMap<>();
+        for (Document row : mongoTemplate.aggregate(aggregation, "product_movement", Document.class)) {
+            net.put(row.getString("_id"), ((Number) row.get("net")).intValue());
+        }
+        return net;
+    }
+
+    private static Criteria inRange(Criteria criteria, LocalDateTime from, LocalDateTime to) {
+        Criteria date = criteria.and("date").gte(from);
+        return to != null ? date.lt(to) : date;
     }
 }
@@ -1,63 +1,80 @@
 package com.datavet.product.infrastructure.adapter.output;
 
 import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.event.ProductCreatedEvent;
+import com.datavet.product.domain.event.ProductDeactivatedEvent;
+import com.datavet.product.domain.event.ProductStockUpdatedEvent;
+import com.datavet.product.domain.event.ProductUpdatedEvent;
+import com.datavet.product.domain.event.SaleCompletedEvent;
 import com.datavet.product.domain.model.Product;
 import com.datavet.product.domain.valueobject.ClinicArea;
 import com.datavet.product.domain.valueobject.ProductCategory;
 import com.datavet.product.infrastructure.persistence.document.ProductDocument;
+import com.datavet.product.infrastructure.persistence.mapper.ProductDocumentMapper;
 import com.datavet.product.infrastructure.persistence.repository.MongoProductRepository;
+import com.datavet.shared.infrastructure.cache.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class ProductRepositoryAdapter implements ProductRepositoryPort {
 
-    private final MongoProductRepository repository;
+    // Catálogo por clínica (clave clinicId) y por clínica y área (clave clinicId|AREA)
+    static final String PRODUCTS_CACHE = "products-by-clinic";
 
-    private ProductDocument toDocument(Product product) {
-        return ProductDocument.builder()
-                .id(product.getProductId())
-                .clinicId(product.getClinicId())
-                .name(product.getName())
-                .description(product.getDescription())
-                .category(product.getCategory())
-                .sku(product.getSku())
-                .barcode(product.getBarcode())
-                .price(product.getPrice())
-                .taxRate(product.getTaxRate())
-                .stock(product.getStock())
-                .minStock(product.getMinStock())
-                .isActive(product.getIsActive())
-                .details(product.getDetails())
-                .build();
-    }
-
-    private Product toDomain(ProductDocument doc) {
-        return Product.reconstitute(
-                doc.getId(), doc.getClinicId(), doc.getName(), doc.getDescription(),
-                doc.getSku(), doc.getBarcode(), doc.getPrice(), doc.getTaxRate(),
-                doc.getStock(), doc.getMinStock(), doc.getIsActive(),
-                doc.getCreatedAt(), doc.getUpdatedAt(),
-                doc.getDetails());
-    }
+    // Código de barras / SKU → id del producto activo, por clínica (clave clinicId)
+    static final String PRODUCT_CODES_CACHE = "product-codes-by-clinic";
+
+    static final String BARCODE_INDEX = "clinic_barcode_idx";
+    static final String PENDING_OPS   = "pending_stock_ops";
+
+    private final MongoProductRepository repository;
+    private final MongoTemplate          mongoTemplate;
+    private final ReferenceDataCache     cache;
 
     @Override
     public Product save(Product product) {
-        return toDomain(repository.save(toDocument(product)));
+        return ProductDocumentMapper.toDomain(repository.save(ProductDocumentMapper.toDocument(product)));
     }
 
     @Override
     public Optional<Product> findById(String id) {
-        return repository.findById(id).map(this::toDomain);
+        return repository.findById(id).map(ProductDocumentMapper::toDomain);
     }
 
     @Override
     public List<Product> findAll() {
-        return repository.findAll().stream().map(this::toDomain).toList();
+        return repository.findAll().stream().map(ProductDocumentMapper::toDomain).toList();
     }
 
     @Override
@@ -72,18 +89,20 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
 
     @Override
     public List<Product> findByClinicId(String clinicId) {
-        return repository.findByClinicId(clinicId).stream().map(this::toDomain).toList();
+        List<ProductDocument> documents = cache.get(PRODUCTS_CACHE, clinicId, repository::findByClinicId);
+        return documents.stream().map(ProductDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<Product> findByClinicIdAndCategory(String clinicId, ProductCategory category) {
-        return repository.findByClinicIdAndCategory(clinicId, category).stream().map(this::toDomain).toList();
+        return repository.findByClinicIdAndCategory(clinicId, category).stream().map(ProductDocumentMapper::toDomain).toList();
     }
 
     @Override
     public List<Product> findByClinicIdAndArea(String clinicId, ClinicArea area) {
-        return repository.findByClinicIdAndCategoryIn(clinicId, ProductCategory.ofArea(area))
-                .stream().map(this::toDomain).toList();
+        List<ProductDocument> documents = cache.get(PRODUCTS_CACHE, areaKey(clinicId, area),
+                key -> repository.findByClinicIdAndCategoryIn(clinicId, ProductCategory.ofArea(area)));
+        return documents.stream().map(ProductDocumentMapper::toDomain).toList();
     }
 
     @Override
@@ -95,4 +114,235 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
     public boolean existsBySkuAndClinicIdAndIdNot(String sku, String clinicId, String id) {
         return repository.existsBySkuAndClinicIdAndIdNot(sku, clinicId, id);
     }
+
+    @Override
+    public boolean existsByBarcodeAndClinicId(String barcode, String clinicId) {
+        return repository.existsByBarcodeAndClinicId(barcode, clinicId);
+    }
+
+    @Override
+    public boolean existsByBarcodeAndClinicIdAndIdNot(String barcode, String clinicId, String id) {
+        return repository.existsByBarcodeAndClinicIdAndIdNot(barcode, clinicId, id);
+    }
+
+    /**
+     * Un escaneo resuelve el código en un hash de la clínica (código → id) y lee el producto por {@code _id},
+     * así que el stock devuelto es siempre el guardado. El hash no lleva stock: solo lo invalidan los
+     * cambios de catálogo (alta, edición, baja), no los movimientos ni las ventas.
+     */
+    @Override
+    public Optional<Product> findActiveByClinicIdAndCode(String clinicId, String code) {
+        Map<String, String> idsByCode = cache.get(PRODUCT_CODES_CACHE, clinicId, this::loadCodes);
+        String productId = idsByCode.get(code);
+        if (productId == null) {
+            return Optional.empty();
+        }
+        return repository.findById(productId)
+                .filter(document -> clinicId.equals(document.getClinicId()))
+                .filter(document -> Boolean.TRUE.equals(document.getIsActive()))
+                .map(ProductDocumentMapper::toDomain);
+    }
+
+    // Solo id, SKU y código de barras de los productos activos, por clinic_idx
+    private Map<String, String> loadCodes(String clinicId) {
+        Query query = Query.query(Criteria.where("clinic_id").is(clinicId).and("is_active").is(true));
+        query.fields().include("sku", "barcode");
+        List<ProductDocument> documents = mongoTemplate.find(query, ProductDocument.class);
+
+        Map<String, String> idsByCode = new HashMap<>();
+        for (ProductDocument document : documents) {
+            if (document.getSku() != null) {
+                idsByCode.put(document.getSku(), document.getId());
+            }
+        }
+        // El código de barras prevalece si coincide con el SKU de otro producto
+        for (ProductDocument document : documents) {
+            if (document.getBarcode() != null && !document.getBarcode().isEmpty()) {
+                idsByCode.put(document.getBarcode(), document.getId());
+            }
+        }
+        return Map.copyOf(idsByCode);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<String> ids) {
+        return repository.findAllById(ids).stream().map(ProductDocumentMapper::toDomain).toList();
+    }
+
+    // Compara dos campos del mismo documento: $expr, sin índice que lo cubra; se usa solo al arrancar
+    @Override
+    public List<Product> findBelowMinStock() {
+        Query query = Query.query(Criteria.where("is_active").is(true)
+                .andOperator(Criteria.expr(ComparisonOperators.valueOf("stock").lessThan("min_stock"))));
+        return mongoTemplate.find(query, ProductDocument.class).stream()
+                .map(ProductDocumentMapper::toDomain).toList();
+    }
+
+    // -------------------------------------------------------------------------
+    // Stock en bloque
+    // -------------------------------------------------------------------------
+
+    /**
+     * Un único lote desordenado de {@code updateOne} con guarda por línea ({@code stock >= cantidad}, producto
+     * activo y de la clínica), sin upsert: un id inexistente no casa y no crea nada. Cada documento descontado
+     * queda marcado con {@code operationId} en {@value #PENDING_OPS}; la misma marca en la guarda impide
+     * aplicar dos veces una operación.
+     *
+     * Si casan todas las líneas, una actualización múltiple retira la marca. Si alguna no casa, o el lote
+     * falla a medias, un segundo lote filtrado por la marca devuelve exactamente las líneas aplicadas; si el
+     * lote falló, el error se relanza después de compensar.
+     */
+    @Override
+    public Optional<String> decrementStock(String clinicId, String operationId, Map<String, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDateTime  now  = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class);
+        quantities.forEach((productId, quantity) -> bulk.updateOne(
+                Query.query(Criteria.where("_id").is(productId)
+                        .and("clinic_id").is(clinicId)
+                        .and("is_active").is(true)
+                        .and("stock").gte(quantity)
+                        .and(PENDING_OPS).ne(operationId)),
+                new Update().inc("stock", -quantity).set("updated_at", now).addToSet(PENDING_OPS, operationId)));
+
+        int matched;
+        try {
+            matched = bulk.execute().getMatchedCount();
+        } catch (RuntimeException e) {
+            try {
+                returnPending(clinicId, operationId, quantities);
+            } catch (RuntimeException compensation) {
+                e.addSuppressed(compensation);
+            }
+            throw e;
+        }
+
+        if (matched == quantities.size()) {
+            clearPending(operationId, quantities.keySet());
+            return Optional.empty();
+        }
+        Query pending = Query.query(Criteria.where("_id").in(quantities.keySet()).and(PENDING_OPS).is(operationId));
+        pending.fields().include("_id");
+        Set<String> applied = mongoTemplate.find(pending, ProductDocument.class).stream()
+                .map(ProductDocument::getId)
+                .collect(Collectors.toSet());
+        returnPending(clinicId, operationId, quantities);
+        return quantities.keySet().stream().filter(productId -> !applied.contains(productId)).findFirst();
+    }
+
+    // Solo casan las líneas marcadas por la operación: se devuelven esas y nada más
+    private void returnPending(String clinicId, String operationId, Map<String, Integer> quantities) {
+        LocalDateTime  now  = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class);
+        quantities.forEach((productId, quantity) -> bulk.updateOne(
+                Query.query(Criteria.where("_id").is(productId).and("clinic_id").is(clinicId).and(PENDING_OPS).is(operationId)),
+                new Update().inc("stock", quantity).set("updated_at", now).pull(PENDING_OPS, operationId)));
+        bulk.execute();
+        invalidateClinic(clinicId);
+    }
+
+    // El descuento ya está aplicado: si retirar la marca falla, queda una marca huérfana y no se deshace nada
+    private void clearPending(String operationId, Collection<String> productIds) {
+        try {
+            mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("_id").in(productIds).and(PENDING_OPS).is(operationId)),
+                    new Update().pull(PENDING_OPS, operationId), ProductDocument.class);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo retirar la marca de la operación de stock {}: {}", operationId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void incrementStock(String clinicId, Map<String, Integer> quantities) {
+        LocalDateTime  now  = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductDocument.class);
+        quantities.forEach((productId, quantity) -> bulk.updateOne(
+                Query.query(Criteria.where("_id").is(productId).and("clinic_id").is(clinicId)),
+                new Update().inc("stock", quantity).set("updated_at", now)));
+        bulk.execute();
+        // Alguien pudo cachear el stock descontado entre el descuento y la devolución
+        invalidateClinic(clinicId);
+    }
+
+    // -------------------------------------------------------------------------
+    // Índice de códigos de barras
+    // -------------------------------------------------------------------------
+
+    /**
+     * Código de barras único por clínica. El índice es parcial sobre códigos no vacíos ({@code $gt: ""} solo
+     * casa con cadenas no vacías): los productos sin código, o guardados con "", no entran. No se declara
+     * en {@link ProductDocument} porque la creación automática haría fallar el arranque si ya hay códigos
+     * repetidos; aquí se buscan antes y, si los hay, se registran y el índice no se crea hasta corregirlos.
+     * Mientras tanto {@code ProductService} sigue rechazando los duplicados nuevos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureBarcodeIndex() {
+        try {
+            Criteria withBarcode = Criteria.where("barcode").gt("");
+            Aggregation duplicates = Aggregation.newAggregation(
+                    Aggregation.match(withBarcode),
+                    Aggregation.group("clinic_id", "barcode").count().as("count"),
+                    Aggregation.match(Criteria.where("count").gt(1)),
+                    Aggregation.limit(20));
+            List<Document> found = mongoTemplate.aggregate(duplicates, "product", Document.class).getMappedResults();
+            if (!found.isEmpty()) {
+                log.error("Hay códigos de barras repetidos en la misma clínica; no se crea {} hasta corregirlos: {}",
+                        BARCODE_INDEX, found);
+                return;
+            }
+            mongoTemplate.indexOps(ProductDocument.class).createIndex(new Index()
+                    .on("clinic_id", Sort.Direction.ASC)
+                    .on("barcode", Sort.Direction.ASC)
+                    .unique()
+                    .partial(PartialIndexFilter.of(withBarcode))
+                    .named(BARCODE_INDEX));
+        } catch (RuntimeException e) {
+            log.error("No se pudo crear {}: {}", BARCODE_INDEX, e.getMessage(), e);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Invalidación de caché
+    // -------------------------------------------------------------------------
+
+    @EventListener
+    public void on(ProductCreatedEvent event) {
+        invalidateClinic(event.getClinicId());
+        cache.invalidate(PRODUCT_CODES_CACHE, event.getClinicId());
+    }
+
+    @EventListener
+    public void on(ProductUpdatedEvent event) {
+        invalidateClinic(event.getClinicId());
+        cache.invalidate(PRODUCT_CODES_CACHE, event.getClinicId());
+    }
+
+    @EventListener
+    public void on(ProductDeactivatedEvent event) {
+        invalidateClinic(event.getClinicId());
+        cache.invalidate(PRODUCT_CODES_CACHE, event.getClinicId());
+    }
+
+    @EventListener
+    public void on(ProductStockUpdatedEvent event) {
+        invalidateClinic(event.getClinicId());
+    }
+
+    @EventListener
+    public void on(SaleCompletedEvent event) {
+        invalidateClinic(event.getClinicId());
+    }
+
+    private void invalidateClinic(String clinicId) {
+        String[] keys = Stream.concat(Stream.of(clinicId),
+                        Arrays.stream(ClinicArea.values()).map(area -> areaKey(clinicId, area)))
+                .toArray(String[]::new);
+        cache.invalidate(PRODUCTS_CACHE, keys);
+    }
+
+    private static String areaKey(String clinicId, ClinicArea area) {
+        return clinicId + "|" + area.name();
+    }
 }
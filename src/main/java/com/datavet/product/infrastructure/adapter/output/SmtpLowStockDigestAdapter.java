@@ -0,0 +1,55 @@
+package com.datavet.product.infrastructure.adapter.output;
+
+import com.datavet.product.application.dto.LowStockCrossing;
+import com.datavet.product.application.dto.LowStockItem;
+import com.datavet.product.application.port.out.LowStockDigestPort;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmtpLowStockDigestAdapter implements LowStockDigestPort {
+
+    private final JavaMailSender       mailSender;
+    private final SpringTemplateEngine templateEngine;
+
+    // Se llama desde el hilo del resumen diario, fuera de cualquier petición
+    @Override
+    public void sendLowStockDigest(
+            String toEmail,
+            String clinicName,
+            List<LowStockCrossing> crossings,
+            List<LowStockItem> current) {
+
+        try {
+            Context context = new Context();
+            context.setVariable("clinicName", clinicName);
+            context.setVariable("crossings",  crossings);
+            context.setVariable("current",    current);
+
+            String htmlContent = templateEngine.process("low_stock_digest_email", context);
+
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+            helper.setTo(toEmail);
+            helper.setSubject("Resumen de stock bajo en DataVet");
+            helper.setText(htmlContent, true);
+
+            mailSender.send(message);
+            log.info("Resumen de stock bajo enviado a {}", toEmail);
+        } catch (MessagingException | RuntimeException e) {
+            log.warn("No se pudo enviar el resumen de stock bajo a {}: {}", toEmail, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.datavet.product.infrastructure.adapter.output;
+
+import com.datavet.product.application.port.out.StockSnapshotPort;
+import com.datavet.product.domain.model.StockSnapshot;
+import com.datavet.product.infrastructure.persistence.document.StockSnapshotDocument;
+import com.datavet.product.infrastructure.persistence.mapper.StockSnapshotDocumentMapper;
+import com.datavet.product.infrastructure.persistence.repository.MongoStockSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Profile("!inmemory")
+@RequiredArgsConstructor
+public class StockSnapshotRepositoryAdapter implements StockSnapshotPort {
+
+    private final MongoStockSnapshotRepository repository;
+    private final MongoTemplate                mongoTemplate;
+
+    // Un único lote de upserts por _id: repetir el cierre de un día (reintento, otra réplica) no duplica
+    @Override
+    public void saveAll(List<StockSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, StockSnapshotDocument.class);
+        for (StockSnapshot snapshot : snapshots) {
+            StockSnapshotDocument document = StockSnapshotDocumentMapper.toDocument(snapshot);
+            bulk.upsert(Query.query(Criteria.where("_id").is(document.getId())), new Update()
+                    .set("product_id",    document.getProductId())
+                    .set("clinic_id",     document.getClinicId())
+                    .set("date",          document.getDate())
+                    .set("closing_stock", document.getClosingStock())
+                    .set("created_at",    document.getCreatedAt()));
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public Optional<StockSnapshot> findLatestBefore(String productId, LocalDate date) {
+        return repository.findFirstByProductIdAndDateLessThanOrderByDateDesc(productId, date)
+                .map(StockSnapshotDocumentMapper::toDomain);
+    }
+
+    @Override
+    public List<StockSnapshot> findByClinicIdAndDate(String clinicId, LocalDate date) {
+        return repository.findByClinicIdAndDate(clinicId, date).stream()
+                .map(StockSnapshotDocumentMapper::toDomain).toList();
+    }
+}
@@ -0,0 +1,59 @@
+package com.datavet.product.infrastructure.event;
+
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.event.AppointmentStatusChangedEvent;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.product.application.port.in.ProductMovementUseCase;
+import com.datavet.product.application.port.in.command.RecordAppointmentConsumptionCommand;
+import com.datavet.product.domain.model.ProductMovement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Registra como consumo interno los productos de una cita al pasar a FINALIZADA, en un único lote
+ * ({@link ProductMovementUseCase#recordAppointmentConsumption}) firmado por el veterinario de la cita.
+ *
+ * La cita se lee guardada porque el evento no lleva los productos. Repetir el evento no consume dos veces.
+ * Un fallo (p. ej. stock insuficiente) no impide finalizar la cita: se registra en el log y el consumo
+ * puede darse de alta a mano.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppointmentConsumptionListener {
+
+    private final AppointmentRepositoryPort appointmentRepositoryPort;
+    private final ProductMovementUseCase    productMovementUseCase;
+
+    @EventListener
+    public void on(AppointmentStatusChangedEvent event) {
+        if (event.getNewStatus() != AppointmentStatus.FINALIZADA) {
+            return;
+        }
+        try {
+            appointmentRepositoryPort.findById(event.getAppointmentId())
+                    .filter(appointment -> appointment.getProductIds() != null && !appointment.getProductIds().isEmpty())
+                    .ifPresent(appointment -> consume(appointment, event));
+        } catch (RuntimeException e) {
+            log.error("No se pudo registrar el consumo de productos de la cita {}: {}",
+                    event.getAppointmentId(), e.getMessage(), e);
+        }
+    }
+
+    private void consume(Appointment appointment, AppointmentStatusChangedEvent event) {
+        List<ProductMovement> movements = productMovementUseCase.recordAppointmentConsumption(
+                RecordAppointmentConsumptionCommand.builder()
+                        .appointmentId(appointment.getId())
+                        .clinicId(appointment.getClinicId())
+                        .employeeId(appointment.getMedicalEmployeeId())
+                        .date(event.occurredOn())
+                        .productIds(appointment.getProductIds())
+                        .build());
+        log.debug("Consumo de la cita {}: {} movimientos", appointment.getId(), movements.size());
+    }
+}
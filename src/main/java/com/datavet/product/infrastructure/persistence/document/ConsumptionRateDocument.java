@@ -0,0 +1,33 @@
+package com.datavet.product.infrastructure.persistence.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+// Un documento pequeño por producto (_id = productId); la clínica se carga entera por clinic_id
+@Document(collection = "product_consumption_rate")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ConsumptionRateDocument {
+
+    @Id
+    private String id;
+
+    @Indexed(name = "clinic_idx")
+    @Field("clinic_id")
+    private String clinicId;
+
+    private Double rate;
+
+    private LocalDateTime since;
+
+    @Field("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -19,6 +19,8 @@ import java.time.LocalDateTime;
         @CompoundIndex(name = "clinic_idx",          def = "{'clinic_id': 1}"),
         @CompoundIndex(name = "clinic_category_idx", def = "{'clinic_id': 1, 'category': 1}"),
         @CompoundIndex(name = "sku_clinic_idx",      def = "{'sku': 1, 'clinic_id': 1}", unique = true, sparse = true),
+        // clinic_barcode_idx (único, parcial) lo crea ProductRepositoryAdapter al arrancar, tras comprobar
+        // que no hay códigos repetidos
         @CompoundIndex(name = "active_idx",          def = "{'is_active': 1}")
 })
 @Getter
@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
         @CompoundIndex(name = "clinic_idx",        def = "{'clinic_id': 1}"),
         @CompoundIndex(name = "product_type_idx",  def = "{'product_id': 1, 'type': 1}"),
         @CompoundIndex(name = "clinic_type_idx",   def = "{'clinic_id': 1, 'type': 1}"),
-        @CompoundIndex(name = "appointment_idx",   def = "{'appointment_id': 1}", sparse = true)
+        @CompoundIndex(name = "appointment_idx",   def = "{'appointment_id': 1}", sparse = true),
+        // Reproducción acotada del libro de stock: movimientos de un producto, o de una clínica, en un rango de fechas
+        @CompoundIndex(name = "product_date_idx",  def = "{'product_id': 1, 'date': 1}"),
+        @CompoundIndex(name = "clinic_date_idx",   def = "{'clinic_id': 1, 'date': 1}")
 })
 @Getter
 @Setter
@@ -0,0 +1,42 @@
+package com.datavet.product.infrastructure.persistence.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Document(collection = "product_stock_snapshot")
+@CompoundIndexes({
+        // Último cierre anterior a una fecha: un único salto del índice
+        @CompoundIndex(name = "product_date_idx", def = "{'product_id': 1, 'date': -1}", unique = true),
+        @CompoundIndex(name = "clinic_date_idx",  def = "{'clinic_id': 1, 'date': 1}")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockSnapshotDocument {
+
+    @Id
+    private String id;
+
+    @Field("product_id")
+    private String productId;
+
+    @Field("clinic_id")
+    private String clinicId;
+
+    private LocalDate date;
+
+    @Field("closing_stock")
+    private Integer closingStock;
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+}
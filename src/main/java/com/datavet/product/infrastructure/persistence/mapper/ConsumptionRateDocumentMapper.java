@@ -0,0 +1,32 @@
+package com.datavet.product.infrastructure.persistence.mapper;
+
+import com.datavet.product.domain.model.ConsumptionRate;
+import com.datavet.product.infrastructure.persistence.document.ConsumptionRateDocument;
+
+/**
+ * Mapeo ConsumptionRate ↔ ConsumptionRateDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class ConsumptionRateDocumentMapper {
+
+    private ConsumptionRateDocumentMapper() {}
+
+    public static ConsumptionRateDocument toDocument(ConsumptionRate rate) {
+        return ConsumptionRateDocument.builder()
+                .id(rate.getProductId())
+                .clinicId(rate.getClinicId())
+                .rate(rate.getRate())
+                .since(rate.getSince())
+                .updatedAt(rate.getUpdatedAt())
+                .build();
+    }
+
+    public static ConsumptionRate toDomain(ConsumptionRateDocument doc) {
+        return ConsumptionRate.reconstitute(
+                doc.getId(),
+                doc.getClinicId(),
+                doc.getRate() != null ? doc.getRate() : 0,
+                doc.getSince(),
+                doc.getUpdatedAt());
+    }
+}
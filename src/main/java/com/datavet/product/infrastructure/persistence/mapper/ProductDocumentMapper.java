@@ -0,0 +1,40 @@
+package com.datavet.product.infrastructure.persistence.mapper;
+
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.infrastructure.persistence.document.ProductDocument;
+
+/**
+ * Mapeo Product ↔ ProductDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class ProductDocumentMapper {
+
+    private ProductDocumentMapper() {}
+
+    public static ProductDocument toDocument(Product product) {
+        return ProductDocument.builder()
+                .id(product.getProductId())
+                .clinicId(product.getClinicId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .category(product.getCategory())
+                .sku(product.getSku())
+                .barcode(product.getBarcode())
+                .price(product.getPrice())
+                .taxRate(product.getTaxRate())
+                .stock(product.getStock())
+                .minStock(product.getMinStock())
+                .isActive(product.getIsActive())
+                .details(product.getDetails())
+                .build();
+    }
+
+    public static Product toDomain(ProductDocument doc) {
+        return Product.reconstitute(
+                doc.getId(), doc.getClinicId(), doc.getName(), doc.getDescription(),
+                doc.getSku(), doc.getBarcode(), doc.getPrice(), doc.getTaxRate(),
+                doc.getStock(), doc.getMinStock(), doc.getIsActive(),
+                doc.getCreatedAt(), doc.getUpdatedAt(),
+                doc.getDetails());
+    }
+}
@@ -0,0 +1,36 @@
+package com.datavet.product.infrastructure.persistence.mapper;
+
+import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.infrastructure.persistence.document.ProductMovementDocument;
+
+/**
+ * Mapeo ProductMovement ↔ ProductMovementDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class ProductMovementDocumentMapper {
+
+    private ProductMovementDocumentMapper() {}
+
+    public static ProductMovementDocument toDocument(ProductMovement movement) {
+        return ProductMovementDocument.builder()
+                .id(movement.getId())
+                .productId(movement.getProductId())
+                .clinicId(movement.getClinicId())
+                .type(movement.getType())
+                .quantity(movement.getQuantity())
+                .date(movement.getDate())
+                .employeeId(movement.getEmployeeId())
+                .saleId(movement.getSaleId())
+                .appointmentId(movement.getAppointmentId())
+                .notes(movement.getNotes())
+                .createdAt(movement.getCreatedAt())
+                .build();
+    }
+
+    public static ProductMovement toDomain(ProductMovementDocument doc) {
+        return ProductMovement.reconstitute(
+                doc.getId(), doc.getProductId(), doc.getClinicId(), doc.getType(),
+                doc.getQuantity(), doc.getDate(), doc.getEmployeeId(),
+                doc.getSaleId(), doc.getAppointmentId(), doc.getNotes(), doc.getCreatedAt());
+    }
+}
@@ -0,0 +1,34 @@
+package com.datavet.product.infrastructure.persistence.mapper;
+
+import com.datavet.product.domain.model.StockSnapshot;
+import com.datavet.product.infrastructure.persistence.document.StockSnapshotDocument;
+
+/**
+ * Mapeo StockSnapshot ↔ StockSnapshotDocument, compartido por los adaptadores de persistencia
+ * (MongoDB y en memoria).
+ */
+public class StockSnapshotDocumentMapper {
+
+    private StockSnapshotDocumentMapper() {}
+
+    public static StockSnapshotDocument toDocument(StockSnapshot snapshot) {
+        return StockSnapshotDocument.builder()
+                .id(snapshot.getSnapshotId())
+                .productId(snapshot.getProductId())
+                .clinicId(snapshot.getClinicId())
+                .date(snapshot.getDate())
+                .closingStock(snapshot.getClosingStock())
+                .createdAt(snapshot.getCreatedAt())
+                .build();
+    }
+
+    public static StockSnapshot toDomain(StockSnapshotDocument doc) {
+        return StockSnapshot.reconstitute(
+                doc.getId(),
+                doc.getProductId(),
+                doc.getClinicId(),
+                doc.getDate(),
+                doc.getClosingStock(),
+                doc.getCreatedAt());
+    }
+}
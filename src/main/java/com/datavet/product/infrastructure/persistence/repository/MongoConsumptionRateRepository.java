@@ -0,0 +1,10 @@
+package com.datavet.product.infrastructure.persistence.repository;
+
+import com.datavet.product.infrastructure.persistence.document.ConsumptionRateDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface MongoConsumptionRateRepository extends MongoRepository<ConsumptionRateDocument, String> {
+    List<ConsumptionRateDocument> findByClinicId(String clinicId);
+}
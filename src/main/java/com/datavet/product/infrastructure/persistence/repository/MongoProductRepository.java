@@ -12,4 +12,6 @@ public interface MongoProductRepository extends MongoRepository<ProductDocument,
     List<ProductDocument> findByClinicIdAndCategoryIn(String clinicId, List<ProductCategory> categories);
     boolean existsBySkuAndClinicId(String sku, String clinicId);
     boolean existsBySkuAndClinicIdAndIdNot(String sku, String clinicId, String id);
+    boolean existsByBarcodeAndClinicId(String barcode, String clinicId);
+    boolean existsByBarcodeAndClinicIdAndIdNot(String barcode, String clinicId, String id);
 }
@@ -0,0 +1,13 @@
+package com.datavet.product.infrastructure.persistence.repository;
+
+import com.datavet.product.infrastructure.persistence.document.StockSnapshotDocument;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface MongoStockSnapshotRepository extends MongoRepository<StockSnapshotDocument, String> {
+    Optional<StockSnapshotDocument> findFirstByProductIdAndDateLessThanOrderByDateDesc(String productId, LocalDate date);
+    List<StockSnapshotDocument> findByClinicIdAndDate(String clinicId, LocalDate date);
+}
@@ -0,0 +1,96 @@
+package com.datavet.product.infrastructure.stock;
+
+import com.datavet.product.application.port.out.ConsumptionRatePort;
+import com.datavet.product.application.port.out.ConsumptionRateReadPort;
+import com.datavet.product.domain.event.ProductMovementCreatedEvent;
+import com.datavet.product.domain.event.SaleCompletedEvent;
+import com.datavet.product.domain.model.ConsumptionRate;
+import com.datavet.product.domain.valueobject.ProductMovementType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Tasas de consumo por producto para la previsión.
+ *
+ * Cada salida (venta o consumo interno) actualiza en O(1) el {@link ConsumptionRate} del producto en memoria
+ * y, con una escritura atómica, el guardado; {@code product_movement} no se vuelve a leer. Las tasas de una
+ * clínica se cargan de {@code product_consumption_rate} con una sola consulta la primera vez que se necesitan.
+ *
+ * La copia en memoria es local a cada instancia: las salidas registradas en otra réplica sí se suman en
+ * {@code product_consumption_rate}, pero no se ven aquí hasta el siguiente arranque.
+ */
+@Slf4j
+@Component
+public class ConsumptionRateTracker implements ConsumptionRateReadPort {
+
+    private final ConsumptionRatePort consumptionRatePort;
+    private final double              halfLifeDays;
+
+    // clinicId → (productId → tasa)
+    private final Map<String, Map<String, ConsumptionRate>> clinics = new ConcurrentHashMap<>();
+
+    public ConsumptionRateTracker(
+            ConsumptionRatePort consumptionRatePort,
+            @Value("${datavet.product.forecast.half-life-days:14}") double halfLifeDays) {
+        this.consumptionRatePort = consumptionRatePort;
+        this.halfLifeDays        = halfLifeDays;
+    }
+
+    @Override
+    public Map<String, ConsumptionRate> findByClinicId(String clinicId) {
+        return ratesOf(clinicId);
+    }
+
+    // =========================================================================
+    // Eventos
+    // =========================================================================
+
+    @EventListener
+    public void on(ProductMovementCreatedEvent event) {
+        if (event.getType() == ProductMovementType.ENTRY) {
+            return;
+        }
+        record(event.getClinicId(), event.getProductId(), event.getQuantity(), event.occurredOn());
+    }
+
+    // Las líneas de una venta no publican ProductMovementCreatedEvent
+    @EventListener
+    public void on(SaleCompletedEvent event) {
+        event.getLines().forEach(line ->
+                record(event.getClinicId(), line.getProductId(), line.getQuantity(), event.occurredOn()));
+    }
+
+    void record(String clinicId, String productId, int quantity, LocalDateTime at) {
+        try {
+            // El resultado no depende del orden de las salidas, así que la copia local y la guardada pueden
+            // actualizarse por separado; la escritura va fuera de compute para no retener la entrada del mapa
+            ratesOf(clinicId).compute(productId, (id, previous) ->
+                    (previous != null ? previous : ConsumptionRate.empty(productId, clinicId))
+                            .record(quantity, at, halfLifeDays));
+            consumptionRatePort.record(productId, clinicId, quantity, at, halfLifeDays);
+        } catch (RuntimeException e) {
+            // La salida se pierde para la previsión, que se corrige sola con las siguientes
+            log.error("No se pudo actualizar el consumo del producto {} en la clínica {}: {}",
+                    productId, clinicId, e.getMessage(), e);
+        }
+    }
+
+    private Map<String, ConsumptionRate> ratesOf(String clinicId) {
+        Map<String, ConsumptionRate> rates = clinics.get(clinicId);
+        if (rates != null) {
+            return rates;
+        }
+        // Se lee fuera del mapa para no bloquear a las demás clínicas; si dos hilos cargan a la vez, gana el primero
+        Map<String, ConsumptionRate> loaded = consumptionRatePort.findByClinicId(clinicId).stream()
+                .collect(Collectors.toConcurrentMap(ConsumptionRate::getProductId, rate -> rate));
+        rates = clinics.putIfAbsent(clinicId, loaded);
+        return rates != null ? rates : loaded;
+    }
+}
@@ -0,0 +1,87 @@
+package com.datavet.product.infrastructure.stock;
+
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import com.datavet.clinic.domain.model.Clinic;
+import com.datavet.product.application.dto.LowStockCrossing;
+import com.datavet.product.application.port.in.LowStockUseCase;
+import com.datavet.product.application.port.out.LowStockDigestPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agrupa los cruces de stock mínimo del día y envía un único correo por clínica según
+ * {@code datavet.product.low-stock.digest-cron}.
+ *
+ * De cada producto se guarda solo su último cruce: uno que baja y se repone varias veces en el día aparece
+ * una vez, con su estado final. El correo lleva además la lista actual del monitor. Las clínicas sin
+ * cruces no reciben nada.
+ *
+ * Los cruces pendientes viven en memoria: se pierden al reiniciar y, con varias réplicas, cada una envía
+ * los que detectó.
+ */
+@Slf4j
+@Component
+public class LowStockDigest {
+
+    private final LowStockUseCase      lowStockUseCase;
+    private final ClinicRepositoryPort clinicRepositoryPort;
+    private final LowStockDigestPort   lowStockDigestPort;
+
+    // clinicId → (productId → último cruce)
+    private final Map<String, Map<String, LowStockCrossing>> pending = new ConcurrentHashMap<>();
+
+    public LowStockDigest(
+            LowStockUseCase lowStockUseCase,
+            ClinicRepositoryPort clinicRepositoryPort,
+            LowStockDigestPort lowStockDigestPort) {
+        this.lowStockUseCase      = lowStockUseCase;
+        this.clinicRepositoryPort = clinicRepositoryPort;
+        this.lowStockDigestPort   = lowStockDigestPort;
+    }
+
+    @EventListener
+    public void on(LowStockCrossing crossing) {
+        pending.computeIfAbsent(crossing.getClinicId(), id -> new ConcurrentHashMap<>())
+                .put(crossing.getItem().getProductId(), crossing);
+    }
+
+    @Scheduled(cron = "${datavet.product.low-stock.digest-cron:0 0 7 * * *}")
+    public void sendAll() {
+        for (String clinicId : List.copyOf(pending.keySet())) {
+            Map<String, LowStockCrossing> crossings = pending.remove(clinicId);
+            if (crossings == null || crossings.isEmpty()) {
+                continue;
+            }
+            try {
+                send(clinicId, crossings);
+            } catch (RuntimeException e) {
+                log.error("No se pudo enviar el resumen de stock bajo de la clínica {}: {}",
+                        clinicId, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void send(String clinicId, Map<String, LowStockCrossing> crossings) {
+        Clinic clinic = clinicRepositoryPort.findById(clinicId).orElse(null);
+        if (clinic == null || clinic.getEmail() == null) {
+            log.warn("Resumen de stock bajo descartado: la clínica {} no existe o no tiene email", clinicId);
+            return;
+        }
+        List<LowStockCrossing> ordered = new ArrayList<>(crossings.values());
+        ordered.sort(Comparator.comparing(LowStockCrossing::getOccurredOn));
+
+        lowStockDigestPort.sendLowStockDigest(
+                clinic.getEmail().getValue(),
+                clinic.getClinicName(),
+                ordered,
+                lowStockUseCase.getLowStock(clinicId));
+    }
+}
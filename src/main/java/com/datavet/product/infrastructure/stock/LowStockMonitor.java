@@ -0,0 +1,213 @@
+package com.datavet.product.infrastructure.stock;
+
+import com.datavet.product.application.dto.LowStockCrossing;
+import com.datavet.product.application.dto.LowStockItem;
+import com.datavet.product.application.port.out.LowStockPort;
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.event.ProductCreatedEvent;
+import com.datavet.product.domain.event.ProductDeactivatedEvent;
+import com.datavet.product.domain.event.ProductStockUpdatedEvent;
+import com.datavet.product.domain.event.ProductUpdatedEvent;
+import com.datavet.product.domain.event.SaleCompletedEvent;
+import com.datavet.product.domain.model.Product;
+import com.datavet.shared.infrastructure.readmodel.StartupRebuild;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Productos por debajo de su stock mínimo, por clínica y ordenados por urgencia ({@link LowStockItem#URGENCY}).
+ *
+ * Al arrancar se cargan con {@link StartupRebuild} y una única consulta ({@code stock < min_stock}); después
+ * cada evento de stock o de producto vuelve a evaluar solo los productos afectados, leídos por id. Cuando un producto cruza su mínimo (en cualquier sentido) se publica un
+ * {@link LowStockCrossing}, que reciben el stream SSE y el resumen diario.
+ *
+ * La lectura y la aplicación de cada producto van bajo su cerrojo (repartidos en {@value #STRIPES}
+ * segmentos): dos eventos seguidos del mismo producto se evalúan en orden, así que el segundo lee el
+ * estado más reciente y un cruce no se publica dos veces ni se pierde.
+ */
+@Slf4j
+@Component
+public class LowStockMonitor implements LowStockPort {
+
+    static final int STRIPES = 64;
+
+    private final ProductRepositoryPort     productRepositoryPort;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Map<String, ClinicLowStock> clinics = new ConcurrentHashMap<>();
+    private final StartupRebuild<ProductRef>     startup = new StartupRebuild<>("low-stock", this::load, this::replay);
+    private final ReentrantLock[]                stripes = new ReentrantLock[STRIPES];
+
+    private record ProductRef(String clinicId, String productId) {}
+
+    public LowStockMonitor(ProductRepositoryPort productRepositoryPort, ApplicationEventPublisher eventPublisher) {
+        this.productRepositoryPort = productRepositoryPort;
+        this.eventPublisher        = eventPublisher;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public List<LowStockItem> findByClinicId(String clinicId) {
+        ClinicLowStock clinic = clinics.get(clinicId);
+        return clinic != null ? clinic.snapshot() : List.of();
+    }
+
+    // =========================================================================
+    // Carga inicial
+    // =========================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        startup.start();
+    }
+
+    void rebuild() {
+        startup.run();
+    }
+
+    private void load() {
+        Map<String, ClinicLowStock> rebuilt = new ConcurrentHashMap<>();
+        List<Product> products = productRepositoryPort.findBelowMinStock();
+        products.forEach(product -> rebuilt
+                .computeIfAbsent(product.getClinicId(), id -> new ClinicLowStock())
+                .put(LowStockItem.of(product)));
+        clinics = rebuilt;
+        log.info("Monitor de stock bajo cargado: {} productos en {} clínicas", products.size(), rebuilt.size());
+    }
+
+    private void replay(ProductRef product) {
+        reevaluate(product.clinicId(), List.of(product.productId()));
+    }
+
+    // =========================================================================
+    // Eventos
+    // =========================================================================
+
+    @EventListener
+    public void on(ProductStockUpdatedEvent event) {
+        reevaluate(event.getClinicId(), List.of(event.getProductId()));
+    }
+
+    @EventListener
+    public void on(SaleCompletedEvent event) {
+        reevaluate(event.getClinicId(), event.getLines().stream().map(SaleCompletedEvent.Line::getProductId).toList());
+    }
+
+    @EventListener
+    public void on(ProductCreatedEvent event) {
+        reevaluate(event.getClinicId(), List.of(event.getProductId()));
+    }
+
+    // Puede haber cambiado el stock mínimo
+    @EventListener
+    public void on(ProductUpdatedEvent event) {
+        reevaluate(event.getClinicId(), List.of(event.getProductId()));
+    }
+
+    @EventListener
+    public void on(ProductDeactivatedEvent event) {
+        reevaluate(event.getClinicId(), List.of(event.getProductId()));
+    }
+
+    /** Vuelve a evaluar los productos con su estado guardado, así que el orden de los eventos no importa. */
+    void reevaluate(String clinicId, Collection<String> productIds) {
+        productIds.forEach(productId -> startup.touch(new ProductRef(clinicId, productId)));
+        // Los segmentos se toman en orden ascendente para que dos ventas con productos cruzados no se bloqueen
+        int[] locked = productIds.stream().mapToInt(this::stripeOf).distinct().sorted().toArray();
+        for (int stripe : locked) {
+            stripes[stripe].lock();
+        }
+        try {
+            Map<String, Product> stored = productRepositoryPort.findAllById(productIds).stream()
+                    .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+            for (String productId : productIds) {
+                apply(clinicId, productId, stored.get(productId));
+            }
+        } catch (RuntimeException e) {
+            // Se corrige con el siguiente evento del producto o al reiniciar
+            log.error("No se pudo evaluar el stock bajo de {} en la clínica {}: {}",
+                    productIds, clinicId, e.getMessage(), e);
+        } finally {
+            for (int i = locked.length - 1; i >= 0; i--) {
+                stripes[locked[i]].unlock();
+            }
+        }
+    }
+
+    private int stripeOf(String productId) {
+        return Math.floorMod(productId.hashCode(), STRIPES);
+    }
+
+    private void apply(String clinicId, String productId, Product product) {
+        ClinicLowStock clinic = clinics.computeIfAbsent(clinicId, id -> new ClinicLowStock());
+        boolean low = product != null
+                && Boolean.TRUE.equals(product.getIsActive())
+                && product.getStock() < product.getMinStock();
+
+        if (low) {
+            LowStockItem item = LowStockItem.of(product);
+            if (clinic.put(item) == null) {
+                publish(LowStockCrossing.Type.BELOW, clinicId, item);
+            }
+        } else {
+            LowStockItem previous = clinic.remove(productId);
+            if (previous != null) {
+                publish(LowStockCrossing.Type.RECOVERED, clinicId,
+                        product != null ? LowStockItem.of(product) : previous);
+            }
+        }
+    }
+
+    private void publish(LowStockCrossing.Type type, String clinicId, LowStockItem item) {
+        eventPublisher.publishEvent(new LowStockCrossing(type, clinicId, item, LocalDateTime.now()));
+    }
+
+    // =========================================================================
+    // Conjunto por clínica
+    // =========================================================================
+
+    private static final class ClinicLowStock {
+
+        private final Map<String, LowStockItem> byProduct = new HashMap<>();
+        private final NavigableSet<LowStockItem> ordered  = new TreeSet<>(LowStockItem.URGENCY);
+
+        /** Devuelve la entrada anterior del producto o {@code null} si no estaba por debajo del mínimo. */
+        synchronized LowStockItem put(LowStockItem item) {
+            LowStockItem previous = byProduct.put(item.getProductId(), item);
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+            ordered.add(item);
+            return previous;
+        }
+
+        synchronized LowStockItem remove(String productId) {
+            LowStockItem previous = byProduct.remove(productId);
+            if (previous != null) {
+                ordered.remove(previous);
+            }
+            return previous;
+        }
+
+        synchronized List<LowStockItem> snapshot() {
+            return List.copyOf(ordered);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.datavet.product.infrastructure.stock;
+
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import com.datavet.clinic.domain.model.Clinic;
+import com.datavet.product.application.dto.StockDrift;
+import com.datavet.product.application.port.in.StockLedgerUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Proceso nocturno del libro de stock: cierra el día anterior de cada clínica y después concilia el stock
+ * guardado con ese cierre. Las diferencias se registran en el log y en {@value #DRIFT_METRIC}.
+ *
+ * Una clínica que falla no detiene al resto. Los cierres son idempotentes, así que si varias réplicas
+ * ejecutan el proceso a la vez el resultado es el mismo.
+ */
+@Slf4j
+@Component
+public class StockSnapshotJob {
+
+    static final String DRIFT_METRIC = "datavet.product.stock.drift";
+
+    private final StockLedgerUseCase   stockLedgerUseCase;
+    private final ClinicRepositoryPort clinicRepositoryPort;
+    private final Counter              driftCounter;
+
+    public StockSnapshotJob(
+            StockLedgerUseCase stockLedgerUseCase,
+            ClinicRepositoryPort clinicRepositoryPort,
+            MeterRegistry meterRegistry) {
+        this.stockLedgerUseCase   = stockLedgerUseCase;
+        this.clinicRepositoryPort = clinicRepositoryPort;
+        this.driftCounter         = Counter.builder(DRIFT_METRIC)
+                .description("Productos cuyo stock no cuadra con el libro de movimientos")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${datavet.product.stock-snapshot.cron:0 15 0 * * *}")
+    public void runForYesterday() {
+        run(LocalDate.now().minusDays(1));
+    }
+
+    void run(LocalDate day) {
+        long started   = System.nanoTime();
+        int  snapshots = 0;
+        int  drifts    = 0;
+        for (Clinic clinic : clinicRepositoryPort.findAll()) {
+            String clinicId = clinic.getClinicId();
+            try {
+                snapshots += stockLedgerUseCase.takeSnapshots(clinicId, day);
+                List<StockDrift> found = stockLedgerUseCase.reconcile(clinicId);
+                for (StockDrift drift : found) {
+                    log.warn("Stock descuadrado en la clínica {}: producto {} ({}) tiene {} y el libro dice {}",
+                            clinicId, drift.getProductId(), drift.getName(), drift.getStock(), drift.getLedgerStock());
+                }
+                drifts += found.size();
+            } catch (RuntimeException e) {
+                log.error("No se pudo cerrar el stock del {} en la clínica {}: {}", day, clinicId, e.getMessage(), e);
+            }
+        }
+        driftCounter.increment(drifts);
+        log.info("Cierre de stock del {}: {} productos, {} descuadres, {} ms",
+                day, snapshots, drifts, (System.nanoTime() - started) / 1_000_000);
+    }
+}
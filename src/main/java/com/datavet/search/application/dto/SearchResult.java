@@ -0,0 +1,21 @@
+package com.datavet.search.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchResult {
+
+    public enum Type { PET, OWNER }
+
+    private Type   type;
+    private String id;
+    private String title;
+    private String subtitle;
+    private double score;
+
+    public SearchResult withScore(double score) {
+        return new SearchResult(type, id, title, subtitle, score);
+    }
+}
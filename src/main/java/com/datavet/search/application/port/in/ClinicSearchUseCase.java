@@ -0,0 +1,11 @@
+package com.datavet.search.application.port.in;
+
+import com.datavet.search.application.dto.SearchResult;
+import com.datavet.shared.application.port.UseCase;
+
+import java.util.List;
+
+public interface ClinicSearchUseCase extends UseCase {
+    // Mascotas y dueños de la clínica que coinciden con la búsqueda, de más a menos relevante
+    List<SearchResult> search(String clinicId, String query, int limit);
+}
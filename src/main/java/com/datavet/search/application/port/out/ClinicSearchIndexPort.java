@@ -0,0 +1,11 @@
+package com.datavet.search.application.port.out;
+
+import com.datavet.search.application.dto.SearchResult;
+
+import java.util.List;
+
+public interface ClinicSearchIndexPort {
+
+    // Entradas de la clínica que coinciden con la búsqueda, de más a menos relevante (como mucho limit)
+    List<SearchResult> search(String clinicId, String query, int limit);
+}
@@ -0,0 +1,29 @@
+package com.datavet.search.application.service;
+
+import com.datavet.search.application.dto.SearchResult;
+import com.datavet.search.application.port.in.ClinicSearchUseCase;
+import com.datavet.search.application.port.out.ClinicSearchIndexPort;
+import com.datavet.shared.application.service.ApplicationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Búsqueda de mascotas y dueños de la clínica sobre el índice en memoria; no consulta la base de datos.
+ * Una búsqueda vacía o sin ningún término útil no devuelve nada.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClinicSearchService implements ClinicSearchUseCase, ApplicationService {
+
+    private final ClinicSearchIndexPort clinicSearchIndexPort;
+
+    @Override
+    public List<SearchResult> search(String clinicId, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return clinicSearchIndexPort.search(clinicId, query, limit);
+    }
+}
@@ -0,0 +1,31 @@
+package com.datavet.search.infrastructure.adapter.input;
+
+import com.datavet.auth.infrastructure.security.AuthenticatedUser;
+import com.datavet.search.application.dto.SearchResult;
+import com.datavet.search.application.port.in.ClinicSearchUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final ClinicSearchUseCase clinicSearchUseCase;
+
+    // Búsqueda "mientras se escribe" de mascotas y dueños de la clínica del usuario
+    @GetMapping
+    public ResponseEntity<List<SearchResult>> search(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal AuthenticatedUser currentUser) {
+        return ResponseEntity.ok(clinicSearchUseCase.search(
+                currentUser.getClinicId(), query, Math.min(Math.max(limit, 1), MAX_LIMIT)));
+    }
+}
@@ -0,0 +1,249 @@
+package com.datavet.search.infrastructure.index;
+
+import com.datavet.owner.application.port.out.OwnerRepositoryPort;
+import com.datavet.owner.domain.event.OwnerCreatedEvent;
+import com.datavet.owner.domain.event.OwnerDeletedEvent;
+import com.datavet.owner.domain.event.OwnerUpdatedEvent;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.pet.application.port.out.PetRepositoryPort;
+import com.datavet.pet.domain.event.pet.PetActivateEvent;
+import com.datavet.pet.domain.event.pet.PetCreatedEvent;
+import com.datavet.pet.domain.event.pet.PetDeactivatedEvent;
+import com.datavet.pet.domain.event.pet.PetUpdateEvent;
+import com.datavet.pet.domain.event.pet.PetUpdateOwnerInfoEvent;
+import com.datavet.pet.domain.model.OwnerInfo;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.search.application.dto.SearchResult;
+import com.datavet.search.application.port.out.ClinicSearchIndexPort;
+import com.datavet.shared.infrastructure.readmodel.StartupRebuild;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Índice de búsqueda por clínica sobre mascotas activas (nombre, chip, nombre y apellidos del dueño) y
+ * dueños activos (nombre, apellidos, teléfono y documento). Un {@link TokenIndex} por clínica.
+ *
+ * Se construye completo al arrancar con {@link StartupRebuild}, en paralelo por clínica. Después se mantiene
+ * con los eventos de dominio: cada evento solo aporta el id, y la entrada se recalcula leyendo la entidad
+ * guardada, así que el orden de los eventos no importa y reaplicarlos no tiene efecto.
+ */
+@Slf4j
+@Component
+public class ClinicSearchIndex implements ClinicSearchIndexPort {
+
+    private static final String PET   = "PET:";
+    private static final String OWNER = "OWNER:";
+
+    private final PetRepositoryPort   petRepositoryPort;
+    private final OwnerRepositoryPort ownerRepositoryPort;
+
+    private volatile Map<String, TokenIndex> indexes = new ConcurrentHashMap<>();
+    private final StartupRebuild<String>     startup = new StartupRebuild<>("clinic-search", this::load, this::replay);
+
+    public ClinicSearchIndex(PetRepositoryPort petRepositoryPort, OwnerRepositoryPort ownerRepositoryPort) {
+        this.petRepositoryPort   = petRepositoryPort;
+        this.ownerRepositoryPort = ownerRepositoryPort;
+    }
+
+    @Override
+    public List<SearchResult> search(String clinicId, String query, int limit) {
+        TokenIndex index = indexes.get(clinicId);
+        return index != null ? index.search(query, limit) : List.of();
+    }
+
+    // =========================================================================
+    // Reconstrucción completa
+    // =========================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        startup.start();
+    }
+
+    void rebuild() {
+        startup.run();
+    }
+
+    private void load() {
+        long started = System.nanoTime();
+        CompletableFuture<List<Pet>>   pets   = CompletableFuture.supplyAsync(petRepositoryPort::findAll);
+        CompletableFuture<List<Owner>> owners = CompletableFuture.supplyAsync(ownerRepositoryPort::findAll);
+
+        Map<String, Owner> ownersById = owners.join().stream()
+                .collect(Collectors.toMap(Owner::getOwnerId, Function.identity(), (a, b) -> a));
+        Map<String, List<Pet>> petsByClinic = pets.join().stream()
+                .filter(Pet::isActive)
+                .collect(Collectors.groupingBy(Pet::getClinicId));
+        Map<String, List<Owner>> ownersByClinic = ownersById.values().stream()
+                .filter(Owner::isActive)
+                .collect(Collectors.groupingBy(Owner::getClinicId));
+
+        Set<String> clinicIds = ConcurrentHashMap.newKeySet();
+        clinicIds.addAll(petsByClinic.keySet());
+        clinicIds.addAll(ownersByClinic.keySet());
+
+        Map<String, TokenIndex> rebuilt = new ConcurrentHashMap<>();
+        clinicIds.parallelStream().forEach(clinicId -> {
+            TokenIndex index = new TokenIndex();
+            petsByClinic.getOrDefault(clinicId, List.of()).forEach(pet ->
+                    putPet(index, pet, ownersById.get(pet.getOwner().getOwnerId())));
+            ownersByClinic.getOrDefault(clinicId, List.of()).forEach(owner -> putOwner(index, owner));
+            rebuilt.put(clinicId, index);
+        });
+
+        indexes = rebuilt;
+        log.info("Índice de búsqueda reconstruido: {} clínicas, {} mascotas y {} dueños en {} ms",
+                rebuilt.size(),
+                petsByClinic.values().stream().mapToInt(List::size).sum(),
+                ownersByClinic.values().stream().mapToInt(List::size).sum(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void replay(String key) {
+        if (key.startsWith(PET)) {
+            reindexPet(key.substring(PET.length()));
+        } else {
+            reindexOwner(key.substring(OWNER.length()));
+        }
+    }
+
+    // =========================================================================
+    // Mantenimiento incremental
+    // =========================================================================
+
+    @EventListener
+    public void on(PetCreatedEvent event) {
+        reindexPet(event.getId());
+    }
+
+    @EventListener
+    public void on(PetUpdateEvent event) {
+        reindexPet(event.getId());
+    }
+
+    @EventListener
+    public void on(PetActivateEvent event) {
+        reindexPet(event.getId());
+    }
+
+    @EventListener
+    public void on(PetDeactivatedEvent event) {
+        reindexPet(event.getId());
+    }
+
+    @EventListener
+    public void on(PetUpdateOwnerInfoEvent event) {
+        reindexPet(event.getPetId());
+    }
+
+    @EventListener
+    public void on(OwnerCreatedEvent event) {
+        reindexOwner(event.getOwnerID());
+    }
+
+    // Las mascotas del dueño también llevan su nombre y apellidos
+    @EventListener
+    public void on(OwnerUpdatedEvent event) {
+        reindexOwner(event.getOwnerId());
+    }
+
+    @EventListener
+    public void on(OwnerDeletedEvent event) {
+        reindexOwner(event.getOwnerID());
+    }
+
+    void reindexPet(String petId) {
+        String key = PET + petId;
+        startup.touch(key);
+        try {
+            Pet pet = petRepositoryPort.findById(petId).filter(Pet::isActive).orElse(null);
+            if (pet == null) {
+                removeEverywhere(key);
+                return;
+            }
+            Owner owner = ownerRepositoryPort.findById(pet.getOwner().getOwnerId()).orElse(null);
+            putPet(indexFor(pet.getClinicId()), pet, owner);
+        } catch (RuntimeException e) {
+            // La entrada se corrige con el siguiente evento de la mascota o al reiniciar
+            log.error("No se pudo actualizar la mascota {} en el índice de búsqueda: {}", petId, e.getMessage(), e);
+        }
+    }
+
+    void reindexOwner(String ownerId) {
+        String key = OWNER + ownerId;
+        startup.touch(key);
+        try {
+            Owner owner = ownerRepositoryPort.findById(ownerId).orElse(null);
+            if (owner == null || !owner.isActive()) {
+                removeEverywhere(key);
+                return;
+            }
+            TokenIndex index = indexFor(owner.getClinicId());
+            putOwner(index, owner);
+            for (Pet pet : petRepositoryPort.findByOwnerIdAndActiveTrue(ownerId)) {
+                putPet(index, pet, owner);
+            }
+        } catch (RuntimeException e) {
+            log.error("No se pudo actualizar el dueño {} en el índice de búsqueda: {}", ownerId, e.getMessage(), e);
+        }
+    }
+
+    private TokenIndex indexFor(String clinicId) {
+        return indexes.computeIfAbsent(clinicId, id -> new TokenIndex());
+    }
+
+    private void removeEverywhere(String key) {
+        indexes.values().forEach(index -> index.remove(key));
+    }
+
+    // =========================================================================
+    // Entradas
+    // =========================================================================
+
+    // El nombre del dueño se toma del dueño guardado si lo hay: la copia de la mascota se actualiza con retraso
+    private static void putPet(TokenIndex index, Pet pet, Owner owner) {
+        OwnerInfo info     = pet.getOwner();
+        String    name     = owner != null ? owner.getName()     : info.getName();
+        String    lastName = owner != null ? owner.getLastName() : info.getLastName();
+
+        List<String> tokens = new ArrayList<>(SearchText.tokens(pet.getName()));
+        tokens.addAll(SearchText.tokens(name));
+        tokens.addAll(SearchText.tokens(lastName));
+        if (pet.getChipNumber() != null) {
+            tokens.add(SearchText.compact(pet.getChipNumber()));
+        }
+
+        String subtitle = pet.getChipNumber() != null
+                ? name + " " + lastName + " · " + pet.getChipNumber()
+                : name + " " + lastName;
+        index.put(PET + pet.getId(),
+                new SearchResult(SearchResult.Type.PET, pet.getId(), pet.getName(), subtitle, 0), tokens);
+    }
+
+    private static void putOwner(TokenIndex index, Owner owner) {
+        List<String> tokens = new ArrayList<>(SearchText.tokens(owner.getName()));
+        tokens.addAll(SearchText.tokens(owner.getLastName()));
+        String phone = owner.getPhone() != null ? owner.getPhone().getValue() : null;
+        if (phone != null) {
+            tokens.add(SearchText.compact(phone));
+        }
+        if (owner.getDocumentNumber() != null) {
+            tokens.add(SearchText.compact(owner.getDocumentNumber().getDocumentNumber()));
+        }
+
+        index.put(OWNER + owner.getOwnerId(),
+                new SearchResult(SearchResult.Type.OWNER, owner.getOwnerId(),
+                        owner.getName() + " " + owner.getLastName(), phone, 0), tokens);
+    }
+}
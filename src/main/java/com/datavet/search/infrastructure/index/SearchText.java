@@ -0,0 +1,49 @@
+package com.datavet.search.infrastructure.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de texto para el índice de búsqueda: minúsculas y sin tildes ni diéresis
+ * ("Núñez" → "nunez", "Agüero" → "aguero"), de modo que se encuentra igual con o sin acentos.
+ */
+public final class SearchText {
+
+    private static final Pattern MARKS        = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS   = Pattern.compile("[^\\p{Alnum}]+");
+
+    private SearchText() {}
+
+    /** Palabras normalizadas de un texto libre (nombres, apellidos). */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Identificador compacto (teléfono, chip, DNI): sin espacios, guiones ni prefijos de formato,
+     * para que "+34 612-345-678" y "612345678" compartan dígitos.
+     */
+    public static String compact(String identifier) {
+        if (identifier == null) {
+            return "";
+        }
+        return SEPARATORS.matcher(fold(identifier)).replaceAll("");
+    }
+
+    private static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,305 @@
+package com.datavet.search.infrastructure.index;
+
+import com.datavet.search.application.dto.SearchResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido en memoria para búsquedas "mientras se escribe" sobre los datos de una clínica.
+ *
+ * Cada entrada se indexa por sus palabras ya normalizadas ({@link SearchText}). Hay dos estructuras:
+ * <ul>
+ *   <li>palabra → entradas, en un {@link TreeMap}: la coincidencia exacta y por prefijo es un
+ *       {@code subMap} ordenado;</li>
+ *   <li>trigrama → palabras: sirve para encontrar palabras que contienen el texto buscado (dígitos
+ *       intermedios de un teléfono o un chip) y candidatas para la búsqueda aproximada.</li>
+ * </ul>
+ * Los trigramas apuntan al vocabulario y no a las entradas: en una clínica hay muchas menos palabras
+ * distintas que mascotas, así que ni las intersecciones ni la distancia de edición recorren entradas.
+ *
+ * Relevancia por palabra buscada: exacta 3, prefijo 2, contenida 1, aproximada 0,5 (una errata, dos
+ * a partir de 8 letras; solo si no hay suficientes resultados mejores y nunca en números). Con varias
+ * palabras, una entrada debe casar con todas y las puntuaciones se suman.
+ *
+ * Lecturas concurrentes; las escrituras toman el cerrojo exclusivo.
+ */
+public final class TokenIndex {
+
+    private static final int GRAM = 3;
+
+    private record Entry(SearchResult result, Set<String> tokens) {}
+
+    private final Map<String, Entry>                entries    = new HashMap<>();
+    private final NavigableMap<String, Set<String>> postings   = new TreeMap<>();
+    private final Map<String, Set<String>>          gramTokens = new HashMap<>();
+    private final ReadWriteLock                     lock       = new ReentrantReadWriteLock();
+
+    /** Añade o reemplaza la entrada {@code key}. */
+    public void put(String key, SearchResult result, Collection<String> tokens) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(key);
+            Set<String> unique = new LinkedHashSet<>(tokens);
+            unique.remove("");
+            entries.put(key, new Entry(result, unique));
+            for (String token : unique) {
+                Set<String> keys = postings.get(token);
+                if (keys == null) {
+                    keys = new HashSet<>();
+                    postings.put(token, keys);
+                    for (String gram : grams(token)) {
+                        gramTokens.computeIfAbsent(gram, g -> new HashSet<>()).add(token);
+                    }
+                }
+                keys.add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SearchResult> search(String query, int limit) {
+        List<String> queryTokens = SearchText.tokens(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, Double> scores = null;
+            for (String token : queryTokens) {
+                Map<String, Double> matches = match(token, limit);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    Map<String, Double> both = new HashMap<>();
+                    for (Map.Entry<String, Double> score : scores.entrySet()) {
+                        Double other = matches.get(score.getKey());
+                        if (other != null) {
+                            both.put(score.getKey(), score.getValue() + other);
+                        }
+                    }
+                    scores = both;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .map(score -> entries.get(score.getKey()).result().withScore(score.getValue()))
+                    .sorted(Comparator.comparingDouble(SearchResult::getScore).reversed()
+                            .thenComparing(SearchResult::getTitle, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Coincidencias de una palabra
+    // -------------------------------------------------------------------------
+
+    private Map<String, Double> match(String token, int limit) {
+        Map<String, Double> scores = new HashMap<>();
+
+        // Exacta y prefijo
+        for (Map.Entry<String, Set<String>> posting
+                : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            double score = posting.getKey().length() == token.length() ? 3 : 2;
+            addAll(scores, posting.getValue(), score);
+        }
+
+        if (token.length() < GRAM) {
+            return scores;
+        }
+
+        // Contenida (p. ej. dígitos intermedios de un teléfono)
+        for (String candidate : tokensContaining(token)) {
+            if (!candidate.startsWith(token)) {
+                addAll(scores, postings.get(candidate), 1);
+            }
+        }
+
+        // Aproximada, solo si faltan resultados; los identificadores numéricos no admiten erratas
+        if (scores.size() < limit && token.length() > GRAM && !isNumeric(token)) {
+            int maxDistance = token.length() >= 8 ? 2 : 1;
+            for (String candidate : fuzzyCandidates(token, maxDistance)) {
+                if (withinDistance(token, candidate, maxDistance)) {
+                    addAll(scores, postings.get(candidate), 0.5);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private Set<String> tokensContaining(String token) {
+        List<Set<String>> sets = new ArrayList<>();
+        for (String gram : grams(token)) {
+            Set<String> tokens = gramTokens.get(gram);
+            if (tokens == null) {
+                return Set.of();
+            }
+            sets.add(tokens);
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> result = new HashSet<>();
+        for (String candidate : sets.get(0)) {
+            if (candidate.contains(token)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    private Set<String> fuzzyCandidates(String token, int maxDistance) {
+        Set<String> candidates = new HashSet<>();
+        for (String gram : grams(token)) {
+            Set<String> tokens = gramTokens.get(gram);
+            if (tokens == null) {
+                continue;
+            }
+            for (String candidate : tokens) {
+                if (candidate.length() >= token.length() - maxDistance && !candidate.startsWith(token)) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /** La palabra completa o su prefijo de la misma longitud a distancia de edición ≤ maxDistance. */
+    private static boolean withinDistance(String token, String candidate, int maxDistance) {
+        if (distance(token, candidate, maxDistance) <= maxDistance) {
+            return true;
+        }
+        for (int delta = -maxDistance; delta <= maxDistance; delta++) {
+            int length = token.length() + delta;
+            if (length > 0 && length < candidate.length()
+                    && distance(token, candidate.substring(0, length), maxDistance) <= maxDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Distancia de Damerau–Levenshtein (con transposición de adyacentes) acotada: deja de calcular
+     * en cuanto una fila entera supera {@code max}.
+     */
+    static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous  = new int[b.length() + 1];
+        int[] current   = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous  = current;
+            current   = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    // -------------------------------------------------------------------------
+    // Mantenimiento
+    // -------------------------------------------------------------------------
+
+    private void removeUnlocked(String key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        for (String token : entry.tokens()) {
+            Set<String> keys = postings.get(token);
+            if (keys == null) {
+                continue;
+            }
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                postings.remove(token);
+                for (String gram : grams(token)) {
+                    Set<String> tokens = gramTokens.get(gram);
+                    if (tokens != null) {
+                        tokens.remove(token);
+                        if (tokens.isEmpty()) {
+                            gramTokens.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isNumeric(String token) {
+        return token.chars().allMatch(Character::isDigit);
+    }
+
+    private static void addAll(Map<String, Double> scores, Set<String> keys, double score) {
+        if (keys != null) {
+            keys.forEach(key -> scores.merge(key, score, Math::max));
+        }
+    }
+
+    private static List<String> grams(String token) {
+        if (token.length() < GRAM) {
+            return List.of();
+        }
+        List<String> grams = new ArrayList<>(token.length() - GRAM + 1);
+        for (int i = 0; i + GRAM <= token.length(); i++) {
+            grams.add(token.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+}
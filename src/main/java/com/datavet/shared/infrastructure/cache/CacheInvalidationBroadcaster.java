@@ -0,0 +1,11 @@
+package com.datavet.shared.infrastructure.cache;
+
+/**
+ * Difunde la invalidación de entradas de {@link ReferenceDataCache} al resto de instancias.
+ * Sin implementación (perfil {@code inmemory}) la invalidación es solo local.
+ */
+public interface CacheInvalidationBroadcaster {
+
+    /** Todas las claves viajan en un único mensaje. */
+    void broadcast(String cacheName, String... keys);
+}
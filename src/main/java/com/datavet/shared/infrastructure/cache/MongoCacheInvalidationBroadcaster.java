@@ -0,0 +1,74 @@
+package com.datavet.shared.infrastructure.cache;
+
+import com.datavet.shared.infrastructure.event.MongoCappedCollectionChannel;
+import com.mongodb.MongoException;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Difunde las invalidaciones de {@link ReferenceDataCache} entre instancias a través de una colección
+ * capped ({@link MongoCappedCollectionChannel}). Al arrancar las cachés están vacías, así que solo se
+ * siguen los mensajes publicados desde ese momento.
+ */
+@Slf4j
+@Component
+@Profile("!inmemory")
+public class MongoCacheInvalidationBroadcaster implements CacheInvalidationBroadcaster, SmartLifecycle {
+
+    private static final String CACHE = "cache";
+    private static final String KEYS  = "keys";
+
+    private final ReferenceDataCache           referenceDataCache;
+    private final MongoCappedCollectionChannel channel;
+
+    public MongoCacheInvalidationBroadcaster(MongoTemplate mongoTemplate,
+                                             ReferenceDataCache referenceDataCache,
+                                             ReferenceCacheProperties properties) {
+        ReferenceCacheProperties.Channel config = properties.getChannel();
+        this.referenceDataCache = referenceDataCache;
+        this.channel            = new MongoCappedCollectionChannel(mongoTemplate, config.getCollection(),
+                config.getMaxSizeBytes(), config.getMaxDocuments(), config.getRetryDelayMs(), this::apply);
+    }
+
+    @Override
+    public void broadcast(String cacheName, String... keys) {
+        try {
+            channel.publish(new Document(CACHE, cacheName).append(KEYS, Arrays.asList(keys)));
+        } catch (MongoException e) {
+            // En el resto de instancias la entrada caducará por TTL
+            log.error("No se pudo difundir la invalidación de {}{}: {}", cacheName, Arrays.toString(keys),
+                    e.getMessage());
+        }
+    }
+
+    @Override
+    public void start() {
+        channel.start(new Date());
+    }
+
+    @Override
+    public void stop() {
+        channel.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return channel.isRunning();
+    }
+
+    private void apply(Document message) {
+        String       cacheName = message.getString(CACHE);
+        List<String> keys      = message.getList(KEYS, String.class);
+        if (cacheName != null && keys != null) {
+            keys.forEach(key -> referenceDataCache.invalidateLocally(cacheName, key));
+        }
+    }
+}
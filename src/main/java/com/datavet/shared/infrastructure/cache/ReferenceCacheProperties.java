@@ -0,0 +1,51 @@
+package com.datavet.shared.infrastructure.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cachés de datos de referencia leídas desde application.properties.
+ *
+ * datavet.cache.reference.caches.{nombre}.ttl-seconds — expiración tras la escritura
+ * datavet.cache.reference.caches.{nombre}.max-size    — entradas máximas (desalojo por tamaño)
+ * datavet.cache.reference.channel.collection          — colección capped para invalidar entre instancias
+ * datavet.cache.reference.channel.max-size-bytes      — tamaño máximo de la colección capped
+ * datavet.cache.reference.channel.max-documents       — documentos máximos de la colección capped
+ * datavet.cache.reference.channel.retry-delay-ms      — espera antes de reabrir el cursor tailable
+ *
+ * Las cachés sin configuración explícita usan los valores por defecto de {@link Spec}.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datavet.cache.reference")
+public class ReferenceCacheProperties {
+
+    private Map<String, Spec> caches  = new HashMap<>();
+    private Channel           channel = new Channel();
+
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, new Spec());
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private long ttlSeconds = 300;     // 5 minutos
+        private long maxSize    = 1_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Channel {
+        private String collection   = "cache_invalidations";
+        private long   maxSizeBytes = 4_194_304;   // 4 MB
+        private long   maxDocuments = 50_000;
+        private long   retryDelayMs = 1_000;
+    }
+}
@@ -0,0 +1,73 @@
+package com.datavet.shared.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cachés read-through para datos de referencia que cambian pocas veces al día (clínicas, catálogo de
+ * productos, plantilla de empleados), delante de los adaptadores de MongoDB.
+ *
+ * Cada caché con nombre es un Caffeine acotado por tamaño y TTL ({@link ReferenceCacheProperties}) y
+ * publica sus métricas de aciertos y fallos ({@code cache.gets}, {@code cache.evictions}...) con la
+ * etiqueta {@code cache=<nombre>}. Los adaptadores invalidan sus entradas al recibir los eventos de dominio
+ * correspondientes; la invalidación se aplica en local y se difunde al resto de instancias.
+ *
+ * Los resultados vacíos ({@code null}) no se cachean. Conviene cachear documentos de persistencia y no
+ * agregados: así cada lectura construye un agregado nuevo y nadie modifica el objeto compartido.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCache {
+
+    private final ReferenceCacheProperties                     properties;
+    private final MeterRegistry                                meterRegistry;
+    private final ObjectProvider<CacheInvalidationBroadcaster> broadcaster;
+
+    private final Map<String, Cache<String, Object>> caches = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <V> V get(String cacheName, String key, Function<String, V> loader) {
+        return (V) cache(cacheName).get(key, loader);
+    }
+
+    /** Invalida las claves en esta instancia y en el resto (con una sola difusión). */
+    public void invalidate(String cacheName, String... keys) {
+        if (keys.length == 0) {
+            return;
+        }
+        for (String key : keys) {
+            invalidateLocally(cacheName, key);
+        }
+        broadcaster.ifAvailable(channel -> channel.broadcast(cacheName, keys));
+    }
+
+    /** Invalida solo en esta instancia; lo usa el canal al recibir invalidaciones remotas. */
+    public void invalidateLocally(String cacheName, String key) {
+        Cache<String, Object> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    private Cache<String, Object> cache(String cacheName) {
+        return caches.computeIfAbsent(cacheName, name -> {
+            ReferenceCacheProperties.Spec spec = properties.specFor(name);
+            Cache<String, Object> cache = Caffeine.newBuilder()
+                    .expireAfterWrite(Duration.ofSeconds(spec.getTtlSeconds()))
+                    .maximumSize(spec.getMaxSize())
+                    .recordStats()
+                    .build();
+            return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.datavet.shared.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Activa {@code @Async}. Los métodos asíncronos usan el {@code applicationTaskExecutor} de Spring Boot:
+ * un pool de hilos de plataforma por defecto, o un hilo virtual por tarea con el perfil
+ * {@code virtual-threads} ({@code spring.threads.virtual.enabled=true}).
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
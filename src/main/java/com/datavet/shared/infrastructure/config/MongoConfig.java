@@ -1,7 +1,10 @@
 package com.datavet.shared.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
@@ -11,12 +14,15 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MongoDB configuration for the application.
  * Enables MongoDB auditing for automatic timestamp management.
+ * Disabled under the {@code inmemory} profile, where the in-memory adapters replace MongoDB.
  */
 @Configuration
+@Profile("!inmemory")
 @EnableMongoAuditing
 public class MongoConfig {
 
@@ -66,4 +72,18 @@ public class MongoConfig {
 
         return new MongoCustomConversions(converters);
     }
+
+    /**
+     * Sizes the driver's connection pool. Defaults match the driver's own (100 connections, 2 minutes
+     * waiting for one); the {@code virtual-threads} profile lowers the wait so that, with unbounded
+     * request concurrency, a saturated pool fails fast instead of queueing requests for minutes.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(
+            @Value("${datavet.mongodb.pool.max-size:100}") int maxSize,
+            @Value("${datavet.mongodb.pool.max-wait-ms:120000}") long maxWaitMs) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .maxWaitTime(maxWaitMs, TimeUnit.MILLISECONDS));
+    }
 }
\ No newline at end of file
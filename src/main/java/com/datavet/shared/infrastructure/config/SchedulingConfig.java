@@ -0,0 +1,14 @@
+package com.datavet.shared.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Activa {@code @Scheduled} para los procesos periódicos. Usan el {@code taskScheduler} de Spring Boot, con
+ * {@code spring.task.scheduling.pool.size} hilos; los cron se evalúan en la zona horaria del servidor, la
+ * misma con la que se guardan las fechas, y siguen la hora local aunque cambie el horario de verano.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
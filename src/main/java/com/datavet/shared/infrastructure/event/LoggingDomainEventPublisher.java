@@ -2,24 +2,30 @@ package com.datavet.shared.infrastructure.event;
 
 import com.datavet.shared.domain.event.DomainEvent;
 import com.datavet.shared.domain.event.DomainEventPublisher;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 /**
  * Simple implementation of DomainEventPublisher that logs events.
+ * Events are also forwarded to the Spring application event bus so that
+ * in-process listeners ({@code @EventListener}) can react to them.
  * In a real application, this would publish to a message broker or event store.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LoggingDomainEventPublisher implements DomainEventPublisher {
-    
 
-    
+    private final ApplicationEventPublisher applicationEventPublisher;
+
     @Override
     public void publish(DomainEvent event) {
         log.info("🚀 DOMAIN EVENT PUBLISHED: {} at {}", 
                 event.getClass().getSimpleName(), 
                 event.occurredOn());
         log.info("📋 Event details: {}", event.toString());
+        applicationEventPublisher.publishEvent(event);
     }
-}
\ No newline at end of file
+}
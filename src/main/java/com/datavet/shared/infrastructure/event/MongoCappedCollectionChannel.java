@@ -0,0 +1,167 @@
+package com.datavet.shared.infrastructure.event;
+
+import com.mongodb.CursorType;
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Canal de difusión entre instancias sobre una colección capped de MongoDB.
+ *
+ * Cada mensaje se inserta en la colección y todas las instancias (incluida la emisora) lo reciben con un
+ * cursor tailable: el servidor empuja los documentos nuevos en cuanto se insertan, sin sondeo ni E/S en el
+ * camino de las peticiones. Al arrancar se pueden releer los mensajes publicados desde un instante dado.
+ *
+ * Un cursor tailable muere si la consulta inicial no encuentra nada; por eso cada instancia inserta al
+ * arrancar un marcador que garantiza al menos una coincidencia y que no se entrega al consumidor. Si el
+ * cursor se pierde (failover, red) se reabre desde el último documento visto, que se vuelve a entregar:
+ * los consumidores deben ser idempotentes.
+ *
+ * No es un bean: cada componente que necesita un canal crea el suyo y lo arranca y para en su ciclo de vida.
+ */
+@Slf4j
+public final class MongoCappedCollectionChannel {
+
+    public static final String AT = "at";
+
+    private static final String MARKER = "marker";
+
+    private static final int NAMESPACE_EXISTS = 48;
+
+    private final MongoTemplate      mongoTemplate;
+    private final String             collection;
+    private final long               maxSizeBytes;
+    private final long               maxDocuments;
+    private final long               retryDelayMs;
+    private final Consumer<Document> consumer;
+
+    private volatile boolean  running;
+    private volatile Thread   tailer;
+    private volatile ObjectId lastSeen;
+
+    public MongoCappedCollectionChannel(MongoTemplate mongoTemplate, String collection,
+                                        long maxSizeBytes, long maxDocuments, long retryDelayMs,
+                                        Consumer<Document> consumer) {
+        this.mongoTemplate = mongoTemplate;
+        this.collection    = collection;
+        this.maxSizeBytes  = maxSizeBytes;
+        this.maxDocuments  = maxDocuments;
+        this.retryDelayMs  = retryDelayMs;
+        this.consumer      = consumer;
+    }
+
+    /** Publica un mensaje; se le añade el instante de publicación en {@value #AT}. */
+    public void publish(Document message) {
+        collection().insertOne(message.append(AT, new Date()));
+    }
+
+    /** Crea la colección si no existe y empieza a seguirla, entregando también lo publicado desde {@code since}. */
+    public void start(Date since) {
+        ensureCappedCollection();
+        collection().insertOne(new Document(MARKER, true).append(AT, new Date()));
+
+        running = true;
+        tailer  = Thread.ofPlatform()
+                .name("capped-channel-" + collection)
+                .daemon(true)
+                .start(() -> tail(since));
+    }
+
+    public void stop() {
+        running = false;
+        Thread thread = tailer;
+        tailer = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tail(Date since) {
+        while (running) {
+            // Al reabrir incluimos el último visto para que la consulta tenga coincidencia y el cursor no muera
+            Bson filter = lastSeen != null
+                    ? Filters.gte("_id", lastSeen)
+                    : Filters.gte(AT, since);
+
+            try (MongoCursor<Document> cursor = collection().find(filter)
+                    .cursorType(CursorType.TailableAwait)
+                    .noCursorTimeout(true)
+                    .iterator()) {
+                while (running) {
+                    Document message = cursor.tryNext();
+                    if (message != null) {
+                        deliver(message);
+                    } else if (cursor.getServerCursor() == null) {
+                        break;   // cursor muerto: se reabre tras la espera
+                    }
+                }
+            } catch (MongoException | IllegalStateException e) {
+                if (running) {
+                    log.warn("Cursor sobre {} interrumpido, reabriendo: {}", collection, e.getMessage());
+                }
+            }
+            pause();
+        }
+    }
+
+    private void deliver(Document message) {
+        lastSeen = message.getObjectId("_id");
+        if (message.getBoolean(MARKER, false)) {
+            return;
+        }
+        try {
+            consumer.accept(message);
+        } catch (RuntimeException e) {
+            log.error("Error procesando un mensaje de {}: {}", collection, e.getMessage(), e);
+        }
+    }
+
+    private void ensureCappedCollection() {
+        if (mongoTemplate.collectionExists(collection)) {
+            return;
+        }
+        try {
+            mongoTemplate.createCollection(collection, CollectionOptions.empty()
+                    .capped()
+                    .size(maxSizeBytes)
+                    .maxDocuments(maxDocuments));
+        } catch (MongoCommandException e) {
+            // Otra instancia la creó a la vez
+            if (e.getErrorCode() != NAMESPACE_EXISTS) {
+                throw e;
+            }
+        }
+    }
+
+    private void pause() {
+        if (!running) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(retryDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(collection);
+    }
+}
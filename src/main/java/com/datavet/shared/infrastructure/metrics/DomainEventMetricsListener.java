@@ -0,0 +1,35 @@
+package com.datavet.shared.infrastructure.metrics;
+
+import com.datavet.shared.domain.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cuenta los eventos de dominio publicados, etiquetados por tipo de evento
+ * ({@code datavet.domain.events{type="AppointmentCreatedEvent"}}).
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventMetricsListener {
+
+    static final String METRIC = "datavet.domain.events";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void on(DomainEvent event) {
+        counters.computeIfAbsent(event.getClass(), type -> Counter.builder(METRIC)
+                        .description("Eventos de dominio publicados")
+                        .tag("type", type.getSimpleName())
+                        .register(meterRegistry))
+                .increment();
+    }
+}
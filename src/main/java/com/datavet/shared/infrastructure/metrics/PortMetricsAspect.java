@@ -0,0 +1,134 @@
+package com.datavet.shared.infrastructure.metrics;
+
+import com.datavet.auth.application.port.out.RefreshTokenRepositoryPort;
+import com.datavet.shared.application.port.Repository;
+import com.datavet.shared.application.port.UseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la latencia de todos los casos de uso y de todos los puertos de persistencia.
+ *
+ * <ul>
+ *   <li>{@code datavet.usecase}: métodos de cualquier implementación de {@link UseCase}.</li>
+ *   <li>{@code datavet.repository}: métodos de cualquier implementación de {@link Repository}
+ *       (y de {@link RefreshTokenRepositoryPort}, que no extiende la interfaz común).</li>
+ * </ul>
+ *
+ * Cada timer se etiqueta con {@code aggregate} (derivado del puerto: {@code PetRepositoryPort → pet}),
+ * {@code operation} (nombre del método) y {@code outcome} ({@code success} / {@code error}).
+ * Los percentiles p50/p95/p99 y el histograma se configuran en {@code application.properties}.
+ *
+ * Los timers se resuelven una sola vez por método y se cachean: en el camino caliente
+ * solo hay una búsqueda en un {@link ConcurrentHashMap} y la medición en sí.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class PortMetricsAspect {
+
+    static final String USE_CASE_METRIC  = "datavet.usecase";
+    static final String REPOSITORY_METRIC = "datavet.repository";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Method, Timer[]> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * (com.datavet.shared.application.port.UseCase+).*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, USE_CASE_METRIC, UseCase.class);
+    }
+
+    @Around("execution(public * (com.datavet.shared.application.port.Repository+).*(..))"
+            + " || execution(public * (com.datavet.auth.application.port.out.RefreshTokenRepositoryPort+).*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, REPOSITORY_METRIC, Repository.class);
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String metric, Class<?> portType) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer[] pair = timers.computeIfAbsent(method,
+                m -> register(metric, portType, AopUtils.getTargetClass(joinPoint.getTarget()), m));
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            pair[0].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            pair[1].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer[] register(String metric, Class<?> portType, Class<?> targetClass, Method method) {
+        String aggregate = aggregateName(portType, targetClass);
+        return new Timer[] {
+                timer(metric, aggregate, method.getName(), "success"),
+                timer(metric, aggregate, method.getName(), "error")
+        };
+    }
+
+    private Timer timer(String metric, String aggregate, String operation, String outcome) {
+        return Timer.builder(metric)
+                .description(USE_CASE_METRIC.equals(metric)
+                        ? "Latencia de los casos de uso"
+                        : "Latencia de los puertos de persistencia")
+                .tag("aggregate", aggregate)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Busca el puerto que implementa la clase destino y lo convierte en el nombre del agregado:
+     * {@code MedicalRecordUseCase → medical-record}, {@code ProductMovementPort → product-movement}.
+     */
+    static String aggregateName(Class<?> portType, Class<?> targetClass) {
+        for (Class<?> type = targetClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                boolean isPort = portType.isAssignableFrom(candidate) && candidate != portType
+                        || candidate == RefreshTokenRepositoryPort.class;
+                if (isPort) {
+                    return toKebabCase(stripSuffix(candidate.getSimpleName()));
+                }
+            }
+        }
+        return toKebabCase(stripSuffix(targetClass.getSimpleName()));
+    }
+
+    private static String stripSuffix(String name) {
+        for (String suffix : new String[] {"UseCase", "RepositoryPort", "Port", "RepositoryAdapter", "Service"}) {
+            if (name.endsWith(suffix) && name.length() > suffix.length()) {
+                return name.substring(0, name.length() - suffix.length());
+            }
+        }
+        return name;
+    }
+
+    private static String toKebabCase(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) sb.append('-');
+                sb.append(Character.toLowerCase(c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
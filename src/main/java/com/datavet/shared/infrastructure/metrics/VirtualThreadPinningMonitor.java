@@ -0,0 +1,129 @@
+package com.datavet.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta hilos virtuales anclados a su hilo carrier escuchando en proceso el evento JFR
+ * {@code jdk.VirtualThreadPinned}.
+ *
+ * Mientras un hilo virtual está anclado, una operación bloqueante retiene también el carrier y el resto
+ * de peticiones se queda sin hilos. Desde Java 24 un bloque {@code synchronized} ya no ancla por sí solo,
+ * pero siguen anclando los frames nativos, la inicialización de clases y las dependencias compiladas
+ * para runtimes antiguos, así que conviene vigilarlo.
+ *
+ * Cada bloqueo se registra en {@code datavet.threads.pinned}, etiquetado por el primer frame fuera del
+ * JDK ({@code frame}) y por su origen ({@code application} / {@code dependency} / {@code jdk}). La primera
+ * vez que aparece un frame se loguea la pila completa.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "datavet.threads.pinning-monitor.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String METRIC = "datavet.threads.pinned";
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 15;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration      threshold;
+
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${datavet.threads.pinning-monitor.threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.threshold     = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Monitor de hilos virtuales anclados activo (umbral {} ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.of();
+
+        RecordedFrame culprit = frames.stream()
+                .filter(frame -> !isJdk(className(frame)))
+                .findFirst()
+                .orElse(frames.isEmpty() ? null : frames.get(0));
+
+        String frame  = culprit != null ? className(culprit) + "." + culprit.getMethod().getName() : "unknown";
+        String origin = culprit == null || isJdk(className(culprit)) ? "jdk"
+                : className(culprit).startsWith("com.datavet.") ? "application"
+                : "dependency";
+
+        Timer.builder(METRIC)
+                .description("Tiempo que un hilo virtual permanece anclado a su carrier")
+                .tag("frame", frame)
+                .tag("origin", origin)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedFrames.add(frame)) {
+            log.warn("Hilo virtual anclado {} ms en {} ({}):\n{}",
+                    event.getDuration().toMillis(), frame, origin, format(event.getStackTrace()));
+        }
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t(sin pila)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\tat " + className(frame) + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String className(RecordedFrame frame) {
+        return frame.getMethod().getType().getName();
+    }
+
+    private static boolean isJdk(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+    }
+}
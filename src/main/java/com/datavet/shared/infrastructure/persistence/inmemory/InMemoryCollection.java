@@ -0,0 +1,388 @@
+package com.datavet.shared.infrastructure.persistence.inmemory;
+
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Colección en memoria que emula una colección de MongoDB para el perfil {@code inmemory}.
+ *
+ * Los documentos se guardan por id en un {@link ConcurrentHashMap} y cada {@code @CompoundIndex}
+ * del documento se replica como índice secundario:
+ * <ul>
+ *   <li><b>hash</b>: clave → ids. Sirve para igualdad y para las restricciones {@code unique}.</li>
+ *   <li><b>ordenado</b>: prefijo de igualdad → {@link ConcurrentSkipListMap} por la clave de rango
+ *       (p. ej. {@code clinic_id} + {@code scheduled_at}).</li>
+ * </ul>
+ *
+ * Semántica alineada con MongoDB:
+ * <ul>
+ *   <li>Un índice único no sparse trata {@code null} como un valor más (dos nulos colisionan).</li>
+ *   <li>Un índice sparse ignora los documentos sin ninguno de los campos indexados.</li>
+ *   <li>Una violación de unicidad lanza {@link DuplicateKeyException}, igual que la traducción
+ *       de excepciones de Spring Data.</li>
+ * </ul>
+ *
+ * Las escrituras se serializan por colección (necesario para validar unicidad de forma atómica);
+ * las lecturas no bloquean. Las búsquedas por índice revalidan la clave contra el documento actual,
+ * por lo que una lectura concurrente con una escritura nunca devuelve un documento que no cumpla.
+ */
+public final class InMemoryCollection<D> {
+
+    private static final Object NULL_KEY = new Object() {
+        @Override public String toString() { return "null"; }
+    };
+
+    private final String                        name;
+    private final Function<D, String>           idOf;
+    private final Map<String, D>                byId = new ConcurrentHashMap<>();
+    private final Map<String, HashIndex<D>>     hashIndexes;
+    private final Map<String, SortedIndex<D>>   sortedIndexes;
+    private final Object                        writeLock = new Object();
+
+    private InMemoryCollection(Builder<D> builder) {
+        this.name          = builder.name;
+        this.idOf          = builder.idOf;
+        this.hashIndexes   = Collections.unmodifiableMap(builder.hashIndexes);
+        this.sortedIndexes = Collections.unmodifiableMap(builder.sortedIndexes);
+    }
+
+    public static <D> Builder<D> builder(String name, Function<D, String> idOf) {
+        return new Builder<>(name, idOf);
+    }
+
+    /** Clave compuesta para índices de varios campos. Admite nulos. */
+    public static Object key(Object... parts) {
+        return Arrays.asList(parts);
+    }
+
+    // -------------------------------------------------------------------------
+    // Escritura
+    // -------------------------------------------------------------------------
+
+    public D save(D document) {
+        String id = Objects.requireNonNull(idOf.apply(document), "El documento debe tener id");
+
+        synchronized (writeLock) {
+            for (HashIndex<D> index : hashIndexes.values()) {
+                if (index.unique) {
+                    index.checkUnique(name, id, document);
+                }
+            }
+
+            D previous = byId.put(id, document);
+            if (previous != null) {
+                hashIndexes.values().forEach(index -> index.remove(id, previous));
+                sortedIndexes.values().forEach(index -> index.remove(id, previous));
+            }
+            hashIndexes.values().forEach(index -> index.add(id, document));
+            sortedIndexes.values().forEach(index -> index.add(id, document));
+        }
+        return document;
+    }
+
+    /** Como {@code insert} de MongoDB: falla con {@link DuplicateKeyException} si el id ya existe. */
+    public D insert(D document) {
+        String id = Objects.requireNonNull(idOf.apply(document), "El documento debe tener id");
+
+        synchronized (writeLock) {
+            if (byId.containsKey(id)) {
+                throw new DuplicateKeyException("E11000 duplicate key error collection: " + name
+                        + " index: _id_ dup key: " + id);
+            }
+            return save(document);
+        }
+    }
+
+    public void deleteById(String id) {
+        synchronized (writeLock) {
+            D previous = byId.remove(id);
+            if (previous != null) {
+                hashIndexes.values().forEach(index -> index.remove(id, previous));
+                sortedIndexes.values().forEach(index -> index.remove(id, previous));
+            }
+        }
+    }
+
+    public int deleteWhere(String indexName, Object key) {
+        List<D> matches = findBy(indexName, key);
+        matches.forEach(doc -> deleteById(idOf.apply(doc)));
+        return matches.size();
+    }
+
+    public void clear() {
+        synchronized (writeLock) {
+            byId.clear();
+            hashIndexes.values().forEach(HashIndex::clear);
+            sortedIndexes.values().forEach(SortedIndex::clear);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Lectura
+    // -------------------------------------------------------------------------
+
+    public Optional<D> findById(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public boolean existsById(String id) {
+        return byId.containsKey(id);
+    }
+
+    public List<D> findAll() {
+        return new ArrayList<>(byId.values());
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /** Igualdad sobre un índice hash. */
+    public List<D> findBy(String indexName, Object key) {
+        HashIndex<D> index = hashIndex(indexName);
+        Object normalized = normalize(key);
+        return resolve(index.ids(normalized), doc -> normalize(index.keyOf.apply(doc)).equals(normalized));
+    }
+
+    public Optional<D> findOneBy(String indexName, Object key) {
+        List<D> matches = findBy(indexName, key);
+        return matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0));
+    }
+
+    public boolean existsBy(String indexName, Object key) {
+        return !findBy(indexName, key).isEmpty();
+    }
+
+    /** Igualdad sobre un índice hash excluyendo un id (para los {@code ...AndIdNot}). */
+    public boolean existsByAndIdNot(String indexName, Object key, String excludedId) {
+        return findBy(indexName, key).stream().anyMatch(doc -> !idOf.apply(doc).equals(excludedId));
+    }
+
+    /**
+     * Rango {@code [from, to)} sobre un índice ordenado, dentro de un prefijo de igualdad.
+     * {@code from}/{@code to} nulos dejan el extremo abierto. Resultado ordenado por la clave de rango.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<D> range(String indexName, Object prefix, Comparable from, Comparable to) {
+        SortedIndex<D> index = sortedIndexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("Índice ordenado desconocido en " + name + ": " + indexName);
+        }
+        Object normalizedPrefix = normalize(prefix);
+        NavigableMap<Comparable, Set<String>> tree = index.tree(normalizedPrefix);
+        if (tree == null) return List.of();
+
+        NavigableMap<Comparable, Set<String>> slice;
+        if (from != null && to != null)  slice = tree.subMap(from, true, to, false);
+        else if (from != null)           slice = tree.tailMap(from, true);
+        else if (to != null)             slice = tree.headMap(to, false);
+        else                             slice = tree;
+
+        List<String> ids = new ArrayList<>();
+        slice.values().forEach(ids::addAll);
+        return resolve(ids, doc -> {
+            Comparable sortKey = index.sortKeyOf.apply(doc);
+            return normalize(index.prefixOf.apply(doc)).equals(normalizedPrefix)
+                    && sortKey != null
+                    && (from == null || sortKey.compareTo(from) >= 0)
+                    && (to == null || sortKey.compareTo(to) < 0);
+        });
+    }
+
+    /** Recorrido completo (equivalente a un COLLSCAN). Solo para consultas sin índice. */
+    public List<D> scan(Predicate<D> predicate) {
+        return byId.values().stream().filter(predicate).toList();
+    }
+
+    // -------------------------------------------------------------------------
+    // Helpers
+    // -------------------------------------------------------------------------
+
+    private HashIndex<D> hashIndex(String indexName) {
+        HashIndex<D> index = hashIndexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("Índice desconocido en " + name + ": " + indexName);
+        }
+        return index;
+    }
+
+    private List<D> resolve(Collection<String> ids, Predicate<D> stillMatches) {
+        List<D> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            D doc = byId.get(id);
+            if (doc != null && stillMatches.test(doc)) {
+                result.add(doc);
+            }
+        }
+        return result;
+    }
+
+    private static Object normalize(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    private static boolean isMissing(Object key) {
+        if (key == null) return true;
+        if (key instanceof List<?> parts) {
+            return parts.stream().allMatch(Objects::isNull);
+        }
+        return false;
+    }
+
+    // -------------------------------------------------------------------------
+    // Índices
+    // -------------------------------------------------------------------------
+
+    private static final class HashIndex<D> {
+        private final String              name;
+        private final Function<D, Object> keyOf;
+        private final boolean             unique;
+        private final boolean             sparse;
+        private final Map<Object, Set<String>> entries = new ConcurrentHashMap<>();
+
+        private HashIndex(String name, Function<D, Object> keyOf, boolean unique, boolean sparse) {
+            this.name   = name;
+            this.keyOf  = keyOf;
+            this.unique = unique;
+            this.sparse = sparse;
+        }
+
+        Set<String> ids(Object normalizedKey) {
+            Set<String> ids = entries.get(normalizedKey);
+            return ids == null ? Set.of() : ids;
+        }
+
+        void checkUnique(String collection, String id, D document) {
+            Object key = keyOf.apply(document);
+            if (sparse && isMissing(key)) return;
+            for (String other : ids(normalize(key))) {
+                if (!other.equals(id)) {
+                    throw new DuplicateKeyException("E11000 duplicate key error collection: " + collection
+                            + " index: " + name + " dup key: " + key);
+                }
+            }
+        }
+
+        void add(String id, D document) {
+            Object key = keyOf.apply(document);
+            if (sparse && isMissing(key)) return;
+            entries.computeIfAbsent(normalize(key), k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+
+        void remove(String id, D document) {
+            Object key = keyOf.apply(document);
+            if (sparse && isMissing(key)) return;
+            entries.computeIfPresent(normalize(key), (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        void clear() {
+            entries.clear();
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final class SortedIndex<D> {
+        private final Function<D, Object>     prefixOf;
+        private final Function<D, Comparable> sortKeyOf;
+        private final Map<Object, ConcurrentSkipListMap<Comparable, Set<String>>> entries = new ConcurrentHashMap<>();
+
+        private SortedIndex(Function<D, Object> prefixOf, Function<D, Comparable> sortKeyOf) {
+            this.prefixOf  = prefixOf;
+            this.sortKeyOf = sortKeyOf;
+        }
+
+        NavigableMap<Comparable, Set<String>> tree(Object normalizedPrefix) {
+            return entries.get(normalizedPrefix);
+        }
+
+        @SuppressWarnings("unchecked")
+        void add(String id, D document) {
+            Comparable sortKey = sortKeyOf.apply(document);
+            if (sortKey == null) return;
+            entries.computeIfAbsent(normalize(prefixOf.apply(document)), k -> new ConcurrentSkipListMap<>())
+                    .computeIfAbsent(sortKey, k -> ConcurrentHashMap.newKeySet())
+                    .add(id);
+        }
+
+        @SuppressWarnings("unchecked")
+        void remove(String id, D document) {
+            Comparable sortKey = sortKeyOf.apply(document);
+            if (sortKey == null) return;
+            ConcurrentSkipListMap<Comparable, Set<String>> tree = entries.get(normalize(prefixOf.apply(document)));
+            if (tree == null) return;
+            tree.computeIfPresent(sortKey, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        void clear() {
+            entries.clear();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Builder
+    // -------------------------------------------------------------------------
+
+    public static final class Builder<D> {
+        private final String                      name;
+        private final Function<D, String>         idOf;
+        private final Map<String, HashIndex<D>>   hashIndexes   = new LinkedHashMap<>();
+        private final Map<String, SortedIndex<D>> sortedIndexes = new LinkedHashMap<>();
+
+        private Builder(String name, Function<D, String> idOf) {
+            this.name = name;
+            this.idOf = idOf;
+        }
+
+        public Builder<D> index(String indexName, Function<D, Object> keyOf) {
+            hashIndexes.put(indexName, new HashIndex<>(indexName, keyOf, false, false));
+            return this;
+        }
+
+        public Builder<D> sparseIndex(String indexName, Function<D, Object> keyOf) {
+            hashIndexes.put(indexName, new HashIndex<>(indexName, keyOf, false, true));
+            return this;
+        }
+
+        public Builder<D> uniqueIndex(String indexName, Function<D, Object> keyOf) {
+            hashIndexes.put(indexName, new HashIndex<>(indexName, keyOf, true, false));
+            return this;
+        }
+
+        public Builder<D> uniqueSparseIndex(String indexName, Function<D, Object> keyOf) {
+            hashIndexes.put(indexName, new HashIndex<>(indexName, keyOf, true, true));
+            return this;
+        }
+
+        @SuppressWarnings("rawtypes")
+        public Builder<D> sortedIndex(String indexName, Function<D, Object> prefixOf,
+                                      Function<D, Comparable> sortKeyOf) {
+            sortedIndexes.put(indexName, new SortedIndex<>(prefixOf, sortKeyOf));
+            return this;
+        }
+
+        public InMemoryCollection<D> build() {
+            return new InMemoryCollection<>(this);
+        }
+    }
+}
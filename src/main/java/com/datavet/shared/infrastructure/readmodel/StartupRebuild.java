@@ -0,0 +1,74 @@
+package com.datavet.shared.infrastructure.readmodel;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Carga inicial de una vista en memoria que después se mantiene con los eventos de dominio.
+ *
+ * {@link #start()} lanza la carga en un hilo de plataforma daemon: el arranque no la espera y, mientras
+ * tanto, la vista responde con lo que tenga. Los eventos que llegan durante la carga anotan su clave con
+ * {@link #touch}; al terminar, haya ido bien o no, cada clave anotada se vuelve a aplicar una vez sobre la
+ * vista nueva leyendo su estado guardado.
+ *
+ * Las vistas que lo usan son locales a cada instancia: un cambio hecho en otra réplica no se ve hasta el
+ * siguiente arranque o el siguiente evento sobre la misma entidad en esta instancia.
+ *
+ * @param <K> clave de lo que hay que volver a aplicar
+ */
+@Slf4j
+public final class StartupRebuild<K> {
+
+    private final String      name;
+    private final Runnable    load;
+    private final Consumer<K> replay;
+
+    private volatile boolean rebuilding;
+    private final Set<K>     touched = ConcurrentHashMap.newKeySet();
+
+    public StartupRebuild(String name, Runnable load, Consumer<K> replay) {
+        this.name   = name;
+        this.load   = load;
+        this.replay = replay;
+    }
+
+    /** Ejecuta {@link #run()} en segundo plano, en el hilo {@code <name>-rebuild}. */
+    public void start() {
+        Thread.ofPlatform().name(name + "-rebuild").daemon(true).start(this::run);
+    }
+
+    /** Carga la vista y vuelve a aplicar lo anotado durante la carga, en el hilo que llama. */
+    public void run() {
+        rebuilding = true;
+        try {
+            load.run();
+        } catch (RuntimeException e) {
+            log.error("No se pudo completar la carga inicial de {}: {}", name, e.getMessage(), e);
+        } finally {
+            rebuilding = false;
+            replayTouched();
+        }
+    }
+
+    /** Anota la clave si hay una carga en curso; si no, no hace nada. */
+    public void touch(K key) {
+        if (rebuilding) {
+            touched.add(key);
+        }
+    }
+
+    private void replayTouched() {
+        for (K key : List.copyOf(touched)) {
+            touched.remove(key);
+            try {
+                replay.accept(key);
+            } catch (RuntimeException e) {
+                log.error("No se pudo volver a aplicar {} en {}: {}", key, name, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.datavet.appointment.application.service;
+
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
+import com.datavet.appointment.application.port.out.AppointmentRollupPort;
+import com.datavet.appointment.domain.exception.AppointmentValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AppointmentAnalyticsService Tests")
+class AppointmentAnalyticsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+
+    private AppointmentAnalyticsService service;
+
+    @Mock private AppointmentRollupPort appointmentRollupPort;
+
+    @BeforeEach
+    void setUp() {
+        service = new AppointmentAnalyticsService(appointmentRollupPort);
+    }
+
+    // =========================================================================
+    // getFlowStats
+    // =========================================================================
+
+    @Test
+    @DisplayName("getFlowStats: should read the rollup for the range")
+    void getFlowStats_ShouldReadRollup() {
+        AppointmentFlowStats stats = AppointmentFlowStats.builder().clinicId("clinic-1").date(FROM).arrived(3).build();
+        when(appointmentRollupPort.findByClinicIdAndDateRange("clinic-1", FROM, FROM.plusDays(6)))
+                .thenReturn(List.of(stats));
+
+        assertThat(service.getFlowStats("clinic-1", FROM, FROM.plusDays(6))).containsExactly(stats);
+    }
+
+    @Test
+    @DisplayName("getFlowStats: should reject a reversed range or one longer than the maximum")
+    void getFlowStats_InvalidRange_ShouldThrow() {
+        assertThatThrownBy(() -> service.getFlowStats("clinic-1", FROM, FROM.minusDays(1)))
+                .isInstanceOf(AppointmentValidationException.class);
+        assertThatThrownBy(() -> service.getFlowStats(
+                "clinic-1", FROM, FROM.plusDays(AppointmentAnalyticsService.MAX_RANGE_DAYS)))
+                .isInstanceOf(AppointmentValidationException.class);
+
+        verify(appointmentRollupPort, never()).findByClinicIdAndDateRange(any(), any(), any());
+    }
+}
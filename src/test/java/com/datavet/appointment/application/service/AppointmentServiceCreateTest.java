@@ -15,6 +15,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -61,13 +62,15 @@ class AppointmentServiceCreateTest {
     }
 
     @Test
-    @DisplayName("Should publish domain events after creating appointment")
-    void create_ShouldPublishDomainEvents() {
+    @DisplayName("Should publish domain events after saving the appointment")
+    void create_ShouldPublishDomainEventsAfterSaving() {
         when(appointmentRepositoryPort.save(any())).thenAnswer(i -> i.getArgument(0));
 
         appointmentService.create(buildRegularCommand());
 
-        verify(domainEventPublisher, atLeastOnce()).publish(any(DomainEvent.class));
+        InOrder inOrder = inOrder(appointmentRepositoryPort, domainEventPublisher);
+        inOrder.verify(appointmentRepositoryPort).save(any(Appointment.class));
+        inOrder.verify(domainEventPublisher, atLeastOnce()).publish(any(DomainEvent.class));
     }
 
     @Test
@@ -4,7 +4,10 @@ import com.datavet.appointment.application.port.in.command.CancelAppointmentComm
 import com.datavet.appointment.application.port.in.command.UpdateAppointmentStatusCommand;
 import com.datavet.appointment.application.port.out.AppointmentEmailPort;
 import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.event.AppointmentCancelledEvent;
+import com.datavet.appointment.domain.event.AppointmentStatusChangedEvent;
 import com.datavet.appointment.domain.exception.AppointmentNotFoundException;
+import com.datavet.appointment.domain.exception.AppointmentValidationException;
 import com.datavet.appointment.domain.model.Appointment;
 import com.datavet.appointment.domain.model.PetSnapshot;
 import com.datavet.appointment.domain.valueobject.AppointmentSource;
@@ -15,10 +18,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -51,7 +56,7 @@ class AppointmentServiceQueryTest {
     // =========================================================================
 
     @Test
-    @DisplayName("updateStatus: should advance status and save")
+    @DisplayName("updateStatus: should advance status, save and then publish")
     void updateStatus_ShouldAdvanceAndSave() {
         Appointment existing = buildReservedAppointment("appt-1", "clinic-1");
         when(appointmentRepositoryPort.findById("appt-1")).thenReturn(Optional.of(existing));
@@ -64,7 +69,9 @@ class AppointmentServiceQueryTest {
                 .build());
 
         assertThat(result.getStatus()).isEqualTo(AppointmentStatus.CLIENTE_LLEGADO);
-        verify(appointmentRepositoryPort).save(any(Appointment.class));
+        InOrder inOrder = inOrder(appointmentRepositoryPort, domainEventPublisher);
+        inOrder.verify(appointmentRepositoryPort).save(any(Appointment.class));
+        inOrder.verify(domainEventPublisher).publish(any(AppointmentStatusChangedEvent.class));
     }
 
     @Test
@@ -116,7 +123,7 @@ class AppointmentServiceQueryTest {
     // =========================================================================
 
     @Test
-    @DisplayName("cancel: should cancel and save appointment")
+    @DisplayName("cancel: should cancel, save and then publish")
     void cancel_ShouldCancelAndSave() {
         Appointment existing = buildReservedAppointment("appt-1", "clinic-1");
         when(appointmentRepositoryPort.findById("appt-1")).thenReturn(Optional.of(existing));
@@ -129,7 +136,9 @@ class AppointmentServiceQueryTest {
                 .build());
 
         assertThat(existing.getStatus()).isEqualTo(AppointmentStatus.CANCELADA);
-        verify(appointmentRepositoryPort).save(existing);
+        InOrder inOrder = inOrder(appointmentRepositoryPort, domainEventPublisher);
+        inOrder.verify(appointmentRepositoryPort).save(existing);
+        inOrder.verify(domainEventPublisher).publish(any(AppointmentCancelledEvent.class));
     }
 
     @Test
@@ -211,6 +220,39 @@ class AppointmentServiceQueryTest {
         assertThat(result).hasSize(1);
     }
 
+    // =========================================================================
+    // getByClinicInRange / countByDay
+    // =========================================================================
+
+    @Test
+    @DisplayName("getByClinicInRange: should query the inclusive day range as [from, to + 1 day)")
+    void getByClinicInRange_ShouldQueryHalfOpenRange() {
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to   = LocalDate.of(2025, 3, 31);
+        when(appointmentRepositoryPort.findByClinicIdAndRange("clinic-1",
+                from.atStartOfDay(), LocalDate.of(2025, 4, 1).atStartOfDay(), AppointmentStatus.RESERVADA, null, "vet-1"))
+                .thenReturn(List.of(buildReservedAppointment("appt-1", "clinic-1")));
+
+        List<Appointment> result = appointmentService.getByClinicInRange(
+                "clinic-1", from, to, AppointmentStatus.RESERVADA, null, "vet-1");
+
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("countByDay: should reject ranges longer than the maximum without querying")
+    void countByDay_WhenRangeTooLong_ShouldThrow() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+
+        assertThatThrownBy(() -> appointmentService.countByDay(
+                "clinic-1", from, from.plusDays(AppointmentService.MAX_RANGE_DAYS), null))
+                .isInstanceOf(AppointmentValidationException.class);
+        assertThatThrownBy(() -> appointmentService.countByDay("clinic-1", from, from.minusDays(1), null))
+                .isInstanceOf(AppointmentValidationException.class);
+
+        verifyNoInteractions(appointmentRepositoryPort);
+    }
+
     // =========================================================================
     // Helper
     // =========================================================================
@@ -222,7 +264,7 @@ class AppointmentServiceQueryTest {
                 "owner-1", "Ana García", "ana@test.com", "+34600000001",
                 PetSnapshot.of("pet-1", "Max", "Perro"),
                 "emp-1", null, "Revisión anual", List.of(),
-                AppointmentSource.PANEL, LocalDateTime.now(), null
+                AppointmentSource.PANEL, LocalDateTime.now(), null, null
         );
     }
 }
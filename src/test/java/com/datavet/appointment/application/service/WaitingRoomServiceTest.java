@@ -0,0 +1,123 @@
+package com.datavet.appointment.application.service;
+
+import com.datavet.appointment.application.dto.WaitingRoomEntry;
+import com.datavet.appointment.application.port.in.AppointmentUseCase;
+import com.datavet.appointment.application.port.in.command.UpdateAppointmentStatusCommand;
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.event.AppointmentStatusChangedEvent;
+import com.datavet.appointment.domain.exception.AppointmentStateException;
+import com.datavet.appointment.domain.exception.AppointmentValidationException;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.appointment.infrastructure.queue.WaitingRoomQueue;
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitingRoomService Tests")
+class WaitingRoomServiceTest {
+
+    private static final String        CLINIC = "clinic-1";
+    private static final LocalDateTime NINE   = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    private WaitingRoomQueue   queue;
+    private WaitingRoomService service;
+
+    @Mock private AppointmentUseCase appointmentUseCase;
+
+    @BeforeEach
+    void setUp() {
+        queue   = new WaitingRoomQueue(mock(AppointmentRepositoryPort.class), mock(ClinicRepositoryPort.class));
+        service = new WaitingRoomService(queue, appointmentUseCase);
+    }
+
+    // =========================================================================
+    // assignNext
+    // =========================================================================
+
+    @Test
+    @DisplayName("assignNext: should move the head to PROXIMO_A_ATENDER with the vet")
+    void assignNext_ShouldAdvanceHeadWithVet() {
+        Appointment advanced = mock(Appointment.class);
+        when(appointmentUseCase.updateStatus(any())).thenReturn(advanced);
+        queue.on(arrived("a", false, NINE, NINE, null));
+
+        Optional<Appointment> result = service.assignNext(CLINIC, "vet-1");
+
+        assertThat(result).contains(advanced);
+        ArgumentCaptor<UpdateAppointmentStatusCommand> command =
+                ArgumentCaptor.forClass(UpdateAppointmentStatusCommand.class);
+        verify(appointmentUseCase).updateStatus(command.capture());
+        assertThat(command.getValue().getAppointmentId()).isEqualTo("a");
+        assertThat(command.getValue().getNewStatus()).isEqualTo(AppointmentStatus.PROXIMO_A_ATENDER);
+        assertThat(command.getValue().getMedicalEmployeeId()).isEqualTo("vet-1");
+        assertThat(queue.findByClinicId(CLINIC)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("assignNext: should discard a stale entry and assign the next one")
+    void assignNext_StaleEntry_ShouldTryNext() {
+        Appointment advanced = mock(Appointment.class);
+        when(appointmentUseCase.updateStatus(any()))
+                .thenThrow(new AppointmentStateException(AppointmentStatus.EN_CONSULTA, AppointmentStatus.PROXIMO_A_ATENDER))
+                .thenReturn(advanced);
+        queue.on(arrived("stale", false, NINE,                 NINE, null));
+        queue.on(arrived("b",     false, NINE.plusMinutes(15), NINE, null));
+
+        assertThat(service.assignNext(CLINIC, "vet-1")).contains(advanced);
+        verify(appointmentUseCase, times(2)).updateStatus(any());
+        assertThat(queue.findByClinicId(CLINIC)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("assignNext: should return empty when nobody is waiting")
+    void assignNext_EmptyQueue_ShouldReturnEmpty() {
+        assertThat(service.assignNext(CLINIC, "vet-1")).isEmpty();
+        verifyNoInteractions(appointmentUseCase);
+    }
+
+    @Test
+    @DisplayName("assignNext: should put the entry back when the status change fails unexpectedly")
+    void assignNext_UnexpectedFailure_ShouldRequeue() {
+        when(appointmentUseCase.updateStatus(any())).thenThrow(new IllegalStateException("boom"));
+        queue.on(arrived("a", false, NINE, NINE, null));
+
+        assertThatThrownBy(() -> service.assignNext(CLINIC, "vet-1")).isInstanceOf(IllegalStateException.class);
+        assertThat(queue.findByClinicId(CLINIC)).extracting(WaitingRoomEntry::getAppointmentId).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("assignNext: should require the vet")
+    void assignNext_WithoutVet_ShouldThrow() {
+        assertThatThrownBy(() -> service.assignNext(CLINIC, " "))
+                .isInstanceOf(AppointmentValidationException.class);
+        verifyNoInteractions(appointmentUseCase);
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private AppointmentStatusChangedEvent arrived(String id, boolean emergency, LocalDateTime scheduledAt,
+                                                  LocalDateTime arrivedAt, String medicalEmployeeId) {
+        return AppointmentStatusChangedEvent.of(id, CLINIC, AppointmentStatus.RESERVADA,
+                AppointmentStatus.CLIENTE_LLEGADO, emergency, AppointmentType.RUTINA, medicalEmployeeId,
+                scheduledAt, Map.of(AppointmentStatus.CLIENTE_LLEGADO, arrivedAt));
+    }
+}
@@ -231,6 +231,25 @@ class AppointmentTest {
         assertThat(appt.getStatus()).isEqualTo(AppointmentStatus.FINALIZADA);
     }
 
+    @Test
+    @DisplayName("advanceStatus: should stamp each status and carry the stamps in the event")
+    void advanceStatus_ShouldRecordStatusTimestamps() {
+        Appointment appt = advanceToEnConsulta();
+        appt.assignMedicalEmployee("vet-1");
+        appt.clearDomainEvents();
+
+        appt.advanceStatus(AppointmentStatus.FINALIZADA);
+
+        assertThat(appt.getStatusTimestamps()).containsOnlyKeys(
+                AppointmentStatus.RESERVADA, AppointmentStatus.CLIENTE_LLEGADO, AppointmentStatus.PROXIMO_A_ATENDER,
+                AppointmentStatus.EN_CONSULTA, AppointmentStatus.FINALIZADA);
+        assertThat(appt.getStatusTimestamps().get(AppointmentStatus.FINALIZADA)).isEqualTo(appt.getUpdatedAt());
+
+        AppointmentStatusChangedEvent event = (AppointmentStatusChangedEvent) appt.getDomainEvents().get(0);
+        assertThat(event.getMedicalEmployeeId()).isEqualTo("vet-1");
+        assertThat(event.getStatusTimestamps()).isEqualTo(appt.getStatusTimestamps());
+    }
+
     // =========================================================================
     // cancel
     // =========================================================================
@@ -0,0 +1,135 @@
+package com.datavet.appointment.infrastructure.analytics;
+
+import com.datavet.appointment.application.dto.AppointmentFlowStats;
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.application.port.out.AppointmentRollupPort;
+import com.datavet.appointment.domain.event.AppointmentStatusChangedEvent;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.model.PetSnapshot;
+import com.datavet.appointment.domain.valueobject.AppointmentSource;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AppointmentFlowRollup Tests")
+class AppointmentFlowRollupTest {
+
+    private static final LocalDateTime SCHEDULED = LocalDateTime.of(2025, 3, 3, 9, 30);
+
+    private AppointmentFlowRollup rollup;
+
+    @Mock private AppointmentRollupPort     appointmentRollupPort;
+    @Mock private AppointmentRepositoryPort appointmentRepositoryPort;
+
+    @BeforeEach
+    void setUp() {
+        rollup = new AppointmentFlowRollup(appointmentRollupPort, appointmentRepositoryPort);
+    }
+
+    // =========================================================================
+    // Transiciones
+    // =========================================================================
+
+    @Test
+    @DisplayName("Should add the wait time from arrival to consult start on the appointment's day")
+    void enConsulta_ShouldIncrementWaitTime() {
+        Map<AppointmentStatus, LocalDateTime> at = new EnumMap<>(AppointmentStatus.class);
+        at.put(AppointmentStatus.CLIENTE_LLEGADO, SCHEDULED.minusMinutes(5));
+        at.put(AppointmentStatus.EN_CONSULTA,     SCHEDULED.plusMinutes(10));
+
+        rollup.on(event(AppointmentStatus.PROXIMO_A_ATENDER, AppointmentStatus.EN_CONSULTA, at));
+
+        ArgumentCaptor<AppointmentFlowStats> delta = ArgumentCaptor.forClass(AppointmentFlowStats.class);
+        verify(appointmentRollupPort).increment(delta.capture());
+        assertThat(delta.getValue().getDate()).isEqualTo(LocalDate.of(2025, 3, 3));
+        assertThat(delta.getValue().getMedicalEmployeeId()).isEqualTo("vet-1");
+        assertThat(delta.getValue().getStarted()).isEqualTo(1);
+        assertThat(delta.getValue().getWaitCount()).isEqualTo(1);
+        assertThat(delta.getValue().getWaitSeconds()).isEqualTo(15 * 60);
+        assertThat(delta.getValue().getFinished()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count a follow-up as finished and add the consult duration")
+    void requiereSeguimiento_ShouldIncrementFinishedAndConsultTime() {
+        Map<AppointmentStatus, LocalDateTime> at = new EnumMap<>(AppointmentStatus.class);
+        at.put(AppointmentStatus.EN_CONSULTA,          SCHEDULED);
+        at.put(AppointmentStatus.REQUIERE_SEGUIMIENTO, SCHEDULED.plusMinutes(25));
+
+        AppointmentFlowStats delta = AppointmentFlowRollup.deltaOf(
+                event(AppointmentStatus.EN_CONSULTA, AppointmentStatus.REQUIERE_SEGUIMIENTO, at));
+
+        assertThat(delta.getFinished()).isEqualTo(1);
+        assertThat(delta.getFollowUps()).isEqualTo(1);
+        assertThat(delta.getConsultSeconds()).isEqualTo(25 * 60);
+        assertThat(delta.getAverageConsultMinutes()).isEqualTo(25.0);
+    }
+
+    @Test
+    @DisplayName("Should not write anything for transitions without counters")
+    void proximoAAtender_ShouldNotWrite() {
+        rollup.on(event(AppointmentStatus.CLIENTE_LLEGADO, AppointmentStatus.PROXIMO_A_ATENDER, Map.of()));
+
+        verifyNoInteractions(appointmentRollupPort);
+    }
+
+    // =========================================================================
+    // No presentadas
+    // =========================================================================
+
+    @Test
+    @DisplayName("recountNoShows: should reset the day's counters before setting the current ones")
+    void recountNoShows_ShouldResetBeforeSetting() {
+        LocalDate day = SCHEDULED.toLocalDate();
+        when(appointmentRepositoryPort.findByClinicIdAndRange(
+                eq("clinic-1"), any(), any(), eq(AppointmentStatus.RESERVADA), isNull(), isNull()))
+                .thenReturn(List.of(reservedAppointment()));
+
+        assertThat(rollup.recountNoShows("clinic-1", day)).isEqualTo(1);
+
+        InOrder inOrder = inOrder(appointmentRollupPort);
+        inOrder.verify(appointmentRollupPort).resetNoShows("clinic-1", day);
+        inOrder.verify(appointmentRollupPort).setNoShows("clinic-1", day, "vet-1", AppointmentType.RUTINA, 1);
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private AppointmentStatusChangedEvent event(AppointmentStatus previous, AppointmentStatus next,
+                                                Map<AppointmentStatus, LocalDateTime> at) {
+        return AppointmentStatusChangedEvent.of("appt-1", "clinic-1", previous, next,
+                false, AppointmentType.RUTINA, "vet-1", SCHEDULED, at);
+    }
+
+    private Appointment reservedAppointment() {
+        return Appointment.reconstitute(
+                "appt-1", "clinic-1", false, AppointmentType.RUTINA,
+                AppointmentStatus.RESERVADA, SCHEDULED,
+                "owner-1", "Ana García", "ana@test.com", "+34600000001",
+                PetSnapshot.of("pet-1", "Max", "Perro"),
+                "emp-1", "vet-1", "Revisión anual", List.of(),
+                AppointmentSource.PANEL, SCHEDULED.minusDays(7), null, null
+        );
+    }
+}
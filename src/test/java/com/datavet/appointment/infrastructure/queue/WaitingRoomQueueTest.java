@@ -0,0 +1,103 @@
+package com.datavet.appointment.infrastructure.queue;
+
+import com.datavet.appointment.application.dto.WaitingRoomEntry;
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.event.AppointmentStatusChangedEvent;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitingRoomQueue Tests")
+class WaitingRoomQueueTest {
+
+    private static final String        CLINIC = "clinic-1";
+    private static final LocalDateTime NINE   = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    private WaitingRoomQueue queue;
+
+    @Mock private AppointmentRepositoryPort appointmentRepositoryPort;
+    @Mock private ClinicRepositoryPort      clinicRepositoryPort;
+
+    @BeforeEach
+    void setUp() {
+        queue = new WaitingRoomQueue(appointmentRepositoryPort, clinicRepositoryPort);
+    }
+
+    // =========================================================================
+    // Orden
+    // =========================================================================
+
+    @Test
+    @DisplayName("Should put emergencies first, then order by scheduled time and arrival")
+    void getQueue_ShouldOrderByTriage() {
+        queue.on(arrived("late",      false, NINE.plusMinutes(30), NINE.plusMinutes(1), null));
+        queue.on(arrived("early",     false, NINE,                 NINE.plusMinutes(5), null));
+        queue.on(arrived("emergency", true,  NINE.plusHours(1),    NINE.plusHours(1),   null));
+        queue.on(arrived("same-slot", false, NINE,                 NINE.plusMinutes(9), null));
+
+        assertThat(queue.findByClinicId(CLINIC)).extracting(WaitingRoomEntry::getAppointmentId)
+                .containsExactly("emergency", "early", "same-slot", "late");
+    }
+
+    @Test
+    @DisplayName("Should drop the entry when the appointment leaves CLIENTE_LLEGADO")
+    void on_StatusChangedAway_ShouldRemoveEntry() {
+        queue.on(arrived("a", false, NINE, NINE, null));
+
+        queue.on(AppointmentStatusChangedEvent.of("a", CLINIC, AppointmentStatus.CLIENTE_LLEGADO,
+                AppointmentStatus.PROXIMO_A_ATENDER, false, AppointmentType.RUTINA, "vet-1", NINE, Map.of()));
+
+        assertThat(queue.findByClinicId(CLINIC)).isEmpty();
+    }
+
+    // =========================================================================
+    // Siguiente
+    // =========================================================================
+
+    @Test
+    @DisplayName("peekNext: should skip appointments already assigned to another vet")
+    void peekNext_ShouldSkipOtherVetsAppointments() {
+        queue.on(arrived("for-vet-2", false, NINE,                 NINE, "vet-2"));
+        queue.on(arrived("anyone",    false, NINE.plusMinutes(15), NINE, null));
+        queue.on(arrived("for-vet-1", false, NINE.plusMinutes(30), NINE, "vet-1"));
+
+        assertThat(queue.peekNext(CLINIC, "vet-1")).map(WaitingRoomEntry::getAppointmentId).contains("anyone");
+        assertThat(queue.peekNext(CLINIC, "vet-2")).map(WaitingRoomEntry::getAppointmentId).contains("for-vet-2");
+        assertThat(queue.peekNext(CLINIC, null)).map(WaitingRoomEntry::getAppointmentId).contains("for-vet-2");
+    }
+
+    @Test
+    @DisplayName("pollNext: should take the entry out of the queue and put it back on demand")
+    void pollNext_ShouldRemoveEntry() {
+        queue.on(arrived("a", false, NINE, NINE, null));
+
+        WaitingRoomEntry polled = queue.pollNext(CLINIC, "vet-1").orElseThrow();
+
+        assertThat(queue.findByClinicId(CLINIC)).isEmpty();
+        queue.put(polled);
+        assertThat(queue.findByClinicId(CLINIC)).extracting(WaitingRoomEntry::getAppointmentId).containsExactly("a");
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private AppointmentStatusChangedEvent arrived(String id, boolean emergency, LocalDateTime scheduledAt,
+                                                  LocalDateTime arrivedAt, String medicalEmployeeId) {
+        return AppointmentStatusChangedEvent.of(id, CLINIC, AppointmentStatus.RESERVADA,
+                AppointmentStatus.CLIENTE_LLEGADO, emergency, AppointmentType.RUTINA, medicalEmployeeId,
+                scheduledAt, Map.of(AppointmentStatus.CLIENTE_LLEGADO, arrivedAt));
+    }
+}
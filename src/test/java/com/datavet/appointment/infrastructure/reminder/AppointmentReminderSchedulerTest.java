@@ -0,0 +1,126 @@
+package com.datavet.appointment.infrastructure.reminder;
+
+import com.datavet.appointment.application.port.out.AppointmentEmailPort;
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.appointment.domain.model.Appointment;
+import com.datavet.appointment.domain.model.PetSnapshot;
+import com.datavet.appointment.domain.valueobject.AppointmentSource;
+import com.datavet.appointment.domain.valueobject.AppointmentStatus;
+import com.datavet.appointment.domain.valueobject.AppointmentType;
+import com.datavet.appointment.infrastructure.adapter.output.InMemoryAppointmentReminderLeaseRepositoryAdapter;
+import com.datavet.clinic.application.port.out.ClinicRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AppointmentReminderScheduler Tests")
+class AppointmentReminderSchedulerTest {
+
+    private static final LocalDateTime SCHEDULED_AT = LocalDateTime.now().plusHours(2);
+
+    @Mock private AppointmentRepositoryPort appointmentRepositoryPort;
+    @Mock private ClinicRepositoryPort      clinicRepositoryPort;
+    @Mock private AppointmentEmailPort      appointmentEmailPort;
+
+    private InMemoryAppointmentReminderLeaseRepositoryAdapter leases;
+    private AppointmentReminderScheduler                      scheduler;
+
+    private final AppointmentReminder reminder =
+            new AppointmentReminder("appt-1", AppointmentReminder.Kind.H2, SCHEDULED_AT);
+
+    @BeforeEach
+    void setUp() {
+        leases    = new InMemoryAppointmentReminderLeaseRepositoryAdapter();
+        scheduler = new AppointmentReminderScheduler(
+                appointmentRepositoryPort, clinicRepositoryPort, leases, appointmentEmailPort, 48, 100);
+    }
+
+    private void givenStoredAppointment() {
+        when(appointmentRepositoryPort.findAllById(any())).thenReturn(List.of(buildReservedAppointment()));
+    }
+
+    private boolean leaseIsFree() {
+        return leases.acquire(Map.of(reminder.key(), SCHEDULED_AT)).contains(reminder.key());
+    }
+
+    // =========================================================================
+    // Disparo
+    // =========================================================================
+
+    @Test
+    @DisplayName("Should keep the lease once the reminder has been sent")
+    void fire_WhenSent_ShouldKeepLease() {
+        givenStoredAppointment();
+        when(appointmentEmailPort.sendAppointmentReminderEmail(anyString(), anyString(), any(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        scheduler.fire(List.of(reminder));
+
+        assertThat(leaseIsFree()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should release the lease when the send fails so the reminder can be claimed again")
+    void fire_WhenSendFails_ShouldReleaseLease() {
+        givenStoredAppointment();
+        when(appointmentEmailPort.sendAppointmentReminderEmail(anyString(), anyString(), any(), anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("SMTP caído")));
+
+        scheduler.fire(List.of(reminder));
+
+        assertThat(leaseIsFree()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should release the lease when the email port throws before sending")
+    void fire_WhenPortThrows_ShouldReleaseLease() {
+        givenStoredAppointment();
+        when(appointmentEmailPort.sendAppointmentReminderEmail(anyString(), anyString(), any(), anyInt()))
+                .thenThrow(new IllegalStateException("Plantilla no encontrada"));
+
+        scheduler.fire(List.of(reminder));
+
+        assertThat(leaseIsFree()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should put the batch back in the wheel when the appointments cannot be read")
+    void fire_WhenReadFails_ShouldRescheduleBatch() {
+        when(appointmentRepositoryPort.findAllById(any())).thenThrow(new IllegalStateException("Sin primario"));
+
+        scheduler.fire(List.of(reminder));
+
+        assertThat(scheduler.pending()).isEqualTo(1);
+        assertThat(leaseIsFree()).isTrue();
+    }
+
+    // =========================================================================
+    // Helper
+    // =========================================================================
+
+    private Appointment buildReservedAppointment() {
+        return Appointment.reconstitute(
+                "appt-1", "clinic-1", false, AppointmentType.RUTINA,
+                AppointmentStatus.RESERVADA, SCHEDULED_AT,
+                "owner-1", "Ana García", "ana@test.com", "+34600000001",
+                PetSnapshot.of("pet-1", "Max", "Perro"),
+                "emp-1", null, "Revisión anual", List.of(),
+                AppointmentSource.PANEL, LocalDateTime.now(), null, null
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package com.datavet.appointment.infrastructure.reminder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TimingWheel Tests")
+class TimingWheelTest {
+
+    private static final long TICK  = 1_000;
+    // Sin alinear con ningún nivel, para que los huecos superiores se repartan a mitad de vuelta
+    private static final long START = 63 * TICK + 500;
+
+    private TimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel<>(TICK, START);
+    }
+
+    // =========================================================================
+    // Vencimientos
+    // =========================================================================
+
+    @Test
+    @DisplayName("Should fire a timer at its deadline and never before")
+    void advance_ShouldFireAtDeadline() {
+        wheel.schedule("a", START + 10 * TICK, "a");
+
+        assertThat(wheel.advance(START + 9 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 10 * TICK)).isEmpty();
+        assertThat(wheel.advance(START + 10 * TICK + TICK / 2)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fire timers in higher levels on their exact tick after cascading")
+    void advance_FarTimers_ShouldCascadeToExactTick() {
+        long[] offsets = {64, 65, 4_095, 4_096, 4_160, 300_000};
+        for (long offset : offsets) {
+            wheel.schedule("t" + offset, tickStart(offset), "t" + offset);
+        }
+
+        List<String> fired = new ArrayList<>();
+        for (long offset : offsets) {
+            fired.addAll(wheel.advance(tickStart(offset) - 1));
+            assertThat(fired).doesNotContain("t" + offset);
+            fired.addAll(wheel.advance(tickStart(offset)));
+            assertThat(fired).contains("t" + offset);
+        }
+        assertThat(fired).containsExactly("t64", "t65", "t4095", "t4096", "t4160", "t300000");
+    }
+
+    @Test
+    @DisplayName("Should fire an already expired timer on the next advance")
+    void schedule_PastDeadline_ShouldFireOnNextAdvance() {
+        wheel.schedule("late", START - 5 * TICK, "late");
+
+        assertThat(wheel.advance(START)).containsExactly("late");
+    }
+
+    // =========================================================================
+    // Cancelación y reprogramación
+    // =========================================================================
+
+    @Test
+    @DisplayName("Should not fire a cancelled timer")
+    void cancel_ShouldRemoveTimer() {
+        wheel.schedule("a", START + 5_000 * TICK, "a");
+
+        assertThat(wheel.cancel("a")).isTrue();
+        assertThat(wheel.advance(START + 10_000 * TICK)).isEmpty();
+        assertThat(wheel.cancel("a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should replace the timer when the same key is scheduled again")
+    void schedule_SameKey_ShouldReplace() {
+        wheel.schedule("a", START + 100 * TICK, "first");
+        wheel.schedule("a", START + 10 * TICK,  "second");
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 200 * TICK)).containsExactly("second");
+    }
+
+    // Inicio del tic situado offset tics después del actual
+    private static long tickStart(long offset) {
+        return (START / TICK + offset) * TICK;
+    }
+}
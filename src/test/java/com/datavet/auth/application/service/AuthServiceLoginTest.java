@@ -3,9 +3,11 @@ package com.datavet.auth.application.service;
 import com.datavet.auth.application.dto.TokenResponse;
 import com.datavet.auth.application.port.in.command.LoginCommand;
 import com.datavet.auth.application.port.out.EmailPort;
+import com.datavet.auth.application.port.out.LoginThrottlePort;
 import com.datavet.auth.application.port.out.RefreshTokenRepositoryPort;
 import com.datavet.auth.application.port.out.UserRepositoryPort;
 import com.datavet.auth.domain.exception.InvalidCredentialsException;
+import com.datavet.auth.domain.exception.TooManyLoginAttemptsException;
 import com.datavet.auth.domain.model.User;
 import com.datavet.auth.domain.model.UserRole;
 import com.datavet.auth.domain.model.UserStatus;
@@ -48,6 +50,7 @@ class AuthServiceLoginTest {
     @Mock private DomainEventPublisher       domainEventPublisher;
     @Mock private EmployeeRepositoryPort     employeeRepositoryPort;
     @Mock private ClinicRepositoryPort       clinicRepositoryPort;
+    @Mock private LoginThrottlePort          loginThrottlePort;
 
     private static final String VALID_BCRYPT = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
 
@@ -57,7 +60,8 @@ class AuthServiceLoginTest {
                 userRepositoryPort, refreshTokenRepositoryPort,
                 clinicUseCase, emailPort, passwordEncoder,
                 jwtUtil, domainEventPublisher,
-                employeeRepositoryPort, clinicRepositoryPort
+                employeeRepositoryPort, clinicRepositoryPort,
+                loginThrottlePort
         );
     }
 
@@ -72,7 +76,7 @@ class AuthServiceLoginTest {
 
         when(userRepositoryPort.findByEmail("user@clinic.com")).thenReturn(Optional.of(activeUser));
         when(passwordEncoder.matches("Password1", VALID_BCRYPT)).thenReturn(true);
-        when(jwtUtil.generateAccessToken(any(), any(), any(), any(), any())).thenReturn("jwt-token");
+        when(jwtUtil.generateAccessToken(any(), any(), any(), any(), any(), any())).thenReturn("jwt-token");
         when(jwtUtil.getAccessTokenExpirationSeconds()).thenReturn(3600L);
         when(refreshTokenRepositoryPort.save(any(RefreshTokenDocument.class))).thenAnswer(i -> i.getArgument(0));
 
@@ -152,6 +156,92 @@ class AuthServiceLoginTest {
                 .isInstanceOf(InvalidCredentialsException.class);
     }
 
+    // =========================================================================
+    // Throttling
+    // =========================================================================
+
+    @Test
+    @DisplayName("login: should reject throttled attempts before loading the user or hashing")
+    void login_WhenThrottled_ShouldThrowWithoutHashing() {
+        doThrow(new TooManyLoginAttemptsException(30))
+                .when(loginThrottlePort).checkAllowed("10.0.0.1", "user@clinic.com");
+
+        assertThatThrownBy(() -> authService.login(LoginCommand.builder()
+                .email("user@clinic.com")
+                .rawPassword("Password1")
+                .clientIp("10.0.0.1")
+                .build()))
+                .isInstanceOf(TooManyLoginAttemptsException.class);
+
+        verifyNoInteractions(userRepositoryPort, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("login: should record a failure when the password does not match")
+    void login_WhenWrongPassword_ShouldRecordFailure() {
+        User activeUser = buildActiveUser();
+
+        when(userRepositoryPort.findByEmail("user@clinic.com")).thenReturn(Optional.of(activeUser));
+        when(passwordEncoder.matches("WrongPass1", VALID_BCRYPT)).thenReturn(false);
+
+        assertThatThrownBy(() -> authService.login(LoginCommand.builder()
+                .email("user@clinic.com")
+                .rawPassword("WrongPass1")
+                .build()))
+                .isInstanceOf(InvalidCredentialsException.class);
+
+        verify(loginThrottlePort).recordFailure("user@clinic.com");
+        verify(loginThrottlePort, never()).recordSuccess(any());
+    }
+
+    // =========================================================================
+    // Rehash
+    // =========================================================================
+
+    @Test
+    @DisplayName("login: should rehash and save the password when the configured cost changed")
+    void login_WhenHashNeedsUpgrade_ShouldRehashAndSave() {
+        User activeUser = buildActiveUser();
+        String rehashed = "$2a$12$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+
+        when(userRepositoryPort.findByEmail("user@clinic.com")).thenReturn(Optional.of(activeUser));
+        when(passwordEncoder.matches("Password1", VALID_BCRYPT)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(VALID_BCRYPT)).thenReturn(true);
+        when(passwordEncoder.encode("Password1")).thenReturn(rehashed);
+        when(jwtUtil.generateAccessToken(any(), any(), any(), any(), any(), any())).thenReturn("jwt-token");
+        when(jwtUtil.getAccessTokenExpirationSeconds()).thenReturn(3600L);
+        when(refreshTokenRepositoryPort.save(any(RefreshTokenDocument.class))).thenAnswer(i -> i.getArgument(0));
+
+        authService.login(LoginCommand.builder()
+                .email("user@clinic.com")
+                .rawPassword("Password1")
+                .build());
+
+        assertThat(activeUser.getPassword().getValue()).isEqualTo(rehashed);
+        verify(userRepositoryPort).save(activeUser);
+        verify(loginThrottlePort).recordSuccess("user@clinic.com");
+    }
+
+    @Test
+    @DisplayName("login: should not rehash when the stored cost is current")
+    void login_WhenHashIsCurrent_ShouldNotRehash() {
+        User activeUser = buildActiveUser();
+
+        when(userRepositoryPort.findByEmail("user@clinic.com")).thenReturn(Optional.of(activeUser));
+        when(passwordEncoder.matches("Password1", VALID_BCRYPT)).thenReturn(true);
+        when(jwtUtil.generateAccessToken(any(), any(), any(), any(), any(), any())).thenReturn("jwt-token");
+        when(jwtUtil.getAccessTokenExpirationSeconds()).thenReturn(3600L);
+        when(refreshTokenRepositoryPort.save(any(RefreshTokenDocument.class))).thenAnswer(i -> i.getArgument(0));
+
+        authService.login(LoginCommand.builder()
+                .email("user@clinic.com")
+                .rawPassword("Password1")
+                .build());
+
+        verify(passwordEncoder, never()).encode(any());
+        verify(userRepositoryPort, never()).save(any());
+    }
+
     // =========================================================================
     // Helpers
     // =========================================================================
@@ -2,6 +2,7 @@ package com.datavet.auth.application.service;
 
 import com.datavet.auth.application.port.in.command.RegisterClinicOwnerCommand;
 import com.datavet.auth.application.port.out.EmailPort;
+import com.datavet.auth.application.port.out.LoginThrottlePort;
 import com.datavet.auth.application.port.out.RefreshTokenRepositoryPort;
 import com.datavet.auth.application.port.out.UserRepositoryPort;
 import com.datavet.auth.domain.exception.UserAlreadyExistsException;
@@ -51,6 +52,7 @@ class AuthServiceRegisterTest {
     @Mock private DomainEventPublisher       domainEventPublisher;
     @Mock private EmployeeRepositoryPort     employeeRepositoryPort;
     @Mock private ClinicRepositoryPort       clinicRepositoryPort;
+    @Mock private LoginThrottlePort          loginThrottlePort;
 
     private static final String VALID_BCRYPT = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
 
@@ -60,7 +62,8 @@ class AuthServiceRegisterTest {
                 userRepositoryPort, refreshTokenRepositoryPort,
                 clinicUseCase, emailPort, passwordEncoder,
                 jwtUtil, domainEventPublisher,
-                employeeRepositoryPort, clinicRepositoryPort
+                employeeRepositoryPort, clinicRepositoryPort,
+                loginThrottlePort
         );
     }
 
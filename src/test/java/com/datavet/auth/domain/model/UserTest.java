@@ -2,6 +2,7 @@ package com.datavet.auth.domain.model;
 
 import com.datavet.auth.domain.event.UserCreatedEvent;
 import com.datavet.auth.domain.event.UserDeactivatedEvent;
+import com.datavet.auth.domain.event.UserPasswordChangedEvent;
 import com.datavet.auth.domain.event.UserEmailVerifiedEvent;
 import com.datavet.auth.domain.exception.EmailTokenExpiredException;
 import com.datavet.auth.domain.exception.InvalidCredentialsException;
@@ -290,6 +291,19 @@ class UserTest {
         assertThat(user.getPassword()).isEqualTo(newPw);
     }
 
+    @Test
+    @DisplayName("changePassword: should raise UserPasswordChangedEvent")
+    void changePassword_ShouldRaiseEvent() {
+        User user = User.createEmployee("clinic-1", "emp-1", email, password, UserRole.CLINIC_VETERINARIAN);
+        user.clearDomainEvents();
+        HashedPassword newPw = HashedPassword.ofHash("$2a$10$DIFFERENT_HASH_VALUE_XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX");
+
+        user.changePassword(newPw);
+
+        assertThat(user.getDomainEvents()).hasSize(1);
+        assertThat(user.getDomainEvents().get(0)).isInstanceOf(UserPasswordChangedEvent.class);
+    }
+
     @Test
     @DisplayName("changePassword: should throw when user is INACTIVE")
     void changePassword_WhenInactive_ShouldThrow() {
@@ -395,6 +409,20 @@ class UserTest {
         assertThat(user.getPasswordResetTokenExpiry()).isNull();
     }
 
+    @Test
+    @DisplayName("resetPassword: should raise UserPasswordChangedEvent")
+    void resetPassword_ShouldRaiseEvent() {
+        User user = User.createEmployee("clinic-1", "emp-1", email, password, UserRole.CLINIC_VETERINARIAN);
+        user.clearDomainEvents();
+        user.requestPasswordReset("reset-token");
+        HashedPassword newPw = HashedPassword.ofHash("$2a$10$DIFFERENT_HASH_VALUE_XXXXXXXXXXXXXXXXXXXXXXXXXXXXXXXX");
+
+        user.resetPassword("reset-token", newPw);
+
+        assertThat(user.getDomainEvents()).hasSize(1);
+        assertThat(user.getDomainEvents().get(0)).isInstanceOf(UserPasswordChangedEvent.class);
+    }
+
     @Test
     @DisplayName("resetPassword: should throw when token is wrong")
     void resetPassword_WhenTokenWrong_ShouldThrow() {
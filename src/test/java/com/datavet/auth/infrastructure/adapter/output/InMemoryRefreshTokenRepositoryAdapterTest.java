@@ -0,0 +1,74 @@
+package com.datavet.auth.infrastructure.adapter.output;
+
+import com.datavet.auth.infrastructure.persistence.document.RefreshTokenDocument;
+import com.datavet.auth.infrastructure.security.RevokedRefreshTokenFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryRefreshTokenRepositoryAdapter")
+class InMemoryRefreshTokenRepositoryAdapterTest {
+
+    @Mock private RevokedRefreshTokenFilter revokedFilter;
+
+    private InMemoryRefreshTokenRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryRefreshTokenRepositoryAdapter(revokedFilter);
+    }
+
+    private RefreshTokenDocument token(String tokenHash) {
+        LocalDateTime now = LocalDateTime.now();
+        return RefreshTokenDocument.builder()
+                .id("rt-" + tokenHash).userId("user-1").tokenHash(tokenHash)
+                .createdAt(now).expiresAt(now.plusDays(7))
+                .build();
+    }
+
+    // =========================================================================
+    // findAndDeleteByTokenHash
+    // =========================================================================
+
+    @Test
+    @DisplayName("findAndDeleteByTokenHash records the hash of a removed token as revoked")
+    void findAndDelete_WhenTokenExists_AddsToFilter() {
+        adapter.save(token("hash-1"));
+
+        assertThat(adapter.findAndDeleteByTokenHash("hash-1")).isPresent();
+
+        verify(revokedFilter).add("hash-1");
+        assertThat(adapter.findByTokenHash("hash-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findAndDeleteByTokenHash leaves the filter untouched for an unknown hash")
+    void findAndDelete_WhenTokenUnknown_DoesNotTouchFilter() {
+        assertThat(adapter.findAndDeleteByTokenHash("unknown")).isEmpty();
+
+        verify(revokedFilter, never()).add(anyString());
+    }
+
+    // =========================================================================
+    // deleteByTokenHash
+    // =========================================================================
+
+    @Test
+    @DisplayName("deleteByTokenHash leaves the filter untouched for an unknown hash")
+    void deleteByTokenHash_WhenTokenUnknown_DoesNotTouchFilter() {
+        adapter.deleteByTokenHash("unknown");
+
+        verify(revokedFilter, never()).add(anyString());
+    }
+}
@@ -0,0 +1,100 @@
+package com.datavet.auth.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RevokedRefreshTokenFilter")
+class RevokedRefreshTokenFilterTest {
+
+    private static final long ROTATION_SECONDS = TimeUnit.DAYS.toSeconds(30);
+
+    private final AtomicLong now = new AtomicLong();
+
+    private RevokedRefreshTokenFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RevokedRefreshTokenFilter(10_000, 1e-4, ROTATION_SECONDS, now::get);
+    }
+
+    private static String sha256(String value) throws Exception {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash);
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    // =========================================================================
+    // Pertenencia
+    // =========================================================================
+
+    @Test
+    @DisplayName("Reconoce todos los hashes revocados (sin falsos negativos)")
+    void noFalseNegatives() throws Exception {
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(sha256("revoked-" + i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightBeRevoked(sha256("revoked-" + i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("La tasa de falsos positivos se mantiene cerca de la configurada")
+    void falsePositiveRateWithinBound() throws Exception {
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(sha256("revoked-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightBeRevoked(sha256("valid-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // Esperado ≈ 10 con p = 1e-4; margen amplio para no depender de la muestra
+        assertThat(falsePositives).isLessThan(50);
+        assertThat(filter.hashFunctions()).isEqualTo(13);
+    }
+
+    // =========================================================================
+    // Rotación de generaciones
+    // =========================================================================
+
+    @Test
+    @DisplayName("Un hash sigue revocado durante la generación siguiente")
+    void survivesOneRotation() throws Exception {
+        String hash = sha256("token");
+        filter.add(hash);
+
+        advanceSeconds(ROTATION_SECONDS + 1);
+
+        assertThat(filter.mightBeRevoked(hash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Tras dos rotaciones el hash se descarta")
+    void discardedAfterTwoRotations() throws Exception {
+        String hash = sha256("token");
+        filter.add(hash);
+
+        advanceSeconds(ROTATION_SECONDS + 1);
+        filter.mightBeRevoked(sha256("otro"));
+        advanceSeconds(ROTATION_SECONDS + 1);
+
+        assertThat(filter.mightBeRevoked(hash)).isFalse();
+    }
+}
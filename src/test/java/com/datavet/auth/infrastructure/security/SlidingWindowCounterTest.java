@@ -0,0 +1,94 @@
+package com.datavet.auth.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("SlidingWindowCounter")
+class SlidingWindowCounterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private SlidingWindowCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SlidingWindowCounter(60, 4, 1_000, now::get);
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    // =========================================================================
+    // Ventana deslizante
+    // =========================================================================
+
+    @Test
+    @DisplayName("Acumula los eventos dentro de la ventana actual")
+    void countsWithinWindow() {
+        counter.increment("10.0.0.1");
+        counter.increment("10.0.0.1");
+
+        assertThat(counter.increment("10.0.0.1")).isEqualTo(3.0);
+        assertThat(counter.estimate("10.0.0.2")).isZero();
+    }
+
+    @Test
+    @DisplayName("La ventana anterior pesa según la fracción que aún solapa")
+    void weightsPreviousWindow() {
+        for (int i = 0; i < 10; i++) {
+            counter.increment("ip");
+        }
+
+        advanceSeconds(90);   // 30 s dentro de la siguiente ventana → la anterior pesa 0.5
+
+        assertThat(counter.estimate("ip")).isCloseTo(5.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("Tras dos ventanas sin actividad el contador vuelve a cero")
+    void expiresAfterTwoWindows() {
+        counter.increment("ip");
+
+        advanceSeconds(121);
+
+        assertThat(counter.estimate("ip")).isZero();
+    }
+
+    @Test
+    @DisplayName("reset elimina la clave y secondsUntilReset indica el cierre de la ventana")
+    void resetAndRetryAfter() {
+        counter.increment("user@clinic.com");
+        advanceSeconds(20);
+
+        assertThat(counter.secondsUntilReset("user@clinic.com")).isEqualTo(40);
+
+        counter.reset("user@clinic.com");
+        assertThat(counter.estimate("user@clinic.com")).isZero();
+    }
+
+    // =========================================================================
+    // Límite de memoria
+    // =========================================================================
+
+    @Test
+    @DisplayName("Cada segmento descarta las claves menos recientes al superar su capacidad")
+    void evictsLeastRecentlyUsed() {
+        SlidingWindowCounter small = new SlidingWindowCounter(60, 1, 2, now::get);
+        small.increment("a");
+        small.increment("b");
+        small.increment("a");   // "a" pasa a ser la más reciente
+        small.increment("c");   // desplaza a "b"
+
+        assertThat(small.estimate("a")).isEqualTo(2.0);
+        assertThat(small.estimate("b")).isZero();
+        assertThat(small.estimate("c")).isEqualTo(1.0);
+    }
+}
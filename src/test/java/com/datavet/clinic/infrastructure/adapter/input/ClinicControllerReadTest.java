@@ -4,6 +4,7 @@ import com.datavet.auth.application.dto.TokenResponse;
 import com.datavet.auth.application.port.in.AuthUseCase;
 import com.datavet.auth.domain.model.UserRole;
 import com.datavet.auth.infrastructure.security.AuthenticatedUser;
+import com.datavet.auth.infrastructure.security.AccessTokenRevocationList;
 import com.datavet.auth.infrastructure.util.JwtUtil;
 import com.datavet.clinic.application.port.in.ClinicUseCase;
 import com.datavet.clinic.domain.exception.ClinicAlreadyExistsException;
@@ -54,6 +55,9 @@ class ClinicControllerReadTest {
     @MockitoBean
     private JwtUtil jwtUtil;
 
+    @MockitoBean
+    private AccessTokenRevocationList accessTokenRevocationList;
+
     private ObjectMapper objectMapper;
     private Clinic activeClinic;
     private Clinic pendingClinic;
@@ -3,6 +3,7 @@ package com.datavet.clinic.infrastructure.adapter.input;
 import com.datavet.auth.application.port.in.AuthUseCase;
 import com.datavet.auth.domain.model.UserRole;
 import com.datavet.auth.infrastructure.security.AuthenticatedUser;
+import com.datavet.auth.infrastructure.security.AccessTokenRevocationList;
 import com.datavet.auth.infrastructure.util.JwtUtil;
 import com.datavet.clinic.application.port.in.ClinicUseCase;
 import com.datavet.clinic.domain.exception.ClinicAlreadyExistsException;
@@ -56,6 +57,9 @@ class ClinicControllerWriteTest {
     @MockitoBean
     private JwtUtil jwtUtil;
 
+    @MockitoBean
+    private AccessTokenRevocationList accessTokenRevocationList;
+
     private ObjectMapper objectMapper;
     private Clinic activeClinic;
 
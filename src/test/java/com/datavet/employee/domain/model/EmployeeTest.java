@@ -203,6 +203,32 @@ class EmployeeTest {
         assertThat(employee.getDomainEvents().get(0)).isInstanceOf(EmployeeUpdatedEvent.class);
     }
 
+    @Test
+    @DisplayName("update: should flag the event when the speciality changes")
+    void update_WhenSpecialityChanges_ShouldFlagEvent() {
+        Employee employee = buildVetEmployee();
+        employee.clearDomainEvents();
+
+        employee.update("María", "López", documentNumber, phone, address,
+                null, "Cardiología", "VET-12345", "CLINIC_VETERINARIAN");
+
+        EmployeeUpdatedEvent event = (EmployeeUpdatedEvent) employee.getDomainEvents().get(0);
+        assertThat(event.isSpecialityChanged()).isTrue();
+    }
+
+    @Test
+    @DisplayName("update: should not flag the event when the speciality is unchanged")
+    void update_WhenSpecialityUnchanged_ShouldNotFlagEvent() {
+        Employee employee = buildVetEmployee();
+        employee.clearDomainEvents();
+
+        employee.update("Lucía", "Martínez", documentNumber, phone, address,
+                null, "Cirugía", "VET-12345", "CLINIC_VETERINARIAN");
+
+        EmployeeUpdatedEvent event = (EmployeeUpdatedEvent) employee.getDomainEvents().get(0);
+        assertThat(event.isSpecialityChanged()).isFalse();
+    }
+
     // =========================================================================
     // updateSalary
     // =========================================================================
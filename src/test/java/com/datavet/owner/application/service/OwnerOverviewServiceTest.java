@@ -0,0 +1,167 @@
+package com.datavet.owner.application.service;
+
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.owner.application.dto.OwnerOverview;
+import com.datavet.owner.application.port.out.OwnerRepositoryPort;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.owner.testutil.OwnerTestDataBuilder;
+import com.datavet.pet.application.dto.ClinicalSummary;
+import com.datavet.pet.application.port.out.MedicalRecordPort;
+import com.datavet.pet.application.port.out.PetRepositoryPort;
+import com.datavet.pet.domain.model.Pet;
+import com.datavet.pet.domain.valueobject.MedicalRecordType;
+import com.datavet.pet.testutil.PetTestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OwnerOverviewService")
+class OwnerOverviewServiceTest {
+
+    private static final long TIMEOUT_MS = 200;
+
+    @Mock
+    private OwnerRepositoryPort ownerRepositoryPort;
+
+    @Mock
+    private PetRepositoryPort petRepositoryPort;
+
+    @Mock
+    private AppointmentRepositoryPort appointmentRepositoryPort;
+
+    @Mock
+    private MedicalRecordPort medicalRecordPort;
+
+    private OwnerOverviewService service;
+
+    private String clinicId;
+    private Owner  owner;
+    private Pet    pet;
+
+    @BeforeEach
+    void setUp() {
+        service  = new OwnerOverviewService(ownerRepositoryPort, petRepositoryPort,
+                appointmentRepositoryPort, medicalRecordPort, TIMEOUT_MS);
+        clinicId = UUID.randomUUID().toString();
+        owner    = OwnerTestDataBuilder.buildValidOwnerWithId(clinicId);
+        pet      = PetTestDataBuilder.aPetWithClinicId(clinicId);
+        when(ownerRepositoryPort.findById(owner.getOwnerId())).thenReturn(Optional.of(owner));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private static ClinicalSummary summaryOf(Pet pet) {
+        return new ClinicalSummary.Builder(pet.getId())
+                .add(MedicalRecordType.VACCINE, 2, LocalDateTime.now())
+                .build();
+    }
+
+    // =========================================================================
+    // Vista completa
+    // =========================================================================
+
+    @Test
+    @DisplayName("Devuelve dueño, mascotas, citas y resúmenes cuando todo responde a tiempo")
+    void getOwnerOverview_ShouldReturnAllSections() {
+        when(petRepositoryPort.findByOwnerIdAndActiveTrue(owner.getOwnerId())).thenReturn(List.of(pet));
+        when(appointmentRepositoryPort.findUpcomingByOwnerId(eq(owner.getOwnerId()), any())).thenReturn(List.of());
+        when(medicalRecordPort.summarizeByPetId(pet.getId())).thenReturn(summaryOf(pet));
+
+        OwnerOverview overview = service.getOwnerOverview(owner.getOwnerId(), clinicId);
+
+        assertThat(overview.getOwner()).isSameAs(owner);
+        assertThat(overview.getPets()).containsExactly(pet);
+        assertThat(overview.getClinicalSummaries()).containsOnlyKeys(pet.getId());
+        assertThat(overview.getClinicalSummaries().get(pet.getId()).getActiveRecords()).isEqualTo(2);
+        assertThat(overview.isPartial()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Descarta las mascotas de otra clínica")
+    void getOwnerOverview_ShouldFilterForeignPets() {
+        Pet foreign = PetTestDataBuilder.aPetWithClinicId(UUID.randomUUID().toString());
+        when(petRepositoryPort.findByOwnerIdAndActiveTrue(owner.getOwnerId())).thenReturn(List.of(foreign));
+        when(appointmentRepositoryPort.findUpcomingByOwnerId(eq(owner.getOwnerId()), any())).thenReturn(List.of());
+
+        OwnerOverview overview = service.getOwnerOverview(owner.getOwnerId(), clinicId);
+
+        assertThat(overview.getPets()).isEmpty();
+        verify(medicalRecordPort, never()).summarizeByPetId(anyString());
+    }
+
+    // =========================================================================
+    // Resultados parciales
+    // =========================================================================
+
+    @Test
+    @DisplayName("Una sección lenta se corta en el plazo y se marca como incompleta")
+    void getOwnerOverview_WhenSectionTimesOut_ShouldReturnPartial() {
+        when(petRepositoryPort.findByOwnerIdAndActiveTrue(owner.getOwnerId())).thenReturn(List.of(pet));
+        when(medicalRecordPort.summarizeByPetId(pet.getId())).thenReturn(summaryOf(pet));
+        when(appointmentRepositoryPort.findUpcomingByOwnerId(eq(owner.getOwnerId()), any())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+
+        long start = System.nanoTime();
+        OwnerOverview overview = service.getOwnerOverview(owner.getOwnerId(), clinicId);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(overview.isPartial()).isTrue();
+        assertThat(overview.getIncompleteSections()).containsExactly(OwnerOverview.UPCOMING_APPOINTMENTS);
+        assertThat(overview.getUpcomingAppointments()).isEmpty();
+        assertThat(overview.getPets()).containsExactly(pet);
+        assertThat(overview.getClinicalSummaries()).containsOnlyKeys(pet.getId());
+    }
+
+    @Test
+    @DisplayName("Un resumen clínico que falla deja el resto de la vista intacta")
+    void getOwnerOverview_WhenSummaryFails_ShouldReturnPartial() {
+        when(petRepositoryPort.findByOwnerIdAndActiveTrue(owner.getOwnerId())).thenReturn(List.of(pet));
+        when(appointmentRepositoryPort.findUpcomingByOwnerId(eq(owner.getOwnerId()), any())).thenReturn(List.of());
+        when(medicalRecordPort.summarizeByPetId(pet.getId())).thenThrow(new IllegalStateException("boom"));
+
+        OwnerOverview overview = service.getOwnerOverview(owner.getOwnerId(), clinicId);
+
+        assertThat(overview.getIncompleteSections()).containsExactly(OwnerOverview.CLINICAL_SUMMARIES);
+        assertThat(overview.getClinicalSummaries()).isEmpty();
+        assertThat(overview.getPets()).containsExactly(pet);
+    }
+
+    // =========================================================================
+    // Acceso
+    // =========================================================================
+
+    @Test
+    @DisplayName("Rechaza un dueño de otra clínica sin lanzar las consultas")
+    void getOwnerOverview_WhenOtherClinic_ShouldDenyAccess() {
+        assertThatThrownBy(() -> service.getOwnerOverview(owner.getOwnerId(), "otra-clinica"))
+                .isInstanceOf(AccessDeniedException.class);
+
+        verify(petRepositoryPort, never()).findByOwnerIdAndActiveTrue(anyString());
+    }
+}
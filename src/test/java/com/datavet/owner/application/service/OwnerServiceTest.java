@@ -17,6 +17,7 @@ import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -154,8 +155,9 @@ class OwnerServiceTest {
 
         // Then
         verify(ownerRepositoryPort).findById(testOwnerId);
-        verify(ownerRepositoryPort).deleteById(testOwnerId);
-        verify(domainEventPublisher, atLeastOnce()).publish(any());
+        InOrder inOrder = inOrder(ownerRepositoryPort, domainEventPublisher);
+        inOrder.verify(ownerRepositoryPort).deleteById(testOwnerId);
+        inOrder.verify(domainEventPublisher, atLeastOnce()).publish(any());
     }
 
     @Test
@@ -0,0 +1,119 @@
+package com.datavet.owner.infrastructure.event;
+
+import com.datavet.appointment.application.port.out.AppointmentRepositoryPort;
+import com.datavet.owner.application.port.out.OwnerRepositoryPort;
+import com.datavet.owner.domain.event.OwnerUpdatedEvent;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.owner.testutil.OwnerTestDataBuilder;
+import com.datavet.pet.application.port.out.PetRepositoryPort;
+import com.datavet.pet.domain.model.OwnerInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OwnerSnapshotSynchronizer")
+class OwnerSnapshotSynchronizerTest {
+
+    @Mock
+    private OwnerRepositoryPort ownerRepositoryPort;
+
+    @Mock
+    private PetRepositoryPort petRepositoryPort;
+
+    @Mock
+    private AppointmentRepositoryPort appointmentRepositoryPort;
+
+    private OwnerSnapshotSynchronizer synchronizer;
+
+    private Owner owner;
+
+    @BeforeEach
+    void setUp() {
+        synchronizer = new OwnerSnapshotSynchronizer(
+                ownerRepositoryPort, petRepositoryPort, appointmentRepositoryPort, 50);
+        owner = OwnerTestDataBuilder.aValidOwner();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        synchronizer.shutdown();
+    }
+
+    // =========================================================================
+    // Propagación
+    // =========================================================================
+
+    @Test
+    @DisplayName("Propaga el dueño guardado a sus mascotas y a sus citas futuras")
+    void synchronize_ShouldPropagateStoredOwner() {
+        when(ownerRepositoryPort.findById(owner.getOwnerId())).thenReturn(Optional.of(owner));
+        LocalDateTime before = LocalDateTime.now();
+
+        synchronizer.synchronize(owner.getOwnerId());
+
+        ArgumentCaptor<OwnerInfo> ownerInfo = ArgumentCaptor.forClass(OwnerInfo.class);
+        verify(petRepositoryPort).updateOwnerInfo(ownerInfo.capture());
+        assertThat(ownerInfo.getValue().getOwnerId()).isEqualTo(owner.getOwnerId());
+        assertThat(ownerInfo.getValue().getName()).isEqualTo(owner.getName());
+        assertThat(ownerInfo.getValue().getLastName()).isEqualTo(owner.getLastName());
+        assertThat(ownerInfo.getValue().getPhone()).isEqualTo(owner.getPhone());
+
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(appointmentRepositoryPort).updateOwnerContact(
+                eq(owner.getOwnerId()),
+                eq(owner.getName() + " " + owner.getLastName()),
+                eq(owner.getEmail().getValue()),
+                eq(owner.getPhone().getValue()),
+                from.capture());
+        assertThat(from.getValue()).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("No hace nada si el dueño ya no existe")
+    void synchronize_WhenOwnerMissing_ShouldSkip() {
+        when(ownerRepositoryPort.findById("missing")).thenReturn(Optional.empty());
+
+        synchronizer.synchronize("missing");
+
+        verify(petRepositoryPort, never()).updateOwnerInfo(any());
+        verify(appointmentRepositoryPort, never()).updateOwnerContact(
+                anyString(), anyString(), any(), anyString(), any());
+    }
+
+    // =========================================================================
+    // Agrupación
+    // =========================================================================
+
+    @Test
+    @DisplayName("Una ráfaga de ediciones del mismo dueño produce una sola pasada")
+    void on_ShouldCoalesceBurst() {
+        when(ownerRepositoryPort.findById(owner.getOwnerId())).thenReturn(Optional.of(owner));
+
+        for (int i = 0; i < 5; i++) {
+            synchronizer.on(OwnerUpdatedEvent.of(owner.getOwnerId(), owner.getName()));
+        }
+
+        verify(petRepositoryPort, timeout(1_000)).updateOwnerInfo(any());
+        verify(ownerRepositoryPort, after(200).times(1)).findById(owner.getOwnerId());
+    }
+}
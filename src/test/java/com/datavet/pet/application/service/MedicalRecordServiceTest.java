@@ -8,13 +8,11 @@ import com.datavet.pet.application.port.out.PetRepositoryPort;
 import com.datavet.pet.domain.exception.MedicalRecordNotFoundException;
 import com.datavet.pet.domain.exception.PetNotFoundException;
 import com.datavet.pet.domain.model.MedicalRecord;
-import com.datavet.pet.domain.model.Pet;
 import com.datavet.pet.domain.model.details.MedicalRecordDetails;
 import com.datavet.pet.domain.model.details.vaccine.VaccineDetails;
 import com.datavet.pet.domain.valueobject.MedicalRecordType;
 import com.datavet.pet.infrastructure.adapter.output.MedicalRecordRepositoryAdapter;
 import com.datavet.pet.testutil.MedicalRecordServiceTestDataBuilder;
-import com.datavet.pet.testutil.PetTestDataBuilder;
 import com.datavet.shared.domain.event.DomainEventPublisher;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -237,7 +235,7 @@ class MedicalRecordServiceTest {
         @DisplayName("getMedicalRecordsByPet debe lanzar PetNotFoundException si la mascota no existe")
         void shouldThrowWhenPetNotFoundInGetByPet() {
             // Given
-            when(petRepositoryPort.findById("pet_001")).thenReturn(Optional.empty());
+            when(petRepositoryPort.findClinicIdById("pet_001")).thenReturn(Optional.empty());
 
             // When / Then
             assertThatThrownBy(() -> medicalRecordService.getMedicalRecordsByPet(
@@ -257,8 +255,8 @@ class MedicalRecordServiceTest {
             );
 
             String petId = records.getFirst().getPetId();
-            Pet pet = PetTestDataBuilder.aPetWithClinicId(MedicalRecordServiceTestDataBuilder.DEFAULT_CLINIC_ID);
-            when(petRepositoryPort.findById(petId)).thenReturn(Optional.of(pet));
+            when(petRepositoryPort.findClinicIdById(petId))
+                    .thenReturn(Optional.of(MedicalRecordServiceTestDataBuilder.DEFAULT_CLINIC_ID));
             when(medicalRecordRepositoryAdapter.findByPetId(petId)).thenReturn(records);
 
             // When
@@ -277,8 +275,8 @@ class MedicalRecordServiceTest {
             List<MedicalRecord> records = List.of(MedicalRecordServiceTestDataBuilder.aValidVaccineMedicalRecord());
 
             String petId = records.getFirst().getPetId();
-            Pet pet = PetTestDataBuilder.aPetWithClinicId(MedicalRecordServiceTestDataBuilder.DEFAULT_CLINIC_ID);
-            when(petRepositoryPort.findById(petId)).thenReturn(Optional.of(pet));
+            when(petRepositoryPort.findClinicIdById(petId))
+                    .thenReturn(Optional.of(MedicalRecordServiceTestDataBuilder.DEFAULT_CLINIC_ID));
             when(medicalRecordRepositoryAdapter.findByPetIdAndType(petId, MedicalRecordType.VACCINE))
                     .thenReturn(records);
 
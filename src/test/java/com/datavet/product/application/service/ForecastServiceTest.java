@@ -0,0 +1,76 @@
+package com.datavet.product.application.service;
+
+import com.datavet.product.application.dto.ProductForecast;
+import com.datavet.product.application.port.out.ConsumptionRateReadPort;
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.details.MedicationDetails;
+import com.datavet.product.domain.model.ConsumptionRate;
+import com.datavet.product.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ForecastService Tests")
+class ForecastServiceTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private ForecastService service;
+
+    @Mock private ProductRepositoryPort   productRepositoryPort;
+    @Mock private ConsumptionRateReadPort consumptionRateReadPort;
+
+    @BeforeEach
+    void setUp() {
+        service = new ForecastService(productRepositoryPort, consumptionRateReadPort, 14, 7, 30);
+    }
+
+    // =========================================================================
+    // getForecast
+    // =========================================================================
+
+    @Test
+    @DisplayName("getForecast: should compute cover and reorder quantity, products without consumption last")
+    void getForecast_ShouldComputeCoverAndReorder() {
+        LocalDateTime now = LocalDateTime.now();
+        when(productRepositoryPort.findByClinicId("clinic-1")).thenReturn(List.of(
+                product("p1", "Amoxicilina", 10, 5, true),
+                product("p2", "Bravecto", 10, 5, true),
+                product("p3", "Retirado", 0, 5, false)));
+        // Historia larga: el consumo diario es el acumulado, 2 unidades/día
+        when(consumptionRateReadPort.findByClinicId("clinic-1")).thenReturn(Map.of(
+                "p2", ConsumptionRate.reconstitute("p2", "clinic-1", 2, now.minusYears(20), now)));
+
+        List<ProductForecast> forecast = service.getForecast("clinic-1");
+
+        // 2/día × (7 + 30) + 5 de mínimo − 10 en stock
+        assertThat(forecast)
+                .extracting(ProductForecast::getProductId, ProductForecast::getDailyConsumption,
+                        ProductForecast::getDaysOfCover, ProductForecast::getReorderQuantity)
+                .containsExactly(
+                        tuple("p2", 2.0, 5.0, 69),
+                        tuple("p1", 0.0, null, 0));
+    }
+
+    private Product product(String id, String name, int stock, int minStock, boolean active) {
+        MedicationDetails details = MedicationDetails.create(
+                "Amoxicilina", "Comprimidos", "500mg", "Pfizer",
+                "REG-001", false, "Temperatura ambiente", "BATCH-001",
+                null, List.of("Perro", "Gato"), "Oral");
+        return Product.reconstitute(id, "clinic-1", name, "Desc", null, null,
+                new BigDecimal("29.99"), new BigDecimal("0.21"), stock, minStock, active, DATE, DATE, details);
+    }
+}
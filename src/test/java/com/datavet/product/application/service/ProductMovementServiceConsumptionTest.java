@@ -0,0 +1,121 @@
+package com.datavet.product.application.service;
+
+import com.datavet.product.application.port.in.command.RecordAppointmentConsumptionCommand;
+import com.datavet.product.application.port.out.ProductMovementPort;
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.details.MedicationDetails;
+import com.datavet.product.domain.event.ProductMovementCreatedEvent;
+import com.datavet.product.domain.event.ProductStockUpdatedEvent;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.domain.valueobject.ProductMovementType;
+import com.datavet.shared.domain.event.DomainEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductMovementService - recordAppointmentConsumption Tests")
+class ProductMovementServiceConsumptionTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private ProductMovementService service;
+
+    @Mock private ProductMovementPort   productMovementPort;
+    @Mock private ProductRepositoryPort productRepositoryPort;
+    @Mock private DomainEventPublisher  domainEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProductMovementService(productMovementPort, productRepositoryPort, domainEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should count repeated products and write all consumptions in one batch")
+    void record_ShouldUseBulkOperations() {
+        when(productMovementPort.findByAppointmentId("appt-1")).thenReturn(List.of());
+        when(productRepositoryPort.findAllById(any())).thenReturn(List.of(product("p1", "clinic-1", 10), product("p2", "clinic-1", 3)));
+        when(productRepositoryPort.decrementStock(eq("clinic-1"), anyString(), eq(Map.of("p1", 2, "p2", 1)))).thenReturn(Optional.empty());
+        when(productMovementPort.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        List<ProductMovement> movements = service.recordAppointmentConsumption(command("p1", "p2", "p1"));
+
+        assertThat(movements).extracting(ProductMovement::getId)
+                .containsExactly("appt-1|p1", "appt-1|p2");
+        assertThat(movements).allSatisfy(movement -> {
+            assertThat(movement.getType()).isEqualTo(ProductMovementType.EXIT_CONSUMPTION);
+            assertThat(movement.getAppointmentId()).isEqualTo("appt-1");
+        });
+        verify(productMovementPort, times(1)).saveAll(movements);
+        verify(productRepositoryPort, never()).save(any());
+        verify(domainEventPublisher, times(2)).publish(any(ProductMovementCreatedEvent.class));
+        verify(domainEventPublisher, times(2)).publish(any(ProductStockUpdatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should skip products already consumed in the appointment")
+    void record_WhenAlreadyConsumed_ShouldSkip() {
+        ProductMovement previous = ProductMovement.forAppointment(
+                "batch-0", "appt-1", "p1", "clinic-1", 1, DATE, "vet-1");
+        when(productMovementPort.findByAppointmentId("appt-1")).thenReturn(List.of(previous));
+
+        List<ProductMovement> movements = service.recordAppointmentConsumption(command("p1"));
+
+        assertThat(movements).isEmpty();
+        verifyNoInteractions(productRepositoryPort, domainEventPublisher);
+        verify(productMovementPort, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should give the stock back when a concurrent run already inserted the consumption")
+    void record_WhenDuplicateKey_ShouldCompensate() {
+        when(productMovementPort.findByAppointmentId("appt-1")).thenReturn(List.of());
+        when(productRepositoryPort.findAllById(any())).thenReturn(List.of(product("p1", "clinic-1", 10)));
+        when(productRepositoryPort.decrementStock(any(), any(), any())).thenReturn(Optional.empty());
+        when(productMovementPort.saveAll(any())).thenThrow(new DuplicateKeyException("E11000"));
+
+        List<ProductMovement> movements = service.recordAppointmentConsumption(command("p1"));
+
+        assertThat(movements).isEmpty();
+        verify(productRepositoryPort).incrementStock("clinic-1", Map.of("p1", 1));
+        verifyNoInteractions(domainEventPublisher);
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private RecordAppointmentConsumptionCommand command(String... productIds) {
+        return RecordAppointmentConsumptionCommand.builder()
+                .appointmentId("appt-1")
+                .clinicId("clinic-1")
+                .employeeId("vet-1")
+                .date(DATE)
+                .productIds(List.of(productIds))
+                .build();
+    }
+
+    private Product product(String id, String clinicId, int stock) {
+        MedicationDetails details = MedicationDetails.create(
+                "Amoxicilina", "Comprimidos", "500mg", "Pfizer",
+                "REG-001", false, "Temperatura ambiente", "BATCH-001",
+                null, List.of("Perro", "Gato"), "Oral");
+        return Product.reconstitute(id, clinicId, "Amoxicilina 500mg", "Desc", null, null,
+                new BigDecimal("29.99"), new BigDecimal("0.21"), stock, 1, true, DATE, DATE, details);
+    }
+}
@@ -0,0 +1,134 @@
+package com.datavet.product.application.service;
+
+import com.datavet.product.application.port.in.command.CreateSaleCommand;
+import com.datavet.product.application.port.out.ProductMovementPort;
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.details.MedicationDetails;
+import com.datavet.product.domain.event.SaleCompletedEvent;
+import com.datavet.product.domain.exception.ProductValidationException;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.model.Sale;
+import com.datavet.product.domain.valueobject.SaleLine;
+import com.datavet.shared.domain.event.DomainEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductMovementService - createSale Tests")
+class ProductMovementServiceSaleTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private ProductMovementService service;
+
+    @Mock private ProductMovementPort   productMovementPort;
+    @Mock private ProductRepositoryPort productRepositoryPort;
+    @Mock private DomainEventPublisher  domainEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProductMovementService(productMovementPort, productRepositoryPort, domainEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should read once, decrement in one batch and insert all movements at once")
+    void createSale_ShouldUseBulkOperations() {
+        when(productRepositoryPort.findAllById(any())).thenReturn(List.of(product("p1", "clinic-1", 10), product("p2", "clinic-1", 3)));
+        when(productRepositoryPort.decrementStock(eq("clinic-1"), anyString(), eq(Map.of("p1", 2, "p2", 3)))).thenReturn(Optional.empty());
+        when(productMovementPort.saveAll(any())).thenAnswer(i -> i.getArgument(0));
+
+        Sale sale = service.createSale(command(new SaleLine("p1", 2), new SaleLine("p2", 3)));
+
+        assertThat(sale.getMovements()).hasSize(2);
+        verify(productRepositoryPort, times(1)).findAllById(any());
+        verify(productMovementPort, times(1)).saveAll(sale.getMovements());
+        verify(productRepositoryPort, never()).save(any());
+        verify(productMovementPort, never()).save(any());
+        verify(domainEventPublisher).publish(any(SaleCompletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject the sale without writing when a line lacks stock")
+    void createSale_WhenStockInsufficient_ShouldNotWrite() {
+        when(productRepositoryPort.findAllById(any())).thenReturn(List.of(product("p1", "clinic-1", 1)));
+
+        assertThatThrownBy(() -> service.createSale(command(new SaleLine("p1", 2))))
+                .isInstanceOf(ProductValidationException.class);
+
+        verify(productRepositoryPort, never()).decrementStock(any(), any(), any());
+        verifyNoInteractions(productMovementPort, domainEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should reject products from another clinic")
+    void createSale_WhenProductFromOtherClinic_ShouldThrow() {
+        when(productRepositoryPort.findAllById(any())).thenReturn(List.of(product("p1", "clinic-2", 10)));
+
+        assertThatThrownBy(() -> service.createSale(command(new SaleLine("p1", 1))))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("Should fail without movements when the guarded batch loses a race")
+    void createSale_WhenBatchFails_ShouldNotInsertMovements() {
+        when(productRepositoryPort.findAllById(any())).thenReturn(List.of(product("p1", "clinic-1", 10)));
+        when(productRepositoryPort.decrementStock(any(), any(), any())).thenReturn(Optional.of("p1"));
+
+        assertThatThrownBy(() -> service.createSale(command(new SaleLine("p1", 1))))
+                .isInstanceOf(ProductValidationException.class);
+
+        verifyNoInteractions(productMovementPort, domainEventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should give the stock back when inserting the movements fails")
+    void createSale_WhenInsertFails_ShouldCompensate() {
+        when(productRepositoryPort.findAllById(any())).thenReturn(List.of(product("p1", "clinic-1", 10)));
+        when(productRepositoryPort.decrementStock(any(), any(), any())).thenReturn(Optional.empty());
+        when(productMovementPort.saveAll(any())).thenThrow(new IllegalStateException("insert failed"));
+
+        assertThatThrownBy(() -> service.createSale(command(new SaleLine("p1", 4))))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(productRepositoryPort).incrementStock("clinic-1", Map.of("p1", 4));
+        verifyNoInteractions(domainEventPublisher);
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private CreateSaleCommand command(SaleLine... lines) {
+        return CreateSaleCommand.builder()
+                .clinicId("clinic-1")
+                .employeeId("emp-1")
+                .date(DATE)
+                .lines(List.of(lines))
+                .build();
+    }
+
+    private Product product(String id, String clinicId, int stock) {
+        MedicationDetails details = MedicationDetails.create(
+                "Amoxicilina", "Comprimidos", "500mg", "Pfizer",
+                "REG-001", false, "Temperatura ambiente", "BATCH-001",
+                null, List.of("Perro", "Gato"), "Oral");
+        return Product.reconstitute(id, clinicId, "Amoxicilina 500mg", "Desc", null, null,
+                new BigDecimal("29.99"), new BigDecimal("0.21"), stock, 1, true, DATE, DATE, details);
+    }
+}
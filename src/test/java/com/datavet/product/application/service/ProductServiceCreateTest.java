@@ -122,6 +122,21 @@ class ProductServiceCreateTest {
         verify(productRepositoryPort).existsBySkuAndClinicId("SKU-001", "clinic-1");
     }
 
+    // =========================================================================
+    // Barcode uniqueness
+    // =========================================================================
+
+    @Test
+    @DisplayName("Should throw ProductAlreadyExistsException when barcode already exists in clinic")
+    void create_WhenBarcodeAlreadyExists_ShouldThrow() {
+        when(productRepositoryPort.existsByBarcodeAndClinicId("BAR-001", "clinic-1")).thenReturn(true);
+
+        assertThatThrownBy(() -> productService.createProduct(buildCreateCommand(null)))
+                .isInstanceOf(ProductAlreadyExistsException.class);
+
+        verify(productRepositoryPort, never()).save(any());
+    }
+
     // =========================================================================
     // Helpers
     // =========================================================================
@@ -100,6 +100,31 @@ class ProductServiceQueryTest {
         verify(productRepositoryPort).findByClinicIdAndCategory("clinic-1", ProductCategory.MEDICATION);
     }
 
+    // =========================================================================
+    // scanProduct
+    // =========================================================================
+
+    @Test
+    @DisplayName("scanProduct: should look up the trimmed code in the clinic")
+    void scan_WhenFound_ShouldReturn() {
+        when(productRepositoryPort.findActiveByClinicIdAndCode("clinic-1", "BAR-001"))
+                .thenReturn(Optional.of(buildProduct("prod-1")));
+
+        Product result = productService.scanProduct("clinic-1", " BAR-001 ");
+
+        assertThat(result.getProductId()).isEqualTo("prod-1");
+        assertThat(result.getStock()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("scanProduct: should throw when no active product has the code")
+    void scan_WhenNotFound_ShouldThrow() {
+        when(productRepositoryPort.findActiveByClinicIdAndCode("clinic-1", "UNKNOWN")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> productService.scanProduct("clinic-1", "UNKNOWN"))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
     // =========================================================================
     // updateProduct
     // =========================================================================
@@ -0,0 +1,156 @@
+package com.datavet.product.application.service;
+
+import com.datavet.product.application.dto.StockDrift;
+import com.datavet.product.application.port.out.ProductMovementPort;
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.application.port.out.StockSnapshotPort;
+import com.datavet.product.domain.details.MedicationDetails;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.model.ProductMovement;
+import com.datavet.product.domain.model.StockSnapshot;
+import com.datavet.product.domain.valueobject.ProductMovementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockLedgerService Tests")
+class StockLedgerServiceTest {
+
+    private static final LocalDate     DAY     = LocalDate.of(2025, 3, 10);
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private StockLedgerService service;
+
+    @Mock private ProductRepositoryPort productRepositoryPort;
+    @Mock private ProductMovementPort   productMovementPort;
+    @Mock private StockSnapshotPort     stockSnapshotPort;
+
+    @BeforeEach
+    void setUp() {
+        service = new StockLedgerService(productRepositoryPort, productMovementPort, stockSnapshotPort);
+    }
+
+    // =========================================================================
+    // getStockAt
+    // =========================================================================
+
+    @Test
+    @DisplayName("getStockAt: should add only the movements of that day to the previous closing")
+    void getStockAt_ShouldReplayFromPreviousClosing() {
+        LocalDateTime at = DAY.atTime(12, 0);
+        when(productRepositoryPort.findById("p1")).thenReturn(Optional.of(product("p1", 50)));
+        when(stockSnapshotPort.findLatestBefore("p1", DAY))
+                .thenReturn(Optional.of(StockSnapshot.of("p1", "clinic-1", DAY.minusDays(1), 20)));
+        when(productMovementPort.findByProductIdAndDateRange("p1", DAY.atStartOfDay(), at)).thenReturn(List.of(
+                movement(ProductMovementType.ENTRY, 10), movement(ProductMovementType.EXIT_SALE, 3)));
+
+        assertThat(service.getStockAt("p1", "clinic-1", at)).isEqualTo(27);
+    }
+
+    @Test
+    @DisplayName("getStockAt: without closings should derive backwards from current stock")
+    void getStockAt_WithoutSnapshots_ShouldDeriveFromCurrentStock() {
+        LocalDateTime at = DAY.atTime(12, 0);
+        when(productRepositoryPort.findById("p1")).thenReturn(Optional.of(product("p1", 50)));
+        when(stockSnapshotPort.findLatestBefore("p1", DAY)).thenReturn(Optional.empty());
+        when(productMovementPort.findByProductIdAndDateRange("p1", at, null)).thenReturn(List.of(
+                movement(ProductMovementType.ENTRY, 30), movement(ProductMovementType.EXIT_CONSUMPTION, 5)));
+
+        assertThat(service.getStockAt("p1", "clinic-1", at)).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("getStockAt: should reject products from another clinic")
+    void getStockAt_WhenOtherClinic_ShouldThrow() {
+        when(productRepositoryPort.findById("p1")).thenReturn(Optional.of(product("p1", 50)));
+
+        assertThatThrownBy(() -> service.getStockAt("p1", "clinic-2", DAY.atStartOfDay()))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    // =========================================================================
+    // takeSnapshots
+    // =========================================================================
+
+    @Test
+    @DisplayName("takeSnapshots: should chain on the previous closing and derive new products from stock")
+    @SuppressWarnings("unchecked")
+    void takeSnapshots_ShouldChainPreviousClosing() {
+        when(productRepositoryPort.findByClinicId("clinic-1")).thenReturn(List.of(product("p1", 99), product("p2", 40)));
+        when(stockSnapshotPort.findByClinicIdAndDate("clinic-1", DAY.minusDays(1)))
+                .thenReturn(List.of(StockSnapshot.of("p1", "clinic-1", DAY.minusDays(1), 20)));
+        when(productMovementPort.sumNetByProduct("clinic-1", DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay()))
+                .thenReturn(Map.of("p1", -4));
+        when(productMovementPort.sumNetByProduct(eq("clinic-1"), eq(DAY.plusDays(1).atStartOfDay()), isNull()))
+                .thenReturn(Map.of("p2", 10));
+
+        assertThat(service.takeSnapshots("clinic-1", DAY)).isEqualTo(2);
+
+        ArgumentCaptor<List<StockSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stockSnapshotPort).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(StockSnapshot::getProductId, StockSnapshot::getClosingStock)
+                .containsExactly(tuple("p1", 16), tuple("p2", 30));
+    }
+
+    // =========================================================================
+    // reconcile
+    // =========================================================================
+
+    @Test
+    @DisplayName("reconcile: should report products whose stock differs from the ledger")
+    void reconcile_ShouldReportDrift() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        when(stockSnapshotPort.findByClinicIdAndDate("clinic-1", yesterday)).thenReturn(List.of(
+                StockSnapshot.of("p1", "clinic-1", yesterday, 20),
+                StockSnapshot.of("p2", "clinic-1", yesterday, 40)));
+        when(productMovementPort.sumNetByProduct(eq("clinic-1"), any(), isNull())).thenReturn(Map.of("p1", -2));
+        when(productRepositoryPort.findByClinicId("clinic-1")).thenReturn(List.of(product("p1", 18), product("p2", 35)));
+
+        List<StockDrift> drifts = service.reconcile("clinic-1");
+
+        assertThat(drifts).singleElement().satisfies(drift -> {
+            assertThat(drift.getProductId()).isEqualTo("p2");
+            assertThat(drift.getLedgerStock()).isEqualTo(40);
+            assertThat(drift.getDifference()).isEqualTo(-5);
+        });
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private ProductMovement movement(ProductMovementType type, int quantity) {
+        return ProductMovement.reconstitute("m-" + type + quantity, "p1", "clinic-1", type, quantity,
+                DAY.atTime(10, 0), "emp-1", null, null, null, DAY.atTime(10, 0));
+    }
+
+    private Product product(String id, int stock) {
+        MedicationDetails details = MedicationDetails.create(
+                "Amoxicilina", "Comprimidos", "500mg", "Pfizer",
+                "REG-001", false, "Temperatura ambiente", "BATCH-001",
+                null, List.of("Perro", "Gato"), "Oral");
+        return Product.reconstitute(id, "clinic-1", "Amoxicilina 500mg", "Desc", null, null,
+                new BigDecimal("29.99"), new BigDecimal("0.21"), stock, 1, true, CREATED, CREATED, details);
+    }
+}
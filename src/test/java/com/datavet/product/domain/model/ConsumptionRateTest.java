@@ -0,0 +1,83 @@
+package com.datavet.product.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ConsumptionRate Tests")
+class ConsumptionRateTest {
+
+    private static final double        HALF_LIFE = 14;
+    private static final LocalDateTime START     = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private static ConsumptionRate empty() {
+        return ConsumptionRate.empty("product-1", "clinic-1");
+    }
+
+    // =========================================================================
+    // Estimación
+    // =========================================================================
+
+    @Test
+    @DisplayName("dailyRateAt: should be zero without exits")
+    void dailyRateAt_ShouldBeZeroWithoutExits() {
+        assertThat(empty().dailyRateAt(START, HALF_LIFE)).isZero();
+    }
+
+    @Test
+    @DisplayName("dailyRateAt: should converge to a steady daily consumption")
+    void dailyRateAt_ShouldConvergeToSteadyConsumption() {
+        ConsumptionRate rate = empty();
+        for (int day = 0; day < 120; day++) {
+            rate = rate.record(2, START.plusDays(day), HALF_LIFE);
+        }
+
+        assertThat(rate.dailyRateAt(START.plusDays(120), HALF_LIFE)).isCloseTo(2, within(0.1));
+    }
+
+    @Test
+    @DisplayName("dailyRateAt: should halve after one half-life without exits")
+    void dailyRateAt_ShouldHalveAfterOneHalfLife() {
+        ConsumptionRate rate = empty();
+        for (int day = 0; day < 120; day++) {
+            rate = rate.record(2, START.plusDays(day), HALF_LIFE);
+        }
+        LocalDateTime last = START.plusDays(119);
+
+        double before = rate.dailyRateAt(last, HALF_LIFE);
+        double after  = rate.dailyRateAt(last.plusDays(14), HALF_LIFE);
+
+        assertThat(after / before).isCloseTo(0.5, within(0.01));
+    }
+
+    @Test
+    @DisplayName("dailyRateAt: should count at least one half-life of history for a first exit")
+    void dailyRateAt_ShouldNotOverreactToFirstExit() {
+        ConsumptionRate rate = empty().record(14, START, HALF_LIFE);
+
+        // 14 · ln2 / 14 acumulado, corregido por 1 − e^(−ln2) = 0,5
+        assertThat(rate.dailyRateAt(START, HALF_LIFE)).isCloseTo(2 * Math.log(2), within(1e-9));
+    }
+
+    // =========================================================================
+    // Orden de llegada
+    // =========================================================================
+
+    @Test
+    @DisplayName("record: should give the same state whatever the arrival order")
+    void record_ShouldNotDependOnArrivalOrder() {
+        LocalDateTime earlier = START;
+        LocalDateTime later   = START.plusDays(3);
+
+        ConsumptionRate inOrder = empty().record(5, earlier, HALF_LIFE).record(3, later, HALF_LIFE);
+        ConsumptionRate late    = empty().record(3, later, HALF_LIFE).record(5, earlier, HALF_LIFE);
+
+        assertThat(late.getRate()).isCloseTo(inOrder.getRate(), within(1e-12));
+        assertThat(late.getUpdatedAt()).isEqualTo(later);
+        assertThat(late.getSince()).isEqualTo(earlier);
+    }
+}
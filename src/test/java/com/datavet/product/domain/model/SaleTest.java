@@ -0,0 +1,114 @@
+package com.datavet.product.domain.model;
+
+import com.datavet.product.domain.details.MedicationDetails;
+import com.datavet.product.domain.event.SaleCompletedEvent;
+import com.datavet.product.domain.exception.ProductValidationException;
+import com.datavet.product.domain.valueobject.ProductMovementType;
+import com.datavet.product.domain.valueobject.SaleLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Sale Domain Model Tests")
+class SaleTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    // =========================================================================
+    // create
+    // =========================================================================
+
+    @Test
+    @DisplayName("create: should merge repeated products and share the saleId across movements")
+    void create_ShouldMergeLinesAndShareSaleId() {
+        Sale sale = Sale.create("clinic-1", "emp-1", DATE, "Ticket 12", List.of(
+                new SaleLine("p1", 2), new SaleLine("p2", 1), new SaleLine("p1", 3)));
+
+        assertThat(sale.quantities()).containsExactly(Map.entry("p1", 5), Map.entry("p2", 1));
+        assertThat(sale.getMovements()).hasSize(2)
+                .allSatisfy(movement -> {
+                    assertThat(movement.getSaleId()).isEqualTo(sale.getSaleId());
+                    assertThat(movement.getType()).isEqualTo(ProductMovementType.EXIT_SALE);
+                    assertThat(movement.getClinicId()).isEqualTo("clinic-1");
+                    assertThat(movement.getDomainEvents()).isEmpty();
+                });
+        assertThat(sale.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("create: should reject an empty ticket and invalid lines")
+    void create_WhenInvalid_ShouldThrow() {
+        assertThatThrownBy(() -> Sale.create("clinic-1", "emp-1", DATE, null, List.of()))
+                .isInstanceOf(ProductValidationException.class);
+        assertThatThrownBy(() -> Sale.create("clinic-1", "emp-1", DATE, null, List.of(new SaleLine("p1", 0))))
+                .isInstanceOf(ProductValidationException.class)
+                .hasMessageContaining("lines[0].quantity");
+    }
+
+    // =========================================================================
+    // confirm
+    // =========================================================================
+
+    @Test
+    @DisplayName("confirm: should register one SaleCompletedEvent with the resulting stock")
+    void confirm_ShouldRegisterSingleEvent() {
+        Sale sale = Sale.create("clinic-1", "emp-1", DATE, null, List.of(
+                new SaleLine("p1", 2), new SaleLine("p2", 1)));
+
+        sale.confirm(Map.of("p1", product("p1", 10, true), "p2", product("p2", 1, true)));
+
+        assertThat(sale.getDomainEvents()).singleElement().isInstanceOf(SaleCompletedEvent.class);
+        SaleCompletedEvent event = (SaleCompletedEvent) sale.getDomainEvents().get(0);
+        assertThat(event.getLines()).extracting(SaleCompletedEvent.Line::getStockAfter).containsExactly(8, 0);
+    }
+
+    @Test
+    @DisplayName("confirm: should report every failing line at once")
+    void confirm_WhenSeveralLinesFail_ShouldReportAll() {
+        Sale sale = Sale.create("clinic-1", "emp-1", DATE, null, List.of(
+                new SaleLine("p1", 20), new SaleLine("p2", 1), new SaleLine("p3", 1)));
+
+        assertThatThrownBy(() -> sale.confirm(Map.of("p1", product("p1", 10, true), "p2", product("p2", 5, false))))
+                .isInstanceOf(ProductValidationException.class)
+                .satisfies(e -> assertThat(((ProductValidationException) e).getValidationResult().getErrors())
+                        .hasSize(3));
+        assertThat(sale.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("confirm: should price the ticket keeping lines with different discounts apart")
+    void confirm_ShouldComputeTotals() {
+        Sale sale = Sale.create("clinic-1", "emp-1", DATE, null, List.of(
+                new SaleLine("p1", 2), new SaleLine("p1", 1, new BigDecimal("0.10"))));
+
+        sale.confirm(Map.of("p1", product("p1", 10, true)));
+
+        assertThat(sale.getLines()).hasSize(2);
+        assertThat(sale.quantities()).containsExactly(Map.entry("p1", 3));
+        // 3 × 29,99 = 89,97; descuento 10 % de 29,99 = 3,00; base 86,97; IVA 21 % = 18,26
+        assertThat(sale.getTotals().getGross()).isEqualTo(8997);
+        assertThat(sale.getTotals().getDiscount()).isEqualTo(300);
+        assertThat(sale.getTotals().getTaxTotal()).isEqualTo(1826);
+        assertThat(sale.getTotals().getTotal()).isEqualTo(10523);
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private Product product(String id, int stock, boolean active) {
+        MedicationDetails details = MedicationDetails.create(
+                "Amoxicilina", "Comprimidos", "500mg", "Pfizer",
+                "REG-001", false, "Temperatura ambiente", "BATCH-001",
+                null, List.of("Perro", "Gato"), "Oral");
+        return Product.reconstitute(id, "clinic-1", "Amoxicilina 500mg", "Desc", null, null,
+                new BigDecimal("29.99"), new BigDecimal("0.21"), stock, 1, active, DATE, DATE, details);
+    }
+}
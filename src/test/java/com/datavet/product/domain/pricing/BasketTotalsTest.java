@@ -0,0 +1,95 @@
+package com.datavet.product.domain.pricing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BasketTotals Tests")
+class BasketTotalsTest {
+
+    private static final int GENERAL       = 2100;
+    private static final int REDUCED       = 1000;
+    private static final int SUPER_REDUCED = 400;
+
+    // =========================================================================
+    // MinorUnits
+    // =========================================================================
+
+    @Test
+    @DisplayName("MinorUnits: should round amounts and rates half up at the boundary")
+    void minorUnits_ShouldRoundHalfUp() {
+        assertThat(MinorUnits.fromDecimal(new BigDecimal("12.345"))).isEqualTo(1235);
+        assertThat(MinorUnits.fromDecimal(new BigDecimal("12.344"))).isEqualTo(1234);
+        assertThat(MinorUnits.toDecimal(1235)).isEqualByComparingTo("12.35");
+        assertThat(MinorUnits.rateFromDecimal(new BigDecimal("0.21"))).isEqualTo(GENERAL);
+        assertThat(MinorUnits.rateToDecimal(SUPER_REDUCED)).isEqualByComparingTo("0.04");
+        assertThat(MinorUnits.percentOf(5, 1000)).isEqualTo(1);   // 0,5 céntimos → 1
+        assertThat(MinorUnits.percentOf(4, 1000)).isEqualTo(0);
+    }
+
+    // =========================================================================
+    // Totales
+    // =========================================================================
+
+    @Test
+    @DisplayName("totals: should break tax down per rate and round once per rate")
+    void totals_ShouldBreakDownPerRate() {
+        BasketTotals basket = new BasketTotals()
+                .addLine(50, 1, GENERAL, 0)           // cuota 0,105
+                .addLine(50, 1, GENERAL, 0)           // cuota 0,105
+                .addLine(1000, 3, REDUCED, 0)         // 30,00 → 3,00
+                .addLine(250, 2, SUPER_REDUCED, 0);   // 5,00 → 0,20
+
+        assertThat(basket.rateCount()).isEqualTo(3);
+        assertThat(basket.rate(0)).isEqualTo(GENERAL);
+        assertThat(basket.base(0)).isEqualTo(100);
+        assertThat(basket.tax(0)).isEqualTo(21);      // por línea serían 0,11 + 0,11
+        assertThat(basket.tax(1)).isEqualTo(300);
+        assertThat(basket.tax(2)).isEqualTo(20);
+        assertThat(basket.gross()).isEqualTo(3600);
+        assertThat(basket.taxTotal()).isEqualTo(341);
+        assertThat(basket.total()).isEqualTo(3941);
+    }
+
+    @Test
+    @DisplayName("totals: should apply the discount to the line before tax")
+    void totals_ShouldApplyDiscountBeforeTax() {
+        BasketTotals basket = new BasketTotals().addLine(2999, 3, GENERAL, 1500);
+
+        // 89,97 − 15 % (13,4955 → 13,50) = 76,47; IVA 16,0587 → 16,06
+        assertThat(basket.discount()).isEqualTo(1350);
+        assertThat(basket.taxableBase()).isEqualTo(7647);
+        assertThat(basket.taxTotal()).isEqualTo(1606);
+        assertThat(basket.total()).isEqualTo(9253);
+
+        SaleTotals totals = basket.snapshot();
+        assertThat(totals.getTaxBreakdown()).singleElement()
+                .satisfies(line -> assertThat(line.getTax()).isEqualTo(1606));
+    }
+
+    @Test
+    @DisplayName("reset: should allow reusing the same accumulator")
+    void reset_ShouldClearPreviousBasket() {
+        BasketTotals basket = new BasketTotals().addLine(1000, 1, GENERAL, 0);
+
+        basket.reset().addLine(500, 2, REDUCED, 0);
+
+        assertThat(basket.rateCount()).isEqualTo(1);
+        assertThat(basket.rate(0)).isEqualTo(REDUCED);
+        assertThat(basket.total()).isEqualTo(1100);
+    }
+
+    @Test
+    @DisplayName("addLine: should reject out-of-range lines and overflow")
+    void addLine_WhenOutOfRange_ShouldThrow() {
+        BasketTotals basket = new BasketTotals();
+
+        assertThatThrownBy(() -> basket.addLine(100, 0, GENERAL, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> basket.addLine(100, 1, GENERAL, 10_001)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> basket.addLine(Long.MAX_VALUE, 2, GENERAL, 0)).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.datavet.product.infrastructure.adapter.output;
+
+import com.datavet.product.domain.model.ConsumptionRate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("InMemoryConsumptionRateRepositoryAdapter")
+class InMemoryConsumptionRateRepositoryAdapterTest {
+
+    private static final LocalDateTime T0        = LocalDateTime.of(2025, 3, 10, 9, 0);
+    private static final double        HALF_LIFE = 14;
+
+    private InMemoryConsumptionRateRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryConsumptionRateRepositoryAdapter();
+    }
+
+    // =========================================================================
+    // record
+    // =========================================================================
+
+    @Test
+    @DisplayName("record applies each exit on top of the stored rate")
+    void record_AccumulatesOnStoredRate() {
+        adapter.record("prod-1", "clinic-1", 4, T0, HALF_LIFE);
+        adapter.record("prod-1", "clinic-1", 2, T0.plusDays(3), HALF_LIFE);
+
+        ConsumptionRate expected = ConsumptionRate.empty("prod-1", "clinic-1")
+                .record(4, T0, HALF_LIFE)
+                .record(2, T0.plusDays(3), HALF_LIFE);
+        assertThat(adapter.findByClinicId("clinic-1")).singleElement().satisfies(rate -> {
+            assertThat(rate.getRate()).isCloseTo(expected.getRate(), within(1e-12));
+            assertThat(rate.getSince()).isEqualTo(T0);
+            assertThat(rate.getUpdatedAt()).isEqualTo(T0.plusDays(3));
+        });
+    }
+}
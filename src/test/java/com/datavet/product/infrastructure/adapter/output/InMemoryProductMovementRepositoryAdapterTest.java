@@ -0,0 +1,56 @@
+package com.datavet.product.infrastructure.adapter.output;
+
+import com.datavet.product.domain.model.ProductMovement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryProductMovementRepositoryAdapter")
+class InMemoryProductMovementRepositoryAdapterTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    private InMemoryProductMovementRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryProductMovementRepositoryAdapter();
+    }
+
+    private static ProductMovement consumption(String appointmentId, String productId) {
+        return ProductMovement.forAppointment("batch", appointmentId, productId, "clinic-1", 1, T0, "emp-1");
+    }
+
+    // =========================================================================
+    // saveAll
+    // =========================================================================
+
+    @Test
+    @DisplayName("saveAll inserts every movement of the batch")
+    void saveAll_InsertsEveryMovement() {
+        adapter.saveAll(List.of(consumption("appt-1", "prod-1"), consumption("appt-1", "prod-2")));
+
+        assertThat(adapter.findByAppointmentId("appt-1")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("saveAll leaves nothing inserted when a movement of the batch fails")
+    void saveAll_WhenOneFails_InsertsNone() {
+        adapter.saveAll(List.of(consumption("appt-1", "prod-2")));
+
+        assertThatThrownBy(() -> adapter.saveAll(List.of(
+                consumption("appt-1", "prod-1"), consumption("appt-1", "prod-2"))))
+                .isInstanceOf(DuplicateKeyException.class);
+
+        assertThat(adapter.findByAppointmentId("appt-1"))
+                .extracting(ProductMovement::getProductId)
+                .containsExactly("prod-2");
+    }
+}
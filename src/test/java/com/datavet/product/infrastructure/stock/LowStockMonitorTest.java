@@ -0,0 +1,168 @@
+package com.datavet.product.infrastructure.stock;
+
+import com.datavet.product.application.dto.LowStockCrossing;
+import com.datavet.product.application.dto.LowStockItem;
+import com.datavet.product.application.port.out.ProductRepositoryPort;
+import com.datavet.product.domain.details.MedicationDetails;
+import com.datavet.product.domain.event.ProductStockUpdatedEvent;
+import com.datavet.product.domain.event.SaleCompletedEvent;
+import com.datavet.product.domain.model.Product;
+import com.datavet.product.domain.valueobject.ProductMovementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LowStockMonitor Tests")
+class LowStockMonitorTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Mock private ProductRepositoryPort     productRepositoryPort;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    private LowStockMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new LowStockMonitor(productRepositoryPort, eventPublisher);
+    }
+
+    // =========================================================================
+    // Carga inicial
+    // =========================================================================
+
+    @Test
+    @DisplayName("rebuild: should load products below minimum sorted by urgency")
+    void rebuild_ShouldSortByUrgency() {
+        when(productRepositoryPort.findBelowMinStock()).thenReturn(List.of(
+                product("p1", "Amoxicilina", 4, 10, true),     // 40 %
+                product("p2", "Pienso", 1, 10, true),          // 10 %
+                product("p3", "Vendas", 1, 4, true)));         // 25 %
+
+        monitor.rebuild();
+
+        assertThat(monitor.findByClinicId("clinic-1"))
+                .extracting(LowStockItem::getProductId).containsExactly("p2", "p3", "p1");
+        assertThat(monitor.findByClinicId("clinic-2")).isEmpty();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    // =========================================================================
+    // Cruces
+    // =========================================================================
+
+    @Test
+    @DisplayName("on stock update: should publish BELOW once and RECOVERED when restocked")
+    void onStockUpdated_ShouldPublishCrossings() {
+        when(productRepositoryPort.findAllById(anyCollection()))
+                .thenReturn(List.of(product("p1", "Amoxicilina", 3, 5, true)))
+                .thenReturn(List.of(product("p1", "Amoxicilina", 2, 5, true)))
+                .thenReturn(List.of(product("p1", "Amoxicilina", 20, 5, true)));
+
+        monitor.on(stockUpdated("p1"));
+        monitor.on(stockUpdated("p1"));
+        assertThat(monitor.findByClinicId("clinic-1")).singleElement()
+                .satisfies(item -> assertThat(item.getStock()).isEqualTo(2));
+
+        monitor.on(stockUpdated("p1"));
+        assertThat(monitor.findByClinicId("clinic-1")).isEmpty();
+
+        ArgumentCaptor<LowStockCrossing> captor = ArgumentCaptor.forClass(LowStockCrossing.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(LowStockCrossing::getType)
+                .containsExactly(LowStockCrossing.Type.BELOW, LowStockCrossing.Type.RECOVERED);
+    }
+
+    @Test
+    @DisplayName("on stock update: should evaluate concurrent events of a product one after the other")
+    void onStockUpdated_WhenConcurrent_ShouldApplyInReadOrder() throws Exception {
+        CountDownLatch firstReading = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        when(productRepositoryPort.findAllById(anyCollection()))
+                .thenAnswer(invocation -> {
+                    firstReading.countDown();
+                    releaseFirst.await(5, TimeUnit.SECONDS);
+                    return List.of(product("p1", "Amoxicilina", 3, 5, true));
+                })
+                .thenReturn(List.of(product("p1", "Amoxicilina", 20, 5, true)));
+
+        Thread first = Thread.ofPlatform().start(() -> monitor.on(stockUpdated("p1")));
+        firstReading.await(5, TimeUnit.SECONDS);
+        // El segundo evento lee el stock repuesto; sin cerrojo terminaría antes de que el primero aplique
+        Thread second = Thread.ofPlatform().start(() -> monitor.on(stockUpdated("p1")));
+        second.join(200);
+        releaseFirst.countDown();
+        first.join();
+        second.join();
+
+        assertThat(monitor.findByClinicId("clinic-1")).isEmpty();
+        ArgumentCaptor<LowStockCrossing> captor = ArgumentCaptor.forClass(LowStockCrossing.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(LowStockCrossing::getType)
+                .containsExactly(LowStockCrossing.Type.BELOW, LowStockCrossing.Type.RECOVERED);
+    }
+
+    @Test
+    @DisplayName("on sale: should evaluate every line with a single read")
+    void onSale_ShouldReadLinesOnce() {
+        when(productRepositoryPort.findAllById(List.of("p1", "p2"))).thenReturn(List.of(
+                product("p1", "Amoxicilina", 1, 5, true),
+                product("p2", "Pienso", 30, 5, true)));
+
+        monitor.on(SaleCompletedEvent.of("sale-1", "clinic-1", "emp-1", List.of(
+                new SaleCompletedEvent.Line("p1", 4, 1), new SaleCompletedEvent.Line("p2", 1, 30))));
+
+        assertThat(monitor.findByClinicId("clinic-1")).extracting(LowStockItem::getProductId).containsExactly("p1");
+        verify(productRepositoryPort).findAllById(List.of("p1", "p2"));
+    }
+
+    @Test
+    @DisplayName("on stock update: should drop deactivated products")
+    void onStockUpdated_WhenDeactivated_ShouldRemove() {
+        when(productRepositoryPort.findBelowMinStock()).thenReturn(List.of(product("p1", "Amoxicilina", 1, 5, true)));
+        when(productRepositoryPort.findAllById(anyCollection()))
+                .thenReturn(List.of(product("p1", "Amoxicilina", 1, 5, false)));
+        monitor.rebuild();
+
+        monitor.on(stockUpdated("p1"));
+
+        assertThat(monitor.findByClinicId("clinic-1")).isEmpty();
+    }
+
+    // =========================================================================
+    // Helpers
+    // =========================================================================
+
+    private ProductStockUpdatedEvent stockUpdated(String productId) {
+        return ProductStockUpdatedEvent.of(productId, "clinic-1", 0, ProductMovementType.EXIT_SALE);
+    }
+
+    private Product product(String id, String name, int stock, int minStock, boolean active) {
+        MedicationDetails details = MedicationDetails.create(
+                "Amoxicilina", "Comprimidos", "500mg", "Pfizer",
+                "REG-001", false, "Temperatura ambiente", "BATCH-001",
+                null, List.of("Perro", "Gato"), "Oral");
+        return Product.reconstitute(id, "clinic-1", name, "Desc", null, null,
+                new BigDecimal("29.99"), new BigDecimal("0.21"), stock, minStock, active, DATE, DATE, details);
+    }
+}
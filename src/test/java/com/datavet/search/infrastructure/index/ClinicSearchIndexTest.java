@@ -0,0 +1,66 @@
+package com.datavet.search.infrastructure.index;
+
+import com.datavet.owner.application.service.OwnerService;
+import com.datavet.owner.application.validation.CreateOwnerCommandValidator;
+import com.datavet.owner.application.validation.UpdateOwnerCommandValidator;
+import com.datavet.owner.domain.event.OwnerCreatedEvent;
+import com.datavet.owner.domain.event.OwnerDeletedEvent;
+import com.datavet.owner.domain.model.Owner;
+import com.datavet.owner.infrastructure.adapter.output.InMemoryOwnerRepositoryAdapter;
+import com.datavet.owner.testutil.OwnerTestDataBuilder;
+import com.datavet.pet.infrastructure.adapter.output.InMemoryPetRepositoryAdapter;
+import com.datavet.search.application.dto.SearchResult;
+import com.datavet.shared.domain.event.DomainEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ClinicSearchIndex")
+class ClinicSearchIndexTest {
+
+    private InMemoryOwnerRepositoryAdapter ownerRepository;
+    private ClinicSearchIndex               index;
+    private OwnerService                    ownerService;
+
+    @BeforeEach
+    void setUp() {
+        ownerRepository = new InMemoryOwnerRepositoryAdapter();
+        index           = new ClinicSearchIndex(new InMemoryPetRepositoryAdapter(), ownerRepository);
+        // Los eventos se entregan en el mismo hilo, igual que con ApplicationEventPublisher
+        ownerService    = new OwnerService(ownerRepository, mock(CreateOwnerCommandValidator.class),
+                this::dispatch, mock(UpdateOwnerCommandValidator.class));
+    }
+
+    private void dispatch(DomainEvent event) {
+        if (event instanceof OwnerCreatedEvent created) {
+            index.on(created);
+        } else if (event instanceof OwnerDeletedEvent deleted) {
+            index.on(deleted);
+        }
+    }
+
+    private List<String> ids(String clinicId, String query) {
+        return index.search(clinicId, query, 10).stream().map(SearchResult::getId).toList();
+    }
+
+    // =========================================================================
+    // Dueños
+    // =========================================================================
+
+    @Test
+    @DisplayName("Should no longer return an owner once it has been deleted")
+    void deletedOwner_IsNotSearchable() {
+        Owner owner = ownerRepository.save(OwnerTestDataBuilder.aValidOwner());
+        index.reindexOwner(owner.getOwnerId());
+        assertThat(ids(owner.getClinicId(), owner.getName())).containsExactly(owner.getOwnerId());
+
+        ownerService.deleteOwner(owner.getOwnerId(), owner.getClinicId());
+
+        assertThat(ids(owner.getClinicId(), owner.getName())).isEmpty();
+    }
+}
@@ -0,0 +1,130 @@
+package com.datavet.search.infrastructure.index;
+
+import com.datavet.search.application.dto.SearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenIndex")
+class TokenIndexTest {
+
+    private TokenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TokenIndex();
+        put("OWNER:o1", "José Núñez", List.of("José", "Núñez"), "+34 612-345-678", "12345678Z");
+        put("PET:p1", "Luna", List.of("Luna", "José", "García"), "941000012345678");
+        put("PET:p2", "Lupe", List.of("Lupe", "Ana", "Garcés"));
+    }
+
+    private void put(String key, String title, List<String> words, String... identifiers) {
+        List<String> tokens = new ArrayList<>();
+        words.forEach(word -> tokens.addAll(SearchText.tokens(word)));
+        for (String identifier : identifiers) {
+            tokens.add(SearchText.compact(identifier));
+        }
+        index.put(key, new SearchResult(SearchResult.Type.PET, key, title, null, 0), tokens);
+    }
+
+    private List<String> ids(String query) {
+        return index.search(query, 10).stream().map(SearchResult::getId).toList();
+    }
+
+    // =========================================================================
+    // Coincidencias
+    // =========================================================================
+
+    @Test
+    @DisplayName("Ignora tildes y mayúsculas en el texto indexado y en la consulta")
+    void search_ShouldIgnoreAccents() {
+        assertThat(ids("nunez")).containsExactly("OWNER:o1");
+        assertThat(ids("NÚÑ")).containsExactly("OWNER:o1");
+    }
+
+    @Test
+    @DisplayName("Encuentra por prefijo y ordena la coincidencia exacta primero")
+    void search_ShouldMatchPrefixes() {
+        assertThat(ids("lu")).containsExactlyInAnyOrder("PET:p1", "PET:p2");
+        assertThat(ids("luna")).containsExactly("PET:p1");
+        assertThat(ids("jose")).containsExactly("OWNER:o1", "PET:p1");
+    }
+
+    @Test
+    @DisplayName("Encuentra teléfonos y chips por dígitos intermedios, sin formato")
+    void search_ShouldMatchDigitsInsideIdentifiers() {
+        assertThat(ids("345678")).contains("OWNER:o1");
+        assertThat(ids("612 345")).containsExactly("OWNER:o1");
+        assertThat(ids("12345678z")).containsExactly("OWNER:o1");
+        assertThat(ids("0000123")).containsExactly("PET:p1");
+    }
+
+    @Test
+    @DisplayName("Tolera una errata en palabras, con menos relevancia que un prefijo")
+    void search_ShouldTolerateTypos() {
+        List<SearchResult> results = index.search("garsia", 10);
+
+        assertThat(results).extracting(SearchResult::getId).containsExactly("PET:p1");
+        assertThat(results.get(0).getScore()).isLessThan(2);
+        assertThat(ids("lunna")).containsExactly("PET:p1");
+    }
+
+    @Test
+    @DisplayName("No aplica la búsqueda aproximada a números")
+    void search_ShouldNotFuzzNumbers() {
+        assertThat(ids("612346")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Con varias palabras exige que la entrada case con todas")
+    void search_ShouldRequireAllWords() {
+        assertThat(ids("lu gar")).containsExactlyInAnyOrder("PET:p1", "PET:p2");
+        assertThat(ids("lu garcia")).containsExactly("PET:p1");
+        assertThat(ids("ana luna")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Respeta el límite de resultados")
+    void search_ShouldApplyLimit() {
+        assertThat(index.search("lu", 1)).hasSize(1);
+        assertThat(index.search("   ", 10)).isEmpty();
+    }
+
+    // =========================================================================
+    // Mantenimiento
+    // =========================================================================
+
+    @Test
+    @DisplayName("Al reemplazar una entrada deja de encontrarse por sus palabras antiguas")
+    void put_ShouldReplacePreviousTokens() {
+        put("PET:p1", "Nala", List.of("Nala", "José", "García"));
+
+        assertThat(ids("luna")).isEmpty();
+        assertThat(ids("nala")).containsExactly("PET:p1");
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Al eliminar una entrada desaparece de todas las búsquedas")
+    void remove_ShouldDropEntry() {
+        index.remove("PET:p1");
+
+        assertThat(ids("luna")).isEmpty();
+        assertThat(ids("garcia")).isEmpty();
+        assertThat(ids("jose")).containsExactly("OWNER:o1");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Distancia de edición acotada con transposiciones")
+    void distance_ShouldCountTranspositionsAsOneEdit() {
+        assertThat(TokenIndex.distance("lnua", "luna", 2)).isEqualTo(1);
+        assertThat(TokenIndex.distance("garsia", "garcia", 2)).isEqualTo(1);
+        assertThat(TokenIndex.distance("toby", "rocky", 1)).isEqualTo(2);
+    }
+}
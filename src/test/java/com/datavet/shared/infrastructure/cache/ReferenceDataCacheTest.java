@@ -0,0 +1,116 @@
+package com.datavet.shared.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReferenceDataCache")
+class ReferenceDataCacheTest {
+
+    @Mock
+    private ObjectProvider<CacheInvalidationBroadcaster> broadcasterProvider;
+
+    @Mock
+    private CacheInvalidationBroadcaster broadcaster;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger       loads         = new AtomicInteger();
+
+    private ReferenceDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReferenceDataCache(new ReferenceCacheProperties(), meterRegistry, broadcasterProvider);
+    }
+
+    private String load(String key) {
+        loads.incrementAndGet();
+        return "value-" + key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void withBroadcaster() {
+        doAnswer(invocation -> {
+            ((Consumer<CacheInvalidationBroadcaster>) invocation.getArgument(0)).accept(broadcaster);
+            return null;
+        }).when(broadcasterProvider).ifAvailable(any());
+    }
+
+    // =========================================================================
+    // Lectura
+    // =========================================================================
+
+    @Test
+    @DisplayName("Solo consulta el origen en el primer acceso a cada clave")
+    void get_ShouldLoadOnce() {
+        assertThat(cache.<String>get("clinics", "c-1", this::load)).isEqualTo("value-c-1");
+        assertThat(cache.<String>get("clinics", "c-1", this::load)).isEqualTo("value-c-1");
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("No cachea resultados vacíos")
+    void get_ShouldNotCacheNull() {
+        cache.get("clinics", "missing", key -> { loads.incrementAndGet(); return null; });
+        cache.get("clinics", "missing", key -> { loads.incrementAndGet(); return null; });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Publica aciertos y fallos etiquetados con el nombre de la caché")
+    void get_ShouldRecordMetrics() {
+        cache.get("clinics", "c-1", this::load);
+        cache.get("clinics", "c-1", this::load);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "clinics").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "clinics").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    // =========================================================================
+    // Invalidación
+    // =========================================================================
+
+    @Test
+    @DisplayName("Invalidar recarga la clave y difunde la invalidación")
+    void invalidate_ShouldReloadAndBroadcast() {
+        withBroadcaster();
+        cache.get("clinics", "c-1", this::load);
+
+        cache.invalidate("clinics", "c-1");
+        cache.get("clinics", "c-1", this::load);
+
+        assertThat(loads).hasValue(2);
+        verify(broadcaster).broadcast("clinics", "c-1");
+    }
+
+    @Test
+    @DisplayName("La invalidación local no se vuelve a difundir")
+    void invalidateLocally_ShouldNotBroadcast() {
+        cache.get("clinics", "c-1", this::load);
+
+        cache.invalidateLocally("clinics", "c-1");
+        cache.get("clinics", "c-1", this::load);
+
+        assertThat(loads).hasValue(2);
+        verify(broadcasterProvider, never()).ifAvailable(any());
+    }
+}
@@ -0,0 +1,67 @@
+package com.datavet.shared.infrastructure.metrics;
+
+import com.datavet.appointment.domain.event.AppointmentCancelledEvent;
+import com.datavet.auth.infrastructure.adapter.output.RefreshTokenRepositoryAdapter;
+import com.datavet.pet.application.service.MedicalRecordService;
+import com.datavet.product.infrastructure.adapter.output.ProductMovementRepositoryAdapter;
+import com.datavet.shared.application.port.Repository;
+import com.datavet.shared.application.port.UseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Métricas de puertos y eventos de dominio")
+class PortMetricsAspectTest {
+
+    // =========================================================================
+    // Nombre del agregado
+    // =========================================================================
+
+    @Nested
+    @DisplayName("aggregateName")
+    class AggregateName {
+
+        @Test
+        @DisplayName("Deriva el agregado del caso de uso implementado")
+        void fromUseCase() {
+            assertThat(PortMetricsAspect.aggregateName(UseCase.class, MedicalRecordService.class))
+                    .isEqualTo("medical-record");
+        }
+
+        @Test
+        @DisplayName("Deriva el agregado del puerto de persistencia implementado")
+        void fromRepositoryPort() {
+            assertThat(PortMetricsAspect.aggregateName(Repository.class, ProductMovementRepositoryAdapter.class))
+                    .isEqualTo("product-movement");
+        }
+
+        @Test
+        @DisplayName("Reconoce el puerto de refresh tokens aunque no extienda Repository")
+        void fromRefreshTokenPort() {
+            assertThat(PortMetricsAspect.aggregateName(Repository.class, RefreshTokenRepositoryAdapter.class))
+                    .isEqualTo("refresh-token");
+        }
+    }
+
+    // =========================================================================
+    // Contador de eventos
+    // =========================================================================
+
+    @Test
+    @DisplayName("Cuenta los eventos de dominio por tipo")
+    void countsDomainEventsByType() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DomainEventMetricsListener listener = new DomainEventMetricsListener(registry);
+
+        listener.on(AppointmentCancelledEvent.of("a-1", "c-1", "motivo"));
+        listener.on(AppointmentCancelledEvent.of("a-2", "c-1", "motivo"));
+
+        assertThat(registry.get(DomainEventMetricsListener.METRIC)
+                .tag("type", "AppointmentCancelledEvent")
+                .counter()
+                .count()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,151 @@
+package com.datavet.shared.infrastructure.persistence.inmemory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.LocalDateTime;
+
+import static com.datavet.shared.infrastructure.persistence.inmemory.InMemoryCollection.key;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryCollection")
+class InMemoryCollectionTest {
+
+    record Doc(String id, String clinicId, String email, String sku, LocalDateTime at) {}
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    private InMemoryCollection<Doc> collection;
+
+    @BeforeEach
+    void setUp() {
+        collection = InMemoryCollection.<Doc>builder("docs", Doc::id)
+                .index("clinic_idx",              Doc::clinicId)
+                .uniqueIndex("email_idx",         Doc::email)
+                .uniqueSparseIndex("sku_idx",     Doc::sku)
+                .sortedIndex("clinic_at_idx",     Doc::clinicId, Doc::at)
+                .build();
+    }
+
+    // =========================================================================
+    // Índices hash
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Índices hash")
+    class HashIndexes {
+
+        @Test
+        @DisplayName("Busca por índice y mantiene el índice al actualizar el documento")
+        void reindexOnUpdate() {
+            collection.save(new Doc("1", "c1", "a@x.com", null, T0));
+            collection.save(new Doc("1", "c2", "a@x.com", null, T0));
+
+            assertThat(collection.findBy("clinic_idx", "c1")).isEmpty();
+            assertThat(collection.findBy("clinic_idx", "c2")).extracting(Doc::id).containsExactly("1");
+            assertThat(collection.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("deleteWhere borra todos los documentos con la clave")
+        void deleteWhere() {
+            collection.save(new Doc("1", "c1", "a@x.com", null, T0));
+            collection.save(new Doc("2", "c1", "b@x.com", null, T0));
+            collection.save(new Doc("3", "c2", "c@x.com", null, T0));
+
+            assertThat(collection.deleteWhere("clinic_idx", "c1")).isEqualTo(2);
+            assertThat(collection.findAll()).extracting(Doc::id).containsExactly("3");
+        }
+    }
+
+    // =========================================================================
+    // Unicidad
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Unicidad")
+    class Uniqueness {
+
+        @Test
+        @DisplayName("Rechaza un duplicado de otro documento y permite re-guardar el mismo")
+        void rejectsDuplicate() {
+            collection.save(new Doc("1", "c1", "a@x.com", null, T0));
+            collection.save(new Doc("1", "c1", "a@x.com", null, T0.plusHours(1)));
+
+            assertThatThrownBy(() -> collection.save(new Doc("2", "c1", "a@x.com", null, T0)))
+                    .isInstanceOf(DuplicateKeyException.class)
+                    .hasMessageContaining("email_idx");
+            assertThat(collection.existsByAndIdNot("email_idx", "a@x.com", "1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Un índice único no sparse trata null como un valor (dos nulos colisionan)")
+        void nonSparseNullsCollide() {
+            collection.save(new Doc("1", "c1", null, null, T0));
+
+            assertThatThrownBy(() -> collection.save(new Doc("2", "c1", null, null, T0)))
+                    .isInstanceOf(DuplicateKeyException.class);
+        }
+
+        @Test
+        @DisplayName("Un índice único sparse ignora los documentos sin los campos indexados")
+        void sparseIgnoresMissing() {
+            collection.save(new Doc("1", "c1", "a@x.com", null, T0));
+            collection.save(new Doc("2", "c1", "b@x.com", null, T0));
+
+            assertThat(collection.size()).isEqualTo(2);
+            assertThat(collection.findBy("sku_idx", null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("La unicidad compuesta depende de todos los campos de la clave")
+        void compoundUnique() {
+            collection = InMemoryCollection.<Doc>builder("docs", Doc::id)
+                    .uniqueSparseIndex("sku_clinic_idx", d -> key(d.sku(), d.clinicId()))
+                    .build();
+
+            collection.save(new Doc("1", "c1", "a@x.com", "SKU-1", T0));
+            collection.save(new Doc("2", "c2", "b@x.com", "SKU-1", T0));
+
+            assertThatThrownBy(() -> collection.save(new Doc("3", "c1", "c@x.com", "SKU-1", T0)))
+                    .isInstanceOf(DuplicateKeyException.class);
+            assertThat(collection.existsBy("sku_clinic_idx", key("SKU-1", "c2"))).isTrue();
+        }
+    }
+
+    // =========================================================================
+    // Índices ordenados
+    // =========================================================================
+
+    @Nested
+    @DisplayName("Índices ordenados")
+    class SortedIndexes {
+
+        @Test
+        @DisplayName("range devuelve [from, to) dentro del prefijo, ordenado por la clave")
+        void rangeWithinPrefix() {
+            collection.save(new Doc("late",  "c1", "1@x.com", null, T0.plusHours(3)));
+            collection.save(new Doc("early", "c1", "2@x.com", null, T0));
+            collection.save(new Doc("edge",  "c1", "3@x.com", null, T0.plusHours(4)));
+            collection.save(new Doc("other", "c2", "4@x.com", null, T0.plusHours(1)));
+
+            assertThat(collection.range("clinic_at_idx", "c1", T0, T0.plusHours(4)))
+                    .extracting(Doc::id)
+                    .containsExactly("early", "late");
+        }
+
+        @Test
+        @DisplayName("Un documento movido de fecha sale del rango anterior")
+        void rangeAfterUpdate() {
+            collection.save(new Doc("1", "c1", "1@x.com", null, T0));
+            collection.save(new Doc("1", "c1", "1@x.com", null, T0.plusDays(2)));
+
+            assertThat(collection.range("clinic_at_idx", "c1", T0, T0.plusDays(1))).isEmpty();
+            assertThat(collection.range("clinic_at_idx", "c1", null, null)).hasSize(1);
+        }
+    }
+}
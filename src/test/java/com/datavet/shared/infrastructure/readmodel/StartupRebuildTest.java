@@ -0,0 +1,78 @@
+package com.datavet.shared.infrastructure.readmodel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StartupRebuild")
+class StartupRebuildTest {
+
+    private final List<String> replayed = new ArrayList<>();
+
+    // =========================================================================
+    // Reaplicación
+    // =========================================================================
+
+    @Test
+    @DisplayName("Should replay each key touched during the load once, after it")
+    void run_ShouldReplayTouchedKeysOnce() {
+        AtomicReference<StartupRebuild<String>> rebuild = new AtomicReference<>();
+        rebuild.set(new StartupRebuild<>("test", () -> {
+            rebuild.get().touch("a");
+            rebuild.get().touch("a");
+            rebuild.get().touch("b");
+            assertThat(replayed).isEmpty();
+        }, replayed::add));
+
+        rebuild.get().run();
+
+        assertThat(replayed).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    @DisplayName("Should ignore keys touched outside a load")
+    void touch_WhenNotLoading_ShouldIgnore() {
+        StartupRebuild<String> rebuild = new StartupRebuild<>("test", () -> {}, replayed::add);
+
+        rebuild.touch("a");
+        rebuild.run();
+
+        assertThat(replayed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should still replay touched keys when the load fails")
+    void run_WhenLoadFails_ShouldStillReplay() {
+        AtomicReference<StartupRebuild<String>> rebuild = new AtomicReference<>();
+        rebuild.set(new StartupRebuild<>("test", () -> {
+            rebuild.get().touch("a");
+            throw new IllegalStateException("boom");
+        }, replayed::add));
+
+        rebuild.get().run();
+
+        assertThat(replayed).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("Should keep replaying the remaining keys when one replay fails")
+    void run_WhenReplayFails_ShouldContinue() {
+        AtomicReference<StartupRebuild<String>> rebuild = new AtomicReference<>();
+        rebuild.set(new StartupRebuild<>("test", () -> {
+            rebuild.get().touch("a");
+            rebuild.get().touch("b");
+        }, key -> {
+            replayed.add(key);
+            throw new IllegalStateException("boom");
+        }));
+
+        rebuild.get().run();
+
+        assertThat(replayed).containsExactlyInAnyOrder("a", "b");
+    }
+}